@@ -1,5 +1,7 @@
 package com.lambdaworks.codec;
 
+import java.nio.ByteBuffer;
+
 /**
  * @author Mark Paluch
  *         <ul>
@@ -57,4 +59,47 @@ public class CRC16 {
         return crc & 0xFFFF;
     }
 
+    /**
+     * Create a CRC16 checksum from the remaining bytes of the {@link ByteBuffer} without copying. The position of the
+     * {@link ByteBuffer} is not changed.
+     *
+     * @param bytes input bytes
+     * @return CRC16 as interger value
+     * @since 4.3
+     */
+    public static int crc16(ByteBuffer bytes) {
+        return crc16(bytes, bytes.position(), bytes.limit());
+    }
+
+    /**
+     * Create a CRC16 checksum from the bytes between {@code start} (inclusive) and {@code end} (exclusive) of the
+     * {@link ByteBuffer} without copying. The position of the {@link ByteBuffer} is not changed.
+     *
+     * @param bytes input bytes
+     * @param start start index, inclusive
+     * @param end end index, exclusive
+     * @return CRC16 as interger value
+     * @since 4.3
+     */
+    public static int crc16(ByteBuffer bytes, int start, int end) {
+
+        int crc = 0x0000;
+
+        if (bytes.hasArray()) {
+
+            byte[] array = bytes.array();
+            int offset = bytes.arrayOffset();
+
+            for (int i = offset + start; i < offset + end; i++) {
+                crc = ((crc << 8) ^ LOOKUP_TABLE[((crc >>> 8) ^ (array[i] & 0xFF)) & 0xFF]);
+            }
+        } else {
+
+            for (int i = start; i < end; i++) {
+                crc = ((crc << 8) ^ LOOKUP_TABLE[((crc >>> 8) ^ (bytes.get(i) & 0xFF)) & 0xFF]);
+            }
+        }
+
+        return crc & 0xFFFF;
+    }
 }
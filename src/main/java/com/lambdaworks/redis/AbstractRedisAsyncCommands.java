@@ -385,6 +385,11 @@ public abstract class AbstractRedisAsyncCommands<K, V>
         return dispatch(commandBuilder.get(key));
     }
 
+    @Override
+    public RedisFuture<Long> get(ByteStreamingChannel channel, K key) {
+        return dispatch(commandBuilder.get(channel, key));
+    }
+
     @Override
     public RedisFuture<Long> getbit(K key, long offset) {
         return dispatch(commandBuilder.getbit(key, offset));
@@ -395,6 +400,11 @@ public abstract class AbstractRedisAsyncCommands<K, V>
         return dispatch(commandBuilder.getrange(key, start, end));
     }
 
+    @Override
+    public RedisFuture<Long> getrange(ByteStreamingChannel channel, K key, long start, long end) {
+        return dispatch(commandBuilder.getrange(channel, key, start, end));
+    }
+
     @Override
     public RedisFuture<V> getset(K key, V value) {
         return dispatch(commandBuilder.getset(key, value));
@@ -25,6 +25,7 @@ import io.netty.channel.group.DefaultChannelGroup;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.util.HashedWheelTimer;
+import io.netty.util.concurrent.DefaultThreadFactory;
 import io.netty.util.concurrent.EventExecutorGroup;
 import io.netty.util.concurrent.Future;
 import io.netty.util.internal.ConcurrentSet;
@@ -70,6 +71,8 @@ public abstract class AbstractRedisClient {
 
     private final boolean sharedResources;
     private final AtomicBoolean shutdown = new AtomicBoolean();
+    private final Object pubSubDispatchExecutorLock = new Object();
+    private ExecutorService pubSubDispatchExecutor;
 
     /**
      * @deprecated use {@link #AbstractRedisClient(ClientResources)}
@@ -138,18 +141,26 @@ public abstract class AbstractRedisClient {
     protected void connectionBuilder(CommandHandler<?, ?> handler, RedisChannelHandler<?, ?> connection,
             Supplier<SocketAddress> socketAddressSupplier, ConnectionBuilder connectionBuilder, RedisURI redisURI) {
 
+        SocketOptions socketOptions = getOptions().getSocketOptions();
+
         Bootstrap redisBootstrap = new Bootstrap();
-        redisBootstrap.option(ChannelOption.WRITE_BUFFER_HIGH_WATER_MARK, 32 * 1024);
-        redisBootstrap.option(ChannelOption.WRITE_BUFFER_LOW_WATER_MARK, 8 * 1024);
+        redisBootstrap.option(ChannelOption.WRITE_BUFFER_WATER_MARK, new WriteBufferWaterMark(
+                socketOptions.getWriteBufferLowWaterMark(), socketOptions.getWriteBufferHighWaterMark()));
         redisBootstrap.option(ChannelOption.ALLOCATOR, BUF_ALLOCATOR);
 
-        SocketOptions socketOptions = getOptions().getSocketOptions();
-
         redisBootstrap.option(ChannelOption.CONNECT_TIMEOUT_MILLIS,
                 (int) socketOptions.getConnectTimeoutUnit().toMillis(socketOptions.getConnectTimeout()));
         redisBootstrap.option(ChannelOption.SO_KEEPALIVE, socketOptions.isKeepAlive());
         redisBootstrap.option(ChannelOption.TCP_NODELAY, socketOptions.isTcpNoDelay());
 
+        if (socketOptions.getReceiveBufferSize() > 0) {
+            redisBootstrap.option(ChannelOption.SO_RCVBUF, socketOptions.getReceiveBufferSize());
+        }
+
+        if (socketOptions.getSendBufferSize() > 0) {
+            redisBootstrap.option(ChannelOption.SO_SNDBUF, socketOptions.getSendBufferSize());
+        }
+
         if (redisURI == null) {
             connectionBuilder.timeout(timeout, unit);
         } else {
@@ -165,20 +176,29 @@ public abstract class AbstractRedisClient {
 
     protected void channelType(ConnectionBuilder connectionBuilder, ConnectionPoint connectionPoint) {
 
-        connectionBuilder.bootstrap().group(getEventLoopGroup(connectionPoint));
-
         if (connectionPoint != null && connectionPoint.getSocket() != null) {
             checkForEpollLibrary();
+            connectionBuilder.bootstrap().group(getEventLoopGroup(EpollProvider.epollEventLoopGroupClass));
             connectionBuilder.bootstrap().channel(EpollProvider.epollDomainSocketChannelClass);
+            return;
+        }
+
+        SocketOptions socketOptions = getOptions().getSocketOptions();
+
+        if (socketOptions.isNativeTransport()) {
+            EpollProvider.checkForEpollTransport();
+            connectionBuilder.bootstrap().group(getEventLoopGroup(EpollProvider.epollEventLoopGroupClass));
+            connectionBuilder.bootstrap().channel(EpollProvider.epollSocketChannelClass);
+            connectionBuilder.bootstrap().option(EpollProvider.tcpQuickAck(), socketOptions.isTcpQuickAck());
         } else {
+            connectionBuilder.bootstrap().group(getEventLoopGroup(NioEventLoopGroup.class));
             connectionBuilder.bootstrap().channel(NioSocketChannel.class);
         }
     }
 
-    private synchronized EventLoopGroup getEventLoopGroup(ConnectionPoint connectionPoint) {
+    private synchronized EventLoopGroup getEventLoopGroup(Class<? extends EventLoopGroup> type) {
 
-        if ((connectionPoint == null || connectionPoint.getSocket() == null)
-                && !eventLoopGroups.containsKey(NioEventLoopGroup.class)) {
+        if (type == NioEventLoopGroup.class && !eventLoopGroups.containsKey(NioEventLoopGroup.class)) {
 
             if (eventLoopGroup == null) {
                 eventLoopGroup = clientResources.eventLoopGroupProvider().allocate(NioEventLoopGroup.class);
@@ -187,25 +207,11 @@ public abstract class AbstractRedisClient {
             eventLoopGroups.put(NioEventLoopGroup.class, eventLoopGroup);
         }
 
-        if (connectionPoint != null && connectionPoint.getSocket() != null) {
-            checkForEpollLibrary();
-
-            if (!eventLoopGroups.containsKey(EpollProvider.epollEventLoopGroupClass)) {
-                EventLoopGroup epl = clientResources.eventLoopGroupProvider().allocate(EpollProvider.epollEventLoopGroupClass);
-                eventLoopGroups.put(EpollProvider.epollEventLoopGroupClass, epl);
-            }
-        }
-
-        if (connectionPoint == null || connectionPoint.getSocket() == null) {
-            return eventLoopGroups.get(NioEventLoopGroup.class);
+        if (!eventLoopGroups.containsKey(type)) {
+            eventLoopGroups.put(type, clientResources.eventLoopGroupProvider().allocate(type));
         }
 
-        if (connectionPoint != null && connectionPoint.getSocket() != null) {
-            checkForEpollLibrary();
-            return eventLoopGroups.get(EpollProvider.epollEventLoopGroupClass);
-        }
-
-        throw new IllegalStateException("This should not have happened in a binary decision. Please file a bug.");
+        return eventLoopGroups.get(type);
     }
 
     private void checkForEpollLibrary() {
@@ -304,6 +310,13 @@ public abstract class AbstractRedisClient {
             ChannelGroupFuture closeFuture = channels.close();
             closeFutures.add(closeFuture);
 
+            synchronized (pubSubDispatchExecutorLock) {
+                if (pubSubDispatchExecutor != null) {
+                    pubSubDispatchExecutor.shutdown();
+                    pubSubDispatchExecutor = null;
+                }
+            }
+
             if (!sharedResources) {
                 clientResources.shutdown(quietPeriod, timeout, timeUnit);
             } else {
@@ -324,6 +337,36 @@ public abstract class AbstractRedisClient {
         }
     }
 
+    /**
+     * Returns the {@link Executor} to notify pub/sub listeners if {@link PubSubOptions#isAsyncDispatch() asynchronous
+     * dispatch} is enabled. Uses the {@link PubSubOptions#getDispatchExecutor() configured executor} or a dedicated executor
+     * that is created on first use and shut down with the client.
+     *
+     * @return the pub/sub dispatch executor.
+     * @since 4.3
+     */
+    protected Executor getPubSubDispatchExecutor() {
+
+        Executor dispatchExecutor = clientOptions.getPubSubOptions().getDispatchExecutor();
+        if (dispatchExecutor != null) {
+            return dispatchExecutor;
+        }
+
+        synchronized (pubSubDispatchExecutorLock) {
+
+            if (pubSubDispatchExecutor == null) {
+
+                int threads = Runtime.getRuntime().availableProcessors();
+                ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                        new LinkedBlockingQueue<>(), new DefaultThreadFactory("lettuce-pubSubDispatch", true));
+                executor.allowCoreThreadTimeOut(true);
+                pubSubDispatchExecutor = executor;
+            }
+
+            return pubSubDispatchExecutor;
+        }
+    }
+
     protected int getResourceCount() {
         return closeableResources.size();
     }
@@ -376,6 +376,11 @@ public abstract class AbstractRedisReactiveCommands<K, V> implements RedisHashRe
         return createObservable(() -> commandBuilder.get(key));
     }
 
+    @Override
+    public Observable<Long> get(ByteStreamingChannel channel, K key) {
+        return createObservable(() -> commandBuilder.get(channel, key));
+    }
+
     @Override
     public Observable<Long> getbit(K key, long offset) {
         return createObservable(() -> commandBuilder.getbit(key, offset));
@@ -386,6 +391,11 @@ public abstract class AbstractRedisReactiveCommands<K, V> implements RedisHashRe
         return createObservable(() -> commandBuilder.getrange(key, start, end));
     }
 
+    @Override
+    public Observable<Long> getrange(ByteStreamingChannel channel, K key, long start, long end) {
+        return createObservable(() -> commandBuilder.getrange(channel, key, start, end));
+    }
+
     @Override
     public Observable<V> getset(K key, V value) {
         return createObservable(() -> commandBuilder.getset(key, value));
@@ -19,6 +19,10 @@ public class ClientOptions implements Serializable {
     public static final DisconnectedBehavior DEFAULT_DISCONNECTED_BEHAVIOR = DisconnectedBehavior.DEFAULT;
     public static final SocketOptions DEFAULT_SOCKET_OPTIONS = SocketOptions.create();
     public static final SslOptions DEFAULT_SSL_OPTIONS = SslOptions.create();
+    public static final boolean DEFAULT_COMPOSITE_DECODE_BUFFER = false;
+    public static final boolean DEFAULT_DEFERRED_DECODING = false;
+    public static final PubSubOptions DEFAULT_PUBSUB_OPTIONS = PubSubOptions.create();
+    public static final TimeoutOptions DEFAULT_TIMEOUT_OPTIONS = TimeoutOptions.create();
 
     private final boolean pingBeforeActivateConnection;
     private final boolean autoReconnect;
@@ -28,6 +32,10 @@ public class ClientOptions implements Serializable {
     private final DisconnectedBehavior disconnectedBehavior;
     private final SocketOptions socketOptions;
     private final SslOptions sslOptions;
+    private final boolean compositeDecodeBuffer;
+    private final boolean deferredDecoding;
+    private final PubSubOptions pubSubOptions;
+    private final TimeoutOptions timeoutOptions;
 
     protected ClientOptions(Builder builder) {
         pingBeforeActivateConnection = builder.pingBeforeActivateConnection;
@@ -38,6 +46,10 @@ public class ClientOptions implements Serializable {
         disconnectedBehavior = builder.disconnectedBehavior;
         socketOptions = builder.socketOptions;
         sslOptions = builder.sslOptions;
+        compositeDecodeBuffer = builder.compositeDecodeBuffer;
+        deferredDecoding = builder.deferredDecoding;
+        pubSubOptions = builder.pubSubOptions;
+        timeoutOptions = builder.timeoutOptions;
     }
 
     protected ClientOptions(ClientOptions original) {
@@ -49,6 +61,10 @@ public class ClientOptions implements Serializable {
         this.disconnectedBehavior = original.getDisconnectedBehavior();
         this.socketOptions = original.getSocketOptions();
         this.sslOptions = original.getSslOptions();
+        this.compositeDecodeBuffer = original.isCompositeDecodeBuffer();
+        this.deferredDecoding = original.isDeferredDecoding();
+        this.pubSubOptions = original.getPubSubOptions();
+        this.timeoutOptions = original.getTimeoutOptions();
     }
 
     /**
@@ -92,6 +108,10 @@ public class ClientOptions implements Serializable {
         private DisconnectedBehavior disconnectedBehavior = DEFAULT_DISCONNECTED_BEHAVIOR;
         private SocketOptions socketOptions = DEFAULT_SOCKET_OPTIONS;
         private SslOptions sslOptions = DEFAULT_SSL_OPTIONS;
+        private boolean compositeDecodeBuffer = DEFAULT_COMPOSITE_DECODE_BUFFER;
+        private boolean deferredDecoding = DEFAULT_DEFERRED_DECODING;
+        private PubSubOptions pubSubOptions = DEFAULT_PUBSUB_OPTIONS;
+        private TimeoutOptions timeoutOptions = DEFAULT_TIMEOUT_OPTIONS;
 
         /**
          * @deprecated Use {@link ClientOptions#builder()}
@@ -204,6 +224,60 @@ public class ClientOptions implements Serializable {
             return this;
         }
 
+        /**
+         * Accumulate received data in a {@link io.netty.buffer.CompositeByteBuf} instead of copying it into an aggregation
+         * buffer. Response elements are passed to the command output as views on the received data. Recommended for large
+         * response values. Defaults to {@literal false}. See {@link #DEFAULT_COMPOSITE_DECODE_BUFFER}.
+         *
+         * @param compositeDecodeBuffer true/false
+         * @return {@code this}
+         */
+        public Builder compositeDecodeBuffer(boolean compositeDecodeBuffer) {
+            this.compositeDecodeBuffer = compositeDecodeBuffer;
+            return this;
+        }
+
+        /**
+         * Decode responses on the computation thread pool of {@link com.lambdaworks.redis.resource.ClientResources} instead of
+         * the I/O thread. The I/O thread retains the raw response in a pooled buffer and the response is decoded using the
+         * {@link com.lambdaworks.redis.codec.RedisCodec} before the command is completed. Responses of a connection are
+         * decoded and completed in the order they are received. Recommended for expensive codecs. Defaults to
+         * {@literal false}. See {@link #DEFAULT_DEFERRED_DECODING}.
+         *
+         * @param deferredDecoding true/false
+         * @return {@code this}
+         */
+        public Builder deferredDecoding(boolean deferredDecoding) {
+            this.deferredDecoding = deferredDecoding;
+            return this;
+        }
+
+        /**
+         * Sets the {@link PubSubOptions} for pub/sub connections. See {@link #DEFAULT_PUBSUB_OPTIONS}.
+         *
+         * @param pubSubOptions must not be {@literal null}.
+         * @return {@code this}
+         */
+        public Builder pubSubOptions(PubSubOptions pubSubOptions) {
+
+            LettuceAssert.notNull(pubSubOptions, "PubSubOptions must not be null");
+            this.pubSubOptions = pubSubOptions;
+            return this;
+        }
+
+        /**
+         * Sets the {@link TimeoutOptions} to time out commands within the transport. See {@link #DEFAULT_TIMEOUT_OPTIONS}.
+         *
+         * @param timeoutOptions must not be {@literal null}.
+         * @return {@code this}
+         */
+        public Builder timeoutOptions(TimeoutOptions timeoutOptions) {
+
+            LettuceAssert.notNull(timeoutOptions, "TimeoutOptions must not be null");
+            this.timeoutOptions = timeoutOptions;
+            return this;
+        }
+
         /**
          * Create a new instance of {@link ClientOptions}.
          * 
@@ -297,6 +371,44 @@ public class ClientOptions implements Serializable {
         return sslOptions;
     }
 
+    /**
+     * If this flag is {@literal true} received data is accumulated in a {@link io.netty.buffer.CompositeByteBuf} without
+     * copying it into an aggregation buffer. Read bytes are discarded once the buffer components are consumed. Default is
+     * {@literal false}.
+     *
+     * @return {@literal true} if received data is accumulated in a composite buffer.
+     */
+    public boolean isCompositeDecodeBuffer() {
+        return compositeDecodeBuffer;
+    }
+
+    /**
+     * Decode responses on the computation thread pool instead of the I/O thread.
+     *
+     * @return {@literal true} if responses are decoded on the computation thread pool.
+     */
+    public boolean isDeferredDecoding() {
+        return deferredDecoding;
+    }
+
+    /**
+     * Returns the {@link PubSubOptions}.
+     *
+     * @return the {@link PubSubOptions}.
+     */
+    public PubSubOptions getPubSubOptions() {
+        return pubSubOptions;
+    }
+
+    /**
+     * Returns the {@link TimeoutOptions}.
+     *
+     * @return the {@link TimeoutOptions}.
+     */
+    public TimeoutOptions getTimeoutOptions() {
+        return timeoutOptions;
+    }
+
     /**
      * Behavior of connections in disconnected state.
      */
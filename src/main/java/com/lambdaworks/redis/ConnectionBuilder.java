@@ -56,6 +56,11 @@ public class ConnectionBuilder {
 
         connection.setOptions(clientOptions);
 
+        if (clientOptions.getTimeoutOptions().isTimeoutCommands()) {
+            LettuceAssert.assertState(timer != null, "Timer must be set for command timeouts");
+            commandHandler.enableCommandTimeouts(timer, timeout, timeUnit);
+        }
+
         handlers.add(new ChannelGroupListener(channelGroup));
         handlers.add(new CommandEncoder());
         handlers.add(commandHandler);
@@ -9,6 +9,7 @@ import com.lambdaworks.redis.internal.LettuceAssert;
 
 import com.lambdaworks.redis.internal.LettuceClassUtils;
 import io.netty.channel.Channel;
+import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
 import io.netty.util.internal.logging.InternalLogger;
 import io.netty.util.internal.logging.InternalLoggerFactory;
@@ -25,11 +26,13 @@ public class EpollProvider {
 
     public final static Class<EventLoopGroup> epollEventLoopGroupClass;
     public final static Class<Channel> epollDomainSocketChannelClass;
+    public final static Class<Channel> epollSocketChannelClass;
     public final static Class<SocketAddress> domainSocketAddressClass;
     static {
 
         epollEventLoopGroupClass = getClass("io.netty.channel.epoll.EpollEventLoopGroup");
         epollDomainSocketChannelClass = getClass("io.netty.channel.epoll.EpollDomainSocketChannel");
+        epollSocketChannelClass = getClass("io.netty.channel.epoll.EpollSocketChannel");
         domainSocketAddressClass = getClass("io.netty.channel.unix.DomainSocketAddress");
         if (epollDomainSocketChannelClass == null || epollEventLoopGroupClass == null) {
             logger.debug("Starting without optional Epoll library");
@@ -64,6 +67,36 @@ public class EpollProvider {
                 "Cannot connect using sockets without the optional netty-transport-native-epoll library on the class path");
     }
 
+    /**
+     * Check whether the native epoll transport can be used for TCP connections.
+     *
+     * @throws IllegalStateException if the {@literal netty-transport-native-epoll} library is not available or cannot be
+     *         loaded on this platform
+     */
+    static void checkForEpollTransport() {
+
+        LettuceAssert.assertState(epollSocketChannelClass != null && epollEventLoopGroupClass != null,
+                "Cannot use the native transport without the optional netty-transport-native-epoll library on the class path");
+
+        Throwable cause = get(() -> {
+            Class<?> epoll = LettuceClassUtils.forName("io.netty.channel.epoll.Epoll");
+            return (Throwable) epoll.getMethod("unavailabilityCause").invoke(null);
+        });
+
+        if (cause != null) {
+            throw new IllegalStateException("Native epoll transport is not available", cause);
+        }
+    }
+
+    /**
+     * @return the {@code TCP_QUICKACK} channel option of the epoll transport.
+     */
+    @SuppressWarnings("unchecked")
+    static ChannelOption<Boolean> tcpQuickAck() {
+        return get(() -> (ChannelOption<Boolean>) LettuceClassUtils.forName("io.netty.channel.epoll.EpollChannelOption")
+                .getField("TCP_QUICKACK").get(null));
+    }
+
     static SocketAddress newSocketAddress(String socketPath) {
         return get(() -> {
             Constructor<SocketAddress> constructor = domainSocketAddressClass.getConstructor(String.class);
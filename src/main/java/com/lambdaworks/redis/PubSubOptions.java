@@ -0,0 +1,212 @@
+package com.lambdaworks.redis;
+
+import java.util.concurrent.Executor;
+
+import com.lambdaworks.redis.internal.LettuceAssert;
+
+/**
+ * Options to configure how messages received on pub/sub connections are dispatched to
+ * {@link com.lambdaworks.redis.pubsub.RedisPubSubListener listeners}. By default, listeners are notified on the I/O thread
+ * that decoded the message. Asynchronous dispatch notifies listeners on the {@link #getDispatchExecutor() dispatch executor}
+ * using a bounded queue per listener. The client provides a dedicated dispatch executor unless an executor is configured.
+ *
+ * @author Mark Paluch
+ * @since 4.3
+ */
+public class PubSubOptions {
+
+    public static final boolean DEFAULT_ASYNC_DISPATCH = false;
+    public static final int DEFAULT_LISTENER_QUEUE_SIZE = 1024;
+    public static final OverflowPolicy DEFAULT_OVERFLOW_POLICY = OverflowPolicy.DISABLE_AUTO_READ;
+
+    private final boolean asyncDispatch;
+    private final int listenerQueueSize;
+    private final OverflowPolicy overflowPolicy;
+    private final Executor dispatchExecutor;
+
+    protected PubSubOptions(Builder builder) {
+
+        this.asyncDispatch = builder.asyncDispatch;
+        this.listenerQueueSize = builder.listenerQueueSize;
+        this.overflowPolicy = builder.overflowPolicy;
+        this.dispatchExecutor = builder.dispatchExecutor;
+    }
+
+    protected PubSubOptions(PubSubOptions original) {
+
+        this.asyncDispatch = original.isAsyncDispatch();
+        this.listenerQueueSize = original.getListenerQueueSize();
+        this.overflowPolicy = original.getOverflowPolicy();
+        this.dispatchExecutor = original.getDispatchExecutor();
+    }
+
+    /**
+     * Create a copy of {@literal options}
+     *
+     * @param options the original
+     * @return A new instance of {@link PubSubOptions} containing the values of {@literal options}
+     */
+    public static PubSubOptions copyOf(PubSubOptions options) {
+        return new PubSubOptions(options);
+    }
+
+    /**
+     * Returns a new {@link PubSubOptions.Builder} to construct {@link PubSubOptions}.
+     *
+     * @return a new {@link PubSubOptions.Builder} to construct {@link PubSubOptions}.
+     */
+    public static PubSubOptions.Builder builder() {
+        return new PubSubOptions.Builder();
+    }
+
+    /**
+     * Create a new {@link PubSubOptions} using default settings.
+     *
+     * @return a new instance of default pub/sub options.
+     */
+    public static PubSubOptions create() {
+        return builder().build();
+    }
+
+    /**
+     * Builder for {@link PubSubOptions}.
+     */
+    public static class Builder {
+
+        private boolean asyncDispatch = DEFAULT_ASYNC_DISPATCH;
+        private int listenerQueueSize = DEFAULT_LISTENER_QUEUE_SIZE;
+        private OverflowPolicy overflowPolicy = DEFAULT_OVERFLOW_POLICY;
+        private Executor dispatchExecutor;
+
+        private Builder() {
+        }
+
+        /**
+         * Notify listeners on the dispatch executor instead of the I/O thread. Defaults to {@literal false}. See
+         * {@link #DEFAULT_ASYNC_DISPATCH}.
+         *
+         * @param asyncDispatch {@literal true} to dispatch messages asynchronously.
+         * @return {@code this}
+         */
+        public Builder asyncDispatch(boolean asyncDispatch) {
+
+            this.asyncDispatch = asyncDispatch;
+            return this;
+        }
+
+        /**
+         * Sets the number of messages that are buffered per listener when dispatching asynchronously. Defaults to
+         * {@literal 1024}. See {@link #DEFAULT_LISTENER_QUEUE_SIZE}. The queue size is a soft limit with
+         * {@link OverflowPolicy#DISABLE_AUTO_READ}, see the policy for details.
+         *
+         * @param listenerQueueSize the queue size, must be greater {@literal 0}.
+         * @return {@code this}
+         */
+        public Builder listenerQueueSize(int listenerQueueSize) {
+
+            LettuceAssert.isTrue(listenerQueueSize > 0, "Listener queue size must be greater 0");
+
+            this.listenerQueueSize = listenerQueueSize;
+            return this;
+        }
+
+        /**
+         * Sets the {@link OverflowPolicy} that applies when a listener queue is full. Defaults to
+         * {@link OverflowPolicy#DISABLE_AUTO_READ}. See {@link #DEFAULT_OVERFLOW_POLICY}.
+         *
+         * @param overflowPolicy must not be {@literal null}.
+         * @return {@code this}
+         */
+        public Builder overflowPolicy(OverflowPolicy overflowPolicy) {
+
+            LettuceAssert.notNull(overflowPolicy, "OverflowPolicy must not be null");
+
+            this.overflowPolicy = overflowPolicy;
+            return this;
+        }
+
+        /**
+         * Sets the {@link Executor} that notifies listeners when dispatching asynchronously. The executor is not shut down
+         * by the client. Defaults to {@literal null} to use a dedicated executor that is managed by the client.
+         *
+         * @param dispatchExecutor the executor, may be {@literal null}.
+         * @return {@code this}
+         */
+        public Builder dispatchExecutor(Executor dispatchExecutor) {
+
+            this.dispatchExecutor = dispatchExecutor;
+            return this;
+        }
+
+        /**
+         * Create a new instance of {@link PubSubOptions}
+         *
+         * @return new instance of {@link PubSubOptions}
+         */
+        public PubSubOptions build() {
+            return new PubSubOptions(this);
+        }
+    }
+
+    /**
+     * Returns whether listeners are notified on the dispatch executor.
+     *
+     * @return {@literal true} if messages are dispatched asynchronously.
+     */
+    public boolean isAsyncDispatch() {
+        return asyncDispatch;
+    }
+
+    /**
+     * Returns the number of messages that are buffered per listener.
+     *
+     * @return the listener queue size.
+     */
+    public int getListenerQueueSize() {
+        return listenerQueueSize;
+    }
+
+    /**
+     * Returns the {@link OverflowPolicy}.
+     *
+     * @return the {@link OverflowPolicy}.
+     */
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    /**
+     * Returns the {@link Executor} that notifies listeners when dispatching asynchronously.
+     *
+     * @return the dispatch executor or {@literal null} if the client provides a dedicated executor.
+     */
+    public Executor getDispatchExecutor() {
+        return dispatchExecutor;
+    }
+
+    /**
+     * Behavior when a listener does not keep up with the rate of incoming messages and its queue is full.
+     */
+    public enum OverflowPolicy {
+
+        /**
+         * Discard the oldest queued message to make room for the new message.
+         */
+        DROP_OLDEST,
+
+        /**
+         * Queue the message and stop reading from the connection until the listener has caught up with half of its queue.
+         * No messages are lost; Redis buffers pending messages on the server side (see {@code client-output-buffer-limit}).
+         * <p>
+         * The listener queue size is a soft limit with this policy: messages that were already received when reading was
+         * suspended are still decoded and queued. The queue exceeds its size by at most the messages contained in the read
+         * that was in progress.
+         */
+        DISABLE_AUTO_READ,
+
+        /**
+         * Reject the new message. Rejections are logged and counted in the channel statistics.
+         */
+        FAIL;
+    }
+}
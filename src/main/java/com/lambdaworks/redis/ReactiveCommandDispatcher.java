@@ -2,6 +2,10 @@ package com.lambdaworks.redis;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 
 import com.lambdaworks.redis.api.StatefulConnection;
@@ -9,13 +13,17 @@ import com.lambdaworks.redis.api.StatefulRedisConnection;
 import com.lambdaworks.redis.internal.LettuceAssert;
 import com.lambdaworks.redis.output.StreamingOutput;
 import com.lambdaworks.redis.protocol.CommandWrapper;
+import com.lambdaworks.redis.protocol.DemandAware;
 import com.lambdaworks.redis.protocol.RedisCommand;
 
 import rx.Observable;
+import rx.Producer;
 import rx.Subscriber;
+import rx.subscriptions.Subscriptions;
 
 /**
- * Reactive command dispatcher.
+ * Reactive command dispatcher. Emission follows the subscriber demand: elements are buffered until they are requested and
+ * reading from the connection is suspended while the subscriber has no outstanding demand.
  *
  * @author Mark Paluch
  */
@@ -64,28 +72,49 @@ public class ReactiveCommandDispatcher<K, V, T> implements Observable.OnSubscrib
             command = commandSupplier.get();
         }
 
+        ObservableCommand<K, V, T> observableCommand = new ObservableCommand<>(command, subscriber, dissolve);
+
         if (command.getOutput() instanceof StreamingOutput<?>) {
             StreamingOutput<T> streamingOutput = (StreamingOutput<T>) command.getOutput();
 
             if (connection instanceof StatefulRedisConnection<?, ?> && ((StatefulRedisConnection) connection).isMulti()) {
-                streamingOutput.setSubscriber(new DelegatingWrapper<T>(
-                        Arrays.asList(new ObservableSubscriberWrapper<>(subscriber), streamingOutput.getSubscriber())));
+                streamingOutput.setSubscriber(
+                        new DelegatingWrapper<T>(Arrays.asList(observableCommand, streamingOutput.getSubscriber())));
             } else {
-                streamingOutput.setSubscriber(new ObservableSubscriberWrapper<>(subscriber));
+                streamingOutput.setSubscriber(observableCommand);
             }
         }
 
-        connection.dispatch(new ObservableCommand<>(command, subscriber, dissolve));
+        subscriber.add(Subscriptions.create(observableCommand::onUnsubscribe));
+        subscriber.setProducer(observableCommand);
+
+        connection.dispatch(observableCommand);
 
         this.command = null;
 
     }
 
-    private static class ObservableCommand<K, V, T> extends CommandWrapper<K, V, T> {
+    /**
+     * Command wrapper that emits the command result to a {@link Subscriber} according to its demand. Elements are buffered
+     * until the subscriber requests them. The command signals {@link DemandAware.Sink#hasDemand() demand} to the transport so
+     * reading from the connection is suspended while the subscriber has no outstanding demand. Memory usage of a slow
+     * subscriber is therefore bounded by the data received with a single read.
+     */
+    static class ObservableCommand<K, V, T> extends CommandWrapper<K, V, T>
+            implements Producer, DemandAware.Sink, StreamingOutput.Subscriber<T> {
+
+        private static final Object NULL = new Object();
 
         private final Subscriber<? super T> subscriber;
         private final boolean dissolve;
+        private final Queue<Object> buffer = new ConcurrentLinkedQueue<>();
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+
         private boolean completed = false;
+        private volatile boolean terminated;
+        private volatile Throwable error;
+        private volatile DemandAware.Source source;
 
         public ObservableCommand(RedisCommand<K, V, T> command, Subscriber<? super T> subscriber, boolean dissolve) {
             super(command);
@@ -93,6 +122,56 @@ public class ReactiveCommandDispatcher<K, V, T> implements Observable.OnSubscrib
             this.dissolve = dissolve;
         }
 
+        @Override
+        public void request(long n) {
+
+            if (n < 0) {
+                throw new IllegalArgumentException("Request must be positive: " + n);
+            }
+
+            if (n == 0) {
+                return;
+            }
+
+            long current;
+            long next;
+            do {
+                current = requested.get();
+                next = current + n;
+                if (next < 0) {
+                    next = Long.MAX_VALUE;
+                }
+            } while (!requested.compareAndSet(current, next));
+
+            drain();
+            requestMore();
+        }
+
+        @Override
+        public boolean hasDemand() {
+            return terminated || subscriber.isUnsubscribed() || (requested.get() > 0 && buffer.isEmpty());
+        }
+
+        @Override
+        public void setSource(DemandAware.Source source) {
+            this.source = source;
+        }
+
+        @Override
+        public void removeSource() {
+            this.source = null;
+        }
+
+        /**
+         * Streaming element notification sent by the {@link StreamingOutput}.
+         *
+         * @param t element
+         */
+        @Override
+        public void onNext(T t) {
+            emit(t);
+        }
+
         @Override
         @SuppressWarnings("unchecked")
         public void complete() {
@@ -110,25 +189,21 @@ public class ReactiveCommandDispatcher<K, V, T> implements Observable.OnSubscrib
                         if (dissolve && result instanceof Collection) {
                             Collection<T> collection = (Collection<T>) result;
                             for (T t : collection) {
-                                subscriber.onNext(t);
+                                emit(t);
                             }
                         } else {
-                            subscriber.onNext((T) result);
+                            emit((T) result);
                         }
                     }
 
                     if (getOutput().hasError()) {
-                        subscriber.onError(new RedisCommandExecutionException(getOutput().getError()));
+                        terminate(new RedisCommandExecutionException(getOutput().getError()));
                         completed = true;
                         return;
                     }
                 }
 
-                try {
-                    subscriber.onCompleted();
-                } catch (Exception e) {
-                   completeExceptionally(e);
-                }
+                terminate(null);
             } finally {
                 completed = true;
             }
@@ -142,7 +217,7 @@ public class ReactiveCommandDispatcher<K, V, T> implements Observable.OnSubscrib
             }
 
             super.cancel();
-            subscriber.onCompleted();
+            terminate(null);
             completed = true;
         }
 
@@ -153,28 +228,102 @@ public class ReactiveCommandDispatcher<K, V, T> implements Observable.OnSubscrib
             }
 
             boolean b = super.completeExceptionally(throwable);
-            subscriber.onError(throwable);
+            terminate(throwable);
             completed = true;
             return b;
         }
-    }
 
-    static class ObservableSubscriberWrapper<T> implements StreamingOutput.Subscriber<T> {
+        void onUnsubscribe() {
+            buffer.clear();
+            requestMore();
+        }
 
-        private Subscriber<? super T> subscriber;
+        private void emit(T t) {
 
-        public ObservableSubscriberWrapper(Subscriber<? super T> subscriber) {
-            this.subscriber = subscriber;
+            if (subscriber.isUnsubscribed()) {
+                return;
+            }
+
+            buffer.offer(t == null ? NULL : t);
+            drain();
         }
 
-        @Override
-        public void onNext(T t) {
+        private void terminate(Throwable throwable) {
+
+            this.error = throwable;
+            this.terminated = true;
+            drain();
+        }
+
+        private void requestMore() {
+
+            DemandAware.Source source = this.source;
+            if (source != null && hasDemand()) {
+                source.requestMore();
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private void drain() {
 
-            if(subscriber.isUnsubscribed()) {
+            if (wip.getAndIncrement() != 0) {
                 return;
             }
 
-            subscriber.onNext(t);
+            int missed = 1;
+
+            do {
+
+                long demand = requested.get();
+                long emitted = 0;
+
+                while (emitted != demand) {
+
+                    if (subscriber.isUnsubscribed()) {
+                        buffer.clear();
+                        return;
+                    }
+
+                    if (terminated && error != null) {
+                        break;
+                    }
+
+                    Object element = buffer.poll();
+                    if (element == null) {
+                        break;
+                    }
+
+                    subscriber.onNext(element == NULL ? null : (T) element);
+                    emitted++;
+                }
+
+                if (subscriber.isUnsubscribed()) {
+                    buffer.clear();
+                    return;
+                }
+
+                if (terminated && (error != null || buffer.isEmpty())) {
+
+                    buffer.clear();
+
+                    if (error != null) {
+                        subscriber.onError(error);
+                    } else {
+                        try {
+                            subscriber.onCompleted();
+                        } catch (Exception e) {
+                            subscriber.onError(e);
+                        }
+                    }
+                    return;
+                }
+
+                if (emitted != 0 && demand != Long.MAX_VALUE) {
+                    requested.addAndGet(-emitted);
+                }
+
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
         }
     }
 
@@ -0,0 +1,117 @@
+package com.lambdaworks.redis;
+
+import java.util.List;
+
+import com.lambdaworks.redis.api.StatefulConnection;
+import com.lambdaworks.redis.event.EventBus;
+import com.lambdaworks.redis.event.metrics.CommandLatencyEvent;
+import com.lambdaworks.redis.internal.LettuceAssert;
+
+/**
+ * Defines how read operations are balanced across the read candidates. Read candidates are the connections to the nodes
+ * selected by {@link ReadFrom}, ordered as selected by {@link ReadFrom}. A {@link ReadLoadBalancer} is used by Redis Cluster
+ * and Master/Slave connections to pick one connection per read operation.
+ *
+ * @author Mark Paluch
+ * @since 4.3
+ */
+public abstract class ReadLoadBalancer {
+
+    /**
+     * Setting to read from the first open read candidate. This is the default.
+     */
+    public final static ReadLoadBalancer FIRST_AVAILABLE = new ReadLoadBalancerImpl.FirstAvailable();
+
+    /**
+     * Setting to read from the open read candidates in turns.
+     */
+    public final static ReadLoadBalancer ROUND_ROBIN = new ReadLoadBalancerImpl.RoundRobin();
+
+    /**
+     * Setting to read from a random open read candidate.
+     */
+    public final static ReadLoadBalancer RANDOM = new ReadLoadBalancerImpl.Random();
+
+    /**
+     * Setting to read from the open read candidate with the fewest outstanding (buffered and not yet completed) commands.
+     */
+    public final static ReadLoadBalancer LEAST_OUTSTANDING = new ReadLoadBalancerImpl.LeastOutstanding();
+
+    /**
+     * Create a latency-aware {@link ReadLoadBalancer}. The balancer consumes {@link CommandLatencyEvent}s published on the
+     * {@link EventBus} and picks the candidate with the lower completion latency out of two randomly chosen open candidates.
+     * Candidates without latency data are preferred so they get measured. Latency data is updated with each published
+     * {@link CommandLatencyEvent} and requires an enabled {@link com.lambdaworks.redis.metrics.CommandLatencyCollector}. The
+     * balancer subscribes to the {@link EventBus} while it is set on at least one open connection.
+     *
+     * @param eventBus the event bus, must not be {@literal null}
+     * @return the latency-aware {@link ReadLoadBalancer}
+     */
+    public static ReadLoadBalancer latencyAware(EventBus eventBus) {
+
+        LettuceAssert.notNull(eventBus, "EventBus must not be null");
+
+        return new ReadLoadBalancerImpl.LatencyAware(eventBus);
+    }
+
+    /**
+     * Chooses the connection from the read {@code candidates}. Implementations should skip closed candidates and fall back to
+     * the first candidate if no candidate is open.
+     *
+     * @param candidates the read candidates, never empty
+     * @param <C> connection type
+     * @return the selected connection
+     */
+    public abstract <C extends StatefulConnection<?, ?>> C select(List<C> candidates);
+
+    /**
+     * Signal that a connection starts using this {@link ReadLoadBalancer}. Connections call this method when the balancer is
+     * set. Balancers that hold resources, such as an {@link EventBus} subscription, acquire them with the first user.
+     *
+     * @see #release()
+     */
+    public void acquire() {
+    }
+
+    /**
+     * Signal that a connection stops using this {@link ReadLoadBalancer} because the connection was closed or the balancer was
+     * replaced. Balancers that hold resources release them with the last user.
+     *
+     * @see #acquire()
+     */
+    public void release() {
+    }
+
+    /**
+     * Retrieve the {@link ReadLoadBalancer} preset by name.
+     *
+     * @param name the name of the load balancer setting
+     * @return the {@link ReadLoadBalancer} preset
+     * @throws IllegalArgumentException if {@code name} is empty, {@literal null} or the {@link ReadLoadBalancer} preset is
+     *         unknown.
+     */
+    public static ReadLoadBalancer valueOf(String name) {
+
+        if (LettuceStrings.isEmpty(name)) {
+            throw new IllegalArgumentException("Name must not be empty");
+        }
+
+        if (name.equalsIgnoreCase("firstAvailable")) {
+            return FIRST_AVAILABLE;
+        }
+
+        if (name.equalsIgnoreCase("roundRobin")) {
+            return ROUND_ROBIN;
+        }
+
+        if (name.equalsIgnoreCase("random")) {
+            return RANDOM;
+        }
+
+        if (name.equalsIgnoreCase("leastOutstanding")) {
+            return LEAST_OUTSTANDING;
+        }
+
+        throw new IllegalArgumentException("ReadLoadBalancer " + name + " not supported");
+    }
+}
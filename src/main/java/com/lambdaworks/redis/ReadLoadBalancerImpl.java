@@ -0,0 +1,240 @@
+package com.lambdaworks.redis;
+
+import java.net.SocketAddress;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.lambdaworks.redis.api.StatefulConnection;
+import com.lambdaworks.redis.event.EventBus;
+import com.lambdaworks.redis.event.metrics.CommandLatencyEvent;
+import com.lambdaworks.redis.metrics.CommandLatencyId;
+import com.lambdaworks.redis.metrics.CommandMetrics;
+import com.lambdaworks.redis.protocol.CommandHandler;
+
+import rx.Subscription;
+
+/**
+ * Collection of common read load balancer implementations.
+ *
+ * @author Mark Paluch
+ * @since 4.3
+ */
+class ReadLoadBalancerImpl {
+
+    /**
+     * Read from the first open candidate.
+     */
+    static final class FirstAvailable extends ReadLoadBalancer {
+
+        @Override
+        public <C extends StatefulConnection<?, ?>> C select(List<C> candidates) {
+            return selectOpen(candidates, 0);
+        }
+    }
+
+    /**
+     * Read from the open candidates in turns.
+     */
+    static final class RoundRobin extends ReadLoadBalancer {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public <C extends StatefulConnection<?, ?>> C select(List<C> candidates) {
+
+            if (candidates.size() == 1) {
+                return candidates.get(0);
+            }
+
+            return selectOpen(candidates, (counter.getAndIncrement() & Integer.MAX_VALUE) % candidates.size());
+        }
+    }
+
+    /**
+     * Read from a random open candidate.
+     */
+    static final class Random extends ReadLoadBalancer {
+
+        @Override
+        public <C extends StatefulConnection<?, ?>> C select(List<C> candidates) {
+
+            if (candidates.size() == 1) {
+                return candidates.get(0);
+            }
+
+            return selectOpen(candidates, ThreadLocalRandom.current().nextInt(candidates.size()));
+        }
+    }
+
+    /**
+     * Read from the open candidate with the fewest outstanding commands.
+     */
+    static final class LeastOutstanding extends ReadLoadBalancer {
+
+        @Override
+        public <C extends StatefulConnection<?, ?>> C select(List<C> candidates) {
+
+            C selected = null;
+            int fewest = Integer.MAX_VALUE;
+
+            for (C candidate : candidates) {
+
+                if (!candidate.isOpen()) {
+                    continue;
+                }
+
+                CommandHandler<?, ?> commandHandler = getCommandHandler(candidate);
+                int outstanding = commandHandler != null ? commandHandler.getOutstandingCommands() : 0;
+
+                if (outstanding < fewest) {
+                    selected = candidate;
+                    fewest = outstanding;
+                }
+            }
+
+            return selected != null ? selected : candidates.get(0);
+        }
+    }
+
+    /**
+     * Read from the open candidate with the lower completion latency out of two random open candidates. Latencies are obtained
+     * from {@link CommandLatencyEvent}s.
+     */
+    static final class LatencyAware extends ReadLoadBalancer {
+
+        private final EventBus eventBus;
+        private volatile Map<SocketAddress, Long> latencies = new HashMap<>();
+        private int users;
+        private Subscription subscription;
+
+        LatencyAware(EventBus eventBus) {
+            this.eventBus = eventBus;
+        }
+
+        @Override
+        public synchronized void acquire() {
+
+            if (users++ == 0) {
+                subscription = eventBus.get().filter(event -> event instanceof CommandLatencyEvent)
+                        .subscribe(event -> onLatencies(((CommandLatencyEvent) event).getLatencies()));
+            }
+        }
+
+        @Override
+        public synchronized void release() {
+
+            if (users > 0 && --users == 0) {
+                subscription.unsubscribe();
+                subscription = null;
+            }
+        }
+
+        synchronized boolean isSubscribed() {
+            return subscription != null;
+        }
+
+        @Override
+        public <C extends StatefulConnection<?, ?>> C select(List<C> candidates) {
+
+            if (candidates.size() == 1) {
+                return candidates.get(0);
+            }
+
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            int first = random.nextInt(candidates.size());
+            int second = (first + 1 + random.nextInt(candidates.size() - 1)) % candidates.size();
+
+            C firstCandidate = candidates.get(first);
+            C secondCandidate = candidates.get(second);
+
+            if (!firstCandidate.isOpen()) {
+                return selectOpen(candidates, second);
+            }
+
+            if (!secondCandidate.isOpen()) {
+                return firstCandidate;
+            }
+
+            return getLatency(secondCandidate) < getLatency(firstCandidate) ? secondCandidate : firstCandidate;
+        }
+
+        void onLatencies(Map<CommandLatencyId, CommandMetrics> metrics) {
+
+            Map<SocketAddress, long[]> aggregates = new HashMap<>();
+
+            for (Map.Entry<CommandLatencyId, CommandMetrics> entry : metrics.entrySet()) {
+
+                CommandMetrics commandMetrics = entry.getValue();
+                if (commandMetrics.getCount() == 0 || entry.getKey().remoteAddress() == null) {
+                    continue;
+                }
+
+                long[] aggregate = aggregates.computeIfAbsent(entry.getKey().remoteAddress(), key -> new long[2]);
+                aggregate[0] += commandMetrics.getCount() * getMedianNanos(commandMetrics);
+                aggregate[1] += commandMetrics.getCount();
+            }
+
+            Map<SocketAddress, Long> latencies = new HashMap<>(this.latencies);
+            for (Map.Entry<SocketAddress, long[]> entry : aggregates.entrySet()) {
+                latencies.put(entry.getKey(), entry.getValue()[0] / entry.getValue()[1]);
+            }
+
+            this.latencies = latencies;
+        }
+
+        private long getLatency(StatefulConnection<?, ?> connection) {
+
+            CommandHandler<?, ?> commandHandler = getCommandHandler(connection);
+            SocketAddress remoteAddress = commandHandler != null ? commandHandler.getRemoteAddress() : null;
+
+            if (remoteAddress == null) {
+                return 0;
+            }
+
+            Long latency = latencies.get(remoteAddress);
+            return latency != null ? latency : 0;
+        }
+
+        private static long getMedianNanos(CommandMetrics commandMetrics) {
+
+            CommandMetrics.CommandLatency completion = commandMetrics.getCompletion();
+            Long median = completion.getPercentiles() != null ? completion.getPercentiles().get(50.0) : null;
+            long value = median != null ? median : (completion.getMin() + completion.getMax()) / 2;
+
+            return commandMetrics.getTimeUnit().toNanos(value);
+        }
+    }
+
+    /**
+     * Select the first open candidate starting at {@code offset}. Falls back to the first candidate if no candidate is open.
+     */
+    private static <C extends StatefulConnection<?, ?>> C selectOpen(List<C> candidates, int offset) {
+
+        int size = candidates.size();
+        for (int i = 0; i < size; i++) {
+
+            C candidate = candidates.get((offset + i) % size);
+            if (candidate.isOpen()) {
+                return candidate;
+            }
+        }
+
+        return candidates.get(0);
+    }
+
+    private static CommandHandler<?, ?> getCommandHandler(StatefulConnection<?, ?> connection) {
+
+        if (connection instanceof RedisChannelHandler) {
+
+            RedisChannelWriter<?, ?> writer = ((RedisChannelHandler<?, ?>) connection).getChannelWriter();
+            if (writer instanceof CommandHandler) {
+                return (CommandHandler<?, ?>) writer;
+            }
+        }
+
+        return null;
+    }
+}
@@ -1,6 +1,7 @@
 package com.lambdaworks.redis;
 
 import java.io.Closeable;
+import java.util.Collection;
 
 import com.lambdaworks.redis.protocol.RedisCommand;
 
@@ -25,6 +26,25 @@ public interface RedisChannelWriter<K, V> extends Closeable {
      */
     <T, C extends RedisCommand<K, V, T>> C write(C command);
 
+    /**
+     * Write multiple commands on the channel. Writers that support batching write the commands with a single flush, other
+     * writers write each command individually. Commands may be changed/wrapped during write.
+     *
+     * @param commands the redis commands
+     * @param <C> command type
+     * @return the written redis commands
+     * @since 4.3
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    default <C extends RedisCommand<K, V, ?>> Collection<C> write(Collection<C> commands) {
+
+        for (C command : commands) {
+            write((RedisCommand) command);
+        }
+
+        return commands;
+    }
+
     @Override
     void close();
 
@@ -420,7 +420,7 @@ public class RedisClient extends AbstractRedisClient {
         assertNotNull(codec);
         checkValidRedisURI(redisURI);
 
-        Queue<RedisCommand<K, V, ?>> queue = LettuceFactories.newConcurrentQueue();
+        Queue<RedisCommand<K, V, ?>> queue = LettuceFactories.newIndexedConcurrentQueue();
 
         CommandHandler<K, V> handler = new CommandHandler<>(clientOptions, clientResources, queue);
 
@@ -512,11 +512,12 @@ public class RedisClient extends AbstractRedisClient {
         assertNotNull(codec);
         checkValidRedisURI(redisURI);
 
-        Queue<RedisCommand<K, V, ?>> queue = LettuceFactories.newConcurrentQueue();
+        Queue<RedisCommand<K, V, ?>> queue = LettuceFactories.newIndexedConcurrentQueue();
 
         PubSubCommandHandler<K, V> handler = new PubSubCommandHandler<>(clientOptions, clientResources, queue, codec);
         StatefulRedisPubSubConnectionImpl<K, V> connection = newStatefulRedisPubSubConnection(handler, codec, timeout.timeout,
                 timeout.timeUnit);
+        connection.setDispatchExecutor(getPubSubDispatchExecutor());
 
         connectStateful(handler, connection, redisURI);
 
@@ -634,7 +635,7 @@ public class RedisClient extends AbstractRedisClient {
         assertNotNull(codec);
         checkValidRedisURI(redisURI);
 
-        Queue<RedisCommand<K, V, ?>> queue = LettuceFactories.newConcurrentQueue();
+        Queue<RedisCommand<K, V, ?>> queue = LettuceFactories.newIndexedConcurrentQueue();
 
         ConnectionBuilder connectionBuilder = ConnectionBuilder.connectionBuilder();
         connectionBuilder.clientOptions(ClientOptions.copyOf(getOptions()));
@@ -461,6 +461,13 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         return createCommand(GET, new ValueOutput<K, V>(codec), key);
     }
 
+    public Command<K, V, Long> get(ByteStreamingChannel channel, K key) {
+        notNullKey(key);
+        notNull(channel);
+
+        return createCommand(GET, new ByteStreamingOutput<K, V>(codec, channel), key);
+    }
+
     public Command<K, V, Long> getbit(K key, long offset) {
         notNullKey(key);
 
@@ -475,6 +482,14 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         return createCommand(GETRANGE, new ValueOutput<K, V>(codec), args);
     }
 
+    public Command<K, V, Long> getrange(ByteStreamingChannel channel, K key, long start, long end) {
+        notNullKey(key);
+        notNull(channel);
+
+        CommandArgs<K, V> args = new CommandArgs<K, V>(codec).addKey(key).add(start).add(end);
+        return createCommand(GETRANGE, new ByteStreamingOutput<K, V>(codec, channel), args);
+    }
+
     public Command<K, V, V> getset(K key, V value) {
         notNullKey(key);
 
@@ -2512,6 +2527,10 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         LettuceAssert.notNull(channel, "KeyValueStreamingChannel " + MUST_NOT_BE_NULL);
     }
 
+    public void notNull(ByteStreamingChannel channel) {
+        LettuceAssert.notNull(channel, "ByteStreamingChannel " + MUST_NOT_BE_NULL);
+    }
+
     private void notNullKey(K key) {
         LettuceAssert.notNull(key, "Key " + MUST_NOT_BE_NULL);
     }
@@ -0,0 +1,76 @@
+package com.lambdaworks.redis;
+
+import java.util.List;
+
+import com.lambdaworks.redis.api.StatefulRedisConnection;
+import com.lambdaworks.redis.api.sync.RedisCommands;
+
+/**
+ * Synchronous Redis API for standalone connections. Commands are invoked on the async API and awaited. Commands issued within a
+ * transaction return {@literal null} as their result is part of the {@link #exec()} result.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @author Mark Paluch
+ * @since 4.3
+ */
+public class RedisCommandsImpl<K, V> extends AbstractRedisSyncCommands<K, V> implements RedisCommands<K, V> {
+
+    private final StatefulRedisConnection<K, V> statefulConnection;
+
+    /**
+     * Initialize a new instance.
+     *
+     * @param connection the connection to operate on
+     * @param async the async API to invoke commands on
+     */
+    public RedisCommandsImpl(StatefulRedisConnection<K, V> connection, AbstractRedisAsyncCommands<K, V> async) {
+        super(connection, async);
+        this.statefulConnection = connection;
+    }
+
+    @Override
+    protected <T> T await(RedisFuture<T> future) {
+
+        if (statefulConnection.isMulti()) {
+            return null;
+        }
+
+        return super.await(future);
+    }
+
+    @Override
+    public String select(int db) {
+        return async.select(db);
+    }
+
+    @Override
+    public String discard() {
+        return await(async.discard());
+    }
+
+    @Override
+    public List<Object> exec() {
+        return super.await(async.exec());
+    }
+
+    @Override
+    public String multi() {
+        return super.await(async.multi());
+    }
+
+    @Override
+    public String watch(K... keys) {
+        return await(async.watch(keys));
+    }
+
+    @Override
+    public String unwatch() {
+        return await(async.unwatch());
+    }
+
+    @Override
+    public StatefulRedisConnection<K, V> getStatefulConnection() {
+        return statefulConnection;
+    }
+}
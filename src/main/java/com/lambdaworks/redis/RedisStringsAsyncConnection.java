@@ -1,5 +1,6 @@
 package com.lambdaworks.redis;
 
+import com.lambdaworks.redis.output.ByteStreamingChannel;
 import com.lambdaworks.redis.output.ValueStreamingChannel;
 
 import java.util.List;
@@ -173,6 +174,15 @@ public interface RedisStringsAsyncConnection<K, V> {
      */
     RedisFuture<V> get(K key);
 
+    /**
+     * Stream the value of a key in chunks as the value is received.
+     *
+     * @param channel streaming channel that receives a call for every chunk of the value
+     * @param key the key
+     * @return RedisFuture&lt;Long&gt; count of the streamed bytes, or {@literal null} when {@code key} does not exist.
+     */
+    RedisFuture<Long> get(ByteStreamingChannel channel, K key);
+
     /**
      * Returns the bit value at offset in the string value stored at key.
      *
@@ -192,6 +202,17 @@ public interface RedisStringsAsyncConnection<K, V> {
      */
     RedisFuture<V> getrange(K key, long start, long end);
 
+    /**
+     * Stream a substring of the string stored at a key in chunks as the substring is received.
+     *
+     * @param channel streaming channel that receives a call for every chunk of the substring
+     * @param key the key
+     * @param start the start type: long
+     * @param end the end type: long
+     * @return RedisFuture&lt;Long&gt; count of the streamed bytes.
+     */
+    RedisFuture<Long> getrange(ByteStreamingChannel channel, K key, long start, long end);
+
     /**
      * Set the string value of a key and return its old value.
      *
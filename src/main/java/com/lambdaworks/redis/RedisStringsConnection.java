@@ -1,6 +1,7 @@
 package com.lambdaworks.redis;
 
 import com.lambdaworks.redis.api.sync.RedisStringCommands;
+import com.lambdaworks.redis.output.ByteStreamingChannel;
 import com.lambdaworks.redis.output.ValueStreamingChannel;
 
 import java.util.List;
@@ -171,6 +172,15 @@ public interface RedisStringsConnection<K, V> {
      */
     V get(K key);
 
+    /**
+     * Stream the value of a key in chunks as the value is received.
+     *
+     * @param channel streaming channel that receives a call for every chunk of the value
+     * @param key the key
+     * @return Long count of the streamed bytes, or {@literal null} when {@code key} does not exist.
+     */
+    Long get(ByteStreamingChannel channel, K key);
+
     /**
      * Returns the bit value at offset in the string value stored at key.
      *
@@ -190,6 +200,17 @@ public interface RedisStringsConnection<K, V> {
      */
     V getrange(K key, long start, long end);
 
+    /**
+     * Stream a substring of the string stored at a key in chunks as the substring is received.
+     *
+     * @param channel streaming channel that receives a call for every chunk of the substring
+     * @param key the key
+     * @param start the start type: long
+     * @param end the end type: long
+     * @return Long count of the streamed bytes.
+     */
+    Long getrange(ByteStreamingChannel channel, K key, long start, long end);
+
     /**
      * Set the string value of a key and return its old value.
      *
@@ -0,0 +1,351 @@
+package com.lambdaworks.redis;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.lambdaworks.redis.api.StatefulConnection;
+import com.lambdaworks.redis.api.rx.RedisHashReactiveCommands;
+import com.lambdaworks.redis.api.rx.RedisKeyReactiveCommands;
+import com.lambdaworks.redis.api.rx.RedisReactiveCommands;
+import com.lambdaworks.redis.api.rx.RedisSetReactiveCommands;
+import com.lambdaworks.redis.api.rx.RedisSortedSetReactiveCommands;
+import com.lambdaworks.redis.cluster.api.rx.RedisAdvancedClusterReactiveCommands;
+import com.lambdaworks.redis.internal.LettuceAssert;
+
+import rx.Notification;
+import rx.Observable;
+import rx.Subscriber;
+
+/**
+ * Blocking {@link Iterator} over the elements of a {@link ScanStream}. The iterator requests elements in batches of
+ * {@code batchSize} and blocks in {@link #hasNext()} until the next element is available or the timeout elapses. Scan
+ * commands are issued while the current cursor result is being consumed. The iterator should be {@link #close() closed} if
+ * it is not consumed completely.
+ * <p>
+ * Example:
+ *
+ * <pre class="code">
+ * try (ScanIterator&lt;String&gt; iterator = ScanIterator.scan(connection.reactive())) {
+ *     while (iterator.hasNext()) {
+ *         String key = iterator.next();
+ *     }
+ * }
+ * </pre>
+ *
+ * @param <T> Element type.
+ * @author Mark Paluch
+ * @since 4.3
+ * @see ScanStream
+ */
+public class ScanIterator<T> implements Iterator<T>, AutoCloseable {
+
+    /**
+     * Default number of elements to request at once.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 128;
+
+    private final BlockingQueue<Notification<T>> queue = new LinkedBlockingQueue<>();
+    private final IteratorSubscriber subscriber;
+    private final int batchSize;
+    private final long timeout;
+    private final TimeUnit unit;
+
+    private Notification<T> next;
+    private int consumed;
+
+    private ScanIterator(Observable<T> observable, int batchSize, long timeout, TimeUnit unit) {
+
+        this.batchSize = batchSize;
+        this.timeout = timeout;
+        this.unit = unit;
+        this.subscriber = new IteratorSubscriber();
+        observable.subscribe(subscriber);
+    }
+
+    /**
+     * Create a new {@link ScanIterator} consuming the {@link Observable} with the {@link #DEFAULT_BATCH_SIZE}. Waiting for an
+     * element times out after {@link RedisURI#DEFAULT_TIMEOUT} {@link RedisURI#DEFAULT_TIMEOUT_UNIT}.
+     *
+     * @param observable the observable, must not be {@literal null}.
+     * @param <T> Element type.
+     * @return a new {@link ScanIterator}.
+     */
+    public static <T> ScanIterator<T> of(Observable<T> observable) {
+        return of(observable, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Create a new {@link ScanIterator} consuming the {@link Observable}. Waiting for an element times out after
+     * {@link RedisURI#DEFAULT_TIMEOUT} {@link RedisURI#DEFAULT_TIMEOUT_UNIT}.
+     *
+     * @param observable the observable, must not be {@literal null}.
+     * @param batchSize number of elements to request at once, must be greater {@literal 0}.
+     * @param <T> Element type.
+     * @return a new {@link ScanIterator}.
+     */
+    public static <T> ScanIterator<T> of(Observable<T> observable, int batchSize) {
+        return of(observable, batchSize, RedisURI.DEFAULT_TIMEOUT, RedisURI.DEFAULT_TIMEOUT_UNIT);
+    }
+
+    /**
+     * Create a new {@link ScanIterator} consuming the {@link Observable}.
+     *
+     * @param observable the observable, must not be {@literal null}.
+     * @param batchSize number of elements to request at once, must be greater {@literal 0}.
+     * @param timeout maximum time to wait for the next element, must be greater {@literal 0}.
+     * @param unit unit of the timeout, must not be {@literal null}.
+     * @param <T> Element type.
+     * @return a new {@link ScanIterator}.
+     */
+    public static <T> ScanIterator<T> of(Observable<T> observable, int batchSize, long timeout, TimeUnit unit) {
+
+        LettuceAssert.notNull(observable, "Observable must not be null");
+        LettuceAssert.isTrue(batchSize > 0, "Batch size must be greater 0");
+        LettuceAssert.isTrue(timeout > 0, "Timeout must be greater 0");
+        LettuceAssert.notNull(unit, "TimeUnit must not be null");
+
+        return new ScanIterator<>(observable, batchSize, timeout, unit);
+    }
+
+    /**
+     * Create a new {@link ScanIterator} that uses the timeout of the connection {@code commands} belong to, if known.
+     */
+    private static <T> ScanIterator<T> create(Observable<T> observable, Object commands) {
+
+        StatefulConnection<?, ?> connection = null;
+
+        if (commands instanceof RedisReactiveCommands) {
+            connection = ((RedisReactiveCommands<?, ?>) commands).getStatefulConnection();
+        }
+
+        if (commands instanceof RedisAdvancedClusterReactiveCommands) {
+            connection = ((RedisAdvancedClusterReactiveCommands<?, ?>) commands).getStatefulConnection();
+        }
+
+        if (connection != null && connection.getTimeout() > 0 && connection.getTimeoutUnit() != null) {
+            return of(observable, DEFAULT_BATCH_SIZE, connection.getTimeout(), connection.getTimeoutUnit());
+        }
+
+        return of(observable);
+    }
+
+    /**
+     * Iterate over keys in the keyspace using {@code SCAN}.
+     *
+     * @param commands the commands interface, must not be {@literal null}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link ScanIterator}.
+     * @see ScanStream#scan(RedisKeyReactiveCommands)
+     */
+    public static <K, V> ScanIterator<K> scan(RedisKeyReactiveCommands<K, V> commands) {
+        return create(ScanStream.scan(commands), commands);
+    }
+
+    /**
+     * Iterate over keys in the keyspace using {@code SCAN}.
+     *
+     * @param commands the commands interface, must not be {@literal null}.
+     * @param scanArgs the scan arguments, may be {@literal null}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link ScanIterator}.
+     * @see ScanStream#scan(RedisKeyReactiveCommands, ScanArgs)
+     */
+    public static <K, V> ScanIterator<K> scan(RedisKeyReactiveCommands<K, V> commands, ScanArgs scanArgs) {
+        return create(ScanStream.scan(commands, scanArgs), commands);
+    }
+
+    /**
+     * Iterate over entries in a hash using {@code HSCAN}.
+     *
+     * @param commands the commands interface, must not be {@literal null}.
+     * @param key the hash to scan.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link ScanIterator}.
+     * @see ScanStream#hscan(RedisHashReactiveCommands, Object)
+     */
+    public static <K, V> ScanIterator<KeyValue<K, V>> hscan(RedisHashReactiveCommands<K, V> commands, K key) {
+        return create(ScanStream.hscan(commands, key), commands);
+    }
+
+    /**
+     * Iterate over entries in a hash using {@code HSCAN}.
+     *
+     * @param commands the commands interface, must not be {@literal null}.
+     * @param key the hash to scan.
+     * @param scanArgs the scan arguments, may be {@literal null}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link ScanIterator}.
+     * @see ScanStream#hscan(RedisHashReactiveCommands, Object, ScanArgs)
+     */
+    public static <K, V> ScanIterator<KeyValue<K, V>> hscan(RedisHashReactiveCommands<K, V> commands, K key,
+            ScanArgs scanArgs) {
+        return create(ScanStream.hscan(commands, key, scanArgs), commands);
+    }
+
+    /**
+     * Iterate over elements in a set using {@code SSCAN}.
+     *
+     * @param commands the commands interface, must not be {@literal null}.
+     * @param key the set to scan.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link ScanIterator}.
+     * @see ScanStream#sscan(RedisSetReactiveCommands, Object)
+     */
+    public static <K, V> ScanIterator<V> sscan(RedisSetReactiveCommands<K, V> commands, K key) {
+        return create(ScanStream.sscan(commands, key), commands);
+    }
+
+    /**
+     * Iterate over elements in a set using {@code SSCAN}.
+     *
+     * @param commands the commands interface, must not be {@literal null}.
+     * @param key the set to scan.
+     * @param scanArgs the scan arguments, may be {@literal null}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link ScanIterator}.
+     * @see ScanStream#sscan(RedisSetReactiveCommands, Object, ScanArgs)
+     */
+    public static <K, V> ScanIterator<V> sscan(RedisSetReactiveCommands<K, V> commands, K key, ScanArgs scanArgs) {
+        return create(ScanStream.sscan(commands, key, scanArgs), commands);
+    }
+
+    /**
+     * Iterate over scored values in a sorted set using {@code ZSCAN}.
+     *
+     * @param commands the commands interface, must not be {@literal null}.
+     * @param key the sorted set to scan.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link ScanIterator}.
+     * @see ScanStream#zscan(RedisSortedSetReactiveCommands, Object)
+     */
+    public static <K, V> ScanIterator<ScoredValue<V>> zscan(RedisSortedSetReactiveCommands<K, V> commands, K key) {
+        return create(ScanStream.zscan(commands, key), commands);
+    }
+
+    /**
+     * Iterate over scored values in a sorted set using {@code ZSCAN}.
+     *
+     * @param commands the commands interface, must not be {@literal null}.
+     * @param key the sorted set to scan.
+     * @param scanArgs the scan arguments, may be {@literal null}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link ScanIterator}.
+     * @see ScanStream#zscan(RedisSortedSetReactiveCommands, Object, ScanArgs)
+     */
+    public static <K, V> ScanIterator<ScoredValue<V>> zscan(RedisSortedSetReactiveCommands<K, V> commands, K key,
+            ScanArgs scanArgs) {
+        return create(ScanStream.zscan(commands, key, scanArgs), commands);
+    }
+
+    @Override
+    public boolean hasNext() {
+
+        if (next == null) {
+
+            try {
+                next = queue.poll(timeout, unit);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RedisCommandInterruptedException(e);
+            }
+
+            if (next == null) {
+                throw new RedisCommandTimeoutException("Scan timed out after " + timeout + " " + unit);
+            }
+        }
+
+        if (next.isOnError()) {
+
+            Throwable throwable = next.getThrowable();
+            if (throwable instanceof RuntimeException) {
+                throw (RuntimeException) throwable;
+            }
+            throw new RedisException(throwable);
+        }
+
+        return next.isOnNext();
+    }
+
+    @Override
+    public T next() {
+
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        T value = next.getValue();
+        next = null;
+
+        if (++consumed == batchSize) {
+            consumed = 0;
+            subscriber.requestMore(batchSize);
+        }
+
+        return value;
+    }
+
+    /**
+     * Returns a sequential {@link Stream} over the remaining elements. Closing the {@link Stream} closes this iterator.
+     *
+     * @return a sequential {@link Stream}.
+     */
+    public Stream<T> stream() {
+        return StreamSupport
+                .stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(this::close);
+    }
+
+    /**
+     * Cancel the scan. Scan commands in progress complete but no further scan commands are issued. Remaining elements are
+     * discarded and a thread blocked in {@link #hasNext()} returns {@literal false}.
+     */
+    @Override
+    public void close() {
+
+        subscriber.unsubscribe();
+        queue.clear();
+        queue.offer(Notification.createOnCompleted());
+    }
+
+    private class IteratorSubscriber extends Subscriber<T> {
+
+        @Override
+        public void onStart() {
+            request(batchSize);
+        }
+
+        @Override
+        public void onNext(T t) {
+            queue.offer(Notification.createOnNext(t));
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            queue.offer(Notification.createOnError(e));
+        }
+
+        @Override
+        public void onCompleted() {
+            queue.offer(Notification.createOnCompleted());
+        }
+
+        void requestMore(long n) {
+            request(n);
+        }
+    }
+}
@@ -0,0 +1,424 @@
+package com.lambdaworks.redis;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import com.lambdaworks.redis.api.rx.RedisHashReactiveCommands;
+import com.lambdaworks.redis.api.rx.RedisKeyReactiveCommands;
+import com.lambdaworks.redis.api.rx.RedisSetReactiveCommands;
+import com.lambdaworks.redis.api.rx.RedisSortedSetReactiveCommands;
+import com.lambdaworks.redis.internal.LettuceAssert;
+
+import rx.Observable;
+import rx.Producer;
+import rx.Subscriber;
+import rx.Subscription;
+
+/**
+ * Scan command support exposed through {@link Observable}. {@link ScanStream} iterates over the whole keyspace or the
+ * elements of a hash, set or sorted set by issuing {@literal SCAN}, {@literal HSCAN}, {@literal SSCAN} and
+ * {@literal ZSCAN} commands and emits the individual elements of each cursor result.
+ * <p>
+ * Scan streams are cold, the first scan command is issued once the subscriber requests elements. The next scan command is
+ * issued while the current cursor result is being consumed so the subscriber does not wait for a round trip per cursor. At
+ * most two cursor results are buffered, further scan commands are issued according to the subscriber demand. Scan
+ * streams can be used with Redis Cluster connections as well. Use
+ * {@link com.lambdaworks.redis.cluster.ClusterScanStream} to scan multiple cluster nodes in parallel.
+ * <p>
+ * Example:
+ *
+ * <pre class="code">
+ * ScanStream.scan(connection.reactive(), ScanArgs.Builder.matches("user:*")).subscribe(key -&gt; ...);
+ * </pre>
+ *
+ * @author Mark Paluch
+ * @since 4.3
+ * @see ScanIterator
+ */
+public class ScanStream {
+
+    private ScanStream() {
+    }
+
+    /**
+     * Sequentially iterate over keys in the keyspace. This method uses {@code SCAN} to perform an iterative scan.
+     *
+     * @param commands the commands interface, must not be {@literal null}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link Observable}.
+     */
+    public static <K, V> Observable<K> scan(RedisKeyReactiveCommands<K, V> commands) {
+        return scan(commands, null);
+    }
+
+    /**
+     * Sequentially iterate over keys in the keyspace. This method uses {@code SCAN} to perform an iterative scan.
+     *
+     * @param commands the commands interface, must not be {@literal null}.
+     * @param scanArgs the scan arguments, may be {@literal null}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link Observable}.
+     */
+    public static <K, V> Observable<K> scan(RedisKeyReactiveCommands<K, V> commands, ScanArgs scanArgs) {
+
+        LettuceAssert.notNull(commands, "RedisKeyCommands must not be null");
+
+        return createStream(cursor -> scanArgs != null ? commands.scan(cursor, scanArgs) : commands.scan(cursor),
+                KeyScanCursor::getKeys);
+    }
+
+    /**
+     * Sequentially iterate over entries in a hash identified by {@code key}. This method uses {@code HSCAN} to perform an
+     * iterative scan.
+     *
+     * @param commands the commands interface, must not be {@literal null}.
+     * @param key the hash to scan.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link Observable}.
+     */
+    public static <K, V> Observable<KeyValue<K, V>> hscan(RedisHashReactiveCommands<K, V> commands, K key) {
+        return hscan(commands, key, null);
+    }
+
+    /**
+     * Sequentially iterate over entries in a hash identified by {@code key}. This method uses {@code HSCAN} to perform an
+     * iterative scan.
+     *
+     * @param commands the commands interface, must not be {@literal null}.
+     * @param key the hash to scan.
+     * @param scanArgs the scan arguments, may be {@literal null}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link Observable}.
+     */
+    public static <K, V> Observable<KeyValue<K, V>> hscan(RedisHashReactiveCommands<K, V> commands, K key,
+            ScanArgs scanArgs) {
+
+        LettuceAssert.notNull(commands, "RedisHashCommands must not be null");
+        LettuceAssert.notNull(key, "Key must not be null");
+
+        return createStream(
+                cursor -> scanArgs != null ? commands.hscan(key, cursor, scanArgs) : commands.hscan(key, cursor),
+                ScanStream::toKeyValues);
+    }
+
+    /**
+     * Sequentially iterate over elements in a set identified by {@code key}. This method uses {@code SSCAN} to perform an
+     * iterative scan.
+     *
+     * @param commands the commands interface, must not be {@literal null}.
+     * @param key the set to scan.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link Observable}.
+     */
+    public static <K, V> Observable<V> sscan(RedisSetReactiveCommands<K, V> commands, K key) {
+        return sscan(commands, key, null);
+    }
+
+    /**
+     * Sequentially iterate over elements in a set identified by {@code key}. This method uses {@code SSCAN} to perform an
+     * iterative scan.
+     *
+     * @param commands the commands interface, must not be {@literal null}.
+     * @param key the set to scan.
+     * @param scanArgs the scan arguments, may be {@literal null}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link Observable}.
+     */
+    public static <K, V> Observable<V> sscan(RedisSetReactiveCommands<K, V> commands, K key, ScanArgs scanArgs) {
+
+        LettuceAssert.notNull(commands, "RedisSetCommands must not be null");
+        LettuceAssert.notNull(key, "Key must not be null");
+
+        return createStream(
+                cursor -> scanArgs != null ? commands.sscan(key, cursor, scanArgs) : commands.sscan(key, cursor),
+                ValueScanCursor::getValues);
+    }
+
+    /**
+     * Sequentially iterate over scored values in a sorted set identified by {@code key}. This method uses {@code ZSCAN} to
+     * perform an iterative scan.
+     *
+     * @param commands the commands interface, must not be {@literal null}.
+     * @param key the sorted set to scan.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link Observable}.
+     */
+    public static <K, V> Observable<ScoredValue<V>> zscan(RedisSortedSetReactiveCommands<K, V> commands, K key) {
+        return zscan(commands, key, null);
+    }
+
+    /**
+     * Sequentially iterate over scored values in a sorted set identified by {@code key}. This method uses {@code ZSCAN} to
+     * perform an iterative scan.
+     *
+     * @param commands the commands interface, must not be {@literal null}.
+     * @param key the sorted set to scan.
+     * @param scanArgs the scan arguments, may be {@literal null}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link Observable}.
+     */
+    public static <K, V> Observable<ScoredValue<V>> zscan(RedisSortedSetReactiveCommands<K, V> commands, K key,
+            ScanArgs scanArgs) {
+
+        LettuceAssert.notNull(commands, "RedisSortedSetCommands must not be null");
+        LettuceAssert.notNull(key, "Key must not be null");
+
+        return createStream(
+                cursor -> scanArgs != null ? commands.zscan(key, cursor, scanArgs) : commands.zscan(key, cursor),
+                ScoredValueScanCursor::getValues);
+    }
+
+    private static <K, V> List<KeyValue<K, V>> toKeyValues(MapScanCursor<K, V> cursor) {
+
+        List<KeyValue<K, V>> result = new ArrayList<>(cursor.getMap().size());
+        for (Map.Entry<K, V> entry : cursor.getMap().entrySet()) {
+            result.add(new KeyValue<>(entry.getKey(), entry.getValue()));
+        }
+
+        return result;
+    }
+
+    private static <C extends ScanCursor, T> Observable<T> createStream(
+            Function<ScanCursor, Observable<C>> scanFunction, Function<C, Collection<T>> elementsFunction) {
+
+        return Observable.create(subscriber -> {
+
+            ScanProducer<C, T> producer = new ScanProducer<>(subscriber, scanFunction, elementsFunction);
+            subscriber.add(producer);
+            subscriber.setProducer(producer);
+        });
+    }
+
+    /**
+     * {@link Producer} issuing scan commands and emitting cursor elements according to the subscriber demand. The next scan
+     * command is issued as soon as at most one cursor result is buffered.
+     *
+     * @param <C> Cursor type.
+     * @param <T> Element type.
+     */
+    static class ScanProducer<C extends ScanCursor, T> implements Producer, Subscription {
+
+        private final Subscriber<? super T> subscriber;
+        private final Function<ScanCursor, Observable<C>> scanFunction;
+        private final Function<C, Collection<T>> elementsFunction;
+
+        private final Queue<T> buffer = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger buffered = new AtomicInteger();
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+
+        private ScanCursor cursor = ScanCursor.INITIAL;
+        private int lastBatchSize;
+        private int generation;
+        private boolean scanning;
+        private volatile boolean finished;
+        private volatile boolean unsubscribed;
+        private volatile Throwable error;
+        private volatile Subscription scan;
+
+        ScanProducer(Subscriber<? super T> subscriber, Function<ScanCursor, Observable<C>> scanFunction,
+                Function<C, Collection<T>> elementsFunction) {
+            this.subscriber = subscriber;
+            this.scanFunction = scanFunction;
+            this.elementsFunction = elementsFunction;
+        }
+
+        @Override
+        public void request(long n) {
+
+            if (n < 0) {
+                throw new IllegalArgumentException("Request must be positive: " + n);
+            }
+
+            if (n == 0) {
+                return;
+            }
+
+            long current;
+            long next;
+            do {
+                current = requested.get();
+                next = current + n;
+                if (next < 0) {
+                    next = Long.MAX_VALUE;
+                }
+            } while (!requested.compareAndSet(current, next));
+
+            scanIfRequired();
+            drain();
+        }
+
+        @Override
+        public void unsubscribe() {
+
+            unsubscribed = true;
+            buffer.clear();
+
+            Subscription scan = this.scan;
+            if (scan != null) {
+                scan.unsubscribe();
+            }
+        }
+
+        @Override
+        public boolean isUnsubscribed() {
+            return unsubscribed;
+        }
+
+        /**
+         * Issue the next scan command if no scan is in progress and at most one cursor result is buffered.
+         */
+        private void scanIfRequired() {
+
+            ScanCursor cursor;
+            int generation;
+
+            synchronized (this) {
+
+                if (scanning || finished || unsubscribed || error != null || buffered.get() > lastBatchSize) {
+                    return;
+                }
+
+                scanning = true;
+                cursor = this.cursor;
+                generation = ++this.generation;
+            }
+
+            try {
+                scan = scanFunction.apply(cursor).subscribe(this::onCursor, this::onError,
+                        () -> onScanCompleted(generation));
+            } catch (RuntimeException e) {
+                onError(e);
+            }
+        }
+
+        /**
+         * Scan commands that complete without emitting a cursor (e.g. canceled commands) terminate the stream.
+         */
+        private void onScanCompleted(int generation) {
+
+            synchronized (this) {
+                if (!scanning || this.generation != generation) {
+                    return;
+                }
+            }
+
+            onError(new RedisException("Scan completed without a cursor"));
+        }
+
+        private void onCursor(C cursor) {
+
+            Collection<T> elements = elementsFunction.apply(cursor);
+
+            if (!unsubscribed) {
+                buffer.addAll(elements);
+                buffered.addAndGet(elements.size());
+            }
+
+            synchronized (this) {
+                this.cursor = cursor;
+                this.lastBatchSize = elements.size();
+                this.scanning = false;
+                this.finished = cursor.isFinished();
+            }
+
+            scanIfRequired();
+            drain();
+        }
+
+        private void onError(Throwable throwable) {
+
+            synchronized (this) {
+                this.scanning = false;
+            }
+
+            error = throwable;
+            drain();
+        }
+
+        private boolean isCompleted() {
+
+            synchronized (this) {
+                return finished && !scanning;
+            }
+        }
+
+        private void drain() {
+
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+
+            int missed = 1;
+
+            do {
+
+                long demand = requested.get();
+                long emitted = 0;
+
+                while (emitted != demand) {
+
+                    if (unsubscribed || subscriber.isUnsubscribed()) {
+                        buffer.clear();
+                        return;
+                    }
+
+                    if (error != null) {
+                        break;
+                    }
+
+                    T element = buffer.poll();
+                    if (element == null) {
+                        break;
+                    }
+
+                    buffered.decrementAndGet();
+                    subscriber.onNext(element);
+                    emitted++;
+                }
+
+                if (unsubscribed || subscriber.isUnsubscribed()) {
+                    buffer.clear();
+                    return;
+                }
+
+                if (error != null) {
+                    buffer.clear();
+                    subscriber.onError(error);
+                    return;
+                }
+
+                if (buffer.isEmpty() && isCompleted()) {
+                    subscriber.onCompleted();
+                    return;
+                }
+
+                if (emitted != 0) {
+
+                    if (demand != Long.MAX_VALUE) {
+                        requested.addAndGet(-emitted);
+                    }
+
+                    scanIfRequired();
+                }
+
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+    }
+}
@@ -17,11 +17,23 @@ public class SocketOptions {
 
     public static final boolean DEFAULT_SO_KEEPALIVE = false;
     public static final boolean DEFAULT_SO_NO_DELAY = false;
+    public static final int DEFAULT_SO_RCVBUF = 0;
+    public static final int DEFAULT_SO_SNDBUF = 0;
+    public static final boolean DEFAULT_NATIVE_TRANSPORT = false;
+    public static final boolean DEFAULT_TCP_QUICKACK = false;
+    public static final int DEFAULT_WRITE_BUFFER_LOW_WATER_MARK = 8 * 1024;
+    public static final int DEFAULT_WRITE_BUFFER_HIGH_WATER_MARK = 32 * 1024;
 
     private final long connectTimeout;
     private final TimeUnit connectTimeoutUnit;
     private final boolean keepAlive;
     private final boolean tcpNoDelay;
+    private final int receiveBufferSize;
+    private final int sendBufferSize;
+    private final boolean nativeTransport;
+    private final boolean tcpQuickAck;
+    private final int writeBufferLowWaterMark;
+    private final int writeBufferHighWaterMark;
 
     protected SocketOptions(Builder builder) {
 
@@ -29,6 +41,12 @@ public class SocketOptions {
         this.connectTimeoutUnit = builder.connectTimeoutUnit;
         this.keepAlive = builder.keepAlive;
         this.tcpNoDelay = builder.tcpNoDelay;
+        this.receiveBufferSize = builder.receiveBufferSize;
+        this.sendBufferSize = builder.sendBufferSize;
+        this.nativeTransport = builder.nativeTransport;
+        this.tcpQuickAck = builder.tcpQuickAck;
+        this.writeBufferLowWaterMark = builder.writeBufferLowWaterMark;
+        this.writeBufferHighWaterMark = builder.writeBufferHighWaterMark;
     }
 
     protected SocketOptions(SocketOptions original) {
@@ -36,6 +54,12 @@ public class SocketOptions {
         this.connectTimeoutUnit = original.getConnectTimeoutUnit();
         this.keepAlive = original.isKeepAlive();
         this.tcpNoDelay = original.isTcpNoDelay();
+        this.receiveBufferSize = original.getReceiveBufferSize();
+        this.sendBufferSize = original.getSendBufferSize();
+        this.nativeTransport = original.isNativeTransport();
+        this.tcpQuickAck = original.isTcpQuickAck();
+        this.writeBufferLowWaterMark = original.getWriteBufferLowWaterMark();
+        this.writeBufferHighWaterMark = original.getWriteBufferHighWaterMark();
     }
 
     /**
@@ -75,6 +99,12 @@ public class SocketOptions {
         private TimeUnit connectTimeoutUnit = DEFAULT_CONNECT_TIMEOUT_UNIT;
         private boolean keepAlive = DEFAULT_SO_KEEPALIVE;
         private boolean tcpNoDelay = DEFAULT_SO_NO_DELAY;
+        private int receiveBufferSize = DEFAULT_SO_RCVBUF;
+        private int sendBufferSize = DEFAULT_SO_SNDBUF;
+        private boolean nativeTransport = DEFAULT_NATIVE_TRANSPORT;
+        private boolean tcpQuickAck = DEFAULT_TCP_QUICKACK;
+        private int writeBufferLowWaterMark = DEFAULT_WRITE_BUFFER_LOW_WATER_MARK;
+        private int writeBufferHighWaterMark = DEFAULT_WRITE_BUFFER_HIGH_WATER_MARK;
 
         private Builder() {
         }
@@ -124,6 +154,85 @@ public class SocketOptions {
             return this;
         }
 
+        /**
+         * Sets the size of the socket receive buffer. Defaults to {@literal 0} to use the operating system default. See
+         * {@link #DEFAULT_SO_RCVBUF}.
+         *
+         * @param receiveBufferSize the receive buffer size in bytes, must be greater or equal {@literal 0}.
+         * @return {@code this}
+         * @see java.net.SocketOptions#SO_RCVBUF
+         */
+        public Builder receiveBufferSize(int receiveBufferSize) {
+
+            LettuceAssert.isTrue(receiveBufferSize >= 0, "Receive buffer size must be greater or equal 0");
+
+            this.receiveBufferSize = receiveBufferSize;
+            return this;
+        }
+
+        /**
+         * Sets the size of the socket send buffer. Defaults to {@literal 0} to use the operating system default. See
+         * {@link #DEFAULT_SO_SNDBUF}.
+         *
+         * @param sendBufferSize the send buffer size in bytes, must be greater or equal {@literal 0}.
+         * @return {@code this}
+         * @see java.net.SocketOptions#SO_SNDBUF
+         */
+        public Builder sendBufferSize(int sendBufferSize) {
+
+            LettuceAssert.isTrue(sendBufferSize >= 0, "Send buffer size must be greater or equal 0");
+
+            this.sendBufferSize = sendBufferSize;
+            return this;
+        }
+
+        /**
+         * Sets whether to use the native epoll transport for TCP connections. Requires Linux and the optional
+         * {@literal netty-transport-native-epoll} library on the class path. Defaults to {@literal false} (NIO transport).
+         * See {@link #DEFAULT_NATIVE_TRANSPORT}.
+         *
+         * @param nativeTransport {@literal true} to use the epoll transport.
+         * @return {@code this}
+         */
+        public Builder nativeTransport(boolean nativeTransport) {
+
+            this.nativeTransport = nativeTransport;
+            return this;
+        }
+
+        /**
+         * Sets whether to enable {@code TCP_QUICKACK} to send acknowledgements immediately instead of delaying them. Applies
+         * only to the native transport. Defaults to {@literal false}. See {@link #DEFAULT_TCP_QUICKACK}.
+         *
+         * @param tcpQuickAck {@literal true} to enable quick acknowledgements.
+         * @return {@code this}
+         * @see #nativeTransport(boolean)
+         */
+        public Builder tcpQuickAck(boolean tcpQuickAck) {
+
+            this.tcpQuickAck = tcpQuickAck;
+            return this;
+        }
+
+        /**
+         * Sets the write buffer water marks. A channel becomes unwritable once more than {@code high} bytes are pending and
+         * writable again once the pending bytes drop below {@code low}. Defaults to {@literal 8 KiB} and {@literal 32 KiB}.
+         * See {@link #DEFAULT_WRITE_BUFFER_LOW_WATER_MARK} and {@link #DEFAULT_WRITE_BUFFER_HIGH_WATER_MARK}.
+         *
+         * @param low the low water mark in bytes, must be greater or equal {@literal 0}.
+         * @param high the high water mark in bytes, must be greater or equal {@code low}.
+         * @return {@code this}
+         */
+        public Builder writeBufferWaterMark(int low, int high) {
+
+            LettuceAssert.isTrue(low >= 0, "Low water mark must be greater or equal 0");
+            LettuceAssert.isTrue(high >= low, "High water mark must be greater or equal the low water mark");
+
+            this.writeBufferLowWaterMark = low;
+            this.writeBufferHighWaterMark = high;
+            return this;
+        }
+
         /**
          * Create a new instance of {@link SocketOptions}
          *
@@ -171,4 +280,60 @@ public class SocketOptions {
     public boolean isTcpNoDelay() {
         return tcpNoDelay;
     }
+
+    /**
+     * Returns the socket receive buffer size.
+     *
+     * @return the receive buffer size in bytes, {@literal 0} to use the operating system default.
+     * @see java.net.SocketOptions#SO_RCVBUF
+     */
+    public int getReceiveBufferSize() {
+        return receiveBufferSize;
+    }
+
+    /**
+     * Returns the socket send buffer size.
+     *
+     * @return the send buffer size in bytes, {@literal 0} to use the operating system default.
+     * @see java.net.SocketOptions#SO_SNDBUF
+     */
+    public int getSendBufferSize() {
+        return sendBufferSize;
+    }
+
+    /**
+     * Returns whether to use the native epoll transport for TCP connections.
+     *
+     * @return {@literal true} to use the epoll transport.
+     */
+    public boolean isNativeTransport() {
+        return nativeTransport;
+    }
+
+    /**
+     * Returns whether to enable {@code TCP_QUICKACK}.
+     *
+     * @return {@literal true} to enable quick acknowledgements.
+     */
+    public boolean isTcpQuickAck() {
+        return tcpQuickAck;
+    }
+
+    /**
+     * Returns the low water mark of the write buffer.
+     *
+     * @return the low water mark in bytes.
+     */
+    public int getWriteBufferLowWaterMark() {
+        return writeBufferLowWaterMark;
+    }
+
+    /**
+     * Returns the high water mark of the write buffer.
+     *
+     * @return the high water mark in bytes.
+     */
+    public int getWriteBufferHighWaterMark() {
+        return writeBufferHighWaterMark;
+    }
 }
@@ -1,12 +1,6 @@
 package com.lambdaworks.redis;
 
-import static com.lambdaworks.redis.protocol.CommandType.AUTH;
-import static com.lambdaworks.redis.protocol.CommandType.DISCARD;
-import static com.lambdaworks.redis.protocol.CommandType.EXEC;
 import static com.lambdaworks.redis.protocol.CommandType.MULTI;
-import static com.lambdaworks.redis.protocol.CommandType.READONLY;
-import static com.lambdaworks.redis.protocol.CommandType.READWRITE;
-import static com.lambdaworks.redis.protocol.CommandType.SELECT;
 
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
@@ -15,9 +9,10 @@ import com.lambdaworks.redis.api.StatefulRedisConnection;
 import com.lambdaworks.redis.api.async.RedisAsyncCommands;
 import com.lambdaworks.redis.api.rx.RedisReactiveCommands;
 import com.lambdaworks.redis.api.sync.RedisCommands;
-import com.lambdaworks.redis.cluster.api.sync.RedisClusterCommands;
 import com.lambdaworks.redis.codec.RedisCodec;
 import com.lambdaworks.redis.output.MultiOutput;
+import com.lambdaworks.redis.protocol.CommandMetadata;
+import com.lambdaworks.redis.protocol.CommandType;
 import com.lambdaworks.redis.protocol.CompleteableCommand;
 import com.lambdaworks.redis.protocol.ConnectionWatchdog;
 import com.lambdaworks.redis.protocol.RedisCommand;
@@ -75,7 +70,7 @@ public class StatefulRedisConnectionImpl<K, V> extends RedisChannelHandler<K, V>
      * @return a new instance
      */
     protected RedisCommands<K, V> newRedisSyncCommandsImpl() {
-        return syncHandler(async(), RedisCommands.class, RedisClusterCommands.class);
+        return new RedisCommandsImpl<>(this, async);
     }
 
     /**
@@ -133,55 +128,32 @@ public class StatefulRedisConnectionImpl<K, V> extends RedisChannelHandler<K, V>
     public <T, C extends RedisCommand<K, V, T>> C dispatch(C cmd) {
 
         RedisCommand<K, V, T> local = cmd;
+        CommandMetadata metadata = CommandMetadata.of(cmd.getType());
 
-        if (local.getType().name().equals(AUTH.name())) {
-            local = attachOnComplete(local, status -> {
-                if ("OK".equals(status) && cmd.getArgs().getFirstString() != null) {
-                    this.password = cmd.getArgs().getFirstString().toCharArray();
-                }
-            });
+        if (metadata.isConnectionState()) {
+            local = trackConnectionState(metadata.getType(), local);
         }
 
-        if (local.getType().name().equals(SELECT.name())) {
-            local = attachOnComplete(local, status -> {
-                if ("OK".equals(status) && cmd.getArgs().getFirstInteger() != null) {
-                    this.db = cmd.getArgs().getFirstInteger().intValue();
-                }
-            });
-        }
-
-        if (local.getType().name().equals(READONLY.name())) {
-            local = attachOnComplete(local, status -> {
-                if ("OK".equals(status)) {
-                    this.readOnly = true;
-                }
-            });
-        }
-
-        if (local.getType().name().equals(READWRITE.name())) {
-            local = attachOnComplete(local, status -> {
-                if ("OK".equals(status)) {
-                    this.readOnly = false;
-                }
-            });
-        }
-
-        if (local.getType().name().equals(DISCARD.name())) {
-            if (multi != null) {
-                multi.cancel();
-                multi = null;
+        if (metadata.isTransactional()) {
+            switch (metadata.getType()) {
+                case DISCARD:
+                    if (multi != null) {
+                        multi.cancel();
+                        multi = null;
+                    }
+                    break;
+                case EXEC:
+                    MultiOutput<K, V> multiOutput = this.multi;
+                    this.multi = null;
+                    if (multiOutput == null) {
+                        multiOutput = new MultiOutput<>(codec);
+                    }
+                    local.setOutput((MultiOutput) multiOutput);
+                    break;
+                default:
             }
         }
 
-        if (local.getType().name().equals(EXEC.name())) {
-            MultiOutput<K, V> multiOutput = this.multi;
-            this.multi = null;
-            if (multiOutput == null) {
-                multiOutput = new MultiOutput<>(codec);
-            }
-            local.setOutput((MultiOutput) multiOutput);
-        }
-
         if (multi != null) {
             local = new TransactionalCommand<>(local);
             multi.add(local);
@@ -190,12 +162,44 @@ public class StatefulRedisConnectionImpl<K, V> extends RedisChannelHandler<K, V>
         try {
             return (C) super.dispatch(local);
         } finally {
-            if (cmd.getType().name().equals(MULTI.name())) {
+            if (metadata.getType() == MULTI) {
                 multi = (multi == null ? new MultiOutput<>(codec) : multi);
             }
         }
     }
 
+    private <T> RedisCommand<K, V, T> trackConnectionState(CommandType type, RedisCommand<K, V, T> command) {
+
+        switch (type) {
+            case AUTH:
+                return attachOnComplete(command, status -> {
+                    if ("OK".equals(status) && command.getArgs().getFirstString() != null) {
+                        this.password = command.getArgs().getFirstString().toCharArray();
+                    }
+                });
+            case SELECT:
+                return attachOnComplete(command, status -> {
+                    if ("OK".equals(status) && command.getArgs().getFirstInteger() != null) {
+                        this.db = command.getArgs().getFirstInteger().intValue();
+                    }
+                });
+            case READONLY:
+                return attachOnComplete(command, status -> {
+                    if ("OK".equals(status)) {
+                        this.readOnly = true;
+                    }
+                });
+            case READWRITE:
+                return attachOnComplete(command, status -> {
+                    if ("OK".equals(status)) {
+                        this.readOnly = false;
+                    }
+                });
+            default:
+                return command;
+        }
+    }
+
     private <T> RedisCommand<K, V, T> attachOnComplete(RedisCommand<K, V, T> command, Consumer<T> consumer) {
 
         if (command instanceof CompleteableCommand) {
@@ -0,0 +1,209 @@
+package com.lambdaworks.redis;
+
+import java.util.concurrent.TimeUnit;
+
+import com.lambdaworks.redis.internal.LettuceAssert;
+import com.lambdaworks.redis.protocol.RedisCommand;
+
+/**
+ * Options to configure timeouts of commands within the transport. Command timeouts apply to all APIs (sync, async and
+ * reactive) and complete commands exceptionally with {@link RedisCommandTimeoutException} once the timeout is exceeded. Timed
+ * out commands remain in the protocol queue until their response arrives so the order of responses is retained. Command
+ * timeouts are disabled by default.
+ * <p>
+ * Timeouts are determined by a {@link TimeoutSource}. The default source applies the connection timeout (see
+ * {@link RedisURI#getTimeout()}) to all commands except blocking commands such as {@code BLPOP}.
+ *
+ * @author Mark Paluch
+ * @since 4.3
+ */
+public class TimeoutOptions {
+
+    public static final boolean DEFAULT_TIMEOUT_COMMANDS = false;
+
+    private final boolean timeoutCommands;
+    private final TimeoutSource source;
+
+    protected TimeoutOptions(Builder builder) {
+
+        this.timeoutCommands = builder.timeoutCommands;
+        this.source = builder.source;
+    }
+
+    protected TimeoutOptions(TimeoutOptions original) {
+
+        this.timeoutCommands = original.isTimeoutCommands();
+        this.source = original.getSource();
+    }
+
+    /**
+     * Create a copy of {@literal options}
+     *
+     * @param options the original
+     * @return A new instance of {@link TimeoutOptions} containing the values of {@literal options}
+     */
+    public static TimeoutOptions copyOf(TimeoutOptions options) {
+        return new TimeoutOptions(options);
+    }
+
+    /**
+     * Returns a new {@link TimeoutOptions.Builder} to construct {@link TimeoutOptions}.
+     *
+     * @return a new {@link TimeoutOptions.Builder} to construct {@link TimeoutOptions}.
+     */
+    public static TimeoutOptions.Builder builder() {
+        return new TimeoutOptions.Builder();
+    }
+
+    /**
+     * Create a new {@link TimeoutOptions} using default settings (command timeouts disabled).
+     *
+     * @return a new instance of default timeout options.
+     */
+    public static TimeoutOptions create() {
+        return builder().build();
+    }
+
+    /**
+     * Create a new {@link TimeoutOptions} that applies the connection timeout to commands.
+     *
+     * @return a new instance of timeout options with command timeouts enabled.
+     */
+    public static TimeoutOptions enabled() {
+        return builder().timeoutCommands().build();
+    }
+
+    /**
+     * Builder for {@link TimeoutOptions}.
+     */
+    public static class Builder {
+
+        private boolean timeoutCommands = DEFAULT_TIMEOUT_COMMANDS;
+        private TimeoutSource source;
+
+        private Builder() {
+        }
+
+        /**
+         * Enable command timeouts. Applies the connection timeout unless a {@link #timeoutSource(TimeoutSource)} or
+         * {@link #fixedTimeout(long, TimeUnit)} is configured.
+         *
+         * @return {@code this}
+         */
+        public Builder timeoutCommands() {
+            return timeoutCommands(true);
+        }
+
+        /**
+         * Enable or disable command timeouts. Defaults to {@literal false}. See {@link #DEFAULT_TIMEOUT_COMMANDS}.
+         *
+         * @param enabled {@literal true} to enable command timeouts.
+         * @return {@code this}
+         */
+        public Builder timeoutCommands(boolean enabled) {
+
+            this.timeoutCommands = enabled;
+            return this;
+        }
+
+        /**
+         * Enable command timeouts using a fixed timeout for all commands.
+         *
+         * @param timeout the timeout, must be greater {@literal 0}.
+         * @param timeUnit unit for {@code timeout}, must not be {@literal null}.
+         * @return {@code this}
+         */
+        public Builder fixedTimeout(long timeout, TimeUnit timeUnit) {
+
+            LettuceAssert.isTrue(timeout > 0, "Timeout must be greater 0");
+            LettuceAssert.notNull(timeUnit, "TimeUnit must not be null");
+
+            return timeoutSource(new FixedTimeoutSource(timeout, timeUnit));
+        }
+
+        /**
+         * Enable command timeouts using a {@link TimeoutSource} that determines the timeout per command.
+         *
+         * @param source the timeout source, must not be {@literal null}.
+         * @return {@code this}
+         */
+        public Builder timeoutSource(TimeoutSource source) {
+
+            LettuceAssert.notNull(source, "TimeoutSource must not be null");
+
+            this.timeoutCommands = true;
+            this.source = source;
+            return this;
+        }
+
+        /**
+         * Create a new instance of {@link TimeoutOptions}
+         *
+         * @return new instance of {@link TimeoutOptions}
+         */
+        public TimeoutOptions build() {
+            return new TimeoutOptions(this);
+        }
+    }
+
+    /**
+     * Returns whether commands are timed out within the transport.
+     *
+     * @return {@literal true} if command timeouts are enabled.
+     */
+    public boolean isTimeoutCommands() {
+        return timeoutCommands;
+    }
+
+    /**
+     * Returns the {@link TimeoutSource}.
+     *
+     * @return the {@link TimeoutSource} or {@literal null} to apply the connection timeout.
+     */
+    public TimeoutSource getSource() {
+        return source;
+    }
+
+    /**
+     * Source for the timeout of a command.
+     */
+    public abstract static class TimeoutSource {
+
+        /**
+         * Obtain the timeout for a {@link RedisCommand}.
+         *
+         * @param command the command.
+         * @return the timeout in {@link #getTimeUnit()}. Values of {@literal 0} or less disable the timeout for the command.
+         */
+        public abstract long getTimeout(RedisCommand<?, ?, ?> command);
+
+        /**
+         * @return the unit of the timeouts returned by {@link #getTimeout(RedisCommand)}. Defaults to
+         *         {@link TimeUnit#MILLISECONDS}.
+         */
+        public TimeUnit getTimeUnit() {
+            return TimeUnit.MILLISECONDS;
+        }
+    }
+
+    static class FixedTimeoutSource extends TimeoutSource {
+
+        private final long timeout;
+        private final TimeUnit timeUnit;
+
+        FixedTimeoutSource(long timeout, TimeUnit timeUnit) {
+            this.timeout = timeout;
+            this.timeUnit = timeUnit;
+        }
+
+        @Override
+        public long getTimeout(RedisCommand<?, ?, ?> command) {
+            return timeout;
+        }
+
+        @Override
+        public TimeUnit getTimeUnit() {
+            return timeUnit;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.lambdaworks.redis.api;
 
+import java.util.Collection;
 import java.util.concurrent.TimeUnit;
 
 import com.lambdaworks.redis.ClientOptions;
@@ -45,6 +46,26 @@ public interface StatefulConnection<K, V> extends AutoCloseable {
      */
     <T, C extends RedisCommand<K, V, T>> C dispatch(C command);
 
+    /**
+     * Dispatch multiple commands. Write the commands on the channel. Connections that support batching write the commands with
+     * a single flush, other connections dispatch each command individually. Commands may be changed/wrapped during write. This
+     * method does not wait until the commands complete and does not guarantee whether the commands are executed successfully.
+     *
+     * @param commands the Redis commands
+     * @param <C> command type
+     * @return the written redis commands
+     * @since 4.3
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    default <C extends RedisCommand<K, V, ?>> Collection<C> dispatch(Collection<C> commands) {
+
+        for (C command : commands) {
+            dispatch((RedisCommand) command);
+        }
+
+        return commands;
+    }
+
     /**
      * Close the connection. The connection will become not usable anymore as soon as this method was called.
      */
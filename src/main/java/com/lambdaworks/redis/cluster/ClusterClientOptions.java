@@ -3,7 +3,9 @@ package com.lambdaworks.redis.cluster;
 import java.util.concurrent.TimeUnit;
 
 import com.lambdaworks.redis.ClientOptions;
+import com.lambdaworks.redis.PubSubOptions;
 import com.lambdaworks.redis.SocketOptions;
+import com.lambdaworks.redis.TimeoutOptions;
 
 /**
  * Client Options to control the behavior of {@link RedisClusterClient}.
@@ -227,6 +229,30 @@ public class ClusterClientOptions extends ClientOptions {
             return this;
         }
 
+        @Override
+        public Builder compositeDecodeBuffer(boolean compositeDecodeBuffer) {
+            super.compositeDecodeBuffer(compositeDecodeBuffer);
+            return this;
+        }
+
+        @Override
+        public Builder deferredDecoding(boolean deferredDecoding) {
+            super.deferredDecoding(deferredDecoding);
+            return this;
+        }
+
+        @Override
+        public Builder pubSubOptions(PubSubOptions pubSubOptions) {
+            super.pubSubOptions(pubSubOptions);
+            return this;
+        }
+
+        @Override
+        public Builder timeoutOptions(TimeoutOptions timeoutOptions) {
+            super.timeoutOptions(timeoutOptions);
+            return this;
+        }
+
         /**
          * Create a new instance of {@link ClusterClientOptions}
          *
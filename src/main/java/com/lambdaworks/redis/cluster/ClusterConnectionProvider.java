@@ -3,6 +3,7 @@ package com.lambdaworks.redis.cluster;
 import java.io.Closeable;
 
 import com.lambdaworks.redis.ReadFrom;
+import com.lambdaworks.redis.ReadLoadBalancer;
 import com.lambdaworks.redis.RedisException;
 import com.lambdaworks.redis.api.StatefulRedisConnection;
 import com.lambdaworks.redis.cluster.models.partitions.Partitions;
@@ -108,6 +109,24 @@ interface ClusterConnectionProvider extends Closeable {
      */
     ReadFrom getReadFrom();
 
+    /**
+     * Set how read operations are balanced across the nodes selected by {@link ReadFrom}. See the documentation for
+     * {@link ReadLoadBalancer} for more information.
+     *
+     * @param readLoadBalancer the read load balancer, must not be {@literal null}
+     * @since 4.3
+     */
+    void setReadLoadBalancer(ReadLoadBalancer readLoadBalancer);
+
+    /**
+     * Gets the {@link ReadLoadBalancer} setting for this connection. Defaults to {@link ReadLoadBalancer#FIRST_AVAILABLE} if
+     * not set.
+     *
+     * @return the read load balancer setting
+     * @since 4.3
+     */
+    ReadLoadBalancer getReadLoadBalancer();
+
     enum Intent {
         READ, WRITE;
     }
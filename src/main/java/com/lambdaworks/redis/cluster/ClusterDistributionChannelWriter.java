@@ -2,13 +2,19 @@ package com.lambdaworks.redis.cluster;
 
 import static com.lambdaworks.redis.cluster.SlotHash.getSlot;
 
+import java.nio.ByteBuffer;
+import java.util.*;
+
 import com.lambdaworks.redis.*;
 import com.lambdaworks.redis.api.StatefulRedisConnection;
+import com.lambdaworks.redis.cluster.event.ClusterCommandFanOutEvent;
 import com.lambdaworks.redis.cluster.models.partitions.Partitions;
+import com.lambdaworks.redis.event.EventBus;
 import com.lambdaworks.redis.internal.HostAndPort;
 import com.lambdaworks.redis.internal.LettuceAssert;
 import com.lambdaworks.redis.protocol.CommandArgs;
 import com.lambdaworks.redis.protocol.CommandKeyword;
+import com.lambdaworks.redis.protocol.CommandMetadata;
 import com.lambdaworks.redis.protocol.ProtocolKeyword;
 import com.lambdaworks.redis.protocol.RedisCommand;
 
@@ -27,6 +33,7 @@ class ClusterDistributionChannelWriter<K, V> implements RedisChannelWriter<K, V>
     private final RedisChannelWriter<K, V> defaultWriter;
     private final ClusterEventListener clusterEventListener;
     private final EventExecutorGroup eventExecutors;
+    private final EventBus eventBus;
     private final int executionLimit;
     private ClusterConnectionProvider clusterConnectionProvider;
     private boolean closed = false;
@@ -35,7 +42,7 @@ class ClusterDistributionChannelWriter<K, V> implements RedisChannelWriter<K, V>
     long p30, p31, p32, p33, p34, p35, p36, p37;
 
     ClusterDistributionChannelWriter(ClientOptions clientOptions, RedisChannelWriter<K, V> defaultWriter,
-            ClusterEventListener clusterEventListener, EventExecutorGroup eventExecutors) {
+            ClusterEventListener clusterEventListener, EventExecutorGroup eventExecutors, EventBus eventBus) {
 
         if (clientOptions instanceof ClusterClientOptions) {
             this.executionLimit = ((ClusterClientOptions) clientOptions).getMaxRedirects();
@@ -46,6 +53,7 @@ class ClusterDistributionChannelWriter<K, V> implements RedisChannelWriter<K, V>
         this.defaultWriter = defaultWriter;
         this.clusterEventListener = clusterEventListener;
         this.eventExecutors = eventExecutors;
+        this.eventBus = eventBus;
     }
 
     @Override
@@ -59,7 +67,6 @@ class ClusterDistributionChannelWriter<K, V> implements RedisChannelWriter<K, V>
         }
 
         RedisCommand<K, V, T> commandToSend = command;
-        CommandArgs<K, V> args = command.getArgs();
 
         if (!(command instanceof ClusterCommand)) {
             commandToSend = new ClusterCommand<>(command, this, executionLimit);
@@ -107,41 +114,127 @@ class ClusterDistributionChannelWriter<K, V> implements RedisChannelWriter<K, V>
             }
         }
 
-        RedisChannelWriter<K, V> channelWriter = null;
+        RedisChannelWriter<K, V> channelWriter = getWriter(command);
+
+        if (command.getOutput() != null) {
+            commandToSend.getOutput().setError((String) null);
+        }
 
-        if (args != null && args.getFirstEncodedKey() != null) {
-            int hash = getSlot(args.getFirstEncodedKey());
-            ClusterConnectionProvider.Intent intent = getIntent(command.getType());
+        if (channelWriter != defaultWriter) {
+            return channelWriter.write((C) commandToSend);
+        }
 
-            RedisChannelHandler<K, V> connection = (RedisChannelHandler<K, V>) clusterConnectionProvider.getConnection(intent,
-                    hash);
+        defaultWriter.write((C) commandToSend);
 
-            channelWriter = connection.getChannelWriter();
+        return command;
+    }
+
+    /**
+     * Write multiple commands. Commands are grouped by their target node and each group is written with a single
+     * {@link RedisChannelWriter#write(Collection)} call to the node connection. Redirected commands are written individually.
+     * Commands that span multiple nodes publish their fan-out width as {@link ClusterCommandFanOutEvent}.
+     * 
+     * @param commands the redis commands
+     * @param <C> command type
+     * @return the redis commands
+     */
+    @Override
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public <C extends RedisCommand<K, V, ?>> Collection<C> write(Collection<C> commands) {
+
+        LettuceAssert.notNull(commands, "Commands must not be null");
+
+        if (closed) {
+            throw new RedisException("Connection is closed");
         }
 
-        if (channelWriter instanceof ClusterDistributionChannelWriter) {
-            ClusterDistributionChannelWriter<K, V> writer = (ClusterDistributionChannelWriter<K, V>) channelWriter;
-            channelWriter = writer.defaultWriter;
+        Map<RedisChannelWriter<K, V>, List<RedisCommand<K, V, ?>>> batches = new LinkedHashMap<>();
+
+        for (C command : commands) {
+
+            if (command instanceof ClusterCommand && !command.isDone()) {
+
+                ClusterCommand<K, V, ?> clusterCommand = (ClusterCommand<K, V, ?>) command;
+                if (clusterCommand.isMoved() || clusterCommand.isAsk()) {
+                    write((RedisCommand) command);
+                    continue;
+                }
+            }
+
+            RedisCommand<K, V, ?> commandToSend = command;
+            if (!(command instanceof ClusterCommand)) {
+                commandToSend = new ClusterCommand(command, this, executionLimit);
+            }
+
+            if (command.getOutput() != null) {
+                commandToSend.getOutput().setError((String) null);
+            }
+
+            RedisChannelWriter<K, V> channelWriter = getWriter(command);
+            List<RedisCommand<K, V, ?>> batch = batches.get(channelWriter);
+
+            if (batch == null) {
+                batch = new ArrayList<>();
+                batches.put(channelWriter, batch);
+            }
+
+            batch.add(commandToSend);
         }
 
-        if (command.getOutput() != null) {
-            commandToSend.getOutput().setError((String) null);
+        for (Map.Entry<RedisChannelWriter<K, V>, List<RedisCommand<K, V, ?>>> entry : batches.entrySet()) {
+            entry.getKey().write(entry.getValue());
         }
 
-        if (channelWriter != null && channelWriter != this && channelWriter != defaultWriter) {
-            return channelWriter.write((C) commandToSend);
+        if (batches.size() > 1) {
+            eventBus.publish(new ClusterCommandFanOutEvent(commands.iterator().next().getType(), commands.size(), batches
+                    .size()));
         }
 
-        defaultWriter.write((C) commandToSend);
+        return commands;
+    }
 
-        return command;
+    /**
+     * Lookup the node writer by the slot of the first key.
+     * 
+     * @param command the command
+     * @return the node writer or the default writer if the command has no key.
+     */
+    @SuppressWarnings("unchecked")
+    private RedisChannelWriter<K, V> getWriter(RedisCommand<K, V, ?> command) {
+
+        CommandArgs<K, V> args = command.getArgs();
+        ByteBuffer encodedKey = args != null ? args.getFirstEncodedKey() : null;
+
+        if (encodedKey == null) {
+            return defaultWriter;
+        }
+
+        int hash = getSlot(encodedKey);
+        ClusterConnectionProvider.Intent intent = getIntent(command.getType());
+
+        RedisChannelHandler<K, V> connection = (RedisChannelHandler<K, V>) clusterConnectionProvider.getConnection(intent, hash);
+
+        RedisChannelWriter<K, V> channelWriter = connection.getChannelWriter();
+
+        if (channelWriter instanceof ClusterDistributionChannelWriter) {
+            ClusterDistributionChannelWriter<K, V> writer = (ClusterDistributionChannelWriter<K, V>) channelWriter;
+            channelWriter = writer.defaultWriter;
+        }
+
+        if (channelWriter == null || channelWriter == this) {
+            return defaultWriter;
+        }
+
+        return channelWriter;
     }
 
     private ClusterConnectionProvider.Intent getIntent(ProtocolKeyword type) {
-        for (ProtocolKeyword readOnlyCommand : ReadOnlyCommands.READ_ONLY_COMMANDS) {
-            if (readOnlyCommand == type) {
-                return ClusterConnectionProvider.Intent.READ;
-            }
+
+        CommandMetadata metadata = CommandMetadata.of(type);
+
+        // Pub/Sub commands are no key-space commands so they are safe to execute on slave nodes
+        if (metadata.isReadOnly() || metadata.isPubSub()) {
+            return ClusterConnectionProvider.Intent.READ;
         }
 
         return ClusterConnectionProvider.Intent.WRITE;
@@ -244,4 +337,26 @@ class ClusterDistributionChannelWriter<K, V> implements RedisChannelWriter<K, V>
     public ReadFrom getReadFrom() {
         return clusterConnectionProvider.getReadFrom();
     }
+
+    /**
+     * Set how read operations are balanced across the nodes selected by {@link ReadFrom}. See the documentation for
+     * {@link ReadLoadBalancer} for more information.
+     *
+     * @param readLoadBalancer the read load balancer setting, must not be {@literal null}
+     * @since 4.3
+     */
+    public void setReadLoadBalancer(ReadLoadBalancer readLoadBalancer) {
+        clusterConnectionProvider.setReadLoadBalancer(readLoadBalancer);
+    }
+
+    /**
+     * Gets the {@link ReadLoadBalancer} setting for this connection. Defaults to {@link ReadLoadBalancer#FIRST_AVAILABLE} if
+     * not set.
+     *
+     * @return the read load balancer setting
+     * @since 4.3
+     */
+    public ReadLoadBalancer getReadLoadBalancer() {
+        return clusterConnectionProvider.getReadLoadBalancer();
+    }
 }
@@ -0,0 +1,118 @@
+package com.lambdaworks.redis.cluster;
+
+import java.io.Closeable;
+import java.util.Map;
+
+import com.lambdaworks.redis.RedisFuture;
+import com.lambdaworks.redis.pubsub.PubSubChannelStatistics;
+import com.lambdaworks.redis.pubsub.RedisPubSubListener;
+
+/**
+ * A thread-safe pub/sub connection to a Redis Cluster that distributes channel and pattern subscriptions across the cluster
+ * nodes. Each node is subscribed through its own pub/sub connection, so messages of different nodes are received and
+ * dispatched on different I/O threads. The node of a subscription is determined by the slot of the channel or pattern and
+ * the {@link PubSubDistribution}.
+ * <p>
+ * Listeners are registered on all node connections. Subscription notifications ({@code subscribed}, {@code unsubscribed})
+ * report the subscription count of the node that serves the channel or pattern.
+ * <p>
+ * Subscriptions follow topology changes: Once the topology is refreshed (see
+ * {@link ClusterTopologyRefreshOptions}), subscriptions of nodes that failed or no longer serve the slot are moved to the
+ * selected node.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @author Mark Paluch
+ * @since 4.3
+ */
+public interface ClusterPubSubConnection<K, V> extends Closeable {
+
+    /**
+     * Add a new listener that receives messages of all channels and patterns.
+     *
+     * @param listener Listener, must not be {@literal null}.
+     */
+    void addListener(RedisPubSubListener<K, V> listener);
+
+    /**
+     * Add a new listener that receives only messages and subscription notifications of the given {@code channels}.
+     *
+     * @param listener Listener, must not be {@literal null}.
+     * @param channels the channels, must not be empty.
+     */
+    void addChannelListener(RedisPubSubListener<K, V> listener, K... channels);
+
+    /**
+     * Add a new listener that receives only messages and subscription notifications of the given {@code patterns}.
+     *
+     * @param listener Listener, must not be {@literal null}.
+     * @param patterns the patterns, must not be empty.
+     */
+    void addPatternListener(RedisPubSubListener<K, V> listener, K... patterns);
+
+    /**
+     * Remove an existing listener.
+     *
+     * @param listener Listener.
+     */
+    void removeListener(RedisPubSubListener<K, V> listener);
+
+    /**
+     * Listen for messages published to the given channels.
+     *
+     * @param channels the channels, must not be empty.
+     * @return RedisFuture&lt;Void&gt; completed once all nodes received the subscription.
+     */
+    RedisFuture<Void> subscribe(K... channels);
+
+    /**
+     * Stop listening for messages posted to the given channels.
+     *
+     * @param channels the channels. Unsubscribes all channels if empty.
+     * @return RedisFuture&lt;Void&gt; completed once all nodes received the command.
+     */
+    RedisFuture<Void> unsubscribe(K... channels);
+
+    /**
+     * Listen for messages published to channels matching the given patterns.
+     *
+     * @param patterns the patterns, must not be empty.
+     * @return RedisFuture&lt;Void&gt; completed once all nodes received the subscription.
+     */
+    RedisFuture<Void> psubscribe(K... patterns);
+
+    /**
+     * Stop listening for messages posted to channels matching the given patterns.
+     *
+     * @param patterns the patterns. Unsubscribes all patterns if empty.
+     * @return RedisFuture&lt;Void&gt; completed once all nodes received the command.
+     */
+    RedisFuture<Void> punsubscribe(K... patterns);
+
+    /**
+     * Returns the node Id that serves the subscription of the {@code channel}.
+     *
+     * @param channel the channel.
+     * @return the node Id or {@literal null} if the channel is not subscribed.
+     */
+    String getNodeId(K channel);
+
+    /**
+     * Returns message statistics for the subscribed channels and patterns of all nodes.
+     *
+     * @return map of channel or pattern to its {@link PubSubChannelStatistics}.
+     */
+    Map<K, PubSubChannelStatistics<K>> getChannelStatistics();
+
+    /**
+     *
+     * @return true if the connection is open (connected and not closed).
+     */
+    boolean isOpen();
+
+    /**
+     * Close the connection and all node connections.
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,490 @@
+package com.lambdaworks.redis.cluster;
+
+import java.io.Closeable;
+import java.lang.reflect.Array;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+import com.lambdaworks.redis.RedisException;
+import com.lambdaworks.redis.RedisFuture;
+import com.lambdaworks.redis.cluster.models.partitions.Partitions;
+import com.lambdaworks.redis.cluster.models.partitions.RedisClusterNode;
+import com.lambdaworks.redis.codec.RedisCodec;
+import com.lambdaworks.redis.internal.LettuceAssert;
+import com.lambdaworks.redis.pubsub.PubSubChannelStatistics;
+import com.lambdaworks.redis.pubsub.RedisPubSubListener;
+import com.lambdaworks.redis.pubsub.StatefulRedisPubSubConnectionImpl;
+import com.lambdaworks.redis.resource.SocketAddressResolver;
+
+import io.netty.util.internal.logging.InternalLogger;
+import io.netty.util.internal.logging.InternalLoggerFactory;
+
+/**
+ * {@link ClusterPubSubConnection} using one pub/sub connection per cluster node. Node connections are opened lazily when the
+ * first channel or pattern is subscribed at a node and closed once the node serves no more subscriptions after a topology
+ * change.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @author Mark Paluch
+ * @since 4.3
+ */
+class ClusterPubSubConnectionImpl<K, V> implements ClusterPubSubConnection<K, V> {
+
+    private static final InternalLogger logger = InternalLoggerFactory.getInstance(ClusterPubSubConnectionImpl.class);
+
+    private final RedisClusterClient client;
+    private final RedisCodec<K, V> codec;
+    private final PubSubDistribution distribution;
+    private final Collection<Closeable> closeables;
+
+    private final List<RedisPubSubListener<K, V>> listeners = new CopyOnWriteArrayList<>();
+    private final List<IndexedListener<K, V>> indexedListeners = new CopyOnWriteArrayList<>();
+    private final Map<String, StatefulRedisPubSubConnectionImpl<K, V>> connections = new ConcurrentHashMap<>();
+
+    // guarded by this
+    private final Map<ByteBuffer, Subscription<K>> channels = new HashMap<>();
+    private final Map<ByteBuffer, Subscription<K>> patterns = new HashMap<>();
+
+    private volatile Partitions partitions;
+    private volatile boolean closed;
+
+    /**
+     * Initialize a new connection.
+     *
+     * @param client the client to connect nodes.
+     * @param codec Codec used to encode/decode keys and values.
+     * @param distribution the distribution of subscriptions.
+     * @param partitions the cluster topology.
+     * @param closeables registry of closeable resources, the connection removes itself on {@link #close()}.
+     */
+    ClusterPubSubConnectionImpl(RedisClusterClient client, RedisCodec<K, V> codec, PubSubDistribution distribution,
+            Partitions partitions, Collection<Closeable> closeables) {
+
+        this.client = client;
+        this.codec = codec;
+        this.distribution = distribution;
+        this.partitions = partitions;
+        this.closeables = closeables;
+    }
+
+    @Override
+    public void addListener(RedisPubSubListener<K, V> listener) {
+
+        LettuceAssert.notNull(listener, "RedisPubSubListener must not be null");
+
+        listeners.add(listener);
+
+        for (StatefulRedisPubSubConnectionImpl<K, V> connection : connections.values()) {
+            connection.addListener(listener);
+        }
+    }
+
+    @Override
+    public void addChannelListener(RedisPubSubListener<K, V> listener, K... channels) {
+        addIndexedListener(new IndexedListener<>(listener, channels, false));
+    }
+
+    @Override
+    public void addPatternListener(RedisPubSubListener<K, V> listener, K... patterns) {
+        addIndexedListener(new IndexedListener<>(listener, patterns, true));
+    }
+
+    private void addIndexedListener(IndexedListener<K, V> indexedListener) {
+
+        LettuceAssert.notNull(indexedListener.listener, "RedisPubSubListener must not be null");
+        LettuceAssert.notEmpty(indexedListener.keys, "Channels/Patterns must not be empty");
+
+        indexedListeners.add(indexedListener);
+
+        for (StatefulRedisPubSubConnectionImpl<K, V> connection : connections.values()) {
+            indexedListener.register(connection);
+        }
+    }
+
+    @Override
+    public void removeListener(RedisPubSubListener<K, V> listener) {
+
+        listeners.remove(listener);
+        indexedListeners.removeIf(indexedListener -> indexedListener.listener == listener);
+
+        for (StatefulRedisPubSubConnectionImpl<K, V> connection : connections.values()) {
+            connection.removeListener(listener);
+        }
+    }
+
+    @Override
+    public RedisFuture<Void> subscribe(K... channels) {
+
+        LettuceAssert.notEmpty(channels, "Channels must not be empty");
+
+        return subscribe(channels, false);
+    }
+
+    @Override
+    public RedisFuture<Void> unsubscribe(K... channels) {
+        return unsubscribe(channels, false);
+    }
+
+    @Override
+    public RedisFuture<Void> psubscribe(K... patterns) {
+
+        LettuceAssert.notEmpty(patterns, "Patterns must not be empty");
+
+        return subscribe(patterns, true);
+    }
+
+    @Override
+    public RedisFuture<Void> punsubscribe(K... patterns) {
+        return unsubscribe(patterns, true);
+    }
+
+    @Override
+    public synchronized String getNodeId(K channel) {
+
+        Subscription<K> subscription = channels.get(codec.encodeKey(channel));
+        return subscription != null ? subscription.nodeId : null;
+    }
+
+    @Override
+    public Map<K, PubSubChannelStatistics<K>> getChannelStatistics() {
+
+        Map<K, PubSubChannelStatistics<K>> result = new LinkedHashMap<>();
+
+        for (StatefulRedisPubSubConnectionImpl<K, V> connection : connections.values()) {
+            result.putAll(connection.getChannelStatistics());
+        }
+
+        return result;
+    }
+
+    @Override
+    public boolean isOpen() {
+        return !closed;
+    }
+
+    @Override
+    public void close() {
+
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+        closeables.remove(this);
+
+        for (StatefulRedisPubSubConnectionImpl<K, V> connection : connections.values()) {
+            connection.close();
+        }
+
+        connections.clear();
+    }
+
+    /**
+     * Apply a new topology and move subscriptions whose node changed.
+     *
+     * @param partitions the cluster topology.
+     */
+    void setPartitions(Partitions partitions) {
+
+        this.partitions = partitions;
+
+        if (!closed) {
+            rebalance();
+        }
+    }
+
+    private RedisFuture<Void> subscribe(K[] keys, boolean pattern) {
+
+        assertOpen();
+
+        Map<String, List<K>> byNode = new LinkedHashMap<>();
+
+        synchronized (this) {
+
+            Map<ByteBuffer, Subscription<K>> subscriptions = pattern ? patterns : channels;
+
+            for (K key : keys) {
+
+                ByteBuffer encoded = codec.encodeKey(key);
+                Subscription<K> subscription = subscriptions.get(encoded);
+
+                if (subscription == null) {
+
+                    String nodeId = selectNode(encoded);
+                    if (nodeId == null) {
+                        throw new RedisException("Cannot determine a cluster node to subscribe " + key);
+                    }
+
+                    subscription = new Subscription<>(key, nodeId);
+                    subscriptions.put(encoded, subscription);
+                }
+
+                byNode.computeIfAbsent(subscription.nodeId, k -> new ArrayList<>()).add(key);
+            }
+        }
+
+        return execute(byNode, keys, pattern, true);
+    }
+
+    private RedisFuture<Void> unsubscribe(K[] keys, boolean pattern) {
+
+        assertOpen();
+
+        Map<String, List<K>> byNode = new LinkedHashMap<>();
+
+        synchronized (this) {
+
+            Map<ByteBuffer, Subscription<K>> subscriptions = pattern ? patterns : channels;
+
+            if (keys.length == 0) {
+
+                for (Subscription<K> subscription : subscriptions.values()) {
+                    byNode.computeIfAbsent(subscription.nodeId, k -> new ArrayList<>()).add(subscription.key);
+                }
+                subscriptions.clear();
+            } else {
+
+                for (K key : keys) {
+
+                    Subscription<K> subscription = subscriptions.remove(codec.encodeKey(key));
+                    if (subscription != null) {
+                        byNode.computeIfAbsent(subscription.nodeId, k -> new ArrayList<>()).add(key);
+                    }
+                }
+            }
+        }
+
+        return execute(byNode, keys, pattern, false);
+    }
+
+    private RedisFuture<Void> execute(Map<String, List<K>> byNode, K[] template, boolean pattern, boolean subscribe) {
+
+        Map<String, RedisFuture<Void>> executions = new LinkedHashMap<>();
+
+        for (Map.Entry<String, List<K>> entry : byNode.entrySet()) {
+
+            StatefulRedisPubSubConnectionImpl<K, V> connection = subscribe ? getConnection(entry.getKey()) : connections
+                    .get(entry.getKey());
+
+            if (connection == null) {
+                continue;
+            }
+
+            K[] keys = entry.getValue().toArray(Arrays.copyOf(template, 0));
+
+            if (subscribe) {
+                executions.put(entry.getKey(), pattern ? connection.async().psubscribe(keys) : connection.async().subscribe(
+                        keys));
+            } else {
+                executions.put(entry.getKey(), pattern ? connection.async().punsubscribe(keys) : connection.async()
+                        .unsubscribe(keys));
+            }
+        }
+
+        return new PipelinedRedisFuture<>(executions, future -> null);
+    }
+
+    /**
+     * Move subscriptions to the currently selected nodes. Connections of nodes that no longer serve subscriptions are closed,
+     * remaining subscriptions are unsubscribed from their previous node.
+     */
+    private void rebalance() {
+
+        Map<String, List<K>> channelsToUnsubscribe = new LinkedHashMap<>();
+        Map<String, List<K>> channelsToSubscribe = new LinkedHashMap<>();
+        Map<String, List<K>> patternsToUnsubscribe = new LinkedHashMap<>();
+        Map<String, List<K>> patternsToSubscribe = new LinkedHashMap<>();
+        Set<String> retainedNodes = new HashSet<>();
+        K template = null;
+
+        synchronized (this) {
+
+            for (Map.Entry<ByteBuffer, Subscription<K>> entry : channels.entrySet()) {
+                template = move(entry.getKey(), entry.getValue(), channelsToUnsubscribe, channelsToSubscribe);
+                retainedNodes.add(entry.getValue().nodeId);
+            }
+
+            for (Map.Entry<ByteBuffer, Subscription<K>> entry : patterns.entrySet()) {
+                template = move(entry.getKey(), entry.getValue(), patternsToUnsubscribe, patternsToSubscribe);
+                retainedNodes.add(entry.getValue().nodeId);
+            }
+        }
+
+        for (String nodeId : new ArrayList<>(connections.keySet())) {
+
+            if (!retainedNodes.contains(nodeId)) {
+
+                logger.debug("Closing pub/sub connection to node {}", nodeId);
+
+                StatefulRedisPubSubConnectionImpl<K, V> connection = connections.remove(nodeId);
+                if (connection != null) {
+                    connection.close();
+                }
+
+                channelsToUnsubscribe.remove(nodeId);
+                patternsToUnsubscribe.remove(nodeId);
+            }
+        }
+
+        if (template == null) {
+            return;
+        }
+
+        K[] keys = newArray(template);
+
+        try {
+            execute(channelsToUnsubscribe, keys, false, false);
+            execute(patternsToUnsubscribe, keys, true, false);
+            execute(channelsToSubscribe, keys, false, true);
+            execute(patternsToSubscribe, keys, true, true);
+        } catch (RedisException e) {
+            logger.warn("Cannot move pub/sub subscriptions: " + e.toString(), e);
+        }
+    }
+
+    private K move(ByteBuffer encoded, Subscription<K> subscription, Map<String, List<K>> unsubscribe,
+            Map<String, List<K>> subscribe) {
+
+        String nodeId = selectNode(encoded);
+
+        if (nodeId != null && !nodeId.equals(subscription.nodeId)) {
+
+            logger.debug("Moving pub/sub subscription {} from node {} to {}", subscription.key, subscription.nodeId, nodeId);
+
+            unsubscribe.computeIfAbsent(subscription.nodeId, k -> new ArrayList<>()).add(subscription.key);
+            subscribe.computeIfAbsent(nodeId, k -> new ArrayList<>()).add(subscription.key);
+            subscription.nodeId = nodeId;
+        }
+
+        return subscription.key;
+    }
+
+    /**
+     * Select the node for a channel or pattern. Falls back to any available node if the {@link PubSubDistribution} does not
+     * select a node.
+     */
+    private String selectNode(ByteBuffer encoded) {
+
+        Partitions partitions = this.partitions;
+        int slot = SlotHash.getSlot(encoded);
+
+        RedisClusterNode node = distribution.select(partitions, slot);
+
+        if (node == null) {
+
+            List<RedisClusterNode> available = new ArrayList<>();
+            for (RedisClusterNode candidate : partitions) {
+                if (PubSubDistribution.isAvailable(candidate)) {
+                    available.add(candidate);
+                }
+            }
+
+            if (available.isEmpty()) {
+                return null;
+            }
+
+            available.sort(Comparator.comparing(RedisClusterNode::getNodeId));
+            node = available.get(slot % available.size());
+        }
+
+        return node.getNodeId();
+    }
+
+    private StatefulRedisPubSubConnectionImpl<K, V> getConnection(String nodeId) {
+
+        StatefulRedisPubSubConnectionImpl<K, V> connection = connections.get(nodeId);
+
+        if (connection == null) {
+            connection = connections.computeIfAbsent(nodeId, this::connect);
+        }
+
+        return connection;
+    }
+
+    private StatefulRedisPubSubConnectionImpl<K, V> connect(String nodeId) {
+
+        logger.debug("Opening pub/sub connection to node {}", nodeId);
+
+        StatefulRedisPubSubConnectionImpl<K, V> connection = client.connectPubSubToNode(codec, nodeId,
+                getSocketAddressSupplier(nodeId));
+
+        for (RedisPubSubListener<K, V> listener : listeners) {
+            connection.addListener(listener);
+        }
+
+        for (IndexedListener<K, V> indexedListener : indexedListeners) {
+            indexedListener.register(connection);
+        }
+
+        return connection;
+    }
+
+    private Supplier<SocketAddress> getSocketAddressSupplier(String nodeId) {
+
+        return () -> {
+
+            RedisClusterNode node = partitions.getPartitionByNodeId(nodeId);
+            if (node == null) {
+                throw new RedisException("Cluster node " + nodeId + " is not known in the cluster view");
+            }
+
+            return SocketAddressResolver.resolve(node.getUri(), client.getResources().dnsResolver());
+        };
+    }
+
+    private void assertOpen() {
+
+        if (closed) {
+            throw new RedisException("Connection is closed");
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K> K[] newArray(K template) {
+        return (K[]) Array.newInstance(template.getClass(), 0);
+    }
+
+    /**
+     * Subscribed channel or pattern and the node serving the subscription.
+     */
+    private static class Subscription<K> {
+
+        final K key;
+        String nodeId;
+
+        Subscription(K key, String nodeId) {
+            this.key = key;
+            this.nodeId = nodeId;
+        }
+    }
+
+    /**
+     * Listener registered for specific channels or patterns.
+     */
+    private static class IndexedListener<K, V> {
+
+        final RedisPubSubListener<K, V> listener;
+        final K[] keys;
+        final boolean pattern;
+
+        IndexedListener(RedisPubSubListener<K, V> listener, K[] keys, boolean pattern) {
+            this.listener = listener;
+            this.keys = keys;
+            this.pattern = pattern;
+        }
+
+        void register(StatefulRedisPubSubConnectionImpl<K, V> connection) {
+
+            if (pattern) {
+                connection.addPatternListener(listener, keys);
+            } else {
+                connection.addChannelListener(listener, keys);
+            }
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.lambdaworks.redis.cluster;
+
+import java.util.List;
+
+import com.lambdaworks.redis.ScanArgs;
+import com.lambdaworks.redis.ScanCursor;
+import com.lambdaworks.redis.ScanStream;
+import com.lambdaworks.redis.cluster.api.StatefulRedisClusterConnection;
+import com.lambdaworks.redis.internal.LettuceAssert;
+
+import rx.Observable;
+
+/**
+ * Cluster-wide {@code SCAN} exposed through {@link Observable}. In contrast to {@link ScanStream}, which scans the cluster
+ * node by node, {@link ClusterScanStream} scans multiple nodes in parallel. Each node is scanned with a {@link ScanStream},
+ * the number of nodes scanned concurrently is limited by {@code concurrency}. Node selection follows
+ * {@link StatefulRedisClusterConnection#getReadFrom()} and uses one node per master. Keys of different nodes are emitted
+ * interleaved.
+ *
+ * @author Mark Paluch
+ * @since 4.3
+ */
+public class ClusterScanStream {
+
+    private ClusterScanStream() {
+    }
+
+    /**
+     * Iterate over keys in the keyspace of all masters using {@code SCAN}.
+     *
+     * @param connection the cluster connection, must not be {@literal null}.
+     * @param concurrency maximum number of nodes to scan concurrently, must be greater {@literal 0}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link Observable}.
+     */
+    public static <K, V> Observable<K> scan(StatefulRedisClusterConnection<K, V> connection, int concurrency) {
+        return scan(connection, null, concurrency);
+    }
+
+    /**
+     * Iterate over keys in the keyspace of all masters using {@code SCAN}.
+     *
+     * @param connection the cluster connection, must not be {@literal null}.
+     * @param scanArgs the scan arguments, may be {@literal null}.
+     * @param concurrency maximum number of nodes to scan concurrently, must be greater {@literal 0}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link Observable}.
+     */
+    public static <K, V> Observable<K> scan(StatefulRedisClusterConnection<K, V> connection, ScanArgs scanArgs,
+            int concurrency) {
+
+        LettuceAssert.notNull(connection, "StatefulRedisClusterConnection must not be null");
+        LettuceAssert.isTrue(concurrency > 0, "Concurrency must be greater 0");
+
+        return Observable.defer(() -> {
+
+            List<String> nodeIds = ClusterScanSupport.getNodeIds(connection, ScanCursor.INITIAL);
+
+            return Observable.from(nodeIds).flatMap(
+                    nodeId -> ScanStream.scan(connection.getConnection(nodeId).reactive(), scanArgs), concurrency);
+        });
+    }
+}
@@ -22,6 +22,7 @@ public class ClusterTopologyRefreshOptions {
     public static final TimeUnit DEFAULT_ADAPTIVE_REFRESH_TIMEOUT_UNIT = TimeUnit.SECONDS;
     public static final int DEFAULT_REFRESH_TRIGGERS_RECONNECT_ATTEMPTS = 5;
     public static final boolean DEFAULT_CLOSE_STALE_CONNECTIONS = true;
+    public static final boolean DEFAULT_REUSE_REFRESH_CONNECTIONS = false;
 
     private final boolean periodicRefreshEnabled;
     private final long refreshPeriod;
@@ -32,6 +33,7 @@ public class ClusterTopologyRefreshOptions {
     private final long adaptiveRefreshTimeout;
     private final TimeUnit adaptiveRefreshTimeoutUnit;
     private final int refreshTriggersReconnectAttempts;
+    private final boolean reuseRefreshConnections;
 
     protected ClusterTopologyRefreshOptions(Builder builder) {
 
@@ -44,6 +46,7 @@ public class ClusterTopologyRefreshOptions {
         this.adaptiveRefreshTimeout = builder.adaptiveRefreshTimeout;
         this.adaptiveRefreshTimeoutUnit = builder.adaptiveRefreshTimeoutUnit;
         this.refreshTriggersReconnectAttempts = builder.refreshTriggersReconnectAttempts;
+        this.reuseRefreshConnections = builder.reuseRefreshConnections;
     }
 
     protected ClusterTopologyRefreshOptions(ClusterTopologyRefreshOptions original) {
@@ -57,6 +60,7 @@ public class ClusterTopologyRefreshOptions {
         this.adaptiveRefreshTimeout = original.adaptiveRefreshTimeout;
         this.adaptiveRefreshTimeoutUnit = original.adaptiveRefreshTimeoutUnit;
         this.refreshTriggersReconnectAttempts = original.refreshTriggersReconnectAttempts;
+        this.reuseRefreshConnections = original.reuseRefreshConnections;
     }
 
     /**
@@ -110,6 +114,7 @@ public class ClusterTopologyRefreshOptions {
         private long adaptiveRefreshTimeout = DEFAULT_ADAPTIVE_REFRESH_TIMEOUT;
         private TimeUnit adaptiveRefreshTimeoutUnit = DEFAULT_ADAPTIVE_REFRESH_TIMEOUT_UNIT;
         private int refreshTriggersReconnectAttempts = DEFAULT_REFRESH_TRIGGERS_RECONNECT_ATTEMPTS;
+        private boolean reuseRefreshConnections = DEFAULT_REUSE_REFRESH_CONNECTIONS;
 
         /**
          * @deprecated Use {@link ClusterTopologyRefreshOptions#builder()}
@@ -260,6 +265,21 @@ public class ClusterTopologyRefreshOptions {
             return this;
         }
 
+        /**
+         * Keep the connections used for topology refresh open and reuse them for subsequent refreshes. Reusing connections
+         * avoids connecting to each cluster node on every refresh. Refresh connections use a dedicated set of connections and
+         * do not share connections with the application. Connections to nodes that are no longer part of the topology are
+         * closed. Defaults to {@literal false}. See {@link ClusterTopologyRefreshOptions#DEFAULT_REUSE_REFRESH_CONNECTIONS}.
+         *
+         * @param reuseRefreshConnections {@literal true} to keep refresh connections open between topology refreshes
+         * @return {@code this}
+         * @since 4.3
+         */
+        public Builder reuseRefreshConnections(boolean reuseRefreshConnections) {
+            this.reuseRefreshConnections = reuseRefreshConnections;
+            return this;
+        }
+
         /**
          * Create a new instance of {@link ClusterTopologyRefreshOptions}
          *
@@ -361,6 +381,17 @@ public class ClusterTopologyRefreshOptions {
         return refreshTriggersReconnectAttempts;
     }
 
+    /**
+     * Flag, whether to keep the connections used for topology refresh open and reuse them for subsequent refreshes. Defaults
+     * to {@literal false}.
+     *
+     * @return {@literal true} if refresh connections are kept open between topology refreshes
+     * @since 4.3
+     */
+    public boolean isReuseRefreshConnections() {
+        return reuseRefreshConnections;
+    }
+
     /**
      * Available refresh triggers to signal early topology refreshing.
      */
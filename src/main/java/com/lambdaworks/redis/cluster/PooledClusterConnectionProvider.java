@@ -4,6 +4,7 @@ import java.net.InetSocketAddress;
 import java.net.SocketAddress;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -40,14 +41,15 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
     private final Map<ConnectionKey, StatefulRedisConnection<K, V>> connections = new ConcurrentHashMap<>();
     private final Object stateLock = new Object();
     private final boolean debugEnabled;
-    private final StatefulRedisConnection<K, V> writers[] = new StatefulRedisConnection[SlotHash.SLOT_COUNT];
-    private final StatefulRedisConnection<K, V> readers[][] = new StatefulRedisConnection[SlotHash.SLOT_COUNT][];
     private final RedisClusterClient redisClusterClient;
     private final ConnectionFactory connectionFactory;
 
-    private Partitions partitions;
+    // Slot routing table, replaced as a whole on topology and ReadFrom changes. Reads do not require synchronization.
+    private volatile SlotConnections<K, V> slotConnections = new SlotConnections<>();
+    private volatile Partitions partitions;
     private boolean autoFlushCommands = true;
-    private ReadFrom readFrom;
+    private volatile ReadFrom readFrom;
+    private volatile ReadLoadBalancer readLoadBalancer = ReadLoadBalancer.FIRST_AVAILABLE;
 
     public PooledClusterConnectionProvider(RedisClusterClient redisClusterClient, RedisChannelWriter<K, V> clusterWriter,
             RedisCodec<K, V> redisCodec) {
@@ -76,10 +78,9 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
     }
 
     private StatefulRedisConnection<K, V> getWriteConnection(int slot) {
-        StatefulRedisConnection<K, V> writer;// avoid races when reconfiguring partitions.
-        synchronized (stateLock) {
-            writer = writers[slot];
-        }
+
+        SlotConnections<K, V> slotConnections = this.slotConnections;
+        StatefulRedisConnection<K, V> writer = slotConnections.writers.get(slot);
 
         if (writer == null) {
             RedisClusterNode partition = partitions.getPartitionBySlot(slot);
@@ -91,17 +92,16 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
             // host because the nodeId can be handled by a different host.
             RedisURI uri = partition.getUri();
             ConnectionKey key = new ConnectionKey(Intent.WRITE, uri.getHost(), uri.getPort());
-            return writers[slot] = getOrCreateConnection(key);
-
+            writer = getOrCreateConnection(key);
+            slotConnections.writers.set(slot, writer);
         }
         return writer;
     }
 
     protected StatefulRedisConnection<K, V> getReadConnection(int slot) {
-        StatefulRedisConnection<K, V> readerCandidates[];// avoid races when reconfiguring partitions.
-        synchronized (stateLock) {
-            readerCandidates = readers[slot];
-        }
+
+        SlotConnections<K, V> slotConnections = this.slotConnections;
+        List<StatefulRedisConnection<K, V>> readerCandidates = slotConnections.readers.get(slot);
 
         if (readerCandidates == null) {
             RedisClusterNode master = partitions.getPartitionBySlot(slot);
@@ -129,37 +129,26 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
             }
 
             readerCandidates = getReadFromConnections(selection);
-            readers[slot] = readerCandidates;
-        }
-
-        // try working connections at first
-        for (StatefulRedisConnection<K, V> readerCandidate : readerCandidates) {
-            if (!readerCandidate.isOpen()) {
-                continue;
-            }
-            return readerCandidate;
+            slotConnections.readers.set(slot, readerCandidates);
         }
 
-        // fall-back to the first connection for same behavior as writing
-        return readerCandidates[0];
+        return readLoadBalancer.select(readerCandidates);
     }
 
-    private StatefulRedisConnection<K, V>[] getReadFromConnections(List<RedisNodeDescription> selection) {
-        StatefulRedisConnection<K, V>[] readerCandidates;
+    private List<StatefulRedisConnection<K, V>> getReadFromConnections(List<RedisNodeDescription> selection) {
+
         // Use always host and port for slot-oriented operations. We don't want to get reconnected on a different
         // host because the nodeId can be handled by a different host.
+        List<StatefulRedisConnection<K, V>> readerCandidates = new ArrayList<>(selection.size());
 
-        readerCandidates = new StatefulRedisConnection[selection.size()];
-
-        for (int i = 0; i < selection.size(); i++) {
-            RedisNodeDescription redisClusterNode = selection.get(i);
+        for (RedisNodeDescription redisClusterNode : selection) {
 
             RedisURI uri = redisClusterNode.getUri();
             ConnectionKey key = new ConnectionKey(
                     redisClusterNode.getRole() == RedisInstance.Role.MASTER ? Intent.WRITE : Intent.READ, uri.getHost(),
                     uri.getPort());
 
-            readerCandidates[i] = getOrCreateConnection(key);
+            readerCandidates.add(getOrCreateConnection(key));
         }
 
         return readerCandidates;
@@ -225,6 +214,13 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
     @Override
     public void close() {
 
+        synchronized (stateLock) {
+
+            ReadLoadBalancer previous = this.readLoadBalancer;
+            this.readLoadBalancer = ReadLoadBalancer.FIRST_AVAILABLE;
+            previous.release();
+        }
+
         this.connections.clear();
         resetFastConnectionCache();
 
@@ -240,7 +236,8 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
     }
 
     /**
-     * Synchronize on {@code stateLock} to initiate a happens-before relation and clear the thread caches of other threads.
+     * Set the partitions and reset the slot routing table. Connections to nodes that are no longer part of the cluster are
+     * closed only if {@link RedisClusterClient#expireStaleConnections() stale connection expiry} is enabled.
      * 
      * @param partitions the new partitions.
      */
@@ -263,6 +260,7 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
     private void reconfigurePartitions() {
 
         if (!redisClusterClient.expireStaleConnections()) {
+            resetFastConnectionCache();
             return;
         }
 
@@ -353,10 +351,8 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
 
     @Override
     public void setReadFrom(ReadFrom readFrom) {
-        synchronized (stateLock) {
-            this.readFrom = readFrom;
-            Arrays.fill(readers, null);
-        }
+        this.readFrom = readFrom;
+        resetFastConnectionCache();
     }
 
     @Override
@@ -364,6 +360,25 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
         return this.readFrom;
     }
 
+    @Override
+    public void setReadLoadBalancer(ReadLoadBalancer readLoadBalancer) {
+
+        LettuceAssert.notNull(readLoadBalancer, "ReadLoadBalancer must not be null");
+
+        synchronized (stateLock) {
+
+            readLoadBalancer.acquire();
+            ReadLoadBalancer previous = this.readLoadBalancer;
+            this.readLoadBalancer = readLoadBalancer;
+            previous.release();
+        }
+    }
+
+    @Override
+    public ReadLoadBalancer getReadLoadBalancer() {
+        return this.readLoadBalancer;
+    }
+
     /**
      *
      * @return number of connections.
@@ -376,14 +391,11 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
      * Reset the internal connection cache. This is necessary because the {@link Partitions} have no reference to the connection
      * cache.
      *
-     * Synchronize on {@code stateLock} to initiate a happens-before relation and clear the thread caches of other threads.
+     * The slot routing table is replaced with an empty table. Lookups that are in progress populate the previous table and do
+     * not affect the new table.
      */
     private void resetFastConnectionCache() {
-        synchronized (stateLock) {
-            Arrays.fill(writers, null);
-            Arrays.fill(readers, null);
-
-        }
+        this.slotConnections = new SlotConnections<>();
     }
 
     private RuntimeException invalidConnectionPoint(String message) {
@@ -414,6 +426,15 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
         return null;
     }
 
+    /**
+     * Slot routing table for write and read connections. Entries are populated lazily on the first lookup of a slot.
+     */
+    private static class SlotConnections<K, V> {
+
+        final AtomicReferenceArray<StatefulRedisConnection<K, V>> writers = new AtomicReferenceArray<>(SlotHash.SLOT_COUNT);
+        final AtomicReferenceArray<List<StatefulRedisConnection<K, V>>> readers = new AtomicReferenceArray<>(SlotHash.SLOT_COUNT);
+    }
+
     /**
      * Connection to identify a connection either by nodeId or host/port.
      */
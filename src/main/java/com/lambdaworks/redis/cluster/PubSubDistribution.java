@@ -0,0 +1,88 @@
+package com.lambdaworks.redis.cluster;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import com.lambdaworks.redis.cluster.models.partitions.Partitions;
+import com.lambdaworks.redis.cluster.models.partitions.RedisClusterNode;
+
+/**
+ * Defines on which cluster node a channel or pattern of a {@link ClusterPubSubConnection} is subscribed. Redis Cluster
+ * propagates published messages to all nodes so any node can serve any subscription. Distributing subscriptions spreads the
+ * message traffic across nodes and connections.
+ *
+ * @author Mark Paluch
+ * @since 4.3
+ */
+public abstract class PubSubDistribution {
+
+    /**
+     * Subscribe at the master serving the slot of the channel or pattern.
+     */
+    public final static PubSubDistribution MASTER = new PubSubDistribution() {
+        @Override
+        public RedisClusterNode select(Partitions partitions, int slot) {
+
+            RedisClusterNode master = partitions.getPartitionBySlot(slot);
+            return master != null && isAvailable(master) ? master : null;
+        }
+    };
+
+    /**
+     * Subscribe at the master or one of its slaves serving the slot of the channel or pattern. Subscriptions of a slot range
+     * are spread across the master and its slaves.
+     */
+    public final static PubSubDistribution MASTER_AND_SLAVES = new PubSubDistribution() {
+        @Override
+        public RedisClusterNode select(Partitions partitions, int slot) {
+
+            RedisClusterNode master = partitions.getPartitionBySlot(slot);
+
+            if (master == null) {
+                return null;
+            }
+
+            List<RedisClusterNode> candidates = new ArrayList<>();
+
+            if (isAvailable(master)) {
+                candidates.add(master);
+            }
+
+            for (RedisClusterNode node : partitions) {
+                if (master.getNodeId().equals(node.getSlaveOf()) && isAvailable(node)) {
+                    candidates.add(node);
+                }
+            }
+
+            if (candidates.isEmpty()) {
+                return null;
+            }
+
+            candidates.sort(Comparator.comparing(RedisClusterNode::getNodeId));
+            return candidates.get(slot % candidates.size());
+        }
+    };
+
+    /**
+     * Select the node to subscribe a channel or pattern.
+     *
+     * @param partitions the cluster topology.
+     * @param slot the slot of the channel or pattern.
+     * @return the node or {@literal null} if no node is available. The subscription is placed on any available node in that
+     *         case.
+     */
+    public abstract RedisClusterNode select(Partitions partitions, int slot);
+
+    /**
+     * Returns whether the node is reachable according to the topology.
+     *
+     * @param node the node.
+     * @return {@literal true} if the node is not marked as failed and has an address.
+     */
+    protected static boolean isAvailable(RedisClusterNode node) {
+        return node.getUri() != null && !node.is(RedisClusterNode.NodeFlag.FAIL)
+                && !node.is(RedisClusterNode.NodeFlag.EVENTUAL_FAIL) && !node.is(RedisClusterNode.NodeFlag.NOADDR)
+                && !node.is(RedisClusterNode.NodeFlag.HANDSHAKE);
+    }
+}
@@ -25,12 +25,12 @@ import com.lambdaworks.redis.cluster.api.async.RedisClusterAsyncCommands;
 import com.lambdaworks.redis.cluster.models.partitions.Partitions;
 import com.lambdaworks.redis.cluster.models.partitions.RedisClusterNode;
 import com.lambdaworks.redis.codec.RedisCodec;
-import com.lambdaworks.redis.output.IntegerOutput;
-import com.lambdaworks.redis.output.KeyStreamingChannel;
-import com.lambdaworks.redis.output.ValueStreamingChannel;
+import com.lambdaworks.redis.output.*;
 import com.lambdaworks.redis.protocol.AsyncCommand;
 import com.lambdaworks.redis.protocol.Command;
+import com.lambdaworks.redis.protocol.CommandArgs;
 import com.lambdaworks.redis.protocol.CommandType;
+import com.lambdaworks.redis.protocol.RedisCommand;
 
 /**
  * An advanced asynchronous and thread-safe API for a Redis Cluster connection.
@@ -67,12 +67,8 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
             return super.del(keys);
         }
 
-        Map<Integer, RedisFuture<Long>> executions = new HashMap<>();
-
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
-            RedisFuture<Long> del = super.del(entry.getValue());
-            executions.put(entry.getKey(), del);
-        }
+        Map<Integer, RedisFuture<Long>> executions = executeOnSlots(partitioned, slotKeys -> new Command<>(CommandType.DEL,
+                new IntegerOutput<>(codec), new CommandArgs<>(codec).addKeys(slotKeys)));
 
         return MultiNodeExecution.aggregateAsync(executions);
     }
@@ -90,12 +86,8 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
             return super.unlink(keys);
         }
 
-        Map<Integer, RedisFuture<Long>> executions = new HashMap<>();
-
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
-            RedisFuture<Long> unlink = super.unlink(entry.getValue());
-            executions.put(entry.getKey(), unlink);
-        }
+        Map<Integer, RedisFuture<Long>> executions = executeOnSlots(partitioned, slotKeys -> new Command<>(CommandType.UNLINK,
+                new IntegerOutput<>(codec), new CommandArgs<>(codec).addKeys(slotKeys)));
 
         return MultiNodeExecution.aggregateAsync(executions);
     }
@@ -112,12 +104,8 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
             return super.exists(keys);
         }
 
-        Map<Integer, RedisFuture<Long>> executions = new HashMap<>();
-
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
-            RedisFuture<Long> exists = super.exists(entry.getValue());
-            executions.put(entry.getKey(), exists);
-        }
+        Map<Integer, RedisFuture<Long>> executions = executeOnSlots(partitioned, slotKeys -> new Command<>(CommandType.EXISTS,
+                new IntegerOutput<>(codec), new CommandArgs<>(codec).addKeys(slotKeys)));
 
         return MultiNodeExecution.aggregateAsync(executions);
     }
@@ -136,20 +124,17 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
         }
 
         Map<K, Integer> slots = SlotHash.getSlots(partitioned);
-        Map<Integer, RedisFuture<List<V>>> executions = new HashMap<>();
-
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
-            RedisFuture<List<V>> mget = super.mget(entry.getValue());
-            executions.put(entry.getKey(), mget);
-        }
+        Map<Integer, RedisFuture<List<V>>> executions = executeOnSlots(partitioned, slotKeys -> new Command<>(CommandType.MGET,
+                new ValueListOutput<>(codec), new CommandArgs<>(codec).addKeys(slotKeys)));
 
         // restore order of key
         return new PipelinedRedisFuture<>(executions, objectPipelinedRedisFuture -> {
             List<V> result = new ArrayList<>();
+            Map<Integer, Integer> offsets = new HashMap<>(executions.size());
             for (K opKey : keys) {
                 int slot = slots.get(opKey);
 
-                int position = partitioned.get(slot).indexOf(opKey);
+                int position = offsets.merge(slot, 1, Integer::sum) - 1;
                 RedisFuture<List<V>> listRedisFuture = executions.get(slot);
                 result.add(MultiNodeExecution.execute(() -> listRedisFuture.get().get(position)));
             }
@@ -171,12 +156,8 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
             return super.mget(channel, keys);
         }
 
-        Map<Integer, RedisFuture<Long>> executions = new HashMap<>();
-
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
-            RedisFuture<Long> del = super.mget(channel, entry.getValue());
-            executions.put(entry.getKey(), del);
-        }
+        Map<Integer, RedisFuture<Long>> executions = executeOnSlots(partitioned, slotKeys -> new Command<>(CommandType.MGET,
+                new ValueStreamingOutput<>(codec, channel), new CommandArgs<>(codec).addKeys(slotKeys)));
 
         return MultiNodeExecution.aggregateAsync(executions);
     }
@@ -189,16 +170,13 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
             return super.mset(map);
         }
 
-        Map<Integer, RedisFuture<String>> executions = new HashMap<>();
-
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
+        Map<Integer, RedisFuture<String>> executions = executeOnSlots(partitioned, slotKeys -> {
 
             Map<K, V> op = new HashMap<>();
-            entry.getValue().forEach(k -> op.put(k, map.get(k)));
+            slotKeys.forEach(k -> op.put(k, map.get(k)));
 
-            RedisFuture<String> mset = super.mset(op);
-            executions.put(entry.getKey(), mset);
-        }
+            return new Command<>(CommandType.MSET, new StatusOutput<>(codec), new CommandArgs<>(codec).add(op));
+        });
 
         return MultiNodeExecution.firstOfAsync(executions);
     }
@@ -211,16 +189,13 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
             return super.msetnx(map);
         }
 
-        Map<Integer, RedisFuture<Boolean>> executions = new HashMap<>();
-
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
+        Map<Integer, RedisFuture<Boolean>> executions = executeOnSlots(partitioned, slotKeys -> {
 
             Map<K, V> op = new HashMap<>();
-            entry.getValue().forEach(k -> op.put(k, map.get(k)));
+            slotKeys.forEach(k -> op.put(k, map.get(k)));
 
-            RedisFuture<Boolean> msetnx = super.msetnx(op);
-            executions.put(entry.getKey(), msetnx);
-        }
+            return new Command<>(CommandType.MSETNX, new BooleanOutput<>(codec), new CommandArgs<>(codec).add(op));
+        });
 
         return new PipelinedRedisFuture<>(executions, objectPipelinedRedisFuture -> {
             for (RedisFuture<Boolean> listRedisFuture : executions.values()) {
@@ -234,6 +209,33 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
         });
     }
 
+    /**
+     * Run a command for each slot. Commands are dispatched as a batch so commands that target the same node are written with a
+     * single flush.
+     *
+     * @param partitioned keys partitioned by slot
+     * @param commandFactory function to create the command for the keys of a slot
+     * @param <T> result type
+     * @return map of slot to the command future
+     */
+    protected <T> Map<Integer, RedisFuture<T>> executeOnSlots(Map<Integer, List<K>> partitioned,
+            Function<List<K>, RedisCommand<K, V, T>> commandFactory) {
+
+        Map<Integer, RedisFuture<T>> executions = new HashMap<>(partitioned.size());
+        List<AsyncCommand<K, V, T>> commands = new ArrayList<>(partitioned.size());
+
+        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
+
+            AsyncCommand<K, V, T> command = new AsyncCommand<>(commandFactory.apply(entry.getValue()));
+            executions.put(entry.getKey(), command);
+            commands.add(command);
+        }
+
+        connection.dispatch(commands);
+
+        return executions;
+    }
+
     @Override
     public RedisFuture<String> clientSetname(K name) {
         Map<String, RedisFuture<String>> executions = new HashMap<>();
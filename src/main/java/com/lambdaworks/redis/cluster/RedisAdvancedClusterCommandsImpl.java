@@ -0,0 +1,89 @@
+package com.lambdaworks.redis.cluster;
+
+import java.lang.reflect.Proxy;
+import java.util.function.Predicate;
+
+import com.lambdaworks.redis.AbstractRedisSyncCommands;
+import com.lambdaworks.redis.api.sync.RedisCommands;
+import com.lambdaworks.redis.cluster.api.NodeSelectionSupport;
+import com.lambdaworks.redis.cluster.api.StatefulRedisClusterConnection;
+import com.lambdaworks.redis.cluster.api.sync.NodeSelection;
+import com.lambdaworks.redis.cluster.api.sync.NodeSelectionCommands;
+import com.lambdaworks.redis.cluster.api.sync.RedisAdvancedClusterCommands;
+import com.lambdaworks.redis.cluster.api.sync.RedisClusterCommands;
+import com.lambdaworks.redis.cluster.models.partitions.RedisClusterNode;
+
+/**
+ * An advanced synchronous and thread-safe API for a Redis Cluster connection. Commands are invoked on the async API and
+ * awaited.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @author Mark Paluch
+ * @since 4.3
+ */
+public class RedisAdvancedClusterCommandsImpl<K, V> extends AbstractRedisSyncCommands<K, V>
+        implements RedisAdvancedClusterCommands<K, V> {
+
+    private final StatefulRedisClusterConnection<K, V> statefulConnection;
+
+    /**
+     * Initialize a new instance.
+     *
+     * @param connection the connection to operate on
+     * @param async the async API to invoke commands on
+     */
+    public RedisAdvancedClusterCommandsImpl(StatefulRedisClusterConnection<K, V> connection,
+            RedisAdvancedClusterAsyncCommandsImpl<K, V> async) {
+        super(connection, async);
+        this.statefulConnection = connection;
+    }
+
+    @Override
+    public RedisClusterCommands<K, V> getConnection(String nodeId) {
+        return statefulConnection.getConnection(nodeId).sync();
+    }
+
+    @Override
+    public RedisClusterCommands<K, V> getConnection(String host, int port) {
+        return statefulConnection.getConnection(host, port).sync();
+    }
+
+    @Override
+    public StatefulRedisClusterConnection<K, V> getStatefulConnection() {
+        return statefulConnection;
+    }
+
+    @Override
+    public NodeSelection<K, V> readonly(Predicate<RedisClusterNode> predicate) {
+        return nodes(predicate, ClusterConnectionProvider.Intent.READ, false);
+    }
+
+    @Override
+    public NodeSelection<K, V> nodes(Predicate<RedisClusterNode> predicate) {
+        return nodes(predicate, ClusterConnectionProvider.Intent.WRITE, false);
+    }
+
+    @Override
+    public NodeSelection<K, V> nodes(Predicate<RedisClusterNode> predicate, boolean dynamic) {
+        return nodes(predicate, ClusterConnectionProvider.Intent.WRITE, dynamic);
+    }
+
+    @SuppressWarnings("unchecked")
+    protected NodeSelection<K, V> nodes(Predicate<RedisClusterNode> predicate, ClusterConnectionProvider.Intent intent,
+            boolean dynamic) {
+
+        NodeSelectionSupport<RedisCommands<K, V>, ?> selection;
+
+        if (dynamic) {
+            selection = new DynamicSyncNodeSelection<>(statefulConnection, predicate, intent);
+        } else {
+            selection = new StaticSyncNodeSelection<>(statefulConnection, predicate, intent);
+        }
+
+        NodeSelectionInvocationHandler h = new NodeSelectionInvocationHandler((AbstractNodeSelection<?, ?, ?, ?>) selection,
+                true, statefulConnection.getTimeout(), statefulConnection.getTimeoutUnit());
+        return (NodeSelection<K, V>) Proxy.newProxyInstance(NodeSelectionSupport.class.getClassLoader(),
+                new Class<?>[] { NodeSelectionCommands.class, NodeSelection.class }, h);
+    }
+}
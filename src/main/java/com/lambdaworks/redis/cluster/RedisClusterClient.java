@@ -378,6 +378,56 @@ public class RedisClusterClient extends AbstractRedisClient {
         return connectClusterPubSubImpl(codec);
     }
 
+    /**
+     * Connect to a Redis Cluster using pub/sub connections that are distributed across the cluster nodes. Treats keys and
+     * values as UTF-8 strings. Subscriptions are placed on the master serving the slot of the channel or pattern.
+     *
+     * @return A new cluster pub/sub connection
+     * @since 4.3
+     */
+    public ClusterPubSubConnection<String, String> connectDistributedPubSub() {
+        return connectDistributedPubSub(newStringStringCodec(), PubSubDistribution.MASTER);
+    }
+
+    /**
+     * Connect to a Redis Cluster using pub/sub connections that are distributed across the cluster nodes. Use the supplied
+     * {@link RedisCodec codec} to encode/decode keys and values.
+     * <p>
+     * What to expect from this connection:
+     * </p>
+     * <ul>
+     * <li>Channels and patterns are subscribed on the node selected by {@link PubSubDistribution} for their slot</li>
+     * <li>Every node serving subscriptions uses its own pub/sub connection</li>
+     * <li>Listeners receive the messages of all node connections</li>
+     * <li>Subscriptions are moved to other nodes when the topology changes</li>
+     * </ul>
+     *
+     * @param codec Use this codec to encode/decode keys and values, must not be {@literal null}
+     * @param distribution the distribution of subscriptions, must not be {@literal null}
+     * @param <K> Key type
+     * @param <V> Value type
+     * @return A new cluster pub/sub connection
+     * @since 4.3
+     */
+    public <K, V> ClusterPubSubConnection<K, V> connectDistributedPubSub(RedisCodec<K, V> codec,
+            PubSubDistribution distribution) {
+
+        assertNotNull(codec);
+        LettuceAssert.notNull(distribution, "PubSubDistribution must not be null");
+
+        if (partitions == null) {
+            initializePartitions();
+        }
+
+        activateTopologyRefreshIfNeeded();
+
+        ClusterPubSubConnectionImpl<K, V> connection = new ClusterPubSubConnectionImpl<>(this, codec, distribution,
+                partitions, closeableResources);
+        closeableResources.add(connection);
+
+        return connection;
+    }
+
     /**
      * Open a new synchronous connection to a Redis Cluster that treats keys and values as UTF-8 strings.
      *
@@ -460,7 +510,7 @@ public class RedisClusterClient extends AbstractRedisClient {
         LettuceAssert.notNull(socketAddressSupplier, "SocketAddressSupplier must not be null");
 
         logger.debug("connectNode(" + nodeId + ")");
-        Queue<RedisCommand<K, V, ?>> queue = LettuceFactories.newConcurrentQueue();
+        Queue<RedisCommand<K, V, ?>> queue = LettuceFactories.newIndexedConcurrentQueue();
 
         ClusterNodeCommandHandler<K, V> handler = new ClusterNodeCommandHandler<K, V>(clientOptions, getResources(), queue,
                 clusterWriter);
@@ -478,6 +528,44 @@ public class RedisClusterClient extends AbstractRedisClient {
         return connection;
     }
 
+    /**
+     * Create a pub/sub connection to a cluster node.
+     *
+     * @param codec Use this codec to encode/decode keys and values, must not be {@literal null}
+     * @param nodeId the nodeId
+     * @param socketAddressSupplier supplier for the socket address
+     * @param <K> Key type
+     * @param <V> Value type
+     * @return A new connection
+     */
+    <K, V> StatefulRedisPubSubConnectionImpl<K, V> connectPubSubToNode(RedisCodec<K, V> codec, String nodeId,
+            Supplier<SocketAddress> socketAddressSupplier) {
+
+        assertNotNull(codec);
+        assertNotEmpty(initialUris);
+
+        LettuceAssert.notNull(socketAddressSupplier, "SocketAddressSupplier must not be null");
+
+        logger.debug("connectPubSubToNode(" + nodeId + ")");
+        Queue<RedisCommand<K, V, ?>> queue = LettuceFactories.newIndexedConcurrentQueue();
+
+        PubSubCommandHandler<K, V> handler = new PubSubCommandHandler<K, V>(clientOptions, getResources(), queue, codec);
+        StatefulRedisPubSubConnectionImpl<K, V> connection = new StatefulRedisPubSubConnectionImpl<>(handler, codec, timeout,
+                unit);
+        connection.setDispatchExecutor(getPubSubDispatchExecutor());
+
+        try {
+            connectStateful(handler, connection, getFirstUri(), socketAddressSupplier);
+
+            connection.registerCloseables(closeableResources, connection);
+        } catch (RedisException e) {
+            connection.close();
+            throw e;
+        }
+
+        return connection;
+    }
+
     /**
      * Create a clustered pub/sub connection with command distributor.
      *
@@ -495,14 +583,14 @@ public class RedisClusterClient extends AbstractRedisClient {
         activateTopologyRefreshIfNeeded();
 
         logger.debug("connectCluster(" + initialUris + ")");
-        Queue<RedisCommand<K, V, ?>> queue = LettuceFactories.newConcurrentQueue();
+        Queue<RedisCommand<K, V, ?>> queue = LettuceFactories.newIndexedConcurrentQueue();
 
         Supplier<SocketAddress> socketAddressSupplier = getSocketAddressSupplier(TopologyComparators::sortByClientCount);
 
         CommandHandler<K, V> handler = new CommandHandler<K, V>(clientOptions, clientResources, queue);
 
         ClusterDistributionChannelWriter<K, V> clusterWriter = new ClusterDistributionChannelWriter<K, V>(clientOptions,
-                handler, clusterTopologyRefreshScheduler, getResources().eventExecutorGroup());
+                handler, clusterTopologyRefreshScheduler, getResources().eventExecutorGroup(), getResources().eventBus());
         PooledClusterConnectionProvider<K, V> pooledClusterConnectionProvider = new PooledClusterConnectionProvider<K, V>(this,
                 clusterWriter, codec);
 
@@ -558,14 +646,14 @@ public class RedisClusterClient extends AbstractRedisClient {
         activateTopologyRefreshIfNeeded();
 
         logger.debug("connectClusterPubSub(" + initialUris + ")");
-        Queue<RedisCommand<K, V, ?>> queue = LettuceFactories.newConcurrentQueue();
+        Queue<RedisCommand<K, V, ?>> queue = LettuceFactories.newIndexedConcurrentQueue();
 
         Supplier<SocketAddress> socketAddressSupplier = getSocketAddressSupplier(TopologyComparators::sortByClientCount);
 
         PubSubCommandHandler<K, V> handler = new PubSubCommandHandler<K, V>(clientOptions, clientResources, queue, codec);
 
         ClusterDistributionChannelWriter<K, V> clusterWriter = new ClusterDistributionChannelWriter<K, V>(clientOptions,
-                handler, clusterTopologyRefreshScheduler, getResources().eventExecutorGroup());
+                handler, clusterTopologyRefreshScheduler, getResources().eventExecutorGroup(), getResources().eventBus());
         PooledClusterConnectionProvider<K, V> pooledClusterConnectionProvider = new PooledClusterConnectionProvider<K, V>(this,
                 clusterWriter, codec);
 
@@ -573,6 +661,7 @@ public class RedisClusterClient extends AbstractRedisClient {
 
         StatefulRedisPubSubConnectionImpl<K, V> connection = new StatefulRedisPubSubConnectionImpl<>(clusterWriter, codec,
                 timeout, unit);
+        connection.setDispatchExecutor(getPubSubDispatchExecutor());
 
         clusterWriter.setPartitions(partitions);
 
@@ -711,6 +800,9 @@ public class RedisClusterClient extends AbstractRedisClient {
         forEachClusterConnection(input -> {
             input.setPartitions(partitions);
         });
+
+        forEachCloseable(input -> input instanceof ClusterPubSubConnectionImpl,
+                (ClusterPubSubConnectionImpl<?, ?> input) -> input.setPartitions(partitions));
     }
 
     protected void initializePartitions() {
@@ -739,7 +831,8 @@ public class RedisClusterClient extends AbstractRedisClient {
     protected Partitions loadPartitions() {
 
         Iterable<RedisURI> topologyRefreshSource = getTopologyRefreshSource();
-        Map<RedisURI, Partitions> partitions = refresh.loadViews(topologyRefreshSource, useDynamicRefreshSources());
+        Map<RedisURI, Partitions> partitions = refresh.loadViews(topologyRefreshSource, useDynamicRefreshSources(),
+                reuseRefreshConnections());
 
         if (partitions.isEmpty()) {
             throw new RedisException("Cannot retrieve initial cluster partitions from initial URIs " + topologyRefreshSource);
@@ -855,6 +948,8 @@ public class RedisClusterClient extends AbstractRedisClient {
             }
         }
 
+        refresh.close();
+
         super.shutdown(quietPeriod, timeout, timeUnit);
     }
 
@@ -957,6 +1052,20 @@ public class RedisClusterClient extends AbstractRedisClient {
         return true;
     }
 
+    /**
+     * Returns whether connections used for topology refresh are kept open between refreshes.
+     *
+     * @return {@literal true} if refresh connections are reused.
+     * @see ClusterTopologyRefreshOptions#isReuseRefreshConnections()
+     */
+    protected boolean reuseRefreshConnections() {
+
+        if (getClusterClientOptions() != null) {
+            return getClusterClientOptions().getTopologyRefreshOptions().isReuseRefreshConnections();
+        }
+        return ClusterTopologyRefreshOptions.DEFAULT_REUSE_REFRESH_CONNECTIONS;
+    }
+
     private class NodeConnectionFactoryImpl implements NodeConnectionFactory {
         @Override
         public <K, V> StatefulRedisConnection<K, V> connectToNode(RedisCodec<K, V> codec, SocketAddress socketAddress) {
@@ -54,39 +54,32 @@ public class SlotHash {
     }
 
     /**
-     * Calculate the slot from the given key.
+     * Calculate the slot from the given key. The slot is calculated from the remaining bytes of the key without copying it. The
+     * position of {@code key} is not changed.
      *
      * @param key the key
      * @return slot
      */
     public static final int getSlot(ByteBuffer key) {
 
-        byte[] input = new byte[key.remaining()];
-        key.duplicate().get(input);
-
-        byte[] finalKey = input;
+        int limit = key.limit();
+        int start = indexOf(key, key.position(), limit, SUBKEY_START);
 
-        int start = indexOf(input, SUBKEY_START);
         if (start != -1) {
-            int end = indexOf(input, start + 1, SUBKEY_END);
+            int end = indexOf(key, start + 1, limit, SUBKEY_END);
             if (end != -1 && end != start + 1) {
-
-                finalKey = new byte[end - (start + 1)];
-                System.arraycopy(input, start + 1, finalKey, 0, finalKey.length);
+                return CRC16.crc16(key, start + 1, end) % SLOT_COUNT;
             }
         }
-        return CRC16.crc16(finalKey) % SLOT_COUNT;
-    }
 
-    private static int indexOf(byte[] haystack, byte needle) {
-        return indexOf(haystack, 0, needle);
+        return CRC16.crc16(key) % SLOT_COUNT;
     }
 
-    private static int indexOf(byte[] haystack, int start, byte needle) {
+    private static int indexOf(ByteBuffer haystack, int start, int end, byte needle) {
 
-        for (int i = start; i < haystack.length; i++) {
+        for (int i = start; i < end; i++) {
 
-            if (haystack[i] == needle) {
+            if (haystack.get(i) == needle) {
                 return i;
             }
         }
@@ -1,32 +1,27 @@
 package com.lambdaworks.redis.cluster;
 
-import static com.lambdaworks.redis.protocol.CommandType.*;
-
-import java.lang.invoke.MethodHandle;
-import java.lang.invoke.MethodHandles;
-import java.lang.reflect.*;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
-import java.util.function.Predicate;
 
 import com.lambdaworks.redis.*;
 import com.lambdaworks.redis.api.StatefulRedisConnection;
-import com.lambdaworks.redis.api.sync.RedisCommands;
-import com.lambdaworks.redis.cluster.api.NodeSelectionSupport;
 import com.lambdaworks.redis.cluster.api.StatefulRedisClusterConnection;
 import com.lambdaworks.redis.cluster.api.async.RedisAdvancedClusterAsyncCommands;
 import com.lambdaworks.redis.cluster.api.rx.RedisAdvancedClusterReactiveCommands;
-import com.lambdaworks.redis.cluster.api.sync.NodeSelection;
-import com.lambdaworks.redis.cluster.api.sync.NodeSelectionCommands;
 import com.lambdaworks.redis.cluster.api.sync.RedisAdvancedClusterCommands;
-import com.lambdaworks.redis.cluster.api.sync.RedisClusterCommands;
 import com.lambdaworks.redis.cluster.models.partitions.Partitions;
 import com.lambdaworks.redis.cluster.models.partitions.RedisClusterNode;
 import com.lambdaworks.redis.codec.RedisCodec;
-import com.lambdaworks.redis.internal.AbstractInvocationHandler;
 import com.lambdaworks.redis.internal.LettuceAssert;
+import com.lambdaworks.redis.protocol.CommandMetadata;
 import com.lambdaworks.redis.protocol.CompleteableCommand;
 import com.lambdaworks.redis.protocol.ConnectionWatchdog;
 import com.lambdaworks.redis.protocol.RedisCommand;
@@ -56,6 +51,8 @@ public class StatefulRedisClusterConnectionImpl<K, V> extends RedisChannelHandle
     protected final RedisAdvancedClusterAsyncCommandsImpl<K, V> async;
     protected final RedisAdvancedClusterReactiveCommandsImpl<K, V> reactive;
 
+    private final Map<Method, MethodTarget> syncInvocationTargets = new ConcurrentHashMap<>();
+
     /**
      * Initialize a new connection.
      *
@@ -70,8 +67,7 @@ public class StatefulRedisClusterConnectionImpl<K, V> extends RedisChannelHandle
         this.codec = codec;
 
         this.async = new RedisAdvancedClusterAsyncCommandsImpl<>(this, codec);
-        this.sync = (RedisAdvancedClusterCommands) Proxy.newProxyInstance(AbstractRedisClient.class.getClassLoader(),
-                new Class<?>[] { RedisAdvancedClusterConnection.class, RedisAdvancedClusterCommands.class }, syncInvocationHandler());
+        this.sync = new RedisAdvancedClusterCommandsImpl<>(this, async);
         this.reactive = new RedisAdvancedClusterReactiveCommandsImpl<>(this, codec);
     }
 
@@ -80,8 +76,54 @@ public class StatefulRedisClusterConnectionImpl<K, V> extends RedisChannelHandle
         return sync;
     }
 
+    /**
+     * Returns an {@link InvocationHandler} that invokes methods on the {@link #sync() synchronous API}. Methods that are not
+     * declared by the synchronous API are invoked on the {@link #async() asynchronous API} and await the result.
+     *
+     * @return the {@link InvocationHandler}.
+     * @deprecated since 4.3, the synchronous API is no longer backed by a proxy. Use {@link #sync()}.
+     */
+    @Deprecated
     public InvocationHandler syncInvocationHandler() {
-        return new ClusterFutureSyncInvocationHandler<>(this, async());
+
+        return (proxy, method, args) -> {
+
+            MethodTarget target = syncInvocationTargets.computeIfAbsent(method, this::resolveMethodTarget);
+
+            if (target.method == null) {
+                throw new UnsupportedOperationException("Method " + method + " is not supported");
+            }
+
+            try {
+                if (target.sync) {
+                    return target.method.invoke(sync, args);
+                }
+
+                Object result = target.method.invoke(async, args);
+                if (result instanceof RedisFuture) {
+                    return LettuceFutures.awaitOrCancel((RedisFuture<?>) result, getTimeout(), getTimeoutUnit());
+                }
+
+                return result;
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        };
+    }
+
+    private MethodTarget resolveMethodTarget(Method method) {
+
+        try {
+            return new MethodTarget(sync.getClass().getMethod(method.getName(), method.getParameterTypes()), true);
+        } catch (NoSuchMethodException e) {
+            // not declared by the synchronous API, fall back to the asynchronous API.
+        }
+
+        try {
+            return new MethodTarget(async.getClass().getMethod(method.getName(), method.getParameterTypes()), false);
+        } catch (NoSuchMethodException e) {
+            return new MethodTarget(null, false);
+        }
     }
 
     @Override
@@ -149,34 +191,63 @@ public class StatefulRedisClusterConnectionImpl<K, V> extends RedisChannelHandle
 
     @Override
     public <T, C extends RedisCommand<K, V, T>> C dispatch(C cmd) {
+        return super.dispatch((C) preProcessCommand(cmd));
+    }
 
-        RedisCommand<K, V, T> local = cmd;
+    /**
+     * Dispatch multiple commands. Each command is processed as in {@link #dispatch(RedisCommand)}, then the commands are grouped
+     * by their target node and written to each node with a single flush.
+     *
+     * @param commands the Redis commands
+     * @param <C> command type
+     * @return the written redis commands
+     * @since 4.3
+     */
+    @Override
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public <C extends RedisCommand<K, V, ?>> Collection<C> dispatch(Collection<C> commands) {
 
-        if (local.getType().name().equals(AUTH.name())) {
-            local = attachOnComplete(local, status -> {
-                if (status.equals("OK") && cmd.getArgs().getFirstString() != null) {
-                    this.password = cmd.getArgs().getFirstString().toCharArray();
-                }
-            });
+        List<C> local = new ArrayList<>(commands.size());
+        for (C command : commands) {
+            local.add((C) preProcessCommand((RedisCommand) command));
         }
 
-        if (local.getType().name().equals(READONLY.name())) {
-            local = attachOnComplete(local, status -> {
-                if (status.equals("OK")) {
-                    this.readOnly = true;
-                }
-            });
-        }
+        return getChannelWriter().write(local);
+    }
 
-        if (local.getType().name().equals(READWRITE.name())) {
-            local = attachOnComplete(local, status -> {
-                if (status.equals("OK")) {
-                    this.readOnly = false;
-                }
-            });
+    private <T> RedisCommand<K, V, T> preProcessCommand(RedisCommand<K, V, T> cmd) {
+
+        RedisCommand<K, V, T> local = cmd;
+        CommandMetadata metadata = CommandMetadata.of(cmd.getType());
+
+        if (metadata.isConnectionState()) {
+            switch (metadata.getType()) {
+                case AUTH:
+                    local = attachOnComplete(local, status -> {
+                        if (status.equals("OK") && cmd.getArgs().getFirstString() != null) {
+                            this.password = cmd.getArgs().getFirstString().toCharArray();
+                        }
+                    });
+                    break;
+                case READONLY:
+                    local = attachOnComplete(local, status -> {
+                        if (status.equals("OK")) {
+                            this.readOnly = true;
+                        }
+                    });
+                    break;
+                case READWRITE:
+                    local = attachOnComplete(local, status -> {
+                        if (status.equals("OK")) {
+                            this.readOnly = false;
+                        }
+                    });
+                    break;
+                default:
+            }
         }
 
-        return super.dispatch((C) local);
+        return local;
     }
 
     private <T> RedisCommand<K, V, T> attachOnComplete(RedisCommand<K, V, T> command, Consumer<T> consumer) {
@@ -208,149 +279,29 @@ public class StatefulRedisClusterConnectionImpl<K, V> extends RedisChannelHandle
         return getClusterDistributionChannelWriter().getReadFrom();
     }
 
-    /**
-     * Invocation-handler to synchronize API calls which use Futures as backend. This class leverages the need to implement a
-     * full sync class which just delegates every request.
-     *
-     * @param <K> Key type.
-     * @param <V> Value type.
-     * @author Mark Paluch
-     * @since 3.0
-     */
-    @SuppressWarnings("unchecked")
-    private static class ClusterFutureSyncInvocationHandler<K, V> extends AbstractInvocationHandler {
-
-        private final StatefulRedisClusterConnection<K, V> connection;
-        private final Object asyncApi;
-        private final Map<Method, Method> apiMethodCache = new ConcurrentHashMap<>(RedisClusterCommands.class.getMethods().length, 1);
-        private final Map<Method, Method> connectionMethodCache = new ConcurrentHashMap<>(5, 1);
-
-        private final static Constructor<MethodHandles.Lookup> LOOKUP_CONSTRUCTOR;
-
-        static {
-            try {
-                LOOKUP_CONSTRUCTOR = MethodHandles.Lookup.class.getDeclaredConstructor(Class.class, int.class);
-                if (!LOOKUP_CONSTRUCTOR.isAccessible()) {
-                    LOOKUP_CONSTRUCTOR.setAccessible(true);
-                }
-            } catch (NoSuchMethodException exp) {
-                // should be impossible, but...
-                throw new IllegalStateException(exp);
-            }
-        }
-
-        ClusterFutureSyncInvocationHandler(StatefulRedisClusterConnection<K, V> connection, Object asyncApi) {
-            this.connection = connection;
-            this.asyncApi = asyncApi;
-        }
-
-        static MethodHandles.Lookup privateMethodHandleLookup(Class<?> declaringClass) {
-            try {
-                return LOOKUP_CONSTRUCTOR.newInstance(declaringClass, MethodHandles.Lookup.PRIVATE);
-            } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
-                throw new IllegalStateException(e);
-            }
-        }
-
-        static MethodHandle getDefaultMethodHandle(Method method) {
-            Class<?> declaringClass = method.getDeclaringClass();
-            try {
-                return privateMethodHandleLookup(declaringClass).unreflectSpecial(method, declaringClass);
-            } catch (IllegalAccessException e) {
-                throw new IllegalArgumentException("Did not pass in an interface method: " + method);
-            }
-        }
-
-        /**
-         *
-         * @see AbstractInvocationHandler#handleInvocation(Object, Method, Object[])
-         */
-        @Override
-        protected Object handleInvocation(Object proxy, Method method, Object[] args) throws Throwable {
-
-            try {
-
-                if (method.isDefault()) {
-                    return getDefaultMethodHandle(method).bindTo(proxy).invokeWithArguments(args);
-                }
-
-                if (method.getName().equals("getConnection") && args.length > 0) {
-                    Method targetMethod = connectionMethodCache.computeIfAbsent(method, key -> {
-                        try {
-                            return connection.getClass().getMethod(key.getName(), key.getParameterTypes());
-                        } catch (NoSuchMethodException e) {
-                            throw new IllegalStateException(e);
-                        }
-                    });
-
-                    Object result = targetMethod.invoke(connection, args);
-                    if (result instanceof StatefulRedisClusterConnection) {
-                        StatefulRedisClusterConnection<K, V> connection = (StatefulRedisClusterConnection<K, V>) result;
-                        return connection.sync();
-                    }
-
-                    if (result instanceof StatefulRedisConnection) {
-                        StatefulRedisConnection<K, V> connection = (StatefulRedisConnection<K, V>) result;
-                        return connection.sync();
-                    }
-                }
-
-                if (method.getName().equals("readonly") && args.length == 1) {
-                    return nodes((Predicate<RedisClusterNode>) args[0], ClusterConnectionProvider.Intent.READ, false);
-                }
-
-                if (method.getName().equals("nodes") && args.length == 1) {
-                    return nodes((Predicate<RedisClusterNode>) args[0], ClusterConnectionProvider.Intent.WRITE, false);
-                }
-
-                if (method.getName().equals("nodes") && args.length == 2) {
-                    return nodes((Predicate<RedisClusterNode>) args[0], ClusterConnectionProvider.Intent.WRITE,
-                            (Boolean) args[1]);
-                }
-
-                Method targetMethod = apiMethodCache.computeIfAbsent(method, key -> {
-
-                    try {
-                        return asyncApi.getClass().getMethod(key.getName(), key.getParameterTypes());
-                    } catch (NoSuchMethodException e) {
-                        throw new IllegalStateException(e);
-                    }
-                });
-
-                Object result = targetMethod.invoke(asyncApi, args);
-
-                if (result instanceof RedisFuture) {
-                    RedisFuture<?> command = (RedisFuture<?>) result;
-                    if (!method.getName().equals("exec") && !method.getName().equals("multi")) {
-                        if (connection instanceof StatefulRedisConnection && ((StatefulRedisConnection) connection).isMulti()) {
-                            return null;
-                        }
-                    }
-                    return LettuceFutures.awaitOrCancel(command, connection.getTimeout(), connection.getTimeoutUnit());
-                }
-
-                return result;
-
-            } catch (InvocationTargetException e) {
-                throw e.getTargetException();
-            }
-        }
+    @Override
+    public void setReadLoadBalancer(ReadLoadBalancer readLoadBalancer) {
+        LettuceAssert.notNull(readLoadBalancer, "ReadLoadBalancer must not be null");
+        getClusterDistributionChannelWriter().setReadLoadBalancer(readLoadBalancer);
+    }
 
-        protected NodeSelection<K, V> nodes(Predicate<RedisClusterNode> predicate, ClusterConnectionProvider.Intent intent,
-                boolean dynamic) {
+    @Override
+    public ReadLoadBalancer getReadLoadBalancer() {
+        return getClusterDistributionChannelWriter().getReadLoadBalancer();
+    }
 
-            NodeSelectionSupport<RedisCommands<K, V>, ?> selection;
+    /**
+     * Resolved target of a {@code syncInvocationHandler()} invocation. A {@literal null} {@link #method} marks a method that is
+     * neither declared by the synchronous nor by the asynchronous API.
+     */
+    private static class MethodTarget {
 
-            if (dynamic) {
-                selection = new DynamicSyncNodeSelection<>(connection, predicate, intent);
-            } else {
-                selection = new StaticSyncNodeSelection<>(connection, predicate, intent);
-            }
+        final Method method;
+        final boolean sync;
 
-            NodeSelectionInvocationHandler h = new NodeSelectionInvocationHandler((AbstractNodeSelection<?, ?, ?, ?>) selection,
-                    true, connection.getTimeout(), connection.getTimeoutUnit());
-            return (NodeSelection<K, V>) Proxy.newProxyInstance(NodeSelectionSupport.class.getClassLoader(),
-                    new Class<?>[] { NodeSelectionCommands.class, NodeSelection.class }, h);
+        MethodTarget(Method method, boolean sync) {
+            this.method = method;
+            this.sync = sync;
         }
     }
 }
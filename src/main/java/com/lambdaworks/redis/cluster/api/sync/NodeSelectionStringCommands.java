@@ -2,6 +2,7 @@ package com.lambdaworks.redis.cluster.api.sync;
 
 import java.util.List;
 import java.util.Map;
+import com.lambdaworks.redis.output.ByteStreamingChannel;
 import com.lambdaworks.redis.output.ValueStreamingChannel;
 import com.lambdaworks.redis.BitFieldArgs;
 import com.lambdaworks.redis.SetArgs;
@@ -170,6 +171,15 @@ public interface NodeSelectionStringCommands<K, V> {
      */
     Executions<V> get(K key);
 
+    /**
+     * Stream the value of a key in chunks as the value is received.
+     * 
+     * @param channel streaming channel that receives a call for every chunk of the value
+     * @param key the key
+     * @return Long count of the streamed bytes, or {@literal null} when {@code key} does not exist.
+     */
+    Executions<Long> get(ByteStreamingChannel channel, K key);
+
     /**
      * Returns the bit value at offset in the string value stored at key.
      * 
@@ -189,6 +199,17 @@ public interface NodeSelectionStringCommands<K, V> {
      */
     Executions<V> getrange(K key, long start, long end);
 
+    /**
+     * Stream a substring of the string stored at a key in chunks as the substring is received.
+     * 
+     * @param channel streaming channel that receives a call for every chunk of the substring
+     * @param key the key
+     * @param start the start type: long
+     * @param end the end type: long
+     * @return Long count of the streamed bytes.
+     */
+    Executions<Long> getrange(ByteStreamingChannel channel, K key, long start, long end);
+
     /**
      * Set the string value of a key and return its old value.
      * 
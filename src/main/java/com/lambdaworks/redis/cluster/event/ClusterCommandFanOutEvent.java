@@ -0,0 +1,69 @@
+package com.lambdaworks.redis.cluster.event;
+
+import com.lambdaworks.redis.event.Event;
+import com.lambdaworks.redis.protocol.ProtocolKeyword;
+
+/**
+ * Signals a multi-key command that was split into multiple per-slot commands. The event carries the fan-out width: the number
+ * of per-slot {@link #commands()} and the number of {@link #nodes()} they were written to.
+ *
+ * @author Mark Paluch
+ * @since 4.3
+ */
+public class ClusterCommandFanOutEvent implements Event {
+
+    private final ProtocolKeyword commandType;
+    private final int commands;
+    private final int nodes;
+
+    /**
+     * Creates a new {@link ClusterCommandFanOutEvent}.
+     *
+     * @param commandType the command type, must not be {@literal null}
+     * @param commands number of per-slot commands
+     * @param nodes number of nodes the commands were written to
+     */
+    public ClusterCommandFanOutEvent(ProtocolKeyword commandType, int commands, int nodes) {
+        this.commandType = commandType;
+        this.commands = commands;
+        this.nodes = nodes;
+    }
+
+    /**
+     * Returns the command type.
+     *
+     * @return the command type.
+     */
+    public ProtocolKeyword commandType() {
+        return commandType;
+    }
+
+    /**
+     * Returns the number of per-slot commands.
+     *
+     * @return the number of per-slot commands.
+     */
+    public int commands() {
+        return commands;
+    }
+
+    /**
+     * Returns the number of nodes the per-slot commands were written to. Each node receives its commands with a single write.
+     *
+     * @return the number of nodes.
+     */
+    public int nodes() {
+        return nodes;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuffer sb = new StringBuffer();
+        sb.append(getClass().getSimpleName());
+        sb.append(" [commandType=").append(commandType);
+        sb.append(", commands=").append(commands);
+        sb.append(", nodes=").append(nodes);
+        sb.append(']');
+        return sb.toString();
+    }
+}
@@ -0,0 +1,84 @@
+package com.lambdaworks.redis.cluster.event;
+
+import java.util.concurrent.TimeUnit;
+
+import com.lambdaworks.redis.event.Event;
+
+/**
+ * Signals a completed cluster topology refresh. The event carries the refresh duration, the number of retrieved node views
+ * and the number of opened and reused refresh connections.
+ *
+ * @author Mark Paluch
+ * @since 4.3
+ */
+public class ClusterTopologyRefreshEvent implements Event {
+
+    private final long durationNs;
+    private final int views;
+    private final int openedConnections;
+    private final int reusedConnections;
+
+    /**
+     * Creates a new {@link ClusterTopologyRefreshEvent}.
+     *
+     * @param durationNs the refresh duration in {@link TimeUnit#NANOSECONDS}
+     * @param views number of retrieved node views
+     * @param openedConnections number of connections opened during the refresh
+     * @param reusedConnections number of connections reused from a previous refresh
+     */
+    public ClusterTopologyRefreshEvent(long durationNs, int views, int openedConnections, int reusedConnections) {
+        this.durationNs = durationNs;
+        this.views = views;
+        this.openedConnections = openedConnections;
+        this.reusedConnections = reusedConnections;
+    }
+
+    /**
+     * Returns the refresh duration.
+     *
+     * @param unit the target unit, must not be {@literal null}
+     * @return the refresh duration in {@code unit}.
+     */
+    public long duration(TimeUnit unit) {
+        return unit.convert(durationNs, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns the number of node views retrieved during the refresh.
+     *
+     * @return the number of node views.
+     */
+    public int views() {
+        return views;
+    }
+
+    /**
+     * Returns the number of connections opened during the refresh.
+     *
+     * @return the number of opened connections.
+     */
+    public int openedConnections() {
+        return openedConnections;
+    }
+
+    /**
+     * Returns the number of connections reused from a previous refresh.
+     *
+     * @return the number of reused connections.
+     */
+    public int reusedConnections() {
+        return reusedConnections;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuffer sb = new StringBuffer();
+        sb.append(getClass().getSimpleName());
+        sb.append(" [durationNs=").append(durationNs);
+        sb.append(", views=").append(views);
+        sb.append(", openedConnections=").append(openedConnections);
+        sb.append(", reusedConnections=").append(reusedConnections);
+        sb.append(']');
+        return sb.toString();
+    }
+}
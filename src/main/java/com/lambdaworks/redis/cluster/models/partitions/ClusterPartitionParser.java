@@ -1,18 +1,18 @@
 package com.lambdaworks.redis.cluster.models.partitions;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
-import com.lambdaworks.redis.LettuceStrings;
 import com.lambdaworks.redis.RedisException;
 import com.lambdaworks.redis.RedisURI;
 import com.lambdaworks.redis.internal.HostAndPort;
-import com.lambdaworks.redis.internal.LettuceLists;
 
 /**
- * Parser for node information output of {@code CLUSTER NODES} and {@code CLUSTER SLAVES}.
- * 
+ * Parser for node information output of {@code CLUSTER NODES} and {@code CLUSTER SLAVES}. The parser operates in a single
+ * pass on the raw reply bytes. Only node Ids and host names are materialized as {@link String}s; flags, numbers and slot
+ * ranges are parsed in place.
+ *
  * @author Mark Paluch
  * @since 3.0
  */
@@ -20,15 +20,19 @@ public class ClusterPartitionParser {
 
     public static final String CONNECTED = "connected";
 
-    private static final String TOKEN_SLOT_IN_TRANSITION = "[";
-    private static final char TOKEN_NODE_SEPARATOR = '\n';
-    private static final Pattern TOKEN_PATTERN = Pattern.compile(Character.toString(TOKEN_NODE_SEPARATOR));
-    private static final Pattern SPACE_PATTERN = Pattern.compile(" ");
-    private static final Pattern DASH_PATTERN = Pattern.compile("\\-");
-    private static final Map<String, RedisClusterNode.NodeFlag> FLAG_MAPPING;
+    private static final byte TOKEN_SLOT_IN_TRANSITION = '[';
+    private static final byte TOKEN_NODE_SEPARATOR = '\n';
+    private static final byte TOKEN_FIELD_SEPARATOR = ' ';
+    private static final byte TOKEN_FLAG_SEPARATOR = ',';
+    private static final byte TOKEN_RANGE_SEPARATOR = '-';
+    private static final byte TOKEN_BUS_PORT_SEPARATOR = '@';
+
+    private static final byte[][] FLAG_NAMES;
+    private static final RedisClusterNode.NodeFlag[] FLAGS;
+    private static final byte[] CONNECTED_BYTES = CONNECTED.getBytes(StandardCharsets.US_ASCII);
 
     static {
-        Map<String, RedisClusterNode.NodeFlag> map = new HashMap<>();
+        Map<String, RedisClusterNode.NodeFlag> map = new LinkedHashMap<>();
 
         map.put("noflags", RedisClusterNode.NodeFlag.NOFLAGS);
         map.put("myself", RedisClusterNode.NodeFlag.MYSELF);
@@ -38,7 +42,16 @@ public class ClusterPartitionParser {
         map.put("fail", RedisClusterNode.NodeFlag.FAIL);
         map.put("handshake", RedisClusterNode.NodeFlag.HANDSHAKE);
         map.put("noaddr", RedisClusterNode.NodeFlag.NOADDR);
-        FLAG_MAPPING = Collections.unmodifiableMap(map);
+
+        FLAG_NAMES = new byte[map.size()][];
+        FLAGS = new RedisClusterNode.NodeFlag[map.size()];
+
+        int index = 0;
+        for (Map.Entry<String, RedisClusterNode.NodeFlag> entry : map.entrySet()) {
+            FLAG_NAMES[index] = entry.getKey().getBytes(StandardCharsets.US_ASCII);
+            FLAGS[index] = entry.getValue();
+            index++;
+        }
     }
 
     /**
@@ -50,121 +63,325 @@ public class ClusterPartitionParser {
 
     /**
      * Parse partition lines into Partitions object.
-     * 
+     *
      * @param nodes output of CLUSTER NODES
      * @return the partitions object.
      */
     public static Partitions parse(String nodes) {
-        Partitions result = new Partitions();
+
+        byte[] bytes = nodes.getBytes(StandardCharsets.UTF_8);
 
         try {
-            List<RedisClusterNode> mappedNodes = TOKEN_PATTERN.splitAsStream(nodes).filter(s -> !s.isEmpty())
-                    .map(ClusterPartitionParser::parseNode)
-                    .collect(Collectors.toList());
-            result.addAll(mappedNodes);
+            return parse(bytes, 0, bytes.length);
         } catch (Exception e) {
             throw new RedisException("Cannot parse " + nodes, e);
         }
+    }
+
+    /**
+     * Parse partition lines into Partitions object. The buffer is read from its current position to its limit without
+     * changing the position.
+     *
+     * @param nodes raw output of CLUSTER NODES
+     * @return the partitions object.
+     * @since 4.3
+     */
+    public static Partitions parse(ByteBuffer nodes) {
+
+        byte[] bytes;
+        int offset;
+        int length = nodes.remaining();
+
+        if (nodes.hasArray()) {
+            bytes = nodes.array();
+            offset = nodes.arrayOffset() + nodes.position();
+        } else {
+            bytes = new byte[length];
+            offset = 0;
+            nodes.duplicate().get(bytes);
+        }
 
-        return result;
+        try {
+            return parse(bytes, offset, length);
+        } catch (Exception e) {
+            throw new RedisException("Cannot parse " + new String(bytes, offset, length, StandardCharsets.UTF_8), e);
+        }
     }
 
-    private static RedisClusterNode parseNode(String nodeInformation) {
+    private static Partitions parse(byte[] bytes, int offset, int length) {
 
-        Iterator<String> iterator = SPACE_PATTERN.splitAsStream(nodeInformation).iterator();
+        List<RedisClusterNode> mappedNodes = new ArrayList<>();
+        Tokenizer tokenizer = new Tokenizer(bytes);
 
-        String nodeId = iterator.next();
-        boolean connected = false;
-        RedisURI uri = null;
+        int end = offset + length;
+        int lineStart = offset;
 
-        String hostAndPortPart = iterator.next();
-        if(hostAndPortPart.contains("@")) {
-            hostAndPortPart = hostAndPortPart.substring(0, hostAndPortPart.indexOf('@'));
-        }
+        while (lineStart < end) {
 
-        HostAndPort hostAndPort = HostAndPort.parseCompat(hostAndPortPart);
+            int lineEnd = indexOf(bytes, lineStart, end, TOKEN_NODE_SEPARATOR);
+            if (lineEnd == -1) {
+                lineEnd = end;
+            }
 
-        if (LettuceStrings.isNotEmpty(hostAndPort.getHostText())) {
-            uri = RedisURI.Builder.redis(hostAndPort.getHostText(), hostAndPort.getPort()).build();
+            if (lineEnd > lineStart) {
+                tokenizer.reset(lineStart, lineEnd);
+                mappedNodes.add(parseNode(tokenizer));
+            }
+
+            lineStart = lineEnd + 1;
         }
 
-        String flags = iterator.next();
-        List<String> flagStrings = LettuceLists.newList(flags.split("\\,"));
+        Partitions result = new Partitions();
+        result.addAll(mappedNodes);
+
+        return result;
+    }
 
-        Set<RedisClusterNode.NodeFlag> nodeFlags = readFlags(flagStrings);
+    private static RedisClusterNode parseNode(Tokenizer tokenizer) {
 
-        String slaveOfString = iterator.next(); // (nodeId or -)
-        String slaveOf = "-".equals(slaveOfString) ? null : slaveOfString;
+        tokenizer.require();
+        String nodeId = tokenizer.string();
 
-        long pingSentTs = getLongFromIterator(iterator, 0);
-        long pongReceivedTs = getLongFromIterator(iterator, 0);
-        long configEpoch = getLongFromIterator(iterator, 0);
+        tokenizer.require();
+        RedisURI uri = readUri(tokenizer);
 
-        String connectedFlags = iterator.next(); // "connected" : "disconnected"
+        tokenizer.require();
+        Set<RedisClusterNode.NodeFlag> nodeFlags = readFlags(tokenizer);
 
-        if (CONNECTED.equals(connectedFlags)) {
-            connected = true;
-        }
+        tokenizer.require(); // (nodeId or -)
+        String slaveOf = tokenizer.is((byte) '-') ? null : tokenizer.string();
 
-        List<String> slotStrings = LettuceLists.newList(iterator); // slot, from-to [slot->-nodeID] [slot-<-nodeID]
-        List<Integer> slots = readSlots(slotStrings);
+        long pingSentTs = tokenizer.next() ? tokenizer.longValue() : 0;
+        long pongReceivedTs = tokenizer.next() ? tokenizer.longValue() : 0;
+        long configEpoch = tokenizer.next() ? tokenizer.longValue() : 0;
+
+        tokenizer.require(); // "connected" : "disconnected"
+        boolean connected = tokenizer.is(CONNECTED_BYTES);
 
         RedisClusterNode partition = new RedisClusterNode(uri, nodeId, connected, slaveOf, pingSentTs, pongReceivedTs,
-                configEpoch, slots, nodeFlags);
+                configEpoch, Collections.emptyList(), nodeFlags);
+
+        readSlots(tokenizer, partition); // slot, from-to [slot->-nodeID] [slot-<-nodeID]
 
         return partition;
+    }
 
+    private static RedisURI readUri(Tokenizer tokenizer) {
+
+        int busPortSeparator = tokenizer.indexOf(TOKEN_BUS_PORT_SEPARATOR);
+        if (busPortSeparator != -1) {
+            tokenizer.tokenEnd = busPortSeparator;
+        }
+
+        String host;
+        int port;
+
+        int lastColon = tokenizer.lastIndexOf((byte) ':');
+
+        if (lastColon == -1 || tokenizer.indexOf((byte) '[') != -1 || tokenizer.indexOf((byte) ']') != -1) {
+
+            HostAndPort hostAndPort = HostAndPort.parseCompat(tokenizer.string());
+            host = hostAndPort.getHostText();
+            port = hostAndPort.hasPort() ? hostAndPort.getPort() : 0;
+        } else {
+
+            // host:port or IPv6 without brackets, the last item after the colon is the port
+            host = tokenizer.string(tokenizer.tokenStart, lastColon);
+            port = (int) tokenizer.longValue(lastColon + 1, tokenizer.tokenEnd);
+        }
+
+        if (host == null || host.isEmpty()) {
+            return null;
+        }
+
+        return RedisURI.Builder.redis(host, port).build();
     }
 
-    private static Set<RedisClusterNode.NodeFlag> readFlags(List<String> flagStrings) {
+    private static Set<RedisClusterNode.NodeFlag> readFlags(Tokenizer tokenizer) {
+
+        Set<RedisClusterNode.NodeFlag> flags = EnumSet.noneOf(RedisClusterNode.NodeFlag.class);
+
+        int end = tokenizer.tokenEnd;
+        int flagStart = tokenizer.tokenStart;
+
+        while (flagStart < end) {
 
-        Set<RedisClusterNode.NodeFlag> flags = new HashSet<>();
-        for (String flagString : flagStrings) {
-            if (FLAG_MAPPING.containsKey(flagString)) {
-                flags.add(FLAG_MAPPING.get(flagString));
+            int flagEnd = indexOf(tokenizer.bytes, flagStart, end, TOKEN_FLAG_SEPARATOR);
+            if (flagEnd == -1) {
+                flagEnd = end;
             }
+
+            for (int i = 0; i < FLAG_NAMES.length; i++) {
+                if (equals(tokenizer.bytes, flagStart, flagEnd, FLAG_NAMES[i])) {
+                    flags.add(FLAGS[i]);
+                    break;
+                }
+            }
+
+            flagStart = flagEnd + 1;
         }
+
         return Collections.unmodifiableSet(flags);
     }
 
-    private static List<Integer> readSlots(List<String> slotStrings) {
+    private static void readSlots(Tokenizer tokenizer, RedisClusterNode partition) {
 
-        List<Integer> slots = new ArrayList<>();
-        for (String slotString : slotStrings) {
+        while (tokenizer.next()) {
 
-            if (slotString.startsWith(TOKEN_SLOT_IN_TRANSITION)) {
+            if (tokenizer.bytes[tokenizer.tokenStart] == TOKEN_SLOT_IN_TRANSITION) {
                 // not interesting
                 continue;
-
             }
 
-            if (slotString.contains("-")) {
+            int dash = tokenizer.indexOf(TOKEN_RANGE_SEPARATOR);
+            if (dash != -1) {
                 // slot range
-                Iterator<String> it = DASH_PATTERN.splitAsStream(slotString).iterator();
-                int from = Integer.parseInt(it.next());
-                int to = Integer.parseInt(it.next());
-
-                for (int slot = from; slot <= to; slot++) {
-                    slots.add(slot);
+                int from = (int) tokenizer.longValue(tokenizer.tokenStart, dash);
+                int to = (int) tokenizer.longValue(dash + 1, tokenizer.tokenEnd);
 
-                }
+                partition.addSlots(from, to);
                 continue;
             }
 
-            slots.add(Integer.parseInt(slotString));
+            int slot = (int) tokenizer.longValue();
+            partition.addSlots(slot, slot);
+        }
+    }
+
+    private static int indexOf(byte[] bytes, int from, int to, byte b) {
+
+        for (int i = from; i < to; i++) {
+            if (bytes[i] == b) {
+                return i;
+            }
         }
 
-        return Collections.unmodifiableList(slots);
+        return -1;
     }
 
-    private static long getLongFromIterator(Iterator<?> iterator, long defaultValue) {
-        if (iterator.hasNext()) {
-            Object object = iterator.next();
-            if (object instanceof String) {
-                return Long.parseLong((String) object);
+    private static boolean equals(byte[] bytes, int from, int to, byte[] expected) {
+
+        if (to - from != expected.length) {
+            return false;
+        }
+
+        for (int i = 0; i < expected.length; i++) {
+            if (bytes[from + i] != expected[i]) {
+                return false;
             }
         }
-        return defaultValue;
+
+        return true;
     }
 
+    /**
+     * Splits a line into space-separated tokens. Tokens are represented by their start and end index and are only
+     * materialized on request.
+     */
+    private static class Tokenizer {
+
+        final byte[] bytes;
+        int position;
+        int end;
+        int tokenStart;
+        int tokenEnd;
+
+        Tokenizer(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        void reset(int from, int to) {
+            this.position = from;
+            this.end = to;
+        }
+
+        /**
+         * Advance to the next token. Empty tokens are skipped.
+         *
+         * @return {@literal true} if a token is available.
+         */
+        boolean next() {
+
+            while (position < end && bytes[position] == TOKEN_FIELD_SEPARATOR) {
+                position++;
+            }
+
+            if (position == end) {
+                return false;
+            }
+
+            tokenStart = position;
+            while (position < end && bytes[position] != TOKEN_FIELD_SEPARATOR) {
+                position++;
+            }
+            tokenEnd = position;
+
+            return true;
+        }
+
+        void require() {
+
+            if (!next()) {
+                throw new NoSuchElementException("Unexpected end of line");
+            }
+        }
+
+        boolean is(byte b) {
+            return tokenEnd - tokenStart == 1 && bytes[tokenStart] == b;
+        }
+
+        boolean is(byte[] expected) {
+            return ClusterPartitionParser.equals(bytes, tokenStart, tokenEnd, expected);
+        }
+
+        int indexOf(byte b) {
+            return ClusterPartitionParser.indexOf(bytes, tokenStart, tokenEnd, b);
+        }
+
+        int lastIndexOf(byte b) {
+
+            for (int i = tokenEnd - 1; i >= tokenStart; i--) {
+                if (bytes[i] == b) {
+                    return i;
+                }
+            }
+
+            return -1;
+        }
+
+        String string() {
+            return string(tokenStart, tokenEnd);
+        }
+
+        String string(int from, int to) {
+            return new String(bytes, from, to - from, StandardCharsets.UTF_8);
+        }
+
+        long longValue() {
+            return longValue(tokenStart, tokenEnd);
+        }
+
+        long longValue(int from, int to) {
+
+            if (from == to) {
+                throw new NumberFormatException("Empty number");
+            }
+
+            boolean negative = bytes[from] == '-';
+            int index = negative ? from + 1 : from;
+            long result = 0;
+
+            for (; index < to; index++) {
+
+                int digit = bytes[index] - '0';
+                if (digit < 0 || digit > 9) {
+                    throw new NumberFormatException("Invalid number: " + string(from, to));
+                }
+
+                result = result * 10 + digit;
+            }
+
+            return negative ? -result : result;
+        }
+    }
 }
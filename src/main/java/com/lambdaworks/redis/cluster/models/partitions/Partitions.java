@@ -12,7 +12,9 @@ import com.lambdaworks.redis.internal.LettuceAssert;
  * <p>
  * Partitions can be looked up by {@code nodeId} or {@code slot} (masters only). A nodeId can be migrated to a different host.
  * Partitions are cached to ensure a cheap lookup by {@code slot}. Users of {@link Partitions} are required to call
- * {@link #updateCache()} after topology changes occur.
+ * {@link #updateCache()} after topology changes occur. Cache updates are incremental: nodes are tracked by their
+ * {@link RedisClusterNode#getNodeId() nodeId} and only slots of nodes that were added, whose slots changed or that were
+ * replaced by a new instance since the last update are rewritten.
  * </p>
  *
  * Topology changes are:
@@ -42,6 +44,11 @@ public class Partitions implements Collection<RedisClusterNode> {
     private volatile RedisClusterNode slotCache[] = EMPTY;
     private volatile Collection<RedisClusterNode> nodeReadView = Collections.emptyList();
 
+    // state of the last cache update, guarded by partitions
+    private Map<String, CachedSlots> cachedNodes = Collections.emptyMap();
+    private BitSet cachedSlots = new BitSet(SlotHash.SLOT_COUNT);
+    private boolean cachedSlotsOverlapping;
+
     /**
      * Retrieve a {@link RedisClusterNode} by its slot number. This method does not distinguish between masters and slaves.
      *
@@ -78,25 +85,129 @@ public class Partitions implements Collection<RedisClusterNode> {
             if (partitions.isEmpty()) {
                 this.slotCache = EMPTY;
                 this.nodeReadView = Collections.emptyList();
+                this.cachedNodes = Collections.emptyMap();
+                this.cachedSlots = new BitSet(SlotHash.SLOT_COUNT);
+                this.cachedSlotsOverlapping = false;
                 return;
             }
 
-            RedisClusterNode[] slotCache = new RedisClusterNode[SlotHash.SLOT_COUNT];
+            BitSet slots = new BitSet(SlotHash.SLOT_COUNT);
+            boolean overlapping = false;
+
+            for (RedisClusterNode partition : partitions) {
+
+                SlotBitSet partitionSlots = partition.getSlotBits();
+                int from = partitionSlots.nextSetBit(0);
+                while (from >= 0) {
+
+                    int to = partitionSlots.nextClearBit(from);
+                    if (!overlapping) {
+                        int assigned = slots.nextSetBit(from);
+                        overlapping = assigned != -1 && assigned < to;
+                    }
+
+                    slots.set(from, to);
+                    from = partitionSlots.nextSetBit(to);
+                }
+            }
+
+            // the last node wins for slots claimed by multiple nodes, requires a full rebuild to retain the order
+            boolean incremental = this.slotCache != EMPTY && !overlapping && !this.cachedSlotsOverlapping;
+
+            RedisClusterNode[] slotCache = incremental ? this.slotCache.clone() : new RedisClusterNode[SlotHash.SLOT_COUNT];
             List<RedisClusterNode> readView = new ArrayList<>(partitions.size());
+            Map<String, CachedSlots> nodes = new HashMap<>(partitions.size() * 2);
 
             for (RedisClusterNode partition : partitions) {
 
                 readView.add(partition);
-                for (Integer integer : partition.getSlots()) {
-                    slotCache[integer.intValue()] = partition;
+
+                CachedSlots cached = this.cachedNodes.get(partition.getNodeId());
+                CachedSlots current = CachedSlots.of(partition, cached);
+                nodes.put(partition.getNodeId(), current);
+
+                if (incremental && cached != null && cached.isUnchanged(partition)) {
+                    continue;
                 }
+
+                // a new instance with the same slots (e.g. after reload) requires only its own slots to be rewritten
+                fill(slotCache, partition.getSlotBits(), partition);
             }
 
+            if (incremental) {
+
+                BitSet unassigned = (BitSet) this.cachedSlots.clone();
+                unassigned.andNot(slots);
+
+                int from = unassigned.nextSetBit(0);
+                while (from >= 0) {
+
+                    int to = unassigned.nextClearBit(from);
+                    Arrays.fill(slotCache, from, to, null);
+                    from = unassigned.nextSetBit(to);
+                }
+            }
+
+            this.cachedNodes = nodes;
+            this.cachedSlots = slots;
+            this.cachedSlotsOverlapping = overlapping;
+
             this.slotCache = slotCache;
             this.nodeReadView = Collections.unmodifiableCollection(readView);
         }
     }
 
+    /**
+     * Assign {@code node} to all {@code slots} using slot ranges.
+     */
+    private static void fill(RedisClusterNode[] slotCache, SlotBitSet slots, RedisClusterNode node) {
+
+        int from = slots.nextSetBit(0);
+        while (from >= 0) {
+
+            int to = slots.nextClearBit(from);
+            Arrays.fill(slotCache, from, to, node);
+            from = slots.nextSetBit(to);
+        }
+    }
+
+    /**
+     * Slots of a {@link RedisClusterNode} at the time of the last cache update. Slots are copied so nodes that are replaced by
+     * a new instance can be compared with the cached state even if the previous instance was changed afterwards.
+     */
+    private static class CachedSlots {
+
+        private final RedisClusterNode node;
+        private final int slotsVersion;
+        private final SlotBitSet slots;
+
+        private CachedSlots(RedisClusterNode node, int slotsVersion, SlotBitSet slots) {
+            this.node = node;
+            this.slotsVersion = slotsVersion;
+            this.slots = slots;
+        }
+
+        static CachedSlots of(RedisClusterNode node, CachedSlots previous) {
+
+            if (previous != null && previous.node == node && previous.slotsVersion == node.getSlotsVersion()) {
+                return previous;
+            }
+
+            if (previous != null && previous.slots.equals(node.getSlotBits())) {
+                return new CachedSlots(node, node.getSlotsVersion(), previous.slots);
+            }
+
+            return new CachedSlots(node, node.getSlotsVersion(), new SlotBitSet(node.getSlotBits()));
+        }
+
+        /**
+         * @return {@literal true} if the slot cache entries of this cached state point to {@code node} with its current slots.
+         */
+        boolean isUnchanged(RedisClusterNode node) {
+            return this.node == node && this.slotsVersion == node.getSlotsVersion();
+        }
+    }
+
     /**
      * Returns an iterator over the {@link RedisClusterNode nodes} in this {@link Partitions} from the read-view. The
      * {@link Iterator} remains consistent during partition updates with the nodes that have been part of the {@link Partitions}
@@ -163,7 +274,7 @@ public class Partitions implements Collection<RedisClusterNode> {
 
         LettuceAssert.noNullElements(partitions, "Partitions must not contain null elements");
 
-        synchronized (partitions) {
+        synchronized (this.partitions) {
             this.partitions.clear();
             this.partitions.addAll(partitions);
             updateCache();
@@ -1,11 +1,10 @@
 package com.lambdaworks.redis.cluster.models.partitions;
 
 import java.io.Serializable;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Set;
+import java.util.*;
 
 import com.lambdaworks.redis.RedisURI;
+import com.lambdaworks.redis.cluster.SlotHash;
 import com.lambdaworks.redis.internal.LettuceAssert;
 import com.lambdaworks.redis.internal.LettuceSets;
 import com.lambdaworks.redis.models.role.RedisNodeDescription;
@@ -15,6 +14,10 @@ import com.lambdaworks.redis.models.role.RedisNodeDescription;
  * {@link RedisClusterNode} can be a {@link #getRole() responsible master} for zero to
  * {@link com.lambdaworks.redis.cluster.SlotHash#SLOT_COUNT 16384} slots, a slave of one {@link #getSlaveOf() master} of carry
  * different {@link com.lambdaworks.redis.cluster.models.partitions.RedisClusterNode.NodeFlag flags}.
+ * <p>
+ * Slots are stored in a compact bit set to allow constant-time {@link #hasSlot(int)} lookups. {@link #getSlots()} provides a
+ * {@link List} view on the slots.
+ * </p>
  * 
  * @author Mark Paluch
  * @since 3.0
@@ -30,7 +33,8 @@ public class RedisClusterNode implements Serializable, RedisNodeDescription {
     private long pongReceivedTimestamp;
     private long configEpoch;
 
-    private List<Integer> slots;
+    private SlotBitSet slots = new SlotBitSet();
+    private transient int slotsVersion;
     private Set<NodeFlag> flags;
 
     public RedisClusterNode() {
@@ -46,7 +50,7 @@ public class RedisClusterNode implements Serializable, RedisNodeDescription {
         this.pingSentTimestamp = pingSentTimestamp;
         this.pongReceivedTimestamp = pongReceivedTimestamp;
         this.configEpoch = configEpoch;
-        this.slots = slots;
+        setSlotBits(slots);
         this.flags = flags;
     }
 
@@ -58,7 +62,7 @@ public class RedisClusterNode implements Serializable, RedisNodeDescription {
         this.pingSentTimestamp = redisClusterNode.pingSentTimestamp;
         this.pongReceivedTimestamp = redisClusterNode.pongReceivedTimestamp;
         this.configEpoch = redisClusterNode.configEpoch;
-        this.slots = new ArrayList<>(redisClusterNode.slots);
+        this.slots = new SlotBitSet(redisClusterNode.slots);
         this.flags = LettuceSets.newHashSet(redisClusterNode.flags);
     }
 
@@ -168,8 +172,20 @@ public class RedisClusterNode implements Serializable, RedisNodeDescription {
         this.configEpoch = configEpoch;
     }
 
+    /**
+     * Returns a {@link List} view of the slots for which this {@link RedisClusterNode} is the
+     * {@link com.lambdaworks.redis.cluster.models.partitions.RedisClusterNode.NodeFlag#MASTER}. Slots are returned in
+     * ascending order. Changes to the view are reflected in this {@link RedisClusterNode}. Adding a slot that is already
+     * contained has no effect, positional inserts and replacements are not supported.
+     * <p>
+     * The view is designed for iteration. Indexed access resumes from the last accessed index of the same view instance so
+     * ascending {@link List#get(int)} loops over one view are linear. Other access patterns scan the slots from the start.
+     * </p>
+     *
+     * @return list view of slots, never {@literal null}
+     */
     public List<Integer> getSlots() {
-        return slots;
+        return new SlotList();
     }
 
     /**
@@ -182,7 +198,76 @@ public class RedisClusterNode implements Serializable, RedisNodeDescription {
     public void setSlots(List<Integer> slots) {
         LettuceAssert.notNull(slots, "Slots must not be null");
 
-        this.slots = slots;
+        setSlotBits(slots);
+    }
+
+    /**
+     * Add the slot range {@code from} to {@code to} (inclusive) to the slots for which this {@link RedisClusterNode} is the
+     * {@link com.lambdaworks.redis.cluster.models.partitions.RedisClusterNode.NodeFlag#MASTER}.
+     *
+     * @param from the first slot of the range
+     * @param to the last slot of the range, must not be less than {@code from}
+     * @since 4.3
+     */
+    public void addSlots(int from, int to) {
+
+        LettuceAssert.isTrue(from >= 0 && from <= to && to < SlotHash.SLOT_COUNT, "Invalid slot range " + from + "-" + to);
+
+        slots.set(from, to);
+        slotsVersion++;
+    }
+
+    /**
+     * Returns the number of slots for which this {@link RedisClusterNode} is the
+     * {@link com.lambdaworks.redis.cluster.models.partitions.RedisClusterNode.NodeFlag#MASTER}.
+     *
+     * @return the number of slots
+     * @since 4.3
+     */
+    public int getSlotCount() {
+        return slots.cardinality();
+    }
+
+    /**
+     * Check whether this {@link RedisClusterNode} holds the same slots as {@code other}.
+     *
+     * @param other the node to compare with, must not be {@literal null}
+     * @return {@literal true} if both nodes hold the same slots
+     * @since 4.3
+     */
+    public boolean hasSameSlotsAs(RedisClusterNode other) {
+
+        LettuceAssert.notNull(other, "RedisClusterNode must not be null");
+
+        return slots.equals(other.slots);
+    }
+
+    /**
+     * @return the slots backing this node. The {@link SlotBitSet} must not be modified.
+     */
+    SlotBitSet getSlotBits() {
+        return slots;
+    }
+
+    /**
+     * @return a counter that is incremented on each slot change.
+     */
+    int getSlotsVersion() {
+        return slotsVersion;
+    }
+
+    private void setSlotBits(Collection<Integer> slots) {
+
+        SlotBitSet bits = new SlotBitSet();
+        if (slots != null) {
+            for (Integer slot : slots) {
+                LettuceAssert.isTrue(slot >= 0 && slot < SlotHash.SLOT_COUNT, "Invalid slot " + slot);
+                bits.set(slot, slot);
+            }
+        }
+
+        this.slots = bits;
+        this.slotsVersion++;
     }
 
     public Set<NodeFlag> getFlags() {
@@ -234,9 +319,7 @@ public class RedisClusterNode implements Serializable, RedisNodeDescription {
         sb.append(", pongReceivedTimestamp=").append(pongReceivedTimestamp);
         sb.append(", configEpoch=").append(configEpoch);
         sb.append(", flags=").append(flags);
-        if (slots != null) {
-            sb.append(", slot count=").append(slots.size());
-        }
+        sb.append(", slot count=").append(getSlotCount());
         sb.append(']');
         return sb.toString();
     }
@@ -256,7 +339,7 @@ public class RedisClusterNode implements Serializable, RedisNodeDescription {
      * @return true if the slot is contained within the handled slots.
      */
     public boolean hasSlot(int slot) {
-        return getSlots().contains(slot);
+        return slots.get(slot);
     }
 
     /**
@@ -270,6 +353,174 @@ public class RedisClusterNode implements Serializable, RedisNodeDescription {
         return is(NodeFlag.MASTER) ? Role.MASTER : Role.SLAVE;
     }
 
+    /**
+     * Sorted {@link List} view on the slot {@link SlotBitSet}.
+     */
+    private class SlotList extends AbstractList<Integer> {
+
+        // position of the last indexed access, valid as long as the slots are not changed
+        private int cursorIndex = -1;
+        private int cursorSlot;
+        private int cursorVersion;
+
+        @Override
+        public Integer get(int index) {
+
+            if (index < 0) {
+                throw new IndexOutOfBoundsException("Index: " + index);
+            }
+
+            int i = 0;
+            int slot = slots.nextSetBit(0);
+
+            if (cursorIndex >= 0 && cursorIndex <= index && cursorVersion == slotsVersion) {
+                i = cursorIndex;
+                slot = cursorSlot;
+            }
+
+            for (; i < index && slot >= 0; i++) {
+                slot = slots.nextSetBit(slot + 1);
+            }
+
+            if (slot < 0) {
+                throw new IndexOutOfBoundsException("Index: " + index);
+            }
+
+            cursorIndex = index;
+            cursorSlot = slot;
+            cursorVersion = slotsVersion;
+
+            return slot;
+        }
+
+        @Override
+        public int size() {
+            return slots.cardinality();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return slots.isEmpty();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof Integer && hasSlot((Integer) o);
+        }
+
+        @Override
+        public boolean add(Integer slot) {
+
+            LettuceAssert.isTrue(slot >= 0 && slot < SlotHash.SLOT_COUNT, "Invalid slot " + slot);
+
+            if (slots.get(slot)) {
+                return false;
+            }
+
+            slots.set(slot, slot);
+            slotsVersion++;
+            return true;
+        }
+
+        @Override
+        public void add(int index, Integer slot) {
+            throw new UnsupportedOperationException("Slots are kept in ascending order, use add(Integer) instead");
+        }
+
+        @Override
+        public Integer remove(int index) {
+
+            Integer slot = get(index);
+            slots.clear(slot);
+            slotsVersion++;
+            return slot;
+        }
+
+        @Override
+        public boolean remove(Object o) {
+
+            if (!contains(o)) {
+                return false;
+            }
+
+            slots.clear((Integer) o);
+            slotsVersion++;
+            return true;
+        }
+
+        @Override
+        public void clear() {
+            slots.clear();
+            slotsVersion++;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (o == this) {
+                return true;
+            }
+
+            if (!(o instanceof List)) {
+                return false;
+            }
+
+            Iterator<Integer> iterator = iterator();
+            Iterator<?> other = ((List<?>) o).iterator();
+            while (iterator.hasNext() && other.hasNext()) {
+                if (!iterator.next().equals(other.next())) {
+                    return false;
+                }
+            }
+
+            return !(iterator.hasNext() || other.hasNext());
+        }
+
+        @Override
+        public int hashCode() {
+            return super.hashCode();
+        }
+
+        @Override
+        public Iterator<Integer> iterator() {
+
+            return new Iterator<Integer>() {
+
+                int next = slots.nextSetBit(0);
+                int last = -1;
+
+                @Override
+                public boolean hasNext() {
+                    return next >= 0;
+                }
+
+                @Override
+                public Integer next() {
+
+                    if (next < 0) {
+                        throw new NoSuchElementException();
+                    }
+
+                    last = next;
+                    next = slots.nextSetBit(next + 1);
+                    return last;
+                }
+
+                @Override
+                public void remove() {
+
+                    if (last < 0) {
+                        throw new IllegalStateException();
+                    }
+
+                    slots.clear(last);
+                    slotsVersion++;
+                    last = -1;
+                }
+            };
+        }
+    }
+
     /**
      * Redis Cluster node flags.
      */
@@ -0,0 +1,213 @@
+package com.lambdaworks.redis.cluster.models.partitions;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * Compact bit set of cluster slots. Only the words between the lowest and the highest slot are allocated so a node that owns
+ * a contiguous slot range requires a few words regardless of the position of the range.
+ *
+ * @author Mark Paluch
+ * @since 4.3
+ */
+@SuppressWarnings("serial")
+class SlotBitSet implements Serializable {
+
+    private static final long[] EMPTY = new long[0];
+
+    /**
+     * Index of the first word in {@link #words}.
+     */
+    private int offset;
+    private long[] words = EMPTY;
+
+    SlotBitSet() {
+    }
+
+    SlotBitSet(SlotBitSet original) {
+        this.offset = original.offset;
+        this.words = original.words.length == 0 ? EMPTY : original.words.clone();
+    }
+
+    /**
+     * @param slot the slot
+     * @return {@literal true} if the slot is set.
+     */
+    boolean get(int slot) {
+
+        if (slot < 0) {
+            return false;
+        }
+
+        int index = (slot >> 6) - offset;
+        return index >= 0 && index < words.length && (words[index] & (1L << slot)) != 0;
+    }
+
+    /**
+     * Set the slots {@code from} to {@code to} (inclusive).
+     */
+    void set(int from, int to) {
+
+        ensureCapacity(from >> 6, to >> 6);
+
+        int fromIndex = (from >> 6) - offset;
+        int toIndex = (to >> 6) - offset;
+        long fromMask = -1L << from;
+        long toMask = -1L >>> (63 - (to & 63));
+
+        if (fromIndex == toIndex) {
+            words[fromIndex] |= fromMask & toMask;
+            return;
+        }
+
+        words[fromIndex] |= fromMask;
+        for (int i = fromIndex + 1; i < toIndex; i++) {
+            words[i] = -1L;
+        }
+        words[toIndex] |= toMask;
+    }
+
+    void clear(int slot) {
+
+        int index = (slot >> 6) - offset;
+        if (slot >= 0 && index >= 0 && index < words.length) {
+            words[index] &= ~(1L << slot);
+        }
+    }
+
+    void clear() {
+        offset = 0;
+        words = EMPTY;
+    }
+
+    boolean isEmpty() {
+
+        for (long word : words) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    int cardinality() {
+
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * @param from the slot to start from (inclusive)
+     * @return the next set slot or {@literal -1} if there is no such slot.
+     */
+    int nextSetBit(int from) {
+
+        int index = Math.max((from >> 6) - offset, 0);
+        if (index >= words.length) {
+            return -1;
+        }
+
+        long word = index == (from >> 6) - offset ? words[index] & (-1L << from) : words[index];
+
+        while (true) {
+
+            if (word != 0) {
+                return ((index + offset) << 6) + Long.numberOfTrailingZeros(word);
+            }
+
+            if (++index == words.length) {
+                return -1;
+            }
+            word = words[index];
+        }
+    }
+
+    /**
+     * @param from the slot to start from (inclusive)
+     * @return the next slot that is not set.
+     */
+    int nextClearBit(int from) {
+
+        int index = (from >> 6) - offset;
+        if (index < 0 || index >= words.length) {
+            return from;
+        }
+
+        long word = ~words[index] & (-1L << from);
+
+        while (true) {
+
+            if (word != 0) {
+                return ((index + offset) << 6) + Long.numberOfTrailingZeros(word);
+            }
+
+            if (++index == words.length) {
+                return (index + offset) << 6;
+            }
+            word = ~words[index];
+        }
+    }
+
+    private void ensureCapacity(int fromWord, int toWord) {
+
+        if (words.length == 0) {
+            offset = fromWord;
+            words = new long[toWord - fromWord + 1];
+            return;
+        }
+
+        int newOffset = Math.min(offset, fromWord);
+        int newEnd = Math.max(offset + words.length - 1, toWord);
+
+        if (newOffset == offset && newEnd == offset + words.length - 1) {
+            return;
+        }
+
+        long[] newWords = new long[newEnd - newOffset + 1];
+        System.arraycopy(words, 0, newWords, offset - newOffset, words.length);
+
+        offset = newOffset;
+        words = newWords;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+            return true;
+        }
+
+        if (!(o instanceof SlotBitSet)) {
+            return false;
+        }
+
+        SlotBitSet that = (SlotBitSet) o;
+
+        if (offset == that.offset && Arrays.equals(words, that.words)) {
+            return true;
+        }
+
+        int slot = nextSetBit(0);
+        int otherSlot = that.nextSetBit(0);
+
+        while (slot == otherSlot && slot >= 0) {
+            slot = nextSetBit(slot + 1);
+            otherSlot = that.nextSetBit(otherSlot + 1);
+        }
+
+        return slot == otherSlot;
+    }
+
+    @Override
+    public int hashCode() {
+
+        int result = 1;
+        for (int slot = nextSetBit(0); slot >= 0; slot = nextSetBit(slot + 1)) {
+            result = 31 * result + slot;
+        }
+        return result;
+    }
+}
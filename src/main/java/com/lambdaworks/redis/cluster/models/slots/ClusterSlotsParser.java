@@ -68,9 +68,7 @@ public class ClusterSlotsParser {
             master = getRedisClusterNode(iterator, nodeCache);
             if(master != null) {
                 master.setFlags(Collections.singleton(RedisClusterNode.NodeFlag.MASTER));
-                Set<Integer> slots = new TreeSet<>(master.getSlots());
-                slots.addAll(createSlots(from, to));
-                master.setSlots(new ArrayList<>(slots));
+                master.addSlots(from, to);
             }
         }
 
@@ -86,14 +84,6 @@ public class ClusterSlotsParser {
         return new ClusterSlotRange(from, to, master, Collections.unmodifiableList(slaves));
     }
 
-    private static List<Integer> createSlots(int from, int to) {
-        List<Integer> slots = new ArrayList<>();
-        for (int i = from; i < to + 1; i++) {
-            slots.add(i);
-        }
-        return slots;
-    }
-
     private static RedisClusterNode getRedisClusterNode(Iterator<?> iterator, Map<String, RedisClusterNode> nodeCache) {
         Object element = iterator.next();
         RedisClusterNode redisClusterNode = null;
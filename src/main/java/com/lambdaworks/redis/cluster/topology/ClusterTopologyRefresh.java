@@ -2,8 +2,13 @@ package com.lambdaworks.redis.cluster.topology;
 
 import java.net.SocketAddress;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
@@ -12,17 +17,23 @@ import com.lambdaworks.redis.RedisCommandInterruptedException;
 import com.lambdaworks.redis.RedisConnectionException;
 import com.lambdaworks.redis.RedisURI;
 import com.lambdaworks.redis.api.StatefulRedisConnection;
+import com.lambdaworks.redis.cluster.event.ClusterTopologyRefreshEvent;
 import com.lambdaworks.redis.cluster.models.partitions.Partitions;
 import com.lambdaworks.redis.cluster.models.partitions.RedisClusterNode;
 import com.lambdaworks.redis.codec.Utf8StringCodec;
 import com.lambdaworks.redis.resource.ClientResources;
 import com.lambdaworks.redis.resource.SocketAddressResolver;
 
+import io.netty.util.concurrent.DefaultThreadFactory;
 import io.netty.util.internal.logging.InternalLogger;
 import io.netty.util.internal.logging.InternalLoggerFactory;
 
 /**
- * Utility to refresh the cluster topology view based on {@link Partitions}.
+ * Utility to refresh the cluster topology view based on {@link Partitions}. Connections to the cluster nodes are opened in
+ * parallel using a bounded executor that is dedicated to connecting. Connecting blocks, so the shared
+ * {@link ClientResources#eventExecutorGroup()} is not used. Refresh connections are either closed after each refresh
+ * or kept open for subsequent refreshes (see {@link #loadViews(Iterable, boolean, boolean)}). Each refresh publishes a
+ * {@link ClusterTopologyRefreshEvent}.
  *
  * @author Mark Paluch
  */
@@ -30,9 +41,15 @@ public class ClusterTopologyRefresh {
 
     static final Utf8StringCodec CODEC = new Utf8StringCodec();
     private static final InternalLogger logger = InternalLoggerFactory.getInstance(ClusterTopologyRefresh.class);
+    private static final int CONNECT_THREADS = Math.max(2, Runtime.getRuntime().availableProcessors());
+    private static final long CONNECT_THREAD_KEEP_ALIVE_SECONDS = 10;
 
     private final NodeConnectionFactory nodeConnectionFactory;
     private final ClientResources clientResources;
+    private final Map<RedisURI, StatefulRedisConnection<String, String>> refreshConnections = new TreeMap<>(
+            TopologyComparators.RedisURIComparator.INSTANCE);
+    private final Object connectExecutorLock = new Object();
+    private ExecutorService connectExecutor;
 
     public ClusterTopologyRefresh(NodeConnectionFactory nodeConnectionFactory, ClientResources clientResources) {
         this.nodeConnectionFactory = nodeConnectionFactory;
@@ -41,19 +58,39 @@ public class ClusterTopologyRefresh {
 
     /**
      * Load partition views from a collection of {@link RedisURI}s and return the view per {@link RedisURI}. Partitions contain
-     * an ordered list of {@link RedisClusterNode}s. The sort key is latency. Nodes with lower latency come first.
+     * an ordered list of {@link RedisClusterNode}s. The sort key is latency. Nodes with lower latency come first. Connections
+     * are closed after loading the views.
      *
      * @param seed collection of {@link RedisURI}s
      * @param discovery {@literal true} to discover additional nodes
      * @return mapping between {@link RedisURI} and {@link Partitions}
      */
     public Map<RedisURI, Partitions> loadViews(Iterable<RedisURI> seed, boolean discovery) {
+        return loadViews(seed, discovery, false);
+    }
+
+    /**
+     * Load partition views from a collection of {@link RedisURI}s and return the view per {@link RedisURI}. Partitions contain
+     * an ordered list of {@link RedisClusterNode}s. The sort key is latency. Nodes with lower latency come first.
+     *
+     * @param seed collection of {@link RedisURI}s
+     * @param discovery {@literal true} to discover additional nodes
+     * @param reuseConnections {@literal true} to keep connections open for subsequent refreshes. Connections to nodes that
+     *        are no longer part of the refresh are closed. Kept connections are closed with {@link #close()}.
+     * @return mapping between {@link RedisURI} and {@link Partitions}
+     * @since 4.3
+     */
+    public Map<RedisURI, Partitions> loadViews(Iterable<RedisURI> seed, boolean discovery, boolean reuseConnections) {
+
+        long startedNs = System.nanoTime();
+        ConnectionStatistics statistics = new ConnectionStatistics();
 
-        Connections connections = getConnections(seed);
+        Connections connections = getConnections(seed, reuseConnections, statistics);
         Requests requestedTopology = connections.requestTopology();
         Requests requestedClients = connections.requestClients();
 
         long commandTimeoutNs = getCommandTimeoutNs(seed);
+        Map<RedisURI, Partitions> views = Collections.emptyMap();
 
         try {
             NodeTopologyViews nodeSpecificViews = getNodeSpecificViews(requestedTopology, requestedClients, commandTimeoutNs);
@@ -63,26 +100,56 @@ public class ClusterTopologyRefresh {
                 Set<RedisURI> discoveredNodes = difference(allKnownUris, toSet(seed));
 
                 if (!discoveredNodes.isEmpty()) {
-                    Connections discoveredConnections = getConnections(discoveredNodes);
+                    Connections discoveredConnections = getConnections(discoveredNodes, reuseConnections, statistics);
                     connections = connections.mergeWith(discoveredConnections);
 
                     requestedTopology = requestedTopology.mergeWith(discoveredConnections.requestTopology());
                     requestedClients = requestedClients.mergeWith(discoveredConnections.requestClients());
 
                     nodeSpecificViews = getNodeSpecificViews(requestedTopology, requestedClients, commandTimeoutNs);
-
-                    return nodeSpecificViews.toMap();
                 }
             }
 
-            return nodeSpecificViews.toMap();
+            views = nodeSpecificViews.toMap();
+            return views;
 
         } catch (InterruptedException e) {
 
             Thread.currentThread().interrupt();
             throw new RedisCommandInterruptedException(e);
         } finally {
-            connections.close();
+
+            if (reuseConnections) {
+                retainConnections(connections.connectedNodes());
+            } else {
+                connections.close();
+            }
+
+            clientResources.eventBus().publish(new ClusterTopologyRefreshEvent(System.nanoTime() - startedNs,
+                    views.size(), statistics.opened, statistics.reused));
+        }
+    }
+
+    /**
+     * Close all connections that were kept open for subsequent refreshes and shut down the connect executor.
+     *
+     * @since 4.3
+     */
+    public void close() {
+
+        List<StatefulRedisConnection<String, String>> toClose;
+        synchronized (refreshConnections) {
+            toClose = new ArrayList<>(refreshConnections.values());
+            refreshConnections.clear();
+        }
+
+        toClose.forEach(StatefulRedisConnection::close);
+
+        synchronized (connectExecutorLock) {
+            if (connectExecutor != null) {
+                connectExecutor.shutdown();
+                connectExecutor = null;
+            }
         }
     }
 
@@ -173,37 +240,170 @@ public class ClusterTopologyRefresh {
     }
 
     /*
-     * Open connections where an address can be resolved.
+     * Open connections where an address can be resolved. Connections are opened in parallel. Open refresh connections are
+     * reused if reuseConnections is enabled. If the calling thread is interrupted, connects that did not start yet are skipped
+     * and connections that are still being established are closed once connected.
      */
-    private Connections getConnections(Iterable<RedisURI> redisURIs) {
+    private Connections getConnections(Iterable<RedisURI> redisURIs, boolean reuseConnections,
+            ConnectionStatistics statistics) {
 
         Connections connections = new Connections();
+        Map<RedisURI, CompletableFuture<StatefulRedisConnection<String, String>>> futures = new TreeMap<>(
+                TopologyComparators.RedisURIComparator.INSTANCE);
+        AtomicBoolean abandoned = new AtomicBoolean();
 
         for (RedisURI redisURI : redisURIs) {
-            if (redisURI.getHost() == null || connections.connectedNodes().contains(redisURI)) {
+            if (redisURI.getHost() == null || connections.connectedNodes().contains(redisURI)
+                    || futures.containsKey(redisURI)) {
                 continue;
             }
 
-            try {
-                SocketAddress socketAddress = SocketAddressResolver.resolve(redisURI, clientResources.dnsResolver());
-                StatefulRedisConnection<String, String> connection = nodeConnectionFactory.connectToNode(CODEC, socketAddress);
-                connection.async().clientSetname("lettuce#ClusterTopologyRefresh");
+            StatefulRedisConnection<String, String> existing = reuseConnections ? getRefreshConnection(redisURI) : null;
+            if (existing != null) {
+                connections.addConnection(redisURI, existing);
+                statistics.reused++;
+                continue;
+            }
+
+            futures.put(redisURI,
+                    CompletableFuture.supplyAsync(() -> abandoned.get() ? null : connect(redisURI), getConnectExecutor()));
+        }
+
+        Iterator<Map.Entry<RedisURI, CompletableFuture<StatefulRedisConnection<String, String>>>> iterator = futures.entrySet()
+                .iterator();
+
+        while (iterator.hasNext()) {
 
+            Map.Entry<RedisURI, CompletableFuture<StatefulRedisConnection<String, String>>> entry = iterator.next();
+            RedisURI redisURI = entry.getKey();
+
+            try {
+                StatefulRedisConnection<String, String> connection = entry.getValue().get();
                 connections.addConnection(redisURI, connection);
-            } catch (RedisConnectionException e) {
+                statistics.opened++;
+
+                if (reuseConnections) {
+                    addRefreshConnection(redisURI, connection);
+                }
+            } catch (ExecutionException e) {
 
-                if (logger.isDebugEnabled()) {
-                    logger.debug(e.getMessage(), e);
+                if (e.getCause() instanceof RedisConnectionException) {
+                    if (logger.isDebugEnabled()) {
+                        logger.debug(e.getCause().getMessage(), e.getCause());
+                    } else {
+                        logger.warn(e.getCause().getMessage());
+                    }
                 } else {
-                    logger.warn(e.getMessage());
+                    logger.warn(String.format("Cannot connect to %s", redisURI), e.getCause());
                 }
-            } catch (RuntimeException e) {
-                logger.warn(String.format("Cannot connect to %s", redisURI), e);
+            } catch (InterruptedException e) {
+
+                abandoned.set(true);
+                closeWhenConnected(entry.getValue());
+                iterator.forEachRemaining(remaining -> closeWhenConnected(remaining.getValue()));
+
+                if (!reuseConnections) {
+                    connections.close();
+                }
+                Thread.currentThread().interrupt();
+                throw new RedisCommandInterruptedException(e);
             }
         }
+
         return connections;
     }
 
+    private static void closeWhenConnected(CompletableFuture<StatefulRedisConnection<String, String>> future) {
+
+        future.thenAccept(connection -> {
+            if (connection != null) {
+                connection.close();
+            }
+        });
+    }
+
+    private StatefulRedisConnection<String, String> connect(RedisURI redisURI) {
+
+        SocketAddress socketAddress = SocketAddressResolver.resolve(redisURI, clientResources.dnsResolver());
+        StatefulRedisConnection<String, String> connection = nodeConnectionFactory.connectToNode(CODEC, socketAddress);
+        connection.async().clientSetname("lettuce#ClusterTopologyRefresh");
+
+        return connection;
+    }
+
+    /*
+     * Connecting blocks until the connection is established. Connects run on a dedicated executor so a refresh never waits
+     * on tasks that are queued on the shared event executor group behind periodic refreshes, Pub/Sub dispatch or response
+     * decoding. Connect tasks do not wait on other tasks. Idle threads terminate after the keep-alive time.
+     */
+    private ExecutorService getConnectExecutor() {
+
+        synchronized (connectExecutorLock) {
+
+            if (connectExecutor == null) {
+
+                ThreadPoolExecutor executor = new ThreadPoolExecutor(CONNECT_THREADS, CONNECT_THREADS,
+                        CONNECT_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                        new DefaultThreadFactory("lettuce-topologyRefreshConnect", true));
+                executor.allowCoreThreadTimeOut(true);
+                connectExecutor = executor;
+            }
+
+            return connectExecutor;
+        }
+    }
+
+    private StatefulRedisConnection<String, String> getRefreshConnection(RedisURI redisURI) {
+
+        synchronized (refreshConnections) {
+
+            StatefulRedisConnection<String, String> connection = refreshConnections.get(redisURI);
+            if (connection != null && !connection.isOpen()) {
+                refreshConnections.remove(redisURI);
+                connection.close();
+                return null;
+            }
+
+            return connection;
+        }
+    }
+
+    private void addRefreshConnection(RedisURI redisURI, StatefulRedisConnection<String, String> connection) {
+
+        StatefulRedisConnection<String, String> previous;
+        synchronized (refreshConnections) {
+            previous = refreshConnections.put(redisURI, connection);
+        }
+
+        if (previous != null && previous != connection) {
+            previous.close();
+        }
+    }
+
+    /*
+     * Close kept refresh connections to nodes that did not participate in the last refresh.
+     */
+    private void retainConnections(Set<RedisURI> nodes) {
+
+        List<StatefulRedisConnection<String, String>> toClose = new ArrayList<>();
+
+        synchronized (refreshConnections) {
+
+            Iterator<Map.Entry<RedisURI, StatefulRedisConnection<String, String>>> iterator = refreshConnections.entrySet()
+                    .iterator();
+            while (iterator.hasNext()) {
+
+                Map.Entry<RedisURI, StatefulRedisConnection<String, String>> entry = iterator.next();
+                if (!nodes.contains(entry.getKey())) {
+                    toClose.add(entry.getValue());
+                    iterator.remove();
+                }
+            }
+        }
+
+        toClose.forEach(StatefulRedisConnection::close);
+    }
+
     /**
      * Resolve a {@link RedisURI} from a map of cluster views by {@link Partitions} as key
      *
@@ -235,4 +435,10 @@ public class ClusterTopologyRefresh {
         RedisURI redisURI = redisURIs.iterator().next();
         return redisURI.getUnit().toNanos(redisURI.getTimeout());
     }
+
+    private static class ConnectionStatistics {
+
+        int opened;
+        int reused;
+    }
 }
@@ -50,7 +50,7 @@ class Connections {
 
             CommandArgs<String, String> args = new CommandArgs<>(ClusterTopologyRefresh.CODEC).add(CommandKeyword.NODES);
             Command<String, String, String> command = new Command<>(CommandType.CLUSTER,
-                    new StatusOutput<>(ClusterTopologyRefresh.CODEC), args);
+                    new RawStatusOutput(ClusterTopologyRefresh.CODEC), args);
             TimedAsyncCommand<String, String, String> timedCommand = new TimedAsyncCommand<>(command);
 
             entry.getValue().dispatch(timedCommand);
@@ -1,12 +1,15 @@
 package com.lambdaworks.redis.cluster.topology;
 
+import java.nio.ByteBuffer;
 import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
 
 import com.lambdaworks.redis.RedisFuture;
 import com.lambdaworks.redis.RedisURI;
 import com.lambdaworks.redis.cluster.models.partitions.ClusterPartitionParser;
 import com.lambdaworks.redis.cluster.models.partitions.Partitions;
 import com.lambdaworks.redis.cluster.models.partitions.RedisClusterNode;
+import com.lambdaworks.redis.output.CommandOutput;
 
 /**
  * @author Mark Paluch
@@ -20,7 +23,7 @@ class NodeTopologyView {
     private final int connectedClients;
 
     private final long latency;
-    private final String clusterNodes;
+    private final Supplier<String> clusterNodes;
 
     private final String clientList;
 
@@ -36,11 +39,16 @@ class NodeTopologyView {
     }
 
     NodeTopologyView(RedisURI redisURI, String clusterNodes, String clientList, long latency) {
+        this(redisURI, ClusterPartitionParser.parse(clusterNodes), () -> clusterNodes, clientList, latency);
+    }
+
+    private NodeTopologyView(RedisURI redisURI, Partitions partitions, Supplier<String> clusterNodes, String clientList,
+            long latency) {
 
         this.available = true;
         this.redisURI = redisURI;
 
-        this.partitions = ClusterPartitionParser.parse(clusterNodes);
+        this.partitions = partitions;
         this.connectedClients = getClients(clientList);
 
         this.clusterNodes = clusterNodes;
@@ -57,11 +65,41 @@ class NodeTopologyView {
         TimedAsyncCommand<String, String, String> clients = clientListRequests.getRequest(redisURI);
 
         if (resultAvailable(nodes) && resultAvailable(clients)) {
-            return new NodeTopologyView(redisURI, nodes.get(), clients.get(), nodes.duration());
+
+            CommandOutput<String, String, String> output = nodes.getOutput();
+
+            if (output instanceof RawStatusOutput && !nodes.isCompletedExceptionally()) {
+
+                // parse the raw reply to avoid String materialization
+                RawStatusOutput rawOutput = (RawStatusOutput) output;
+                ByteBuffer bytes = rawOutput.getBytes();
+
+                if (bytes != null) {
+                    return new NodeTopologyView(redisURI, ClusterPartitionParser.parse(bytes), rawOutput::get,
+                            getResult(clients), nodes.duration());
+                }
+            }
+
+            return new NodeTopologyView(redisURI, getResult(nodes), getResult(clients), nodes.duration());
         }
         return new NodeTopologyView(redisURI);
     }
 
+    /*
+     * Commands with a RawStatusOutput complete without a value, their reply is decoded from the output.
+     */
+    private static String getResult(TimedAsyncCommand<String, String, String> command)
+            throws ExecutionException, InterruptedException {
+
+        CommandOutput<String, String, String> output = command.getOutput();
+
+        if (output instanceof RawStatusOutput && !command.isCompletedExceptionally()) {
+            return output.get();
+        }
+
+        return command.get();
+    }
+
     static boolean resultAvailable(RedisFuture<?> redisFuture) {
 
         if (redisFuture != null && redisFuture.isDone() && !redisFuture.isCancelled()) {
@@ -114,7 +152,7 @@ class NodeTopologyView {
     }
 
     String getClusterNodes() {
-        return clusterNodes;
+        return clusterNodes != null ? clusterNodes.get() : null;
     }
 
     void setPartitions(Partitions partitions) {
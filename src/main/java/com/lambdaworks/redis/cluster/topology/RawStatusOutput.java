@@ -0,0 +1,50 @@
+package com.lambdaworks.redis.cluster.topology;
+
+import java.nio.ByteBuffer;
+
+import com.lambdaworks.redis.codec.RedisCodec;
+import com.lambdaworks.redis.output.StatusOutput;
+
+/**
+ * Status output that retains the raw reply bytes. The {@link String} representation is decoded lazily on {@link #get()} so
+ * the reply can be parsed from {@link #getBytes() bytes} without materializing a {@link String}. {@link TimedAsyncCommand}
+ * does not call {@link #get()} on completion.
+ *
+ * @author Mark Paluch
+ */
+class RawStatusOutput extends StatusOutput<String, String> {
+
+    private byte[] bytes;
+
+    RawStatusOutput(RedisCodec<String, String> codec) {
+        super(codec);
+    }
+
+    @Override
+    public void set(ByteBuffer bytes) {
+
+        if (bytes == null) {
+            return;
+        }
+
+        this.bytes = new byte[bytes.remaining()];
+        bytes.get(this.bytes);
+    }
+
+    @Override
+    public String get() {
+
+        if (output == null && bytes != null) {
+            output = decodeAscii(ByteBuffer.wrap(bytes));
+        }
+
+        return output;
+    }
+
+    /**
+     * @return the raw reply as {@link ByteBuffer} or {@literal null} if there was no reply.
+     */
+    ByteBuffer getBytes() {
+        return bytes != null ? ByteBuffer.wrap(bytes) : null;
+    }
+}
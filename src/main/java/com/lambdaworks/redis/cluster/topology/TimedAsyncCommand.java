@@ -1,12 +1,15 @@
 package com.lambdaworks.redis.cluster.topology;
 
+import com.lambdaworks.redis.output.CommandOutput;
 import com.lambdaworks.redis.protocol.AsyncCommand;
 import com.lambdaworks.redis.protocol.RedisCommand;
 
 import io.netty.buffer.ByteBuf;
 
 /**
- * Timed command that records the time at which the command was encoded and completed.
+ * Timed command that records the time at which the command was encoded and completed. Commands using a
+ * {@link RawStatusOutput} complete without a value so the reply is not decoded on the event loop. Their reply is obtained from
+ * the output.
  *
  * @param <K> Key type
  * @param <V> Value type
@@ -37,6 +40,19 @@ class TimedAsyncCommand<K, V, T> extends AsyncCommand<K, V, T> {
         super.complete();
     }
 
+    @Override
+    protected void completeResult() {
+
+        CommandOutput<K, V, T> output = getOutput();
+
+        if (output instanceof RawStatusOutput && !output.hasError()) {
+            complete(null);
+            return;
+        }
+
+        super.completeResult();
+    }
+
     public long duration() {
         if (completedAtNs == -1 || encodedAtNs == -1) {
             return -1;
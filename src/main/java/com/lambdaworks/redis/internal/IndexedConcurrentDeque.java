@@ -0,0 +1,223 @@
+package com.lambdaworks.redis.internal;
+
+import java.util.AbstractQueue;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrent {@link Deque} that does not require external synchronization. Unlike {@link ConcurrentLinkedDeque}, this deque
+ * maintains an element index and a size counter so {@link #contains(Object)} and {@link #size()} are constant-time operations.
+ * Removal of elements that are not contained in the deque returns without traversing the deque.
+ * <p>
+ * Index and size are updated before an element is published to the underlying deque and after it was removed from it, so
+ * {@link #size()} never drops below the number of elements another thread can observe. Both are weakly consistent with
+ * concurrent modifications, as are {@link ConcurrentLinkedDeque#contains(Object)} and {@link ConcurrentLinkedDeque#size()}.
+ * This class is part of the internal API and may change without further notice.
+ *
+ * @param <E> element type.
+ * @author Mark Paluch
+ * @since 4.3
+ */
+public class IndexedConcurrentDeque<E> extends AbstractQueue<E> implements Deque<E> {
+
+    private final ConcurrentLinkedDeque<E> delegate = new ConcurrentLinkedDeque<>();
+    private final ConcurrentHashMap<Object, Integer> index = new ConcurrentHashMap<>();
+    private final AtomicInteger size = new AtomicInteger();
+
+    @Override
+    public boolean offer(E e) {
+        addLast(e);
+        return true;
+    }
+
+    @Override
+    public void addFirst(E e) {
+        added(e);
+        delegate.addFirst(e);
+    }
+
+    @Override
+    public void addLast(E e) {
+        added(e);
+        delegate.addLast(e);
+    }
+
+    @Override
+    public boolean offerFirst(E e) {
+        addFirst(e);
+        return true;
+    }
+
+    @Override
+    public boolean offerLast(E e) {
+        addLast(e);
+        return true;
+    }
+
+    @Override
+    public E removeFirst() {
+        return removed(delegate.removeFirst());
+    }
+
+    @Override
+    public E removeLast() {
+        return removed(delegate.removeLast());
+    }
+
+    @Override
+    public E poll() {
+        return pollFirst();
+    }
+
+    @Override
+    public E pollFirst() {
+        return removed(delegate.pollFirst());
+    }
+
+    @Override
+    public E pollLast() {
+        return removed(delegate.pollLast());
+    }
+
+    @Override
+    public E peek() {
+        return delegate.peekFirst();
+    }
+
+    @Override
+    public E getFirst() {
+        return delegate.getFirst();
+    }
+
+    @Override
+    public E getLast() {
+        return delegate.getLast();
+    }
+
+    @Override
+    public E peekFirst() {
+        return delegate.peekFirst();
+    }
+
+    @Override
+    public E peekLast() {
+        return delegate.peekLast();
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        return removeFirstOccurrence(o);
+    }
+
+    @Override
+    public boolean removeFirstOccurrence(Object o) {
+
+        if (!contains(o) || !delegate.removeFirstOccurrence(o)) {
+            return false;
+        }
+
+        removed(o);
+        return true;
+    }
+
+    @Override
+    public boolean removeLastOccurrence(Object o) {
+
+        if (!contains(o) || !delegate.removeLastOccurrence(o)) {
+            return false;
+        }
+
+        removed(o);
+        return true;
+    }
+
+    @Override
+    public void push(E e) {
+        addFirst(e);
+    }
+
+    @Override
+    public E pop() {
+        return removeFirst();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o != null && index.containsKey(o);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return delegate.isEmpty();
+    }
+
+    @Override
+    public int size() {
+        return size.get();
+    }
+
+    @Override
+    public void clear() {
+        while (pollFirst() != null) {
+        }
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new IndexedIterator(delegate.iterator());
+    }
+
+    @Override
+    public Iterator<E> descendingIterator() {
+        return new IndexedIterator(delegate.descendingIterator());
+    }
+
+    private void added(E e) {
+        index.merge(e, 1, Integer::sum);
+        size.incrementAndGet();
+    }
+
+    private <T> T removed(T e) {
+
+        if (e != null) {
+            index.computeIfPresent(e, (key, count) -> count == 1 ? null : count - 1);
+            size.decrementAndGet();
+        }
+
+        return e;
+    }
+
+    /**
+     * {@link Iterator} that keeps the index in sync with {@link Iterator#remove()}.
+     */
+    private class IndexedIterator implements Iterator<E> {
+
+        private final Iterator<E> iterator;
+        private E current;
+
+        IndexedIterator(Iterator<E> iterator) {
+            this.iterator = iterator;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        public E next() {
+            return current = iterator.next();
+        }
+
+        @Override
+        public void remove() {
+
+            iterator.remove();
+            removed(current);
+            current = null;
+        }
+    }
+}
@@ -25,6 +25,17 @@ public class LettuceFactories {
         return new ConcurrentLinkedDeque<T>();
     }
 
+    /**
+     * Creates a new {@link Queue} that does not require external synchronization and that provides constant-time
+     * {@link Deque#contains(Object)} and {@link Deque#size()} operations.
+     *
+     * @param <T>
+     * @return a new, empty {@link IndexedConcurrentDeque}.
+     */
+    public final static <T> Deque<T> newIndexedConcurrentQueue() {
+        return new IndexedConcurrentDeque<T>();
+    }
+
     /**
      * Creates a new {@link Queue} for single producer/single consumer.
      *
@@ -1,11 +1,13 @@
 package com.lambdaworks.redis.masterslave;
 
 import com.lambdaworks.redis.ReadFrom;
+import com.lambdaworks.redis.ReadLoadBalancer;
 import com.lambdaworks.redis.RedisChannelHandler;
 import com.lambdaworks.redis.RedisChannelWriter;
 import com.lambdaworks.redis.RedisException;
 import com.lambdaworks.redis.api.StatefulRedisConnection;
 import com.lambdaworks.redis.internal.LettuceAssert;
+import com.lambdaworks.redis.protocol.CommandMetadata;
 import com.lambdaworks.redis.protocol.ProtocolKeyword;
 import com.lambdaworks.redis.protocol.RedisCommand;
 
@@ -40,10 +42,8 @@ class MasterSlaveChannelWriter<K, V> implements RedisChannelWriter<K, V> {
 
     private MasterSlaveConnectionProvider.Intent getIntent(ProtocolKeyword type) {
 
-        for (ProtocolKeyword readOnlyCommand : ReadOnlyCommands.READ_ONLY_COMMANDS) {
-            if (readOnlyCommand == type) {
-                return MasterSlaveConnectionProvider.Intent.READ;
-            }
+        if (CommandMetadata.of(type).isReadOnly()) {
+            return MasterSlaveConnectionProvider.Intent.READ;
         }
         return MasterSlaveConnectionProvider.Intent.WRITE;
     }
@@ -106,4 +106,26 @@ class MasterSlaveChannelWriter<K, V> implements RedisChannelWriter<K, V> {
         return masterSlaveConnectionProvider.getReadFrom();
     }
 
+    /**
+     * Set how read operations are balanced across the nodes selected by {@link ReadFrom}. See the documentation for
+     * {@link ReadLoadBalancer} for more information.
+     *
+     * @param readLoadBalancer the read load balancer setting, must not be {@literal null}
+     * @since 4.3
+     */
+    public void setReadLoadBalancer(ReadLoadBalancer readLoadBalancer) {
+        masterSlaveConnectionProvider.setReadLoadBalancer(readLoadBalancer);
+    }
+
+    /**
+     * Gets the {@link ReadLoadBalancer} setting for this connection. Defaults to {@link ReadLoadBalancer#FIRST_AVAILABLE} if
+     * not set.
+     *
+     * @return the read load balancer setting
+     * @since 4.3
+     */
+    public ReadLoadBalancer getReadLoadBalancer() {
+        return masterSlaveConnectionProvider.getReadLoadBalancer();
+    }
+
 }
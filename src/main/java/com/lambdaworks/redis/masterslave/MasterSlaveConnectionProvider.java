@@ -4,9 +4,12 @@ import static com.lambdaworks.redis.masterslave.MasterSlaveUtils.findNodeByHostA
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 
 import com.lambdaworks.redis.ReadFrom;
+import com.lambdaworks.redis.ReadLoadBalancer;
 import com.lambdaworks.redis.RedisClient;
 import com.lambdaworks.redis.RedisException;
 import com.lambdaworks.redis.RedisURI;
@@ -14,9 +17,11 @@ import com.lambdaworks.redis.api.StatefulConnection;
 import com.lambdaworks.redis.api.StatefulRedisConnection;
 import com.lambdaworks.redis.cluster.models.partitions.Partitions;
 import com.lambdaworks.redis.codec.RedisCodec;
+import com.lambdaworks.redis.internal.LettuceAssert;
 import com.lambdaworks.redis.internal.LettuceSets;
 import com.lambdaworks.redis.models.role.RedisInstance;
 import com.lambdaworks.redis.models.role.RedisNodeDescription;
+import com.lambdaworks.redis.resource.Delay;
 
 import io.netty.util.internal.logging.InternalLogger;
 import io.netty.util.internal.logging.InternalLoggerFactory;
@@ -34,18 +39,26 @@ public class MasterSlaveConnectionProvider<K, V> {
 
     // Contains HostAndPort-identified connections.
     private final Map<ConnectionKey, StatefulRedisConnection<K, V>> connections = new ConcurrentHashMap<>();
+    // Contains HostAndPort-identified nodes that could not be connected.
+    private final Map<ConnectionKey, ConnectBackoff> failedNodes = new ConcurrentHashMap<>();
     private final ConnectionFactory<K, V> connectionFactory;
+    private final RedisClient redisClient;
     private final RedisURI initialRedisUri;
 
-    private List<RedisNodeDescription> knownNodes = new ArrayList<>();
+    private volatile List<RedisNodeDescription> knownNodes = new ArrayList<>();
+    private volatile ReadSelection readSelection;
+    private volatile ReaderCandidates<K, V> readerCandidates;
+    private final Lock readerCandidatesLock = new ReentrantLock();
 
     private boolean autoFlushCommands = true;
     private Object stateLock = new Object();
-    private ReadFrom readFrom;
+    private volatile ReadFrom readFrom;
+    private volatile ReadLoadBalancer readLoadBalancer = ReadLoadBalancer.FIRST_AVAILABLE;
 
     @Deprecated
     public MasterSlaveConnectionProvider(RedisClient redisClient, RedisCodec<K, V> redisCodec,
             StatefulRedisConnection<K, V> masterConnection, RedisURI initialRedisUri) {
+        this.redisClient = redisClient;
         this.initialRedisUri = initialRedisUri;
         this.debugEnabled = logger.isDebugEnabled();
         this.connectionFactory = new ConnectionFactory<>(redisClient, redisCodec);
@@ -55,6 +68,7 @@ public class MasterSlaveConnectionProvider<K, V> {
     MasterSlaveConnectionProvider(RedisClient redisClient, RedisCodec<K, V> redisCodec, RedisURI initialRedisUri,
             Map<RedisURI, StatefulRedisConnection<K, V>> initialConnections) {
 
+        this.redisClient = redisClient;
         this.initialRedisUri = initialRedisUri;
         this.debugEnabled = logger.isDebugEnabled();
         this.connectionFactory = new ConnectionFactory<>(redisClient, redisCodec);
@@ -68,7 +82,9 @@ public class MasterSlaveConnectionProvider<K, V> {
      * Retrieve a {@link StatefulRedisConnection} by the intent.
      * {@link com.lambdaworks.redis.masterslave.MasterSlaveConnectionProvider.Intent#WRITE} intentions use the master
      * connection, {@link com.lambdaworks.redis.masterslave.MasterSlaveConnectionProvider.Intent#READ} intentions lookup one or
-     * more read candidates using the {@link ReadFrom} setting.
+     * more read candidates using the {@link ReadFrom} setting. {@link ReadLoadBalancer#FIRST_AVAILABLE} connects to the read
+     * candidates in order until one is available, other {@link ReadLoadBalancer}s select from connections to all read
+     * candidates. Read candidates that cannot be connected are skipped until their reconnect delay has elapsed.
      *
      * @param intent command intent
      * @return the connection.
@@ -80,32 +96,21 @@ public class MasterSlaveConnectionProvider<K, V> {
         }
 
         if (readFrom != null && intent == Intent.READ) {
-            List<RedisNodeDescription> selection = readFrom.select(new ReadFrom.Nodes() {
-                @Override
-                public List<RedisNodeDescription> getNodes() {
-                    return knownNodes;
-                }
 
-                @Override
-                public Iterator<RedisNodeDescription> iterator() {
-                    return knownNodes.iterator();
-                }
-            });
+            List<RedisNodeDescription> selection = getReadSelection();
 
             if (selection.isEmpty()) {
                 throw new RedisException(String.format("Cannot determine a node to read (Known nodes: %s) with setting %s",
                         knownNodes, readFrom));
             }
             try {
-                for (RedisNodeDescription redisNodeDescription : selection) {
-                    StatefulRedisConnection<K, V> readerCandidate = getConnection(redisNodeDescription);
-                    if (!readerCandidate.isOpen()) {
-                        continue;
-                    }
-                    return readerCandidate;
+                ReadLoadBalancer readLoadBalancer = this.readLoadBalancer;
+
+                if (readLoadBalancer == ReadLoadBalancer.FIRST_AVAILABLE) {
+                    return getFirstAvailable(selection);
                 }
 
-                return getConnection(selection.get(0));
+                return readLoadBalancer.select(getReaderCandidates(selection));
             } catch (RuntimeException e) {
                 throw new RedisException(e);
             }
@@ -114,6 +119,178 @@ public class MasterSlaveConnectionProvider<K, V> {
         return getConnection(getMaster());
     }
 
+    /**
+     * Retrieve the nodes selected by {@link ReadFrom}. The selection is computed once per {@link ReadFrom} and known nodes.
+     *
+     * @return the read selection.
+     */
+    private List<RedisNodeDescription> getReadSelection() {
+
+        List<RedisNodeDescription> knownNodes = this.knownNodes;
+        ReadFrom readFrom = this.readFrom;
+        ReadSelection readSelection = this.readSelection;
+
+        if (readSelection != null && readSelection.knownNodes == knownNodes && readSelection.readFrom == readFrom) {
+            return readSelection.selection;
+        }
+
+        List<RedisNodeDescription> selection = readFrom.select(new ReadFrom.Nodes() {
+            @Override
+            public List<RedisNodeDescription> getNodes() {
+                return knownNodes;
+            }
+
+            @Override
+            public Iterator<RedisNodeDescription> iterator() {
+                return knownNodes.iterator();
+            }
+        });
+
+        this.readSelection = new ReadSelection(knownNodes, readFrom, selection);
+        return selection;
+    }
+
+    /**
+     * Return the first open connection in selection order. Connects lazily and stops at the first open connection. Falls back
+     * to the first connected candidate if no connection is open.
+     */
+    private StatefulRedisConnection<K, V> getFirstAvailable(List<RedisNodeDescription> selection) {
+
+        StatefulRedisConnection<K, V> fallback = null;
+        RuntimeException connectFailure = null;
+
+        for (RedisNodeDescription redisNodeDescription : selection) {
+
+            StatefulRedisConnection<K, V> readerCandidate;
+            try {
+                readerCandidate = getReadConnection(redisNodeDescription);
+            } catch (RuntimeException e) {
+                connectFailure = e;
+                continue;
+            }
+
+            if (readerCandidate == null) {
+                continue;
+            }
+
+            if (readerCandidate.isOpen()) {
+                return readerCandidate;
+            }
+
+            if (fallback == null) {
+                fallback = readerCandidate;
+            }
+        }
+
+        if (fallback != null) {
+            return fallback;
+        }
+
+        throw noReaderAvailable(selection, connectFailure);
+    }
+
+    /**
+     * Retrieve connections to all read candidates. The candidate list is built once per read selection and rebuilt when
+     * the reconnect delay of a failed candidate has elapsed. Only one thread rebuilds the list, other threads continue to use
+     * the previous list while it is rebuilt.
+     */
+    private List<StatefulRedisConnection<K, V>> getReaderCandidates(List<RedisNodeDescription> selection) {
+
+        ReaderCandidates<K, V> readerCandidates = this.readerCandidates;
+        if (readerCandidates != null && readerCandidates.selection == selection) {
+
+            if (!readerCandidates.isRetryDue() || !readerCandidatesLock.tryLock()) {
+                return readerCandidates.connections;
+            }
+        } else {
+            readerCandidatesLock.lock();
+        }
+
+        try {
+
+            readerCandidates = this.readerCandidates;
+            if (readerCandidates != null && readerCandidates.selection == selection && !readerCandidates.isRetryDue()) {
+                return readerCandidates.connections;
+            }
+
+            List<StatefulRedisConnection<K, V>> connections = new ArrayList<>(selection.size());
+            RuntimeException connectFailure = null;
+            long retryAtNanos = Long.MAX_VALUE;
+
+            for (RedisNodeDescription redisNodeDescription : selection) {
+
+                StatefulRedisConnection<K, V> readerCandidate = null;
+                try {
+                    readerCandidate = getReadConnection(redisNodeDescription);
+                } catch (RuntimeException e) {
+                    connectFailure = e;
+                }
+
+                if (readerCandidate != null) {
+                    connections.add(readerCandidate);
+                    continue;
+                }
+
+                ConnectBackoff backoff = failedNodes.get(toConnectionKey(redisNodeDescription.getUri()));
+                if (backoff != null) {
+                    retryAtNanos = Math.min(retryAtNanos, backoff.retryAtNanos);
+                }
+            }
+
+            if (connections.isEmpty()) {
+                throw noReaderAvailable(selection, connectFailure);
+            }
+
+            List<StatefulRedisConnection<K, V>> result = Collections.unmodifiableList(connections);
+            this.readerCandidates = new ReaderCandidates<>(selection, result, retryAtNanos);
+            return result;
+        } finally {
+            readerCandidatesLock.unlock();
+        }
+    }
+
+    /**
+     * Retrieve or create the connection to a read candidate.
+     *
+     * @return the connection or {@literal null} if the node failed to connect and its reconnect delay has not yet elapsed.
+     */
+    private StatefulRedisConnection<K, V> getReadConnection(RedisNodeDescription redisNodeDescription) {
+
+        ConnectionKey key = toConnectionKey(redisNodeDescription.getUri());
+
+        StatefulRedisConnection<K, V> connection = connections.get(key);
+        if (connection != null) {
+            return connection;
+        }
+
+        ConnectBackoff backoff = failedNodes.get(key);
+        if (backoff != null && System.nanoTime() - backoff.retryAtNanos < 0) {
+            return null;
+        }
+
+        try {
+            connection = connections.computeIfAbsent(key, connectionFactory);
+            failedNodes.remove(key);
+            return connection;
+        } catch (RuntimeException e) {
+
+            Delay delay = redisClient.getResources().reconnectDelay();
+            failedNodes.put(key, new ConnectBackoff(delay, backoff != null ? backoff.attempt + 1 : 1));
+
+            if (debugEnabled) {
+                logger.debug("Cannot connect to read candidate " + redisNodeDescription.getUri(), e);
+            }
+
+            throw e;
+        }
+    }
+
+    private RedisException noReaderAvailable(List<RedisNodeDescription> selection, RuntimeException connectFailure) {
+
+        String message = String.format("Cannot connect to a node to read (Read candidates: %s)", selection);
+        return connectFailure != null ? new RedisException(message, connectFailure) : new RedisException(message);
+    }
+
     protected StatefulRedisConnection<K, V> getConnection(RedisNodeDescription redisNodeDescription) {
         return connections.computeIfAbsent(
                 new ConnectionKey(redisNodeDescription.getUri().getHost(), redisNodeDescription.getUri().getPort()),
@@ -164,6 +341,10 @@ public class MasterSlaveConnectionProvider<K, V> {
             }
         }
 
+        List<RedisNodeDescription> knownNodes = this.knownNodes;
+        failedNodes.keySet().removeIf(key -> findNodeByHostAndPort(knownNodes, key.host, key.port) == null);
+        readerCandidates = null;
+
         logger.debug("closeStaleConnections() count after expiring: {}", getConnectionCount());
     }
 
@@ -175,8 +356,18 @@ public class MasterSlaveConnectionProvider<K, V> {
      * Close all connections.
      */
     public void close() {
+
+        synchronized (stateLock) {
+
+            ReadLoadBalancer previous = this.readLoadBalancer;
+            this.readLoadBalancer = ReadLoadBalancer.FIRST_AVAILABLE;
+            previous.release();
+        }
+
+        readerCandidates = null;
         allConnections().forEach(StatefulRedisConnection::close);
         connections.clear();
+        failedNodes.clear();
     }
 
     public void flushCommands() {
@@ -202,8 +393,7 @@ public class MasterSlaveConnectionProvider<K, V> {
     public void setKnownNodes(Collection<RedisNodeDescription> knownNodes) {
         synchronized (stateLock) {
 
-            this.knownNodes.clear();
-            this.knownNodes.addAll(knownNodes);
+            this.knownNodes = new ArrayList<>(knownNodes);
 
             closeStaleConnections();
         }
@@ -219,6 +409,23 @@ public class MasterSlaveConnectionProvider<K, V> {
         }
     }
 
+    public ReadLoadBalancer getReadLoadBalancer() {
+        return readLoadBalancer;
+    }
+
+    public void setReadLoadBalancer(ReadLoadBalancer readLoadBalancer) {
+
+        LettuceAssert.notNull(readLoadBalancer, "ReadLoadBalancer must not be null");
+
+        synchronized (stateLock) {
+
+            readLoadBalancer.acquire();
+            ReadLoadBalancer previous = this.readLoadBalancer;
+            this.readLoadBalancer = readLoadBalancer;
+            previous.release();
+        }
+    }
+
     public RedisNodeDescription getMaster() {
         for (RedisNodeDescription knownNode : knownNodes) {
             if (knownNode.getRole() == RedisInstance.Role.MASTER) {
@@ -299,6 +506,60 @@ public class MasterSlaveConnectionProvider<K, V> {
         }
     }
 
+    /**
+     * Nodes selected by {@link ReadFrom} from a list of known nodes.
+     */
+    private static class ReadSelection {
+
+        private final List<RedisNodeDescription> knownNodes;
+        private final ReadFrom readFrom;
+        private final List<RedisNodeDescription> selection;
+
+        ReadSelection(List<RedisNodeDescription> knownNodes, ReadFrom readFrom, List<RedisNodeDescription> selection) {
+            this.knownNodes = knownNodes;
+            this.readFrom = readFrom;
+            this.selection = selection;
+        }
+    }
+
+    /**
+     * Connections to the read candidates of a read selection.
+     */
+    private static class ReaderCandidates<K, V> {
+
+        private final List<RedisNodeDescription> selection;
+        private final List<StatefulRedisConnection<K, V>> connections;
+        private final long retryAtNanos;
+
+        ReaderCandidates(List<RedisNodeDescription> selection, List<StatefulRedisConnection<K, V>> connections,
+                long retryAtNanos) {
+            this.selection = selection;
+            this.connections = connections;
+            this.retryAtNanos = retryAtNanos;
+        }
+
+        /**
+         * @return {@literal true} if the reconnect delay of a failed candidate has elapsed.
+         */
+        boolean isRetryDue() {
+            return retryAtNanos != Long.MAX_VALUE && System.nanoTime() - retryAtNanos >= 0;
+        }
+    }
+
+    /**
+     * Reconnect delay of a node that could not be connected.
+     */
+    private static class ConnectBackoff {
+
+        private final int attempt;
+        private final long retryAtNanos;
+
+        ConnectBackoff(Delay delay, int attempt) {
+            this.attempt = attempt;
+            this.retryAtNanos = System.nanoTime() + delay.getTimeUnit().toNanos(delay.createDelay(attempt));
+        }
+    }
+
     enum Intent {
         READ, WRITE;
     }
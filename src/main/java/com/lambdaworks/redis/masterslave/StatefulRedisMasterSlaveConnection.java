@@ -1,6 +1,7 @@
 package com.lambdaworks.redis.masterslave;
 
 import com.lambdaworks.redis.ReadFrom;
+import com.lambdaworks.redis.ReadLoadBalancer;
 import com.lambdaworks.redis.api.StatefulRedisConnection;
 
 /**
@@ -27,4 +28,22 @@ public interface StatefulRedisMasterSlaveConnection<K, V> extends StatefulRedisC
      * @return the read from setting
      */
     ReadFrom getReadFrom();
+
+    /**
+     * Set how read operations are balanced across the nodes selected by {@link ReadFrom}. The setting is used as default for
+     * read operations on this connection. See the documentation for {@link ReadLoadBalancer} for more information.
+     * 
+     * @param readLoadBalancer the read load balancer setting, must not be {@literal null}
+     * @since 4.3
+     */
+    void setReadLoadBalancer(ReadLoadBalancer readLoadBalancer);
+
+    /**
+     * Gets the {@link ReadLoadBalancer} setting for this connection. Defaults to {@link ReadLoadBalancer#FIRST_AVAILABLE} if
+     * not set.
+     * 
+     * @return the read load balancer setting
+     * @since 4.3
+     */
+    ReadLoadBalancer getReadLoadBalancer();
 }
@@ -3,6 +3,7 @@ package com.lambdaworks.redis.masterslave;
 import java.util.concurrent.TimeUnit;
 
 import com.lambdaworks.redis.ReadFrom;
+import com.lambdaworks.redis.ReadLoadBalancer;
 import com.lambdaworks.redis.StatefulRedisConnectionImpl;
 import com.lambdaworks.redis.codec.RedisCodec;
 
@@ -35,6 +36,16 @@ class StatefulRedisMasterSlaveConnectionImpl<K, V> extends StatefulRedisConnecti
         return getChannelWriter().getReadFrom();
     }
 
+    @Override
+    public void setReadLoadBalancer(ReadLoadBalancer readLoadBalancer) {
+        getChannelWriter().setReadLoadBalancer(readLoadBalancer);
+    }
+
+    @Override
+    public ReadLoadBalancer getReadLoadBalancer() {
+        return getChannelWriter().getReadLoadBalancer();
+    }
+
     @Override
     public MasterSlaveChannelWriter<K, V> getChannelWriter() {
         return (MasterSlaveChannelWriter<K, V>) super.getChannelWriter();
@@ -31,4 +31,16 @@ public interface CommandLatencyCollector extends MetricCollector<Map<CommandLate
     void recordCommandLatency(SocketAddress local, SocketAddress remote, ProtocolKeyword commandType,
             long firstResponseLatency, long completionLatency);
 
+    /**
+     * Record a command timeout per {@code connectionPoint} and {@code commandType}. Timeouts are reported by
+     * {@link CommandMetrics#getTimeouts()}.
+     *
+     * @param local the local address
+     * @param remote the remote address
+     * @param commandType the command type
+     * @since 4.3
+     */
+    default void recordCommandTimeout(SocketAddress local, SocketAddress remote, ProtocolKeyword commandType) {
+    }
+
 }
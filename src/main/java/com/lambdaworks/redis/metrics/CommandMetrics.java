@@ -14,12 +14,27 @@ public class CommandMetrics {
 
     private final CommandLatency firstResponse;
     private final CommandLatency completion;
+    private final long timeouts;
 
     public CommandMetrics(long count, TimeUnit timeUnit, CommandLatency firstResponse, CommandLatency completion) {
+        this(count, timeUnit, firstResponse, completion, 0);
+    }
+
+    /**
+     * @param count the number of completed commands
+     * @param timeUnit the time unit of the latencies
+     * @param firstResponse latencies between send and the first command response
+     * @param completion latencies between send and the command completion
+     * @param timeouts the number of timed out commands
+     * @since 4.3
+     */
+    public CommandMetrics(long count, TimeUnit timeUnit, CommandLatency firstResponse, CommandLatency completion,
+            long timeouts) {
         this.count = count;
         this.timeUnit = timeUnit;
         this.firstResponse = firstResponse;
         this.completion = completion;
+        this.timeouts = timeouts;
     }
 
     /**
@@ -54,6 +69,15 @@ public class CommandMetrics {
         return completion;
     }
 
+    /**
+     *
+     * @return the number of commands that timed out
+     * @since 4.3
+     */
+    public long getTimeouts() {
+        return timeouts;
+    }
+
     @Override
     public String toString() {
         final StringBuffer sb = new StringBuffer();
@@ -61,6 +85,7 @@ public class CommandMetrics {
         sb.append(", timeUnit=").append(timeUnit);
         sb.append(", firstResponse=").append(firstResponse);
         sb.append(", completion=").append(completion);
+        sb.append(", timeouts=").append(timeouts);
         sb.append(']');
         return sb.toString();
     }
@@ -12,19 +12,30 @@ import org.LatencyUtils.PauseDetector;
 import org.LatencyUtils.SimplePauseDetector;
 
 import java.net.SocketAddress;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.TreeMap;
+import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
 
 import static com.lambdaworks.redis.internal.LettuceClassUtils.isPresent;
 
 /**
  * Default implementation of a {@link CommandLatencyCollector} for command latencies.
+ * <p>
+ * Latencies are registered once per connection endpoint and {@link ProtocolKeyword command type}. Recording a latency resolves
+ * the registered latencies without allocating an identifier and records into a stripe that is selected by the recording
+ * thread, so event loop threads do not contend on a shared histogram. Stripes are merged when retrieving metrics. Retrieval
+ * drains the interval histograms without removing registered latencies so concurrently recorded samples are reported with
+ * the next retrieval.
+ * <p>
+ * If latencies are reset after retrieval, latencies without samples during an interval are retired and endpoints without
+ * latencies are removed. Recording threads register as writers before recording and re-resolve their latencies if these
+ * were retired. Retired latencies are drained with each retrieval and stopped once no writer is registered anymore.
  *
  * @author Mark Paluch
  */
@@ -36,9 +47,19 @@ public class DefaultCommandLatencyCollector implements CommandLatencyCollector {
 
     private static final long MIN_LATENCY = 1000;
     private static final long MAX_LATENCY = TimeUnit.MINUTES.toNanos(5);
+    private static final int SIGNIFICANT_DIGITS = 2;
+
+    private static final int STRIPES = getStripeCount(Runtime.getRuntime().availableProcessors());
+    private static final CommandType[] COMMAND_TYPES = CommandType.values();
 
     private final CommandLatencyCollectorOptions options;
-    private Map<CommandLatencyId, Latencies> latencyMetrics = new ConcurrentHashMap<>(CommandType.values().length);
+    private volatile Map<SocketAddress, Map<SocketAddress, Endpoint>> latencyMetrics = new ConcurrentHashMap<>();
+
+    /**
+     * Latencies that were removed after an idle interval. Recording threads might have resolved these latencies before the
+     * removal so these are drained with the next retrieval and stopped once no recording thread is registered as writer.
+     */
+    private List<Latencies> retired = new ArrayList<>();
 
     public DefaultCommandLatencyCollector(CommandLatencyCollectorOptions options) {
         this.options = options;
@@ -60,30 +81,95 @@ public class DefaultCommandLatencyCollector implements CommandLatencyCollector {
             return;
         }
 
-        CommandLatencyId id = createId(local, remote, commandType);
-        Latencies latencies = latencyMetrics.get(id);
+        int index = getStripeIndex();
+        Latencies latencies = enter(local, remote, commandType, index);
         if (latencies == null) {
+            return;
+        }
+
+        try {
+            Stripe stripe = latencies.getStripe(index);
+
+            stripe.firstResponse.recordLatency(rangify(firstResponseLatency));
+            stripe.completion.recordLatency(rangify(completionLatency));
+            latencies.intervalCount.increment();
+        } finally {
+            latencies.exit(index);
+        }
+    }
+
+    @Override
+    public void recordCommandTimeout(SocketAddress local, SocketAddress remote, ProtocolKeyword commandType) {
+
+        if (!isEnabled()) {
+            return;
+        }
+
+        int index = getStripeIndex();
+        Latencies latencies = enter(local, remote, commandType, index);
+        if (latencies == null) {
+            return;
+        }
+
+        try {
+            latencies.intervalTimeouts.increment();
+        } finally {
+            latencies.exit(index);
+        }
+    }
 
-            PauseDetectorWrapper wrapper = PAUSE_DETECTOR.get();
-            if (wrapper == null) {
-                wrapper = new PauseDetectorWrapper();
+    /**
+     * Resolve the {@link Latencies} and register the calling thread as writer. Latencies or endpoints that were retired
+     * concurrently are resolved again.
+     *
+     * @return the {@link Latencies} or {@literal null} if the collector was shut down. Writers must {@link Latencies#exit(int)
+     *         exit} the returned latencies after recording.
+     */
+    private Latencies enter(SocketAddress local, SocketAddress remote, ProtocolKeyword commandType, int index) {
+
+        SocketAddress localAddress = options.localDistinction() ? local : LocalAddress.ANY;
+
+        for (;;) {
+
+            Endpoint endpoint = getEndpoint(localAddress, remote);
+            if (endpoint == null) {
+                return null;
+            }
+
+            Latencies latencies = endpoint.getLatencies(commandType);
+            if (latencies.enter(index)) {
 
-                if (PAUSE_DETECTOR.compareAndSet(null, wrapper)) {
-                    wrapper.initialize();
+                if (!endpoint.retired) {
+                    return latencies;
                 }
+
+                latencies.exit(index);
             }
+        }
+    }
 
-            latencies = new Latencies(PAUSE_DETECTOR.get().pauseDetector);
-            latencyMetrics.put(id, latencies);
+    private static int getStripeIndex() {
+        return (int) Thread.currentThread().getId() & (STRIPES - 1);
+    }
+
+    private Endpoint getEndpoint(SocketAddress local, SocketAddress remote) {
+
+        Map<SocketAddress, Map<SocketAddress, Endpoint>> latencyMetrics = this.latencyMetrics;
+        if (latencyMetrics == null) {
+            return null;
         }
 
-        latencies.firstResponse.recordLatency(rangify(firstResponseLatency));
-        latencies.completion.recordLatency(rangify(completionLatency));
+        Map<SocketAddress, Endpoint> endpoints = latencyMetrics.get(remote);
+        if (endpoints == null) {
+            endpoints = latencyMetrics.computeIfAbsent(remote, key -> new ConcurrentHashMap<>());
+        }
 
-    }
+        Endpoint endpoint = endpoints.get(local);
+        if (endpoint == null) {
+            endpoint = endpoints.computeIfAbsent(local, key -> new Endpoint(key, remote));
+        }
 
-    private CommandLatencyId createId(SocketAddress local, SocketAddress remote, ProtocolKeyword commandType) {
-        return CommandLatencyId.create(options.localDistinction() ? local : LocalAddress.ANY, remote, commandType);
+        return endpoint;
     }
 
     private long rangify(long latency) {
@@ -96,41 +182,125 @@ public class DefaultCommandLatencyCollector implements CommandLatencyCollector {
     }
 
     @Override
-    public void shutdown() {
+    public synchronized void shutdown() {
+
+        Map<SocketAddress, Map<SocketAddress, Endpoint>> latencyMetrics = this.latencyMetrics;
         if (latencyMetrics != null) {
-            latencyMetrics.clear();
-            latencyMetrics = null;
+
+            this.latencyMetrics = null;
+
+            for (Map<SocketAddress, Endpoint> endpoints : latencyMetrics.values()) {
+                for (Endpoint endpoint : endpoints.values()) {
+                    for (Latencies latencies : endpoint.getLatencies()) {
+                        latencies.stop();
+                    }
+                }
+            }
+
+            for (Latencies latencies : retired) {
+                latencies.stop();
+            }
+            retired.clear();
         }
     }
 
     @Override
-    public Map<CommandLatencyId, CommandMetrics> retrieveMetrics() {
-        Map<CommandLatencyId, Latencies> copy = new HashMap<>();
-        copy.putAll(latencyMetrics);
-        if (options.resetLatenciesAfterEvent()) {
-            latencyMetrics.clear();
+    public synchronized Map<CommandLatencyId, CommandMetrics> retrieveMetrics() {
+
+        Map<SocketAddress, Map<SocketAddress, Endpoint>> latencyMetrics = this.latencyMetrics;
+        if (latencyMetrics == null) {
+            return Collections.emptyMap();
         }
 
-        Map<CommandLatencyId, CommandMetrics> latencies = getMetrics(copy);
-        return latencies;
+        boolean reset = options.resetLatenciesAfterEvent();
+        Map<CommandLatencyId, Latencies> snapshots = new HashMap<>();
+        List<Latencies> retired = this.retired;
+        this.retired = new ArrayList<>();
+
+        for (Map<SocketAddress, Endpoint> endpoints : latencyMetrics.values()) {
+            for (Endpoint endpoint : endpoints.values()) {
+                for (Latencies latencies : endpoint.getLatencies()) {
+
+                    latencies.snapshot(reset);
+
+                    if (reset && latencies.getCount() == 0) {
+                        retire(endpoint, latencies);
+                        continue;
+                    }
+
+                    snapshots.put(latencies.id, latencies);
+                }
+
+                if (reset && endpoint.isEmpty()) {
+
+                    endpoints.remove(endpoint.local, endpoint);
+                    endpoint.retired = true;
+
+                    // latencies registered between the last snapshot and the retirement of the endpoint
+                    for (Latencies latencies : endpoint.getLatencies()) {
+                        retire(endpoint, latencies);
+                    }
+                }
+            }
+        }
+
+        for (Latencies latencies : retired) {
+
+            boolean quiescent = !latencies.hasWriters();
+            latencies.snapshot(true);
+
+            if (quiescent) {
+                latencies.stop();
+            } else {
+                this.retired.add(latencies);
+            }
+
+            if (latencies.getCount() == 0) {
+                continue;
+            }
+
+            Latencies current = snapshots.get(latencies.id);
+            if (current != null) {
+                current.add(latencies);
+            } else {
+                snapshots.put(latencies.id, latencies);
+            }
+        }
+
+        return getMetrics(snapshots);
+    }
+
+    /**
+     * Remove {@link Latencies} from its {@link Endpoint}. Writers that resolved the latencies before the removal either
+     * register before the latencies are marked retired and are drained with the next retrieval, or resolve the latencies
+     * again.
+     */
+    private void retire(Endpoint endpoint, Latencies latencies) {
+
+        endpoint.remove(latencies);
+        latencies.retired = true;
+        this.retired.add(latencies);
     }
 
     private Map<CommandLatencyId, CommandMetrics> getMetrics(Map<CommandLatencyId, Latencies> latencyMetrics) {
         Map<CommandLatencyId, CommandMetrics> latencies = new TreeMap<>();
 
         for (Map.Entry<CommandLatencyId, Latencies> entry : latencyMetrics.entrySet()) {
-            Histogram firstResponse = entry.getValue().firstResponse.getIntervalHistogram();
-            Histogram completion = entry.getValue().completion.getIntervalHistogram();
+            Histogram firstResponse = entry.getValue().firstResponse;
+            Histogram completion = entry.getValue().completion;
+
+            long count = entry.getValue().count;
+            long timeouts = entry.getValue().timeouts;
 
-            if (firstResponse.getTotalCount() == 0 && completion.getTotalCount() == 0) {
+            if (count == 0 && timeouts == 0) {
                 continue;
             }
 
             CommandLatency firstResponseLatency = getMetric(firstResponse);
             CommandLatency completionLatency = getMetric(completion);
 
-            CommandMetrics metrics = new CommandMetrics(firstResponse.getTotalCount(), options.targetUnit(),
-                    firstResponseLatency, completionLatency);
+            CommandMetrics metrics = new CommandMetrics(count, options.targetUnit(), firstResponseLatency, completionLatency,
+                    timeouts);
 
             latencies.put(entry.getKey(), metrics);
         }
@@ -158,7 +328,7 @@ public class DefaultCommandLatencyCollector implements CommandLatencyCollector {
 
     /**
      * Returns {@literal true} if HdrUtils and LatencyUtils are available on the class path.
-     * 
+     *
      * @return
      */
     public static boolean isAvailable() {
@@ -167,7 +337,7 @@ public class DefaultCommandLatencyCollector implements CommandLatencyCollector {
 
     /**
      * Returns a disabled no-op {@link CommandLatencyCollector}.
-     * 
+     *
      * @return
      */
     public static CommandLatencyCollector disabled() {
@@ -194,15 +364,264 @@ public class DefaultCommandLatencyCollector implements CommandLatencyCollector {
         };
     }
 
+    /**
+     * Returns the next power of two that is greater or equal to the number of {@code processors}.
+     */
+    static int getStripeCount(int processors) {
+        return Integer.highestOneBit(Math.max(1, processors) * 2 - 1);
+    }
+
+    private static PauseDetector getPauseDetector() {
+
+        PauseDetectorWrapper wrapper = PAUSE_DETECTOR.get();
+        if (wrapper == null) {
+            wrapper = new PauseDetectorWrapper();
+
+            if (PAUSE_DETECTOR.compareAndSet(null, wrapper)) {
+                wrapper.initialize();
+            }
+        }
+
+        return PAUSE_DETECTOR.get().pauseDetector;
+    }
+
+    /**
+     * Latencies of a connection endpoint. {@link CommandType}s are resolved by their ordinal, other {@link ProtocolKeyword}s
+     * are resolved using a map.
+     */
+    private static class Endpoint {
+
+        private volatile boolean retired;
+        private final SocketAddress local;
+        private final SocketAddress remote;
+        private final AtomicReferenceArray<Latencies> commandTypes = new AtomicReferenceArray<>(COMMAND_TYPES.length);
+        private final ConcurrentMap<ProtocolKeyword, Latencies> protocolKeywords = new ConcurrentHashMap<>();
+
+        public Endpoint(SocketAddress local, SocketAddress remote) {
+            this.local = local;
+            this.remote = remote;
+        }
+
+        public Latencies getLatencies(ProtocolKeyword commandType) {
+
+            if (commandType instanceof CommandType) {
+
+                int index = ((CommandType) commandType).ordinal();
+                Latencies latencies = commandTypes.get(index);
+
+                if (latencies == null) {
+                    Latencies created = new Latencies(CommandLatencyId.create(local, remote, commandType));
+                    if (commandTypes.compareAndSet(index, null, created)) {
+                        return created;
+                    }
+
+                    created.stop();
+                    return commandTypes.get(index);
+                }
+
+                return latencies;
+            }
+
+            Latencies latencies = protocolKeywords.get(commandType);
+            if (latencies == null) {
+                latencies = protocolKeywords.computeIfAbsent(commandType,
+                        key -> new Latencies(CommandLatencyId.create(local, remote, key)));
+            }
+
+            return latencies;
+        }
+
+        public List<Latencies> getLatencies() {
+
+            List<Latencies> result = new ArrayList<>(protocolKeywords.values());
+            for (int i = 0; i < commandTypes.length(); i++) {
+
+                Latencies latencies = commandTypes.get(i);
+                if (latencies != null) {
+                    result.add(latencies);
+                }
+            }
+
+            return result;
+        }
+
+        public void remove(Latencies latencies) {
+
+            ProtocolKeyword commandType = latencies.id.commandType();
+
+            if (commandType instanceof CommandType) {
+                commandTypes.compareAndSet(((CommandType) commandType).ordinal(), latencies, null);
+            } else {
+                protocolKeywords.remove(commandType, latencies);
+            }
+        }
+
+        public boolean isEmpty() {
+
+            if (!protocolKeywords.isEmpty()) {
+                return false;
+            }
+
+            for (int i = 0; i < commandTypes.length(); i++) {
+                if (commandTypes.get(i) != null) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+    }
+
+    /**
+     * Striped latencies per {@link CommandLatencyId}. Stripes are created on first use. The {@code firstResponse} and
+     * {@code completion} histograms and the {@code count} and {@code timeouts} counts hold the values of the last
+     * {@link #snapshot(boolean) snapshot}. The count is kept separately from the histograms because pause detection adds
+     * corrected values to the histograms.
+     */
     private static class Latencies {
 
+        private final CommandLatencyId id;
+        private final AtomicReferenceArray<Stripe> stripes = new AtomicReferenceArray<>(STRIPES);
+        private final AtomicLongArray writers = new AtomicLongArray(STRIPES);
+        private volatile boolean retired;
+
+        private final Histogram firstResponse = new Histogram(SIGNIFICANT_DIGITS);
+        private final Histogram completion = new Histogram(SIGNIFICANT_DIGITS);
+        private final Histogram intervalFirstResponse = new Histogram(SIGNIFICANT_DIGITS);
+        private final Histogram intervalCompletion = new Histogram(SIGNIFICANT_DIGITS);
+        private final LongAdder intervalCount = new LongAdder();
+        private final LongAdder intervalTimeouts = new LongAdder();
+        private long count;
+        private long timeouts;
+        private long intervalCommandCount;
+        private long intervalTimeoutCount;
+
+        public Latencies(CommandLatencyId id) {
+            this.id = id;
+        }
+
+        /**
+         * Register a writer on the stripe {@code index}.
+         *
+         * @return {@literal true} if the writer was registered, {@literal false} if the latencies are retired.
+         */
+        public boolean enter(int index) {
+
+            writers.incrementAndGet(index);
+
+            if (retired) {
+                writers.decrementAndGet(index);
+                return false;
+            }
+
+            return true;
+        }
+
+        public void exit(int index) {
+            writers.decrementAndGet(index);
+        }
+
+        public boolean hasWriters() {
+
+            for (int i = 0; i < writers.length(); i++) {
+                if (writers.get(i) != 0) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        public Stripe getStripe(int index) {
+
+            Stripe stripe = stripes.get(index);
+            if (stripe == null) {
+
+                Stripe created = new Stripe(getPauseDetector());
+                if (stripes.compareAndSet(index, null, created)) {
+                    return created;
+                }
+
+                created.stop();
+                return stripes.get(index);
+            }
+
+            return stripe;
+        }
+
+        /**
+         * Drain the interval histograms of all stripes. Reports interval latencies if {@code reset} is {@literal true},
+         * otherwise latencies since the first snapshot.
+         *
+         * @param reset {@literal true} to report interval latencies
+         */
+        public void snapshot(boolean reset) {
+
+            intervalFirstResponse.reset();
+            intervalCompletion.reset();
+
+            for (int i = 0; i < stripes.length(); i++) {
+
+                Stripe stripe = stripes.get(i);
+                if (stripe != null) {
+                    stripe.firstResponse.addIntervalHistogramTo(intervalFirstResponse);
+                    stripe.completion.addIntervalHistogramTo(intervalCompletion);
+                }
+            }
+
+            intervalCommandCount = intervalCount.sumThenReset();
+            intervalTimeoutCount = intervalTimeouts.sumThenReset();
+
+            if (reset) {
+                firstResponse.reset();
+                completion.reset();
+                count = 0;
+                timeouts = 0;
+            }
+
+            firstResponse.add(intervalFirstResponse);
+            completion.add(intervalCompletion);
+            count += intervalCommandCount;
+            timeouts += intervalTimeoutCount;
+        }
+
+        public long getCount() {
+            return intervalCommandCount + intervalFirstResponse.getTotalCount() + intervalTimeoutCount;
+        }
+
+        public void add(Latencies latencies) {
+            firstResponse.add(latencies.firstResponse);
+            completion.add(latencies.completion);
+            count += latencies.count;
+            timeouts += latencies.timeouts;
+        }
+
+        public void stop() {
+
+            for (int i = 0; i < stripes.length(); i++) {
+
+                Stripe stripe = stripes.get(i);
+                if (stripe != null) {
+                    stripe.stop();
+                }
+            }
+        }
+    }
+
+    private static class Stripe {
+
         public final LatencyStats firstResponse;
         public final LatencyStats completion;
 
-        public Latencies(PauseDetector pauseDetector) {
+        public Stripe(PauseDetector pauseDetector) {
             firstResponse = LatencyStats.Builder.create().pauseDetector(pauseDetector).build();
             completion = LatencyStats.Builder.create().pauseDetector(pauseDetector).build();
         }
+
+        public void stop() {
+            firstResponse.stop();
+            completion.stop();
+        }
     }
 
     private static class PauseDetectorWrapper {
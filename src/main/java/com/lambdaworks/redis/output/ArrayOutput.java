@@ -58,10 +58,12 @@ public class ArrayOutput<K, V> extends CommandOutput<K, V, List<Object>> {
     @Override
     public void multi(int count) {
         if (stack.isEmpty()) {
+            if (output.isEmpty()) {
+                output = OutputFactory.newList(count);
+            }
             stack.push(output);
         } else {
-            stack.push(new ArrayList<>(count));
-
+            stack.push(OutputFactory.newList(count));
         }
         counts.push(count);
     }
@@ -18,6 +18,7 @@ import com.lambdaworks.redis.internal.LettuceAssert;
 public class BooleanListOutput<K, V> extends CommandOutput<K, V, List<Boolean>> implements StreamingOutput<Boolean> {
 
     private Subscriber<Boolean> subscriber;
+    private boolean initialized;
 
     public BooleanListOutput(RedisCodec<K, V> codec) {
         super(codec, new ArrayList<>());
@@ -29,6 +30,16 @@ public class BooleanListOutput<K, V> extends CommandOutput<K, V, List<Boolean>>
         subscriber.onNext((integer == 1) ? Boolean.TRUE : Boolean.FALSE);
     }
 
+    @Override
+    public void multi(int count) {
+
+        if (!initialized && output.isEmpty() && subscriber instanceof ListSubscriber) {
+            output = OutputFactory.newList(count);
+            setSubscriber(ListSubscriber.of(output));
+        }
+        initialized = true;
+    }
+
     @Override
     public void setSubscriber(Subscriber<Boolean> subscriber) {
         LettuceAssert.notNull(subscriber, "Subscriber must not be null");
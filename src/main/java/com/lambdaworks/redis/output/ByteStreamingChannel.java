@@ -0,0 +1,24 @@
+package com.lambdaworks.redis.output;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Streaming API for bulk string values. You can implement this interface in order to receive a call to {@code onBytes} for
+ * every chunk of a bulk string as it arrives from the server. Chunks are passed in the order they are received.
+ * <p>
+ * The {@link ByteBuffer} is only valid during the call to {@code onBytes} and must be consumed or copied before returning.
+ * Implementations are called on the I/O thread and should not block.
+ *
+ * @author Mark Paluch
+ * @since 4.3
+ */
+@FunctionalInterface
+public interface ByteStreamingChannel {
+
+    /**
+     * Called on every incoming chunk of a bulk string.
+     *
+     * @param bytes the chunk
+     */
+    void onBytes(ByteBuffer bytes);
+}
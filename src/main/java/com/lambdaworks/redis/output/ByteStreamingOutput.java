@@ -0,0 +1,47 @@
+package com.lambdaworks.redis.output;
+
+import java.nio.ByteBuffer;
+
+import com.lambdaworks.redis.codec.RedisCodec;
+
+/**
+ * Streaming-Output of a bulk string. Passes the bulk string in chunks to a {@link ByteStreamingChannel} as the bulk string is
+ * received so large values do not need to be buffered completely. Returns the count of all streamed bytes or {@literal null}
+ * if the bulk string is {@literal null}. Empty chunks are not passed to the channel.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @author Mark Paluch
+ * @since 4.3
+ */
+public class ByteStreamingOutput<K, V> extends CommandOutput<K, V, Long> implements ChunkedOutput {
+
+    private final ByteStreamingChannel channel;
+
+    public ByteStreamingOutput(RedisCodec<K, V> codec, ByteStreamingChannel channel) {
+        super(codec, Long.valueOf(0));
+        this.channel = channel;
+    }
+
+    @Override
+    public void setChunk(ByteBuffer bytes) {
+
+        if (!bytes.hasRemaining()) {
+            return;
+        }
+
+        output = output.longValue() + bytes.remaining();
+        channel.onBytes(bytes);
+    }
+
+    @Override
+    public void set(ByteBuffer bytes) {
+
+        if (bytes == null) {
+            output = null;
+            return;
+        }
+
+        setChunk(bytes);
+    }
+}
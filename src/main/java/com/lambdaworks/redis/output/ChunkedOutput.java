@@ -0,0 +1,22 @@
+package com.lambdaworks.redis.output;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Implementors of this interface receive bulk strings in chunks while the bulk string is still received. Chunks are passed to
+ * {@link #setChunk(ByteBuffer)} as soon as they are readable. The final chunk is passed to {@link CommandOutput#set(ByteBuffer)}
+ * once the bulk string is read completely. Bulk strings that are readable at once are passed only to
+ * {@link CommandOutput#set(ByteBuffer)}.
+ *
+ * @author Mark Paluch
+ * @since 4.3
+ */
+public interface ChunkedOutput {
+
+    /**
+     * Set a chunk of a bulk string that is not yet read completely. The {@link ByteBuffer} is only valid during the call.
+     *
+     * @param bytes the chunk
+     */
+    void setChunk(ByteBuffer bytes);
+}
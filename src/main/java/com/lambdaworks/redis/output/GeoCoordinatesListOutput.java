@@ -18,6 +18,7 @@ import com.lambdaworks.redis.internal.LettuceAssert;
 public class GeoCoordinatesListOutput<K, V> extends CommandOutput<K, V, List<GeoCoordinates>> implements StreamingOutput<GeoCoordinates> {
 
     private Double x;
+    private boolean initialized;
 	private Subscriber<GeoCoordinates> subscriber;
 
 	public GeoCoordinatesListOutput(RedisCodec<K, V> codec) {
@@ -41,6 +42,13 @@ public class GeoCoordinatesListOutput<K, V> extends CommandOutput<K, V, List<Geo
 
     @Override
     public void multi(int count) {
+
+        if (!initialized && output.isEmpty() && subscriber instanceof ListSubscriber) {
+            output = OutputFactory.newList(count);
+            setSubscriber(ListSubscriber.of(output));
+        }
+        initialized = true;
+
         if (count == -1) {
             subscriber.onNext(null);
         }
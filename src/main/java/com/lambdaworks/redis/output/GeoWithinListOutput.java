@@ -30,6 +30,7 @@ public class GeoWithinListOutput<K, V> extends CommandOutput<K, V, List<GeoWithi
     private boolean withHash;
     private boolean withCoordinates;
     private Subscriber<GeoWithin<V>> subscriber;
+    private boolean initialized;
 
     public GeoWithinListOutput(RedisCodec<K, V> codec, boolean withDistance, boolean withHash, boolean withCoordinates) {
         super(codec, new ArrayList<>());
@@ -89,6 +90,16 @@ public class GeoWithinListOutput<K, V> extends CommandOutput<K, V, List<GeoWithi
         }
     }
 
+    @Override
+    public void multi(int count) {
+
+        if (!initialized && output.isEmpty() && subscriber instanceof ListSubscriber) {
+            output = OutputFactory.newList(count);
+            setSubscriber(ListSubscriber.of(output));
+        }
+        initialized = true;
+    }
+
     @Override
     public void setSubscriber(Subscriber<GeoWithin<V>> subscriber) {
         LettuceAssert.notNull(subscriber, "Subscriber must not be null");
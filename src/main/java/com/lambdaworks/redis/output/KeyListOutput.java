@@ -20,6 +20,7 @@ import com.lambdaworks.redis.internal.LettuceAssert;
 public class KeyListOutput<K, V> extends CommandOutput<K, V, List<K>> implements StreamingOutput<K> {
 
     private Subscriber<K> subscriber;
+    private boolean initialized;
 
     public KeyListOutput(RedisCodec<K, V> codec) {
         super(codec, new ArrayList<>());
@@ -31,6 +32,16 @@ public class KeyListOutput<K, V> extends CommandOutput<K, V, List<K>> implements
         subscriber.onNext(codec.decodeKey(bytes));
     }
 
+    @Override
+    public void multi(int count) {
+
+        if (!initialized && output.isEmpty() && subscriber instanceof ListSubscriber) {
+            output = OutputFactory.newList(count);
+            setSubscriber(ListSubscriber.of(output));
+        }
+        initialized = true;
+    }
+
     @Override
     public void setSubscriber(Subscriber<K> subscriber) {
         LettuceAssert.notNull(subscriber, "Subscriber must not be null");
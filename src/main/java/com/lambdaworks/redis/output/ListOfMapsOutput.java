@@ -51,6 +51,7 @@ public class ListOfMapsOutput<K, V> extends CommandOutput<K, V, List<Map<K, V>>>
     public void multi(int count) {
         if (mapCount == -1) {
             mapCount = count;
+            output = OutputFactory.newList(count);
         } else {
             // div 2 because of key value pair counts twice
             counts.add(count / 2);
@@ -1,6 +1,6 @@
 package com.lambdaworks.redis.output;
 
-import java.util.List;
+import java.util.Collection;
 
 import com.lambdaworks.redis.internal.LettuceAssert;
 import com.lambdaworks.redis.output.StreamingOutput.Subscriber;
@@ -12,9 +12,9 @@ import com.lambdaworks.redis.output.StreamingOutput.Subscriber;
  */
 class ListSubscriber<T> implements Subscriber<T> {
 
-    private List<T> target;
+    private Collection<T> target;
 
-    private ListSubscriber(List<T> target) {
+    private ListSubscriber(Collection<T> target) {
 
         LettuceAssert.notNull(target, "Target must not be null");
 		this.target = target;
@@ -25,7 +25,7 @@ class ListSubscriber<T> implements Subscriber<T> {
         target.add(t);
     }
 
-    static <T> ListSubscriber<T> of(List<T> target) {
+    static <T> ListSubscriber<T> of(Collection<T> target) {
 		return new ListSubscriber<>(target);
 	}
 }
@@ -18,6 +18,7 @@ import com.lambdaworks.redis.codec.RedisCodec;
  */
 public class MapOutput<K, V> extends CommandOutput<K, V, Map<K, V>> {
     private K key;
+    private boolean initialized;
 
     public MapOutput(RedisCodec<K, V> codec) {
         super(codec, new LinkedHashMap<>());
@@ -47,4 +48,14 @@ public class MapOutput<K, V> extends CommandOutput<K, V, Map<K, V>> {
         output.put(key, value);
         key = null;
     }
+
+    @Override
+    public void multi(int count) {
+
+        if (!initialized && output.isEmpty()) {
+            // div 2 because of key value pair counts twice
+            output = OutputFactory.newLinkedHashMap(count / 2);
+        }
+        initialized = true;
+    }
 }
@@ -47,7 +47,7 @@ public class NestedMultiOutput<K, V> extends CommandOutput<K, V, List<Object>> {
 
     @Override
     public void multi(int count) {
-        List<Object> a = new ArrayList<>(count);
+        List<Object> a = OutputFactory.newList(count);
         output.add(a);
         stack.push(output);
         output = a;
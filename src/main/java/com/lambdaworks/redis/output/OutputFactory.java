@@ -0,0 +1,75 @@
+package com.lambdaworks.redis.output;
+
+import java.util.*;
+
+/**
+ * Factory for collections of aggregate {@link CommandOutput}s. Collections are presized using the multi-bulk count of a reply
+ * to avoid resizing while decoding large replies. The count is capped at {@link #MAX_PRESIZE} so corrupt or hostile counts
+ * cannot trigger large allocations upfront; collections grow beyond that size as usual.
+ *
+ * @author Mark Paluch
+ * @since 4.3
+ */
+final class OutputFactory {
+
+    /**
+     * Maximal number of elements to presize collections for.
+     */
+    static final int MAX_PRESIZE = 1 << 20;
+
+    /**
+     * prevent instances.
+     */
+    private OutputFactory() {
+    }
+
+    /**
+     * Create a new {@link List} presized for {@code expectedSize} elements.
+     *
+     * @param expectedSize the expected number of elements, may be negative for {@literal null} replies.
+     * @param <T> element type.
+     * @return a new {@link ArrayList}.
+     */
+    static <T> List<T> newList(int expectedSize) {
+        return new ArrayList<>(capacity(expectedSize));
+    }
+
+    /**
+     * Create a new {@link Set} presized for {@code expectedSize} elements.
+     *
+     * @param expectedSize the expected number of elements, may be negative for {@literal null} replies.
+     * @param <T> element type.
+     * @return a new {@link HashSet}.
+     */
+    static <T> Set<T> newSet(int expectedSize) {
+        return new HashSet<>(hashCapacity(expectedSize));
+    }
+
+    /**
+     * Create a new {@link Map} retaining insertion order presized for {@code expectedSize} entries.
+     *
+     * @param expectedSize the expected number of entries, may be negative for {@literal null} replies.
+     * @param <K> key type.
+     * @param <V> value type.
+     * @return a new {@link LinkedHashMap}.
+     */
+    static <K, V> Map<K, V> newLinkedHashMap(int expectedSize) {
+        return new LinkedHashMap<>(hashCapacity(expectedSize));
+    }
+
+    /**
+     * @param expectedSize the expected number of elements.
+     * @return the capacity for {@code expectedSize} elements, between {@literal 0} and {@link #MAX_PRESIZE}.
+     */
+    static int capacity(int expectedSize) {
+        return expectedSize <= 0 ? 0 : Math.min(expectedSize, MAX_PRESIZE);
+    }
+
+    private static int hashCapacity(int expectedSize) {
+
+        int capacity = capacity(expectedSize);
+
+        // default load factor is 0.75
+        return capacity < 3 ? capacity + 1 : (int) (capacity / 0.75f + 1.0f);
+    }
+}
@@ -22,6 +22,7 @@ public class ScoredValueListOutput<K, V> extends CommandOutput<K, V, List<Scored
         implements StreamingOutput<ScoredValue<V>> {
     private V value;
     private Subscriber<ScoredValue<V>> subscriber;
+    private boolean initialized;
 
     public ScoredValueListOutput(RedisCodec<K, V> codec) {
         super(codec, new ArrayList<>());
@@ -40,6 +41,16 @@ public class ScoredValueListOutput<K, V> extends CommandOutput<K, V, List<Scored
         value = null;
     }
 
+    @Override
+    public void multi(int count) {
+
+        if (!initialized && output.isEmpty() && subscriber instanceof ListSubscriber) {
+            output = OutputFactory.newList(count / 2);
+            setSubscriber(ListSubscriber.of(output));
+        }
+        initialized = true;
+    }
+
     @Override
     public void setSubscriber(Subscriber<ScoredValue<V>> subscriber) {
         LettuceAssert.notNull(subscriber, "Subscriber must not be null");
@@ -19,6 +19,7 @@ import com.lambdaworks.redis.internal.LettuceAssert;
 public class StringListOutput<K, V> extends CommandOutput<K, V, List<String>> implements StreamingOutput<String>{
 
 	private Subscriber<String> subscriber;
+	private boolean initialized;
 
 	public StringListOutput(RedisCodec<K, V> codec) {
 		super(codec, new ArrayList<>());
@@ -30,6 +31,16 @@ public class StringListOutput<K, V> extends CommandOutput<K, V, List<String>> im
         subscriber.onNext(bytes == null ? null : decodeAscii(bytes));
     }
 
+    @Override
+    public void multi(int count) {
+
+        if (!initialized && output.isEmpty() && subscriber instanceof ListSubscriber) {
+            output = OutputFactory.newList(count);
+            setSubscriber(ListSubscriber.of(output));
+        }
+        initialized = true;
+    }
+
 	@Override
 	public void setSubscriber(Subscriber<String> subscriber) {
         LettuceAssert.notNull(subscriber, "Subscriber must not be null");
@@ -20,6 +20,7 @@ import com.lambdaworks.redis.internal.LettuceAssert;
 public class ValueListOutput<K, V> extends CommandOutput<K, V, List<V>> implements StreamingOutput<V> {
 
     private Subscriber<V> subscriber;
+    private boolean initialized;
 
     public ValueListOutput(RedisCodec<K, V> codec) {
         super(codec, new ArrayList<>());
@@ -31,6 +32,16 @@ public class ValueListOutput<K, V> extends CommandOutput<K, V, List<V>> implemen
         subscriber.onNext(bytes == null ? null : codec.decodeValue(bytes));
     }
 
+    @Override
+    public void multi(int count) {
+
+        if (!initialized && output.isEmpty() && subscriber instanceof ListSubscriber) {
+            output = OutputFactory.newList(count);
+            setSubscriber(ListSubscriber.of(output));
+        }
+        initialized = true;
+    }
+
     @Override
     public void setSubscriber(Subscriber<V> subscriber) {
         LettuceAssert.notNull(subscriber, "Subscriber must not be null");
@@ -7,6 +7,7 @@ import java.util.HashSet;
 import java.util.Set;
 
 import com.lambdaworks.redis.codec.RedisCodec;
+import com.lambdaworks.redis.internal.LettuceAssert;
 
 /**
  * {@link Set} of value output.
@@ -16,13 +17,39 @@ import com.lambdaworks.redis.codec.RedisCodec;
  * 
  * @author Will Glozer
  */
-public class ValueSetOutput<K, V> extends CommandOutput<K, V, Set<V>> {
+public class ValueSetOutput<K, V> extends CommandOutput<K, V, Set<V>> implements StreamingOutput<V> {
+
+    private Subscriber<V> subscriber;
+    private boolean initialized;
+
     public ValueSetOutput(RedisCodec<K, V> codec) {
         super(codec, new HashSet<>());
+        setSubscriber(ListSubscriber.of(output));
     }
 
     @Override
     public void set(ByteBuffer bytes) {
-        output.add(bytes == null ? null : codec.decodeValue(bytes));
+        subscriber.onNext(bytes == null ? null : codec.decodeValue(bytes));
+    }
+
+    @Override
+    public void multi(int count) {
+
+        if (!initialized && output.isEmpty() && subscriber instanceof ListSubscriber) {
+            output = OutputFactory.newSet(count);
+            setSubscriber(ListSubscriber.of(output));
+        }
+        initialized = true;
+    }
+
+    @Override
+    public void setSubscriber(Subscriber<V> subscriber) {
+        LettuceAssert.notNull(subscriber, "Subscriber must not be null");
+        this.subscriber = subscriber;
+    }
+
+    @Override
+    public Subscriber<V> getSubscriber() {
+        return subscriber;
     }
 }
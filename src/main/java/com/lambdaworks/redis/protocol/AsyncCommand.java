@@ -1,8 +1,7 @@
 package com.lambdaworks.redis.protocol;
 
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.CountDownLatch;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.function.Consumer;
 
 import com.lambdaworks.redis.RedisCommandExecutionException;
@@ -14,7 +13,9 @@ import io.netty.buffer.ByteBuf;
 
 /**
  * An asynchronous redis command and its result. All successfully executed commands will eventually return a
- * {@link CommandOutput} object.
+ * {@link CommandOutput} object. Completion state and waiting rely solely on the {@link CompletableFuture} without additional
+ * synchronizers. A command is completed once the number of remaining completions (see
+ * {@link #AsyncCommand(RedisCommand, int)}) drops to zero.
  * 
  * @param <K> Key type.
  * @param <V> Value type.
@@ -25,8 +26,15 @@ import io.netty.buffer.ByteBuf;
 public class AsyncCommand<K, V, T> extends CompletableFuture<T> implements RedisCommand<K, V, T>, RedisFuture<T>,
         CompleteableCommand<T>, DecoratedCommand<K, V, T> {
 
+    @SuppressWarnings("rawtypes")
+    private static final AtomicIntegerFieldUpdater<AsyncCommand> COUNT_UPDATER = AtomicIntegerFieldUpdater
+            .newUpdater(AsyncCommand.class, "count");
+
     protected RedisCommand<K, V, T> command;
-    protected CountDownLatch latch = new CountDownLatch(1);
+
+    // accessed via COUNT_UPDATER
+    @SuppressWarnings("unused")
+    private volatile int count;
 
     /**
      * 
@@ -34,8 +42,21 @@ public class AsyncCommand<K, V, T> extends CompletableFuture<T> implements Redis
      * 
      */
     public AsyncCommand(RedisCommand<K, V, T> command) {
+        this(command, 1);
+    }
+
+    /**
+     *
+     * @param command the command, must not be {@literal null}.
+     * @param count number of {@link #complete()} calls required to complete this command, must be greater {@literal 0}.
+     */
+    protected AsyncCommand(RedisCommand<K, V, T> command, int count) {
+
         LettuceAssert.notNull(command, "RedisCommand must not be null");
+        LettuceAssert.isTrue(count > 0, "Count must be greater 0");
+
         this.command = command;
+        this.count = count;
     }
 
     /**
@@ -48,11 +69,21 @@ public class AsyncCommand<K, V, T> extends CompletableFuture<T> implements Redis
      */
     @Override
     public boolean await(long timeout, TimeUnit unit) {
+
+        if (isDone()) {
+            return true;
+        }
+
         try {
-            return latch.await(timeout, unit);
+            get(timeout, unit);
+            return true;
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new RedisCommandInterruptedException(e);
+        } catch (ExecutionException | CancellationException e) {
+            return true;
+        } catch (TimeoutException e) {
+            return false;
         }
     }
 
@@ -71,18 +102,17 @@ public class AsyncCommand<K, V, T> extends CompletableFuture<T> implements Redis
      */
     @Override
     public void complete() {
-        if (latch.getCount() == 1) {
+        if (countDown()) {
             completeResult();
             command.complete();
         }
-        latch.countDown();
     }
 
     protected void completeResult() {
         if (command.getOutput() == null) {
             complete(null);
         } else if (command.getOutput().hasError()) {
-            completeExceptionally(new RedisCommandExecutionException(command.getOutput().getError()));
+            doCompleteExceptionally(new RedisCommandExecutionException(command.getOutput().getError()));
         } else {
             complete(command.getOutput().get());
         }
@@ -90,23 +120,40 @@ public class AsyncCommand<K, V, T> extends CompletableFuture<T> implements Redis
 
     @Override
     public boolean completeExceptionally(Throwable ex) {
-        boolean result = false;
-        if (latch.getCount() == 1) {
-            command.completeExceptionally(ex);
-            result = super.completeExceptionally(ex);
+        if (countDown()) {
+            return doCompleteExceptionally(ex);
         }
-        latch.countDown();
-        return result;
+        return false;
+    }
+
+    private boolean doCompleteExceptionally(Throwable ex) {
+        command.completeExceptionally(ex);
+        return super.completeExceptionally(ex);
     }
 
     @Override
     public boolean cancel(boolean mayInterruptIfRunning) {
-        try {
-            command.cancel();
-            return super.cancel(mayInterruptIfRunning);
-        } finally {
-            latch.countDown();
-        }
+        COUNT_UPDATER.set(this, 0);
+        command.cancel();
+        return super.cancel(mayInterruptIfRunning);
+    }
+
+    /**
+     * Decrement the number of remaining completions.
+     *
+     * @return {@literal true} if the count dropped to zero with this call and the command should be completed.
+     */
+    private boolean countDown() {
+
+        int current;
+        do {
+            current = count;
+            if (current == 0) {
+                return false;
+            }
+        } while (!COUNT_UPDATER.compareAndSet(this, current, current - 1));
+
+        return current == 1;
     }
 
     @Override
@@ -43,7 +43,7 @@ public class CommandArgs<K, V> {
     private final List<SingularArgument> singularArguments = new ArrayList<>(10);
     private Long firstInteger;
     private String firstString;
-    private ByteBuffer firstEncodedKey;
+    private KeyArgument<K, V> firstKeyArgument;
     private K firstKey;
 
     /**
@@ -72,11 +72,14 @@ public class CommandArgs<K, V> {
      */
     public CommandArgs<K, V> addKey(K key) {
 
+        KeyArgument<K, V> keyArgument = KeyArgument.of(key, codec);
+
         if (firstKey == null) {
             firstKey = key;
+            firstKeyArgument = keyArgument;
         }
 
-        singularArguments.add(KeyArgument.of(key, codec));
+        singularArguments.add(keyArgument);
         return this;
     }
 
@@ -303,7 +306,8 @@ public class CommandArgs<K, V> {
     }
 
     /**
-     * Returns the first key argument in its byte-encoded representation.
+     * Returns the first key argument in its byte-encoded representation. The key is encoded once and the encoded
+     * representation is reused when writing the arguments with {@link #encode(ByteBuf)}.
      * 
      * @return the first key argument in its byte-encoded representation or {@literal null}.
      */
@@ -313,11 +317,7 @@ public class CommandArgs<K, V> {
             return null;
         }
 
-        if (firstEncodedKey == null) {
-            firstEncodedKey = codec.encodeKey(firstKey);
-        }
-
-        return firstEncodedKey.duplicate();
+        return firstKeyArgument.getEncodedKey().duplicate();
     }
 
     /**
@@ -502,6 +502,7 @@ public class CommandArgs<K, V> {
 
         final K key;
         final RedisCodec<K, V> codec;
+        private ByteBuffer encodedKey;
 
         private KeyArgument(K key, RedisCodec<K, V> codec) {
             this.key = key;
@@ -512,6 +513,21 @@ public class CommandArgs<K, V> {
             return new KeyArgument<>(key, codec);
         }
 
+        /**
+         * Encode the key using the codec and retain the encoded key. Subsequent calls to {@link #encode(ByteBuf)} write the
+         * retained key instead of encoding the key again.
+         *
+         * @return the encoded key.
+         */
+        ByteBuffer getEncodedKey() {
+
+            if (encodedKey == null) {
+                encodedKey = codec.encodeKey(key);
+            }
+
+            return encodedKey;
+        }
+
         @Override
         void encode(ByteBuf target) {
 
@@ -520,6 +536,11 @@ public class CommandArgs<K, V> {
                 return;
             }
 
+            if (encodedKey != null) {
+                ByteBufferArgument.writeByteBuffer(target, encodedKey.duplicate());
+                return;
+            }
+
             if (codec instanceof ToByteBufEncoder) {
 
                 ToByteBufEncoder<K, V> toByteBufEncoder = (ToByteBufEncoder<K, V>) codec;
@@ -7,19 +7,28 @@ import java.net.SocketAddress;
 import java.nio.channels.ClosedChannelException;
 import java.nio.charset.Charset;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 
 import com.lambdaworks.redis.*;
 import com.lambdaworks.redis.internal.LettuceAssert;
 import com.lambdaworks.redis.internal.LettuceFactories;
 import com.lambdaworks.redis.internal.LettuceLists;
 import com.lambdaworks.redis.internal.LettuceSets;
+import com.lambdaworks.redis.output.ChunkedOutput;
+import com.lambdaworks.redis.output.CommandOutput;
 import com.lambdaworks.redis.resource.ClientResources;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.CompositeByteBuf;
 import io.netty.channel.*;
 import io.netty.channel.local.LocalAddress;
+import io.netty.util.Timer;
+import io.netty.util.concurrent.EventExecutor;
 import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.GenericFutureListener;
 import io.netty.util.internal.logging.InternalLogLevel;
@@ -49,17 +58,30 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
     private static final Set<String> SUPPRESS_IO_EXCEPTION_MESSAGES = LettuceSets.unmodifiableSet("Connection reset by peer",
             "Broken pipe", "Connection timed out");
 
+    /**
+     * Flag within {@link #writers} signaling a pending exclusive lock. New writers are not admitted while this flag is set so
+     * an exclusive lock cannot be starved by a steady stream of writers.
+     */
+    private static final long EXCLUSIVE_PENDING = 1L << 62;
+
     protected final long commandHandlerId = CHANNEL_COUNTER.incrementAndGet();
     protected final ClientOptions clientOptions;
     protected final ClientResources clientResources;
     protected final Queue<RedisCommand<K, V, ?>> queue;
+    /**
+     * Writer state. A positive value is the number of concurrent writers, {@code -1} (and below for re-entrant locking)
+     * represents an exclusive lock.
+     */
     protected final AtomicLong writers = new AtomicLong();
     protected final Object stateLock = new Object();
 
     // all access to the commandBuffer is synchronized
-    protected final Deque<RedisCommand<K, V, ?>> commandBuffer = LettuceFactories.newConcurrentQueue();
-    protected final Deque<RedisCommand<K, V, ?>> transportBuffer = LettuceFactories.newConcurrentQueue();
-    protected final ByteBuf buffer = ByteBufAllocator.DEFAULT.directBuffer(8192 * 8);
+    protected final Deque<RedisCommand<K, V, ?>> commandBuffer = LettuceFactories.newIndexedConcurrentQueue();
+
+    // commands passed to the channel that did not reach the queue yet, mapped to their write sequence to retain the order
+    protected final Map<RedisCommand<K, V, ?>, Long> transportBuffer = new ConcurrentHashMap<>();
+    private final AtomicLong transportSequence = new AtomicLong();
+    protected final ByteBuf buffer;
     protected final RedisStateMachine<K, V> rsm = new RedisStateMachine<K, V>();
     protected volatile Channel channel;
     private volatile ConnectionWatchdog connectionWatchdog;
@@ -72,11 +94,22 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
     private final Reliability reliability;
 
     private volatile LifecycleState lifecycleState = LifecycleState.NOT_CONNECTED;
-    private Thread exclusiveLockOwner;
+    private volatile Thread exclusiveLockOwner;
     private RedisChannelHandler<K, V> redisChannelHandler;
-    private Throwable connectionError;
+    private volatile Throwable connectionError;
     private String logPrefix;
-    private boolean autoFlushCommands = true;
+    private volatile boolean autoFlushCommands = true;
+    private final BackpressureSource backpressureSource = new BackpressureSource();
+    // components that currently want reading suspended, reading resumes once no reason is left
+    private final Set<Object> readSuspensions = ConcurrentHashMap.newKeySet();
+    private final Consumer<ExpiringCommand<K, V, ?>> expiryListener = this::commandExpired;
+    private final Consumer<ExpiringCommand<K, V, ?>> expiringCompletionListener = this::expiringCommandCompleted;
+    // commands wrapped by a pending ExpiringCommand, commands use identity equality
+    private final Set<RedisCommand<K, V, ?>> expiringCommands = ConcurrentHashMap.newKeySet();
+    private volatile Timer timer;
+    private long defaultTimeoutNanos;
+    private final EventExecutor decodeExecutor;
+    private DeferredReply<K, V> deferredReply;
 
     /**
      * Initialize a new instance that handles commands from the supplied queue.
@@ -97,6 +130,34 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
         this.traceEnabled = logger.isTraceEnabled();
         this.debugEnabled = logger.isDebugEnabled();
         this.reliability = clientOptions.isAutoReconnect() ? Reliability.AT_LEAST_ONCE : Reliability.AT_MOST_ONCE;
+
+        // a single executor per connection retains the order of completions
+        this.decodeExecutor = clientOptions.isDeferredDecoding() ? clientResources.eventExecutorGroup().next() : null;
+
+        if (clientOptions.isCompositeDecodeBuffer()) {
+            this.buffer = ByteBufAllocator.DEFAULT.compositeDirectBuffer(Integer.MAX_VALUE);
+        } else {
+            this.buffer = ByteBufAllocator.DEFAULT.directBuffer(8192 * 8);
+        }
+    }
+
+    /**
+     * Enable command timeouts according to the {@link TimeoutOptions} of the {@link ClientOptions}. Commands are timed out
+     * using {@code timer} so the timeout of a command can be cancelled without scanning the command queue.
+     *
+     * @param timer the timer to schedule command timeouts, must not be {@literal null}.
+     * @param timeout the connection timeout applied if {@link TimeoutOptions} do not provide a
+     *        {@link TimeoutOptions.TimeoutSource}.
+     * @param unit unit for {@code timeout}, must not be {@literal null}.
+     * @since 4.3
+     */
+    public void enableCommandTimeouts(Timer timer, long timeout, TimeUnit unit) {
+
+        LettuceAssert.notNull(timer, "Timer must not be null");
+        LettuceAssert.notNull(unit, "TimeUnit must not be null");
+
+        this.defaultTimeoutNanos = unit.toNanos(timeout);
+        this.timer = timer;
     }
 
     /**
@@ -118,9 +179,13 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
             logger.debug("{} channelRegistered()", logPrefix());
         }
 
+        // backpressure applies only to the previous channel, other reasons carry over to the new channel
+        readSuspensions.remove(backpressureSource);
+        updateAutoRead();
+
         setState(LifecycleState.REGISTERED);
 
-        buffer.clear();
+        clearBuffer();
         ctx.fireChannelRegistered();
     }
 
@@ -180,9 +245,20 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
                 logger.trace("{} Buffer: {}", logPrefix(), input.toString(Charset.defaultCharset()).trim());
             }
 
-            buffer.writeBytes(input);
+            if (buffer instanceof CompositeByteBuf) {
+
+                CompositeByteBuf composite = (CompositeByteBuf) buffer;
+                composite.addComponent(input.retain());
+                composite.writerIndex(composite.writerIndex() + input.readableBytes());
+            } else {
+                buffer.writeBytes(input);
+            }
 
             decode(ctx, buffer);
+
+            if (buffer.refCnt() != 0) {
+                discardReadBytes();
+            }
         } finally {
             input.release();
         }
@@ -199,7 +275,8 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
 
             WithLatency withLatency = getWithLatency(command);
 
-            if (!rsm.decode(buffer, command, command.getOutput())) {
+            if (!rsm.decode(buffer, command, getDecodeOutput(ctx, command))) {
+                afterDecode(command, false);
                 return;
             }
 
@@ -207,18 +284,206 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
 
             queue.poll();
 
-            try {
-                command.complete();
-            } catch (Exception e) {
-                logger.warn("{} Unexpected exception during command completion: {}", logPrefix, e.toString(), e);
+            if (decodeExecutor != null) {
+
+                DeferredReply<K, V> reply = deferredReply;
+                deferredReply = null;
+                completeDeferred(command, reply);
+            } else {
+                complete(command);
             }
 
-            if (buffer.refCnt() != 0) {
-                buffer.discardReadBytes();
+            afterDecode(command, true);
+        }
+    }
+
+    /**
+     * Returns the output to decode the response of {@code command}. Responses are retained in a {@link DeferredReply} if
+     * {@link ClientOptions#isDeferredDecoding() deferred decoding} is enabled. Chunked outputs and demand-aware commands are
+     * decoded on the I/O thread as they consume the response while it is received.
+     *
+     * @param ctx the channel handler context.
+     * @param command the command.
+     * @return the output to decode the response.
+     */
+    private CommandOutput<K, V, ?> getDecodeOutput(ChannelHandlerContext ctx, RedisCommand<K, V, ?> command) {
+
+        CommandOutput<K, V, ?> output = command.getOutput();
+
+        if (decodeExecutor == null || output == null || output instanceof ChunkedOutput
+                || CommandWrapper.unwrap(command, DemandAware.Sink.class) != null) {
+            return output;
+        }
+
+        if (deferredReply == null) {
+            deferredReply = new DeferredReply<>(ctx.alloc().buffer());
+        }
+
+        return deferredReply;
+    }
+
+    /**
+     * Decode the {@link DeferredReply} into the command output and complete the command on the decode executor. Commands
+     * without a deferred reply are completed on the decode executor as well to retain the order of completions.
+     *
+     * @param command the command.
+     * @param reply the deferred reply, may be {@literal null}.
+     */
+    private void completeDeferred(RedisCommand<K, V, ?> command, DeferredReply<K, V> reply) {
+
+        Runnable completion = () -> {
+
+            if (reply != null) {
+                reply.replay(command.getOutput(), command);
+            }
+
+            complete(command);
+        };
+
+        try {
+            decodeExecutor.execute(completion);
+        } catch (RejectedExecutionException e) {
+            completion.run();
+        }
+    }
+
+    private void complete(RedisCommand<K, V, ?> command) {
+
+        try {
+            command.complete();
+        } catch (Exception e) {
+            logger.warn("{} Unexpected exception during command completion: {}", logPrefix, e.toString(), e);
+        }
+    }
+
+    /**
+     * Release a partially received {@link DeferredReply}.
+     */
+    private void releaseDeferredReply() {
+
+        DeferredReply<K, V> reply = deferredReply;
+        deferredReply = null;
+
+        if (reply != null) {
+            reply.release();
+        }
+    }
+
+    /**
+     * Apply backpressure for {@link DemandAware.Sink demand-aware} commands. Reading from the channel is suspended while the
+     * sink has no demand and resumed once the sink requests more data or the command is completed.
+     *
+     * @param command the decoded command.
+     * @param completed {@literal true} if the command was completed.
+     */
+    private void afterDecode(RedisCommand<K, V, ?> command, boolean completed) {
+
+        DemandAware.Sink sink = CommandWrapper.unwrap(command, DemandAware.Sink.class);
+
+        if (sink == null) {
+            return;
+        }
+
+        if (completed) {
+            sink.removeSource();
+            resumeReading(backpressureSource);
+            return;
+        }
+
+        sink.setSource(backpressureSource);
+
+        if (sink.hasDemand()) {
+            resumeReading(backpressureSource);
+            return;
+        }
+
+        suspendReading(backpressureSource);
+
+        // demand might be signalled concurrently while we suspended reading
+        if (sink.hasDemand()) {
+            resumeReading(backpressureSource);
+        }
+    }
+
+    /**
+     * Suspend reading from the channel on behalf of {@code reason}. Reading stays suspended until every component that
+     * suspended reading has {@link #resumeReading(Object) resumed} it. Suspending reading for the same reason multiple
+     * times has no additional effect.
+     *
+     * @param reason the component that wants reading suspended, must not be {@literal null}.
+     * @since 4.3
+     */
+    public void suspendReading(Object reason) {
+
+        LettuceAssert.notNull(reason, "Reason must not be null");
+
+        if (readSuspensions.add(reason)) {
+            updateAutoRead();
+        }
+    }
+
+    /**
+     * Withdraw a read suspension of {@code reason}. Reading resumes once no other component wants reading suspended.
+     *
+     * @param reason the component that suspended reading, must not be {@literal null}.
+     * @since 4.3
+     */
+    public void resumeReading(Object reason) {
+
+        LettuceAssert.notNull(reason, "Reason must not be null");
+
+        if (readSuspensions.remove(reason)) {
+            updateAutoRead();
+        }
+    }
+
+    /**
+     * Apply the read suspensions to the channel. Synchronized to apply the most recent state when reading is suspended and
+     * resumed concurrently.
+     */
+    private void updateAutoRead() {
+
+        synchronized (readSuspensions) {
+
+            Channel channel = this.channel;
+            if (channel == null) {
+                return;
             }
+
+            boolean autoRead = readSuspensions.isEmpty();
+            if (channel.config().isAutoRead() != autoRead) {
+                channel.config().setAutoRead(autoRead);
+            }
+        }
+    }
+
+    /**
+     * Discard read bytes once per read instead of once per decoded command. Composite buffers drop consumed components
+     * without copying, aggregation buffers are compacted only if at least half of the buffer capacity was read.
+     */
+    private void discardReadBytes() {
+
+        if (buffer instanceof CompositeByteBuf) {
+            ((CompositeByteBuf) buffer).discardReadComponents();
+        } else {
+            buffer.discardSomeReadBytes();
         }
     }
 
+    /**
+     * Clear the buffer and release buffered components.
+     */
+    private void clearBuffer() {
+
+        if (buffer instanceof CompositeByteBuf) {
+
+            CompositeByteBuf composite = (CompositeByteBuf) buffer;
+            composite.removeComponents(0, composite.numComponents());
+        }
+
+        buffer.clear();
+    }
+
     private WithLatency getWithLatency(RedisCommand<K, V, ?> command) {
         WithLatency withLatency = null;
 
@@ -281,20 +546,21 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
             }
 
             /**
-             * This lock causes safety for connection activation and somehow netty gets more stable and predictable performance
-             * than without a lock and all threads are hammering towards writeAndFlush.
+             * The writer count guards connection activation: {@link #channelActive(ChannelHandlerContext)} and
+             * {@link #channelInactive(ChannelHandlerContext)} wait for in-flight writers and hold off new ones while shifting
+             * buffered commands.
              */
             Channel channel = this.channel;
             if (autoFlushCommands) {
 
                 if (channel != null && isConnected() && channel.isActive()) {
-                    writeToChannel(command, channel);
+                    writeToChannel(potentiallyExpire(command), channel);
                 } else {
                     writeToBuffer(command);
                 }
 
             } else {
-                bufferCommand(command);
+                bufferCommand(potentiallyExpire(command));
             }
         } finally {
             decrementWriters();
@@ -306,9 +572,157 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
         return command;
     }
 
+    @Override
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public <C extends RedisCommand<K, V, ?>> Collection<C> write(Collection<C> commands) {
+
+        LettuceAssert.notNull(commands, "Commands must not be null");
+
+        if (commands.isEmpty()) {
+            return commands;
+        }
+
+        try {
+            incrementWriters();
+
+            if (lifecycleState == LifecycleState.CLOSED) {
+                throw new RedisException("Connection is closed");
+            }
+
+            if (clientOptions.getRequestQueueSize() != Integer.MAX_VALUE
+                    && commandBuffer.size() + queue.size() + commands.size() > clientOptions.getRequestQueueSize()) {
+                throw new RedisException("Request queue size exceeded: " + clientOptions.getRequestQueueSize()
+                        + ". Commands are not accepted until the queue size drops.");
+            }
+
+            if ((channel == null || !isConnected()) && isRejectCommand()) {
+                throw new RedisException("Currently not connected. Commands are rejected.");
+            }
+
+            Channel channel = this.channel;
+            if (autoFlushCommands) {
+
+                if (channel != null && isConnected() && channel.isActive()) {
+                    writeToChannel(potentiallyExpire(commands), channel);
+                } else {
+                    for (RedisCommand<K, V, ?> command : commands) {
+                        writeToBuffer((RedisCommand) command);
+                    }
+                }
+
+            } else {
+                for (RedisCommand<K, V, ?> command : commands) {
+                    bufferCommand(potentiallyExpire(command));
+                }
+            }
+        } finally {
+            decrementWriters();
+            if (debugEnabled) {
+                logger.debug("{} write() done", logPrefix());
+            }
+        }
+
+        return commands;
+    }
+
+    /**
+     * Wrap {@code command} with an {@link ExpiringCommand} if command timeouts are enabled. Commands that already expire and
+     * commands within a {@literal MULTI} transaction are not wrapped: a {@link TransactionalCommand} completes only with the
+     * response to {@literal EXEC} so the timeout of {@literal EXEC} applies.
+     */
+    private <T> RedisCommand<K, V, T> potentiallyExpire(RedisCommand<K, V, T> command) {
+
+        Timer timer = this.timer;
+        if (timer == null || command.isDone() || command instanceof ExpiringCommand
+                || CommandWrapper.unwrap(command, TransactionalCommand.class) != null) {
+            return command;
+        }
+
+        long timeoutNanos = getTimeoutNanos(command);
+        if (timeoutNanos <= 0) {
+            return command;
+        }
+
+        ExpiringCommand<K, V, T> expiring = new ExpiringCommand<>(command, clientResources.eventExecutorGroup(),
+                expiryListener, expiringCompletionListener);
+        expiringCommands.add(command);
+        expiring.schedule(timer, timeoutNanos);
+        return expiring;
+    }
+
+    private Collection<? extends RedisCommand<K, V, ?>> potentiallyExpire(Collection<? extends RedisCommand<K, V, ?>> commands) {
+
+        if (timer == null) {
+            return commands;
+        }
+
+        List<RedisCommand<K, V, ?>> result = new ArrayList<>(commands.size());
+        for (RedisCommand<K, V, ?> command : commands) {
+            result.add(potentiallyExpire(command));
+        }
+
+        return result;
+    }
+
+    private long getTimeoutNanos(RedisCommand<K, V, ?> command) {
+
+        TimeoutOptions.TimeoutSource source = clientOptions.getTimeoutOptions().getSource();
+
+        if (source == null) {
+            // blocking commands wait for their own timeout
+            return CommandMetadata.of(command.getType()).isBlocking() ? 0 : defaultTimeoutNanos;
+        }
+
+        return source.getTimeUnit().toNanos(source.getTimeout(command));
+    }
+
+    /**
+     * Invoked on the {@link ClientResources#eventExecutorGroup()} after {@code command} was completed with a timeout. Commands
+     * that were not written yet are discarded, written commands remain in the queue until their response is decoded.
+     *
+     * @param command the expired command.
+     */
+    private void commandExpired(ExpiringCommand<K, V, ?> command) {
+
+        if (debugEnabled) {
+            logger.debug("{} Command timed out: {}", logPrefix(), command);
+        }
+
+        if (commandBuffer.remove(command)) {
+            expiringCommands.remove(command.getDelegate());
+        }
+
+        Channel channel = this.channel;
+        if (clientResources.commandLatencyCollector().isEnabled() && channel != null && channel.remoteAddress() != null) {
+            clientResources.commandLatencyCollector().recordCommandTimeout(
+                    channel.localAddress() != null ? channel.localAddress() : LocalAddress.ANY, channel.remoteAddress(),
+                    command.getType());
+        }
+    }
+
+    private void expiringCommandCompleted(ExpiringCommand<K, V, ?> command) {
+        expiringCommands.remove(command.getDelegate());
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private void writeToChannel(Collection<? extends RedisCommand<K, V, ?>> commands, Channel channel) {
+
+        List<RedisCommand<K, V, ?>> toWrite = new ArrayList<>(commands);
+
+        if (reliability == Reliability.AT_MOST_ONCE) {
+            // cancel on exceptions and remove from queue, because there is no housekeeping
+            writeAndFlush(toWrite).addListener(new AtMostOnceWriteListener((Collection) toWrite, queue));
+        }
+
+        if (reliability == Reliability.AT_LEAST_ONCE) {
+            // commands are ok to stay within the queue, reconnect will retrigger them
+            writeAndFlush(toWrite).addListener(WRITE_LOG_LISTENER);
+        }
+    }
+
     protected <C extends RedisCommand<K, V, T>, T> void writeToBuffer(C command) {
 
-        if (commandBuffer.contains(command) || queue.contains(command)) {
+        if (isPending(command)) {
             return;
         }
 
@@ -321,7 +735,20 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
             return;
         }
 
-        bufferCommand(command);
+        bufferCommand(potentiallyExpire(command));
+    }
+
+    /**
+     * Check whether {@code command} is buffered or queued, either as is or wrapped by an {@link ExpiringCommand}. Wrapped
+     * commands are tracked in {@link #expiringCommands} so the check does not allocate a wrapper to look it up.
+     */
+    @SuppressWarnings("unchecked")
+    private boolean isPending(RedisCommand<K, V, ?> command) {
+
+        RedisCommand<K, V, ?> target = command instanceof ExpiringCommand ? ((ExpiringCommand<K, V, ?>) command).getDelegate()
+                : command;
+
+        return expiringCommands.contains(target) || commandBuffer.contains(target) || queue.contains(target);
     }
 
     protected <C extends RedisCommand<K, V, T>, T> void writeToChannel(C command, Channel channel) {
@@ -347,7 +774,8 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
     }
 
     /**
-     * Wait for stateLock and increment writers. Will wait if stateLock is locked and if writer counter is negative.
+     * Increment writers without acquiring {@code stateLock}. Will spin if writers are locked exclusively or an exclusive lock is
+     * pending.
      */
     protected void incrementWriters() {
 
@@ -355,14 +783,18 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
             return;
         }
 
-        synchronized (stateLock) {
-            for (;;) {
+        for (;;) {
 
-                if (writers.get() >= 0) {
-                    writers.incrementAndGet();
+            long current = writers.get();
+
+            if (current >= 0 && (current & EXCLUSIVE_PENDING) == 0) {
+                if (writers.compareAndSet(current, current + 1)) {
                     return;
                 }
+                continue;
             }
+
+            Thread.yield();
         }
     }
 
@@ -379,8 +811,9 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
     }
 
     /**
-     * Wait for stateLock and no writers. Must be used in an outer {@code synchronized} block to prevent interleaving with other
-     * methods using writers. Sets writers to a negative value to create a lock for {@link #incrementWriters()}.
+     * Wait for no writers. Must be used in an outer {@code synchronized} block on {@code stateLock} to prevent interleaving
+     * with other exclusive lockers. Announces the pending lock so no new writers are admitted, waits until active writers have
+     * left and sets writers to a negative value to create a lock for {@link #incrementWriters()}.
      */
     protected void lockWritersExclusive() {
 
@@ -389,15 +822,25 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
             return;
         }
 
-        synchronized (stateLock) {
-            for (;;) {
+        for (;;) {
 
-                if (writers.compareAndSet(0, -1)) {
-                    exclusiveLockOwner = Thread.currentThread();
-                    return;
-                }
+            long current = writers.get();
+
+            if (current >= 0 && ((current & EXCLUSIVE_PENDING) != 0
+                    || writers.compareAndSet(current, current | EXCLUSIVE_PENDING))) {
+                break;
+            }
+
+            if (current < 0) {
+                Thread.yield();
             }
         }
+
+        while (!writers.compareAndSet(EXCLUSIVE_PENDING, -1)) {
+            Thread.yield();
+        }
+
+        exclusiveLockOwner = Thread.currentThread();
     }
 
     /**
@@ -406,8 +849,11 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
     protected void unlockWritersExclusive() {
 
         if (exclusiveLockOwner == Thread.currentThread()) {
-            if (writers.incrementAndGet() == 0) {
+            if (writers.get() == -1) {
                 exclusiveLockOwner = null;
+                writers.set(0);
+            } else {
+                writers.incrementAndGet();
             }
         }
     }
@@ -440,6 +886,28 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
                 && lifecycleState.ordinal() < LifecycleState.DISCONNECTED.ordinal();
     }
 
+    /**
+     * Returns the number of commands that are buffered or that were written and await their response.
+     *
+     * @return the number of outstanding commands.
+     * @since 4.3
+     */
+    public int getOutstandingCommands() {
+        return commandBuffer.size() + queue.size();
+    }
+
+    /**
+     * Returns the remote address of the channel.
+     *
+     * @return the remote address or {@literal null} if not connected.
+     * @since 4.3
+     */
+    public SocketAddress getRemoteAddress() {
+
+        Channel channel = this.channel;
+        return channel != null ? channel.remoteAddress() : null;
+    }
+
     @Override
     @SuppressWarnings({ "rawtypes", "unchecked" })
     public void flushCommands() {
@@ -491,7 +959,9 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
             logger.debug("{} write() writeAndFlush commands {}", logPrefix(), commands);
         }
 
-        transportBuffer.addAll(commands);
+        for (C command : commands) {
+            transportBuffer.put(command, transportSequence.incrementAndGet());
+        }
         return channel.writeAndFlush(commands);
     }
 
@@ -501,7 +971,7 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
             logger.debug("{} write() writeAndFlush command {}", logPrefix(), command);
         }
 
-        transportBuffer.add(command);
+        transportBuffer.put(command, transportSequence.incrementAndGet());
         return channel.writeAndFlush(command);
     }
 
@@ -680,7 +1150,7 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
         List<RedisCommand<K, V, ?>> queuedCommands = drainCommands(queue);
         Collections.reverse(queuedCommands);
 
-        List<RedisCommand<K, V, ?>> transportBufferCommands = drainCommands(transportBuffer);
+        List<RedisCommand<K, V, ?>> transportBufferCommands = drainTransportBuffer();
         Collections.reverse(transportBufferCommands);
 
         // Queued commands first because they reached the queue before commands that are still in the transport buffer.
@@ -695,8 +1165,31 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
     private List<RedisCommand<K, V, ?>> drainCommands(Collection<RedisCommand<K, V, ?>> source) {
 
         List<RedisCommand<K, V, ?>> target = new ArrayList<>(source.size());
-        target.addAll(source);
-        source.removeAll(target);
+
+        Iterator<RedisCommand<K, V, ?>> iterator = source.iterator();
+        while (iterator.hasNext()) {
+            target.add(iterator.next());
+            iterator.remove();
+        }
+
+        return target;
+    }
+
+    /**
+     * Drain the transport buffer in write order.
+     */
+    private List<RedisCommand<K, V, ?>> drainTransportBuffer() {
+
+        List<Map.Entry<RedisCommand<K, V, ?>, Long>> entries = new ArrayList<>(transportBuffer.entrySet());
+        entries.sort(Map.Entry.comparingByValue());
+
+        List<RedisCommand<K, V, ?>> target = new ArrayList<>(entries.size());
+        for (Map.Entry<RedisCommand<K, V, ?>, Long> entry : entries) {
+            if (transportBuffer.remove(entry.getKey()) != null) {
+                target.add(entry.getKey());
+            }
+        }
+
         return target;
     }
 
@@ -760,8 +1253,7 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
 
                 // Shift all commands to the commandBuffer so the queue is empty.
                 // Allows to run onConnect commands before executing buffered commands
-                commandBuffer.addAll(queue);
-                queue.removeAll(commandBuffer);
+                commandBuffer.addAll(drainCommands(queue));
 
             } finally {
                 unlockWritersExclusive();
@@ -769,6 +1261,7 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
         }
 
         rsm.reset();
+        releaseDeferredReply();
 
         if (debugEnabled) {
             logger.debug("{} channelInactive() done", logPrefix());
@@ -899,6 +1392,7 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
         }
 
         rsm.close();
+        releaseDeferredReply();
 
         if (buffer.refCnt() > 0) {
             buffer.release();
@@ -919,9 +1413,10 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
         cancelCommands("Reset");
 
         rsm.reset();
+        releaseDeferredReply();
 
         if (buffer.refCnt() > 0) {
-            buffer.clear();
+            clearBuffer();
         }
     }
 
@@ -1024,4 +1519,15 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
             }
         }
     }
+
+    /**
+     * {@link DemandAware.Source} that resumes reading from the channel.
+     */
+    private class BackpressureSource implements DemandAware.Source {
+
+        @Override
+        public void requestMore() {
+            resumeReading(this);
+        }
+    }
 }
@@ -0,0 +1,155 @@
+package com.lambdaworks.redis.protocol;
+
+import static com.lambdaworks.redis.protocol.CommandType.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Static metadata of a Redis command used for dispatch and routing decisions. Metadata of {@link CommandType} commands is
+ * precomputed and resolved by the enum ordinal. Other {@link ProtocolKeyword}s are resolved by their name and fall back to
+ * {@link #UNKNOWN} if the name does not denote a {@link CommandType}.
+ *
+ * @author Mark Paluch
+ * @since 4.3
+ */
+public final class CommandMetadata {
+
+    private final static int READ_ONLY = 1;
+    private final static int PUB_SUB = 1 << 1;
+    private final static int CONNECTION_STATE = 1 << 2;
+    private final static int TRANSACTIONAL = 1 << 3;
+    private final static int BLOCKING = 1 << 4;
+
+    /**
+     * Metadata of commands that are not known to the registry.
+     */
+    public final static CommandMetadata UNKNOWN = new CommandMetadata(null, 0);
+
+    private final static CommandMetadata[] COMMAND_TYPES;
+    private final static Map<String, CommandMetadata> BY_NAME;
+
+    static {
+
+        CommandType[] types = CommandType.values();
+        int[] flags = new int[types.length];
+
+        flag(flags, READ_ONLY, ASKING, BITCOUNT, BITPOS, CLIENT, COMMAND, DUMP, ECHO, EXISTS, GEODIST, GEOPOS, GEORADIUS,
+                GEORADIUSBYMEMBER, GEOHASH, GET, GETBIT, GETRANGE, HEXISTS, HGET, HGETALL, HKEYS, HLEN, HMGET, HSCAN, HSTRLEN,
+                HVALS, INFO, KEYS, LINDEX, LLEN, LRANGE, MGET, MULTI, PFCOUNT, PTTL, RANDOMKEY, READWRITE, SCAN, SCARD, SCRIPT,
+                SDIFF, SINTER, SISMEMBER, SMEMBERS, SRANDMEMBER, SSCAN, STRLEN, SUNION, TIME, TTL, TYPE, WAIT, ZCARD, ZCOUNT,
+                ZLEXCOUNT, ZRANGE, ZRANGEBYLEX, ZRANGEBYSCORE, ZRANK, ZREVRANGE, ZREVRANGEBYSCORE, ZREVRANK, ZSCAN, ZSCORE);
+
+        flag(flags, PUB_SUB, PUBLISH, PUBSUB, PSUBSCRIBE, PUNSUBSCRIBE, SUBSCRIBE, UNSUBSCRIBE);
+        flag(flags, CONNECTION_STATE, AUTH, SELECT, READONLY, READWRITE);
+        flag(flags, TRANSACTIONAL, MULTI, EXEC, DISCARD, WATCH, UNWATCH);
+        flag(flags, BLOCKING, BLPOP, BRPOP, BRPOPLPUSH, WAIT);
+
+        COMMAND_TYPES = new CommandMetadata[types.length];
+        BY_NAME = new HashMap<>(types.length * 2);
+
+        for (CommandType type : types) {
+
+            CommandMetadata metadata = new CommandMetadata(type, flags[type.ordinal()]);
+
+            COMMAND_TYPES[type.ordinal()] = metadata;
+            BY_NAME.put(type.name(), metadata);
+        }
+    }
+
+    private final CommandType type;
+    private final int flags;
+
+    private CommandMetadata(CommandType type, int flags) {
+        this.type = type;
+        this.flags = flags;
+    }
+
+    /**
+     * Lookup the metadata of a command.
+     *
+     * @param keyword the command keyword.
+     * @return the {@link CommandMetadata}. Returns {@link #UNKNOWN} if the {@code keyword} does not denote a
+     *         {@link CommandType}.
+     */
+    public static CommandMetadata of(ProtocolKeyword keyword) {
+
+        if (keyword instanceof CommandType) {
+            return COMMAND_TYPES[((CommandType) keyword).ordinal()];
+        }
+
+        if (keyword == null) {
+            return UNKNOWN;
+        }
+
+        CommandMetadata metadata = BY_NAME.get(keyword.name());
+        return metadata != null ? metadata : UNKNOWN;
+    }
+
+    /**
+     *
+     * @return the {@link CommandType} or {@literal null} if the command is not known to the registry.
+     */
+    public CommandType getType() {
+        return type;
+    }
+
+    /**
+     *
+     * @return {@literal true} if the command does not modify the key-space and can be executed on slave nodes.
+     */
+    public boolean isReadOnly() {
+        return (flags & READ_ONLY) != 0;
+    }
+
+    /**
+     *
+     * @return {@literal true} if the command is a Pub/Sub command. Pub/Sub commands do not access the key-space and can be
+     *         executed on any cluster node.
+     */
+    public boolean isPubSub() {
+        return (flags & PUB_SUB) != 0;
+    }
+
+    /**
+     *
+     * @return {@literal true} if the command changes the connection state that needs to be restored on reconnect ({@code AUTH},
+     *         {@code SELECT}, {@code READONLY}, {@code READWRITE}).
+     */
+    public boolean isConnectionState() {
+        return (flags & CONNECTION_STATE) != 0;
+    }
+
+    /**
+     *
+     * @return {@literal true} if the command controls a transaction ({@code MULTI}, {@code EXEC}, {@code DISCARD},
+     *         {@code WATCH}, {@code UNWATCH}).
+     */
+    public boolean isTransactional() {
+        return (flags & TRANSACTIONAL) != 0;
+    }
+
+    /**
+     *
+     * @return {@literal true} if the command may block the connection until a timeout or an external event.
+     */
+    public boolean isBlocking() {
+        return (flags & BLOCKING) != 0;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuffer sb = new StringBuffer();
+        sb.append(getClass().getSimpleName());
+        sb.append(" [type=").append(type);
+        sb.append(", flags=").append(flags);
+        sb.append(']');
+        return sb.toString();
+    }
+
+    private static void flag(int[] flags, int flag, CommandType... types) {
+        for (CommandType type : types) {
+            flags[type.ordinal()] |= flag;
+        }
+    }
+}
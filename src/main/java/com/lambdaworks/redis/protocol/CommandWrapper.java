@@ -119,4 +119,35 @@ public class CommandWrapper<K, V, T> implements RedisCommand<K, V, T>, Completea
 
         return result;
     }
+
+    /**
+     * Returns an object that implements the given interface. It is either {@code wrapped} itself or a command decorated by
+     * {@code wrapped}.
+     *
+     * @param wrapped the wrapping command, may be {@literal null}.
+     * @param iface the interface to look for, must not be {@literal null}.
+     * @param <R> interface type.
+     * @return the first command within the decorator chain that implements {@code iface} or {@literal null}.
+     * @since 4.3
+     */
+    @SuppressWarnings("unchecked")
+    public static <R> R unwrap(RedisCommand<?, ?, ?> wrapped, Class<R> iface) {
+
+        RedisCommand<?, ?, ?> result = wrapped;
+
+        while (result != null) {
+
+            if (iface.isInstance(result)) {
+                return (R) result;
+            }
+
+            if (!(result instanceof DecoratedCommand<?, ?, ?>)) {
+                break;
+            }
+
+            result = ((DecoratedCommand<?, ?, ?>) result).getDelegate();
+        }
+
+        return null;
+    }
 }
@@ -0,0 +1,155 @@
+package com.lambdaworks.redis.protocol;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import com.lambdaworks.redis.codec.ByteArrayCodec;
+import com.lambdaworks.redis.codec.RedisCodec;
+import com.lambdaworks.redis.output.CommandOutput;
+
+import io.netty.buffer.ByteBuf;
+
+/**
+ * Output that retains the raw elements of a response in a pooled {@link ByteBuf} instead of decoding them. Elements are
+ * recorded in the order {@link RedisStateMachine} emits them and replayed to the actual {@link CommandOutput} using
+ * {@link #replay(CommandOutput, RedisCommand)}, typically outside of the I/O thread. The buffer is released after the replay.
+ *
+ * @author Mark Paluch
+ * @since 4.3
+ */
+class DeferredReply<K, V> extends CommandOutput<K, V, Void> {
+
+    private static final byte BYTES = 1;
+    private static final byte INTEGER = 2;
+    private static final byte ERROR = 3;
+    private static final byte MULTI = 4;
+    private static final byte COMPLETE = 5;
+
+    private final ByteBuf buffer;
+
+    /**
+     * @param buffer the buffer to retain the response elements, must not be {@literal null}.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    DeferredReply(ByteBuf buffer) {
+
+        // the codec is not used, elements are decoded by the actual output
+        super((RedisCodec) ByteArrayCodec.INSTANCE, null);
+        this.buffer = buffer;
+    }
+
+    @Override
+    public void set(ByteBuffer bytes) {
+        writeBytes(BYTES, bytes);
+    }
+
+    @Override
+    public void set(long integer) {
+
+        buffer.writeByte(INTEGER);
+        buffer.writeLong(integer);
+    }
+
+    @Override
+    public void setError(ByteBuffer error) {
+        writeBytes(ERROR, error);
+    }
+
+    @Override
+    public void setError(String error) {
+        writeBytes(ERROR, error == null ? null : ByteBuffer.wrap(error.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    @Override
+    public void multi(int count) {
+
+        buffer.writeByte(MULTI);
+        buffer.writeInt(count);
+    }
+
+    @Override
+    public void complete(int depth) {
+
+        buffer.writeByte(COMPLETE);
+        buffer.writeInt(depth);
+    }
+
+    /**
+     * Replay the recorded response elements to {@code output} and release the buffer. Exceptions thrown by {@code output}
+     * complete the {@code command} exceptionally, like in {@link RedisStateMachine}.
+     *
+     * @param output the target output, may be {@literal null}.
+     * @param command the command.
+     */
+    void replay(CommandOutput<?, ?, ?> output, RedisCommand<?, ?, ?> command) {
+
+        try {
+            while (output != null && buffer.isReadable()) {
+
+                byte type = buffer.readByte();
+
+                try {
+                    switch (type) {
+                        case BYTES:
+                            output.set(readBytes());
+                            break;
+                        case INTEGER:
+                            output.set(buffer.readLong());
+                            break;
+                        case ERROR:
+                            output.setError(readBytes());
+                            break;
+                        case MULTI:
+                            output.multi(buffer.readInt());
+                            break;
+                        case COMPLETE:
+                            output.complete(buffer.readInt());
+                            break;
+                        default:
+                            throw new IllegalStateException("Element type " + type + " not supported");
+                    }
+                } catch (Exception e) {
+                    command.completeExceptionally(e);
+                }
+            }
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * Release the buffer without replaying the response.
+     */
+    void release() {
+
+        if (buffer.refCnt() > 0) {
+            buffer.release();
+        }
+    }
+
+    private void writeBytes(byte type, ByteBuffer bytes) {
+
+        buffer.writeByte(type);
+
+        if (bytes == null) {
+            buffer.writeInt(-1);
+            return;
+        }
+
+        buffer.writeInt(bytes.remaining());
+        buffer.writeBytes(bytes);
+    }
+
+    private ByteBuffer readBytes() {
+
+        int length = buffer.readInt();
+
+        if (length == -1) {
+            return null;
+        }
+
+        ByteBuffer bytes = buffer.nioBuffer(buffer.readerIndex(), length);
+        buffer.skipBytes(length);
+        return bytes;
+    }
+}
@@ -0,0 +1,56 @@
+package com.lambdaworks.redis.protocol;
+
+/**
+ * Interface for demand-aware components. A demand-aware {@link Sink} signals whether it is able to accept more data while a
+ * {@link Source} produces data for the sink. The {@link Source} is notified through {@link Source#requestMore()} once the
+ * {@link Sink} is able to accept more data after it had no demand.
+ * <p>
+ * {@link CommandHandler} suspends reading from the channel while the active command is a {@link Sink} without demand.
+ *
+ * @author Mark Paluch
+ * @since 4.3
+ */
+public interface DemandAware {
+
+    /**
+     * A demand-aware {@link Sink} that accepts data. Commands implementing {@link Sink} receive a {@link Source} while they are
+     * decoded.
+     */
+    interface Sink {
+
+        /**
+         * Returns {@literal true} if the {@link Sink} has demand or {@literal false} if the source has no demand.
+         * {@literal false} means either the {@link Sink} has no demand in general because data is not needed or the current
+         * demand is saturated.
+         *
+         * @return {@literal true} if the {@link Sink} demands data.
+         */
+        boolean hasDemand();
+
+        /**
+         * Sets the {@link Source} for a {@link Sink}. The {@link Sink} is notified by this {@link Source} if the source has
+         * more data available.
+         *
+         * @param source the source, must not be {@literal null}.
+         */
+        void setSource(Source source);
+
+        /**
+         * Removes the {@link Source} reference from this {@link Sink}. Any previously set {@link Source} will no longer be
+         * associated with this {@link Sink}.
+         */
+        void removeSource();
+    }
+
+    /**
+     * A {@link Source} provides data to a {@link DemandAware.Sink} and can be notified to produce more input for the
+     * {@link Sink}.
+     */
+    interface Source {
+
+        /**
+         * Signals demand to the {@link Source}.
+         */
+        void requestMore();
+    }
+}
@@ -0,0 +1,119 @@
+package com.lambdaworks.redis.protocol;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import com.lambdaworks.redis.RedisCommandTimeoutException;
+
+import io.netty.util.Timeout;
+import io.netty.util.Timer;
+import io.netty.util.TimerTask;
+
+/**
+ * Command wrapper that completes the command exceptionally with {@link RedisCommandTimeoutException} if it is not completed
+ * within its timeout. The timeout is cancelled once the command is completed. The timer thread only hands the expiry off to an
+ * {@link Executor}, so completion callbacks do not run on the timer thread. A timed out command is not removed from the
+ * protocol queue: its response is decoded once it arrives so the order of responses is retained.
+ * <p>
+ * Commands within a {@literal MULTI} transaction must not be wrapped: these complete only with the second completion and
+ * their timeout could not complete them.
+ *
+ * @author Mark Paluch
+ * @since 4.3
+ */
+class ExpiringCommand<K, V, T> extends CommandWrapper<K, V, T> implements TimerTask {
+
+    private final Executor executor;
+    private final Consumer<? super ExpiringCommand<K, V, ?>> expiryListener;
+    private final Consumer<? super ExpiringCommand<K, V, ?>> completionListener;
+    private volatile Timeout timeout;
+    private long timeoutNanos;
+
+    /**
+     * @param command the command to expire.
+     * @param executor executor to complete the command with a timeout.
+     * @param expiryListener notified on {@code executor} after the command was completed with a timeout.
+     * @param completionListener notified after this wrapper was completed, cancelled or completed exceptionally.
+     */
+    ExpiringCommand(RedisCommand<K, V, T> command, Executor executor, Consumer<? super ExpiringCommand<K, V, ?>> expiryListener,
+            Consumer<? super ExpiringCommand<K, V, ?>> completionListener) {
+
+        super(command);
+        this.executor = executor;
+        this.expiryListener = expiryListener;
+        this.completionListener = completionListener;
+    }
+
+    /**
+     * Schedule the expiry.
+     *
+     * @param timer the timer.
+     * @param timeoutNanos timeout in {@link TimeUnit#NANOSECONDS}.
+     */
+    void schedule(Timer timer, long timeoutNanos) {
+
+        this.timeoutNanos = timeoutNanos;
+        this.timeout = timer.newTimeout(this, timeoutNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void run(Timeout timeout) throws Exception {
+
+        if (isDone()) {
+            return;
+        }
+
+        try {
+            executor.execute(this::expire);
+        } catch (RejectedExecutionException e) {
+            expire();
+        }
+    }
+
+    private void expire() {
+
+        if (isDone()) {
+            return;
+        }
+
+        if (command.completeExceptionally(new RedisCommandTimeoutException(
+                "Command timed out after " + TimeUnit.NANOSECONDS.toMillis(timeoutNanos) + " ms"))) {
+            expiryListener.accept(this);
+        }
+    }
+
+    @Override
+    public void complete() {
+
+        cancelTimeout();
+        super.complete();
+        completionListener.accept(this);
+    }
+
+    @Override
+    public void cancel() {
+
+        cancelTimeout();
+        super.cancel();
+        completionListener.accept(this);
+    }
+
+    @Override
+    public boolean completeExceptionally(Throwable throwable) {
+
+        cancelTimeout();
+        boolean result = super.completeExceptionally(throwable);
+        completionListener.accept(this);
+        return result;
+    }
+
+    private void cancelTimeout() {
+
+        Timeout timeout = this.timeout;
+        if (timeout != null) {
+            timeout.cancel();
+        }
+    }
+}
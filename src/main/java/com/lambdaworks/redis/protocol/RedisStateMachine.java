@@ -6,14 +6,17 @@ import static com.lambdaworks.redis.protocol.LettuceCharsets.buffer;
 import static com.lambdaworks.redis.protocol.RedisStateMachine.State.Type.*;
 
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.Arrays;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import com.lambdaworks.redis.RedisException;
+import com.lambdaworks.redis.output.ChunkedOutput;
 import com.lambdaworks.redis.output.CommandOutput;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufProcessor;
+import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.util.Version;
 import io.netty.util.internal.logging.InternalLogger;
@@ -33,16 +36,22 @@ public class RedisStateMachine<K, V> {
     private static final InternalLogger logger = InternalLoggerFactory.getInstance(RedisStateMachine.class);
     private static final ByteBuffer QUEUED = buffer("QUEUED");
 
+    private static final int INITIAL_STACK_SIZE = 32;
+    private static final long LF_WORD = 0x0A0A0A0A0A0A0A0AL;
+    private static final long LOW_7_BITS = 0x7F7F7F7F7F7F7F7FL;
+
     static class State {
         enum Type {
             SINGLE, ERROR, INTEGER, BULK, MULTI, BYTES
         }
-
-        Type type = null;
-        int count = -1;
     }
 
-    private final State[] stack;
+    /*
+     * Decoder stack stored as parallel arrays of the state type and count to avoid allocations per reply element. The
+     * element at stackElements - 1 is the head. A null type denotes a state whose reply type was not read yet.
+     */
+    private State.Type[] stateTypes;
+    private int[] stateCounts;
     private int stackElements;
 
     // If DEBUG level logging has been enabled at startup.
@@ -55,7 +64,8 @@ public class RedisStateMachine<K, V> {
      * Initialize a new instance.
      */
     public RedisStateMachine() {
-        stack = new State[32];
+        stateTypes = new State.Type[INITIAL_STACK_SIZE];
+        stateCounts = new int[INITIAL_STACK_SIZE];
         debugEnabled = logger.isDebugEnabled();
 
         Version nettyBufferVersion = Version.identify().get("netty-buffer");
@@ -77,7 +87,7 @@ public class RedisStateMachine<K, V> {
             longProcessor = new LongProcessor();
         }
 
-        this.longProcessor = longProcessor;
+        this.longProcessor = new SwarLongProcessor(longProcessor);
     }
 
     /**
@@ -107,28 +117,28 @@ public class RedisStateMachine<K, V> {
             logger.debug("Decode {}", command);
         }
 
-        if (isEmpty(stack)) {
-            add(stack, new State());
+        if (isEmpty()) {
+            push();
         }
 
         if (output == null) {
-            return isEmpty(stack);
+            return isEmpty();
         }
 
         loop:
 
-        while (!isEmpty(stack)) {
-            State state = peek(stack);
+        while (!isEmpty()) {
+            int head = stackElements - 1;
 
-            if (state.type == null) {
+            if (stateTypes[head] == null) {
                 if (!buffer.isReadable()) {
                     break;
                 }
-                state.type = readReplyType(buffer);
+                stateTypes[head] = readReplyType(buffer);
                 buffer.markReaderIndex();
             }
 
-            switch (state.type) {
+            switch (stateTypes[head]) {
                 case SINGLE:
                     if ((bytes = readLine(buffer)) == null) {
                         break loop;
@@ -159,59 +169,63 @@ public class RedisStateMachine<K, V> {
                     if (length == -1) {
                         safeSet(output, null, command);
                     } else {
-                        state.type = BYTES;
-                        state.count = length + 2;
+                        stateTypes[head] = BYTES;
+                        stateCounts[head] = length + 2;
                         buffer.markReaderIndex();
                         continue loop;
                     }
                     break;
                 case MULTI:
-                    if (state.count == -1) {
+                    if (stateCounts[head] == -1) {
                         if ((end = findLineEnd(buffer)) == -1) {
                             break loop;
                         }
                         length = (int) readLong(buffer, buffer.readerIndex(), end);
-                        state.count = length;
+                        stateCounts[head] = length;
                         buffer.markReaderIndex();
-                        safeMulti(output, state.count, command);
+                        safeMulti(output, length, command);
                     }
 
-                    if (state.count <= 0) {
+                    if (stateCounts[head] <= 0) {
                         break;
                     }
 
-                    state.count--;
-                    addFirst(stack, new State());
+                    stateCounts[head]--;
+                    push();
 
                     continue loop;
                 case BYTES:
-                    if ((bytes = readBytes(buffer, state.count)) == null) {
+                    if ((bytes = readBytes(buffer, stateCounts[head])) == null) {
+
+                        if (output instanceof ChunkedOutput) {
+                            readChunk(buffer, head, (ChunkedOutput) output, command);
+                        }
                         break loop;
                     }
                     safeSet(output, bytes, command);
                     break;
                 default:
-                    throw new IllegalStateException("State " + state.type + " not supported");
+                    throw new IllegalStateException("State " + stateTypes[head] + " not supported");
             }
 
             buffer.markReaderIndex();
-            remove(stack);
+            pop();
 
-            output.complete(size(stack));
+            output.complete(stackElements);
         }
 
         if (debugEnabled) {
-            logger.debug("Decoded {}, empty stack: {}", command, isEmpty(stack));
+            logger.debug("Decoded {}, empty stack: {}", command, isEmpty());
         }
 
-        return isEmpty(stack);
+        return isEmpty();
     }
 
     /**
      * Reset the state machine.
      */
     public void reset() {
-        Arrays.fill(stack, null);
+        Arrays.fill(stateTypes, null);
         stackElements = 0;
     }
 
@@ -224,10 +238,35 @@ public class RedisStateMachine<K, V> {
         }
     }
 
-    private int findLineEnd(ByteBuf buffer) {
+    /**
+     * Find the index of the line feed that terminates the line at the reader index. Scans eight bytes at a time (SWAR) and
+     * falls back to {@link ByteBuf#indexOf(int, int, byte)} for the remaining bytes.
+     *
+     * @param buffer the buffer.
+     * @return index of the line feed or {@literal -1} if the line is incomplete.
+     */
+    static int findLineEnd(ByteBuf buffer) {
+
+        int index = buffer.readerIndex();
+        int writerIndex = buffer.writerIndex();
+
+        if (buffer.order() == ByteOrder.BIG_ENDIAN) {
 
-        int start = buffer.readerIndex();
-        int index = buffer.indexOf(start, buffer.writerIndex(), (byte) '\n');
+            for (; index + 8 <= writerIndex; index += 8) {
+
+                long word = buffer.getLong(index) ^ LF_WORD;
+                long match = ~(((word & LOW_7_BITS) + LOW_7_BITS) | word | LOW_7_BITS);
+
+                if (match != 0) {
+                    return lineEnd(buffer, index + (Long.numberOfLeadingZeros(match) >>> 3));
+                }
+            }
+        }
+
+        return lineEnd(buffer, buffer.indexOf(index, writerIndex, (byte) '\n'));
+    }
+
+    private static int lineEnd(ByteBuf buffer, int index) {
         return (index > 0 && buffer.getByte(index - 1) == '\r') ? index : -1;
     }
 
@@ -260,16 +299,9 @@ public class RedisStateMachine<K, V> {
 
         if (end > -1) {
             int start = buffer.readerIndex();
-            responseElementBuffer.clear();
             int size = end - start - 1;
 
-            if (responseElementBuffer.capacity() < size) {
-                responseElementBuffer.capacity(size);
-            }
-
-            buffer.readBytes(responseElementBuffer, size);
-
-            bytes = responseElementBuffer.internalNioBuffer(0, size);
+            bytes = readBuffer(buffer, size);
 
             buffer.readerIndex(end + 1);
             buffer.markReaderIndex();
@@ -282,80 +314,122 @@ public class RedisStateMachine<K, V> {
         ByteBuffer bytes = null;
 
         if (buffer.readableBytes() >= count) {
-            responseElementBuffer.clear();
-
-            int size = count - 2;
 
-            if (responseElementBuffer.capacity() < size) {
-                responseElementBuffer.capacity(size);
-            }
-            buffer.readBytes(responseElementBuffer, size);
-
-            bytes = responseElementBuffer.internalNioBuffer(0, size);
-            buffer.readerIndex(buffer.readerIndex() + 2);
+            bytes = readBuffer(buffer, count - 2);
+            buffer.readerIndex(buffer.readerIndex() + count);
         }
         return bytes;
     }
 
     /**
-     * Remove the head element from the stack.
+     * Pass the readable part of an incomplete bulk string to a {@link ChunkedOutput} and consume it. The trailing CRLF is not
+     * part of the chunk and is consumed with the final chunk. Each chunk is limited to a single component of a
+     * {@link CompositeByteBuf} to avoid copying.
      *
-     * @param stack
+     * @param buffer the buffer.
+     * @param head stack index of the {@link State.Type#BYTES} state.
+     * @param output the chunked output.
+     * @param command the command.
      */
-    private void remove(State[] stack) {
-        stack[stackElements - 1] = null;
-        stackElements--;
+    private void readChunk(ByteBuf buffer, int head, ChunkedOutput output, RedisCommand<K, V, ?> command) {
+
+        int size;
+        while ((size = Math.min(readableContiguousBytes(buffer), stateCounts[head] - 2)) > 0) {
+
+            ByteBuffer bytes = readBuffer(buffer, size);
+
+            try {
+                output.setChunk(bytes);
+            } catch (Exception e) {
+                command.completeExceptionally(e);
+            }
+
+            buffer.readerIndex(buffer.readerIndex() + size);
+            buffer.markReaderIndex();
+            stateCounts[head] -= size;
+        }
     }
 
-    /**
-     * Add the element to the stack to be the new head element.
-     *
-     * @param stack
-     * @param state
-     */
-    private void addFirst(State[] stack, State state) {
-        stack[stackElements++] = state;
+    private int readableContiguousBytes(ByteBuf buffer) {
+
+        if (!buffer.isReadable() || !(buffer instanceof CompositeByteBuf)) {
+            return buffer.readableBytes();
+        }
+
+        CompositeByteBuf composite = (CompositeByteBuf) buffer;
+        int index = buffer.readerIndex();
+        int componentIndex = composite.toComponentIndex(index);
+        int componentEnd = composite.toByteIndex(componentIndex) + composite.internalComponent(componentIndex).capacity();
+
+        return Math.min(buffer.readableBytes(), componentEnd - index);
     }
 
     /**
-     * Returns the head element without removing it.
+     * Returns {@code size} bytes starting at the reader index of {@code buffer} as {@link ByteBuffer} without changing the
+     * reader index. The returned {@link ByteBuffer} is a view on the underlying memory if the bytes are backed by a single NIO
+     * buffer (also within a single component of a {@link CompositeByteBuf}). Otherwise the bytes are copied into the response
+     * element buffer. The returned {@link ByteBuffer} is valid until the next read or buffer modification.
      *
-     * @param stack
-     * @return
+     * @param buffer the buffer.
+     * @param size number of bytes.
+     * @return the bytes.
      */
-    private State peek(State[] stack) {
-        return stack[stackElements - 1];
+    private ByteBuffer readBuffer(ByteBuf buffer, int size) {
+
+        int index = buffer.readerIndex();
+        ByteBuf source = buffer;
+        int sourceIndex = index;
+
+        if (buffer instanceof CompositeByteBuf) {
+
+            CompositeByteBuf composite = (CompositeByteBuf) buffer;
+            int componentIndex = composite.toComponentIndex(index);
+
+            source = composite.internalComponent(componentIndex);
+            sourceIndex = index - composite.toByteIndex(componentIndex);
+        }
+
+        if (sourceIndex + size <= source.capacity() && source.nioBufferCount() == 1) {
+            return source.internalNioBuffer(sourceIndex, size);
+        }
+
+        responseElementBuffer.clear();
+
+        if (responseElementBuffer.capacity() < size) {
+            responseElementBuffer.capacity(size);
+        }
+
+        buffer.getBytes(index, responseElementBuffer, size);
+
+        return responseElementBuffer.internalNioBuffer(0, size);
     }
 
     /**
-     * Add a state as tail element. This method shifts the whole stack if the stack is not empty.
-     *
-     * @param stack
-     * @param state
+     * Push a new state as head element. The stack grows if it is full.
      */
-    private void add(State[] stack, State state) {
+    private void push() {
 
-        if (stackElements != 0) {
-            System.arraycopy(stack, 0, stack, 1, stackElements);
+        if (stackElements == stateTypes.length) {
+            stateTypes = Arrays.copyOf(stateTypes, stackElements * 2);
+            stateCounts = Arrays.copyOf(stateCounts, stackElements * 2);
         }
 
-        stack[0] = state;
+        stateTypes[stackElements] = null;
+        stateCounts[stackElements] = -1;
         stackElements++;
     }
 
     /**
-     * @param stack
-     * @return number of stack elements.
+     * Remove the head element from the stack.
      */
-    private int size(State[] stack) {
-        return stackElements;
+    private void pop() {
+        stateTypes[--stackElements] = null;
     }
 
     /**
-     * @param stack
      * @return true if the stack is empty.
      */
-    private boolean isEmpty(State[] stack) {
+    private boolean isEmpty() {
         return stackElements == 0;
     }
 
@@ -423,6 +497,69 @@ public class RedisStateMachine<K, V> {
         }
     }
 
+    /**
+     * Parses integers with up to eight digits word-at-a-time (SWAR) using a single {@link ByteBuf#getLong(int)} and delegates
+     * longer integers to the fallback {@link LongProcessor}. Works with Netty 4.0 and 4.1.
+     */
+    static class SwarLongProcessor extends LongProcessor {
+
+        private static final long ZEROS = 0x3030303030303030L;
+        private static final long BYTE_LANES = 0x00FF00FF00FF00FFL;
+        private static final long SHORT_LANES = 0x0000FFFF0000FFFFL;
+        private static final long INT_LANE = 0x00000000FFFFFFFFL;
+
+        private final LongProcessor fallback;
+
+        SwarLongProcessor(LongProcessor fallback) {
+            this.fallback = fallback;
+        }
+
+        @Override
+        public long getValue(ByteBuf buffer, int start, int end) {
+
+            boolean negative = buffer.getByte(start) == '-';
+            int digitsStart = negative ? start + 1 : start;
+            int digits = end - 1 - digitsStart;
+
+            if (digits < 1 || digits > 8 || buffer.order() != ByteOrder.BIG_ENDIAN) {
+                return fallback.getValue(buffer, start, end);
+            }
+
+            long word;
+            if (end - 9 >= 0) {
+                // word that ends with the last digit
+                word = buffer.getLong(end - 9);
+            } else if (digitsStart + 8 <= buffer.writerIndex()) {
+                // word that starts with the first digit
+                word = buffer.getLong(digitsStart) >>> ((8 - digits) << 3);
+            } else {
+                return fallback.getValue(buffer, start, end);
+            }
+
+            long value = parseDigits(word, digits);
+
+            buffer.readerIndex(end + 1);
+            return negative ? -value : value;
+        }
+
+        /**
+         * Parse ASCII digits stored in the {@code digits} least significant bytes of {@code word}, most significant digit first.
+         *
+         * @param word the word.
+         * @param digits number of digits, between 1 and 8.
+         * @return the value.
+         */
+        static long parseDigits(long word, int digits) {
+
+            long mask = digits == 8 ? -1L : (1L << (digits << 3)) - 1;
+            long value = (word - ZEROS) & mask;
+
+            value = ((value >>> 8) & BYTE_LANES) * 10 + (value & BYTE_LANES);
+            value = ((value >>> 16) & SHORT_LANES) * 100 + (value & SHORT_LANES);
+            return (value >>> 32) * 10000 + (value & INT_LANE);
+        }
+    }
+
     /**
      * Compatibility code that works also on Netty 4.0.
      */
@@ -0,0 +1,109 @@
+package com.lambdaworks.redis.pubsub;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Message counters for a subscribed channel or pattern of a {@link StatefulRedisPubSubConnection}. Counters are updated
+ * concurrently and reflect the state at the time they are read. Statistics are discarded once the channel or pattern is
+ * unsubscribed.
+ *
+ * @param <K> Key type.
+ * @author Mark Paluch
+ * @since 4.3
+ */
+public class PubSubChannelStatistics<K> {
+
+    private final K channel;
+    private final boolean pattern;
+
+    private final LongAdder received = new LongAdder();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    PubSubChannelStatistics(K channel, boolean pattern) {
+        this.channel = channel;
+        this.pattern = pattern;
+    }
+
+    /**
+     *
+     * @return the channel or pattern.
+     */
+    public K getChannel() {
+        return channel;
+    }
+
+    /**
+     *
+     * @return {@literal true} if the statistics belong to a pattern subscription.
+     */
+    public boolean isPattern() {
+        return pattern;
+    }
+
+    /**
+     *
+     * @return number of messages received from Redis.
+     */
+    public long getReceived() {
+        return received.sum();
+    }
+
+    /**
+     *
+     * @return number of listener notifications. A message is counted once per notified listener.
+     */
+    public long getDelivered() {
+        return delivered.sum();
+    }
+
+    /**
+     *
+     * @return number of listener notifications discarded due to
+     *         {@link com.lambdaworks.redis.PubSubOptions.OverflowPolicy#DROP_OLDEST}.
+     */
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    /**
+     *
+     * @return number of listener notifications rejected due to
+     *         {@link com.lambdaworks.redis.PubSubOptions.OverflowPolicy#FAIL}.
+     */
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    void received() {
+        received.increment();
+    }
+
+    void delivered() {
+        delivered.increment();
+    }
+
+    void dropped() {
+        dropped.increment();
+    }
+
+    void rejected() {
+        rejected.increment();
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuffer sb = new StringBuffer();
+        sb.append(getClass().getSimpleName());
+        sb.append(" [channel=").append(channel);
+        sb.append(", pattern=").append(pattern);
+        sb.append(", received=").append(getReceived());
+        sb.append(", delivered=").append(getDelivered());
+        sb.append(", dropped=").append(getDropped());
+        sb.append(", rejected=").append(getRejected());
+        sb.append(']');
+        return sb.toString();
+    }
+}
@@ -25,8 +25,7 @@ import io.netty.channel.ChannelHandlerContext;
  * @author Will Glozer
  */
 public class PubSubCommandHandler<K, V> extends CommandHandler<K, V> {
-    private RedisCodec<K, V> codec;
-    private PubSubOutput<K, V, V> output;
+    private final PubSubOutput<K, V, V> output;
 
     /**
      * Initialize a new instance.
@@ -39,7 +38,6 @@ public class PubSubCommandHandler<K, V> extends CommandHandler<K, V> {
     public PubSubCommandHandler(ClientOptions clientOptions, ClientResources clientResources,
             Queue<RedisCommand<K, V, ?>> queue, RedisCodec<K, V> codec) {
         super(clientOptions, clientResources, queue);
-        this.codec = codec;
         this.output = new PubSubOutput<>(codec);
     }
 
@@ -57,9 +55,13 @@ public class PubSubCommandHandler<K, V> extends CommandHandler<K, V> {
             }
         }
 
+        // the output is consumed synchronously, reuse it for the next element
         while (rsm.decode(buffer, output)) {
-            ctx.fireChannelRead(output);
-            output = new PubSubOutput<K, V, V>(codec);
+            try {
+                ctx.fireChannelRead(output);
+            } finally {
+                output.reset();
+            }
             buffer.discardReadBytes();
         }
     }
@@ -0,0 +1,483 @@
+package com.lambdaworks.redis.pubsub;
+
+import java.nio.ByteBuffer;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.lambdaworks.redis.ClientOptions;
+import com.lambdaworks.redis.PubSubOptions;
+import com.lambdaworks.redis.protocol.CommandHandler;
+
+import io.netty.util.internal.logging.InternalLogger;
+import io.netty.util.internal.logging.InternalLoggerFactory;
+
+/**
+ * Dispatches pub/sub messages and subscription notifications to {@link RedisPubSubListener listeners}. Listeners are either
+ * registered for all messages or indexed by channel and pattern so each message is passed only to interested listeners.
+ * <p>
+ * Messages are dispatched on the calling I/O thread unless {@link PubSubOptions#isAsyncDispatch() asynchronous dispatch} is
+ * enabled. Asynchronous dispatch buffers messages in a bounded queue per listener that is drained on the {@link Executor}.
+ * Each listener is notified by at most one thread at a time in the order in which messages were received. Full queues are
+ * handled according to the {@link PubSubOptions.OverflowPolicy}.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @author Mark Paluch
+ * @since 4.3
+ */
+class PubSubDispatcher<K, V> {
+
+    private static final InternalLogger logger = InternalLoggerFactory.getInstance(PubSubDispatcher.class);
+
+    /**
+     * Maximum number of messages delivered to a listener before yielding the executor thread.
+     */
+    private static final int DRAIN_BATCH_SIZE = 64;
+
+    private final List<RedisPubSubListener<K, V>> listeners;
+    private final Map<Object, List<RedisPubSubListener<K, V>>> channelListeners = new ConcurrentHashMap<>();
+    private final Map<Object, List<RedisPubSubListener<K, V>>> patternListeners = new ConcurrentHashMap<>();
+    private final Map<Object, PubSubChannelStatistics<K>> channelStatistics = new ConcurrentHashMap<>();
+    private final Map<Object, PubSubChannelStatistics<K>> patternStatistics = new ConcurrentHashMap<>();
+    private final Map<RedisPubSubListener<K, V>, ListenerQueue> queues = new ConcurrentHashMap<>();
+    private final AtomicInteger saturatedQueues = new AtomicInteger();
+
+    private volatile PubSubOptions options = ClientOptions.DEFAULT_PUBSUB_OPTIONS;
+    private volatile Executor executor;
+    private volatile CommandHandler<?, ?> commandHandler;
+
+    /**
+     * @param listeners listeners that receive all messages.
+     */
+    PubSubDispatcher(List<RedisPubSubListener<K, V>> listeners) {
+        this.listeners = listeners;
+    }
+
+    void setOptions(PubSubOptions options) {
+        this.options = options;
+    }
+
+    void setExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    void setCommandHandler(CommandHandler<?, ?> commandHandler) {
+        this.commandHandler = commandHandler;
+        updateAutoRead();
+    }
+
+    void addChannelListener(RedisPubSubListener<K, V> listener, K channel) {
+        addIndexed(channelListeners, listener, channel);
+    }
+
+    void addPatternListener(RedisPubSubListener<K, V> listener, K pattern) {
+        addIndexed(patternListeners, listener, pattern);
+    }
+
+    /**
+     * Remove the listener from the channel and pattern index and discard its pending messages.
+     *
+     * @param listener the listener.
+     */
+    void removeListener(RedisPubSubListener<K, V> listener) {
+
+        removeIndexed(channelListeners, listener);
+        removeIndexed(patternListeners, listener);
+
+        ListenerQueue queue = queues.remove(listener);
+        if (queue != null) {
+            queue.close();
+        }
+    }
+
+    private void addIndexed(Map<Object, List<RedisPubSubListener<K, V>>> index, RedisPubSubListener<K, V> listener,
+            K key) {
+
+        index.compute(indexKey(key), (k, list) -> {
+
+            List<RedisPubSubListener<K, V>> result = list != null ? list : new CopyOnWriteArrayList<>();
+            result.add(listener);
+            return result;
+        });
+    }
+
+    private void removeIndexed(Map<Object, List<RedisPubSubListener<K, V>>> index, RedisPubSubListener<K, V> listener) {
+
+        for (Object key : index.keySet()) {
+            index.computeIfPresent(key, (k, list) -> {
+                list.remove(listener);
+                return list.isEmpty() ? null : list;
+            });
+        }
+    }
+
+    /**
+     * Returns the number of messages queued for {@code listener}.
+     *
+     * @param listener the listener.
+     * @return the number of pending messages, {@literal 0} if no messages were queued for the listener.
+     */
+    int getPendingMessages(RedisPubSubListener<K, V> listener) {
+
+        ListenerQueue queue = queues.get(listener);
+        return queue != null ? queue.size() : 0;
+    }
+
+    /**
+     * Returns statistics for subscribed channels and patterns.
+     *
+     * @return map of channel/pattern to its statistics.
+     */
+    Map<K, PubSubChannelStatistics<K>> getStatistics() {
+
+        Map<K, PubSubChannelStatistics<K>> result = new LinkedHashMap<>();
+
+        for (PubSubChannelStatistics<K> statistics : channelStatistics.values()) {
+            result.put(statistics.getChannel(), statistics);
+        }
+
+        for (PubSubChannelStatistics<K> statistics : patternStatistics.values()) {
+            result.put(statistics.getChannel(), statistics);
+        }
+
+        return result;
+    }
+
+    /**
+     * Dispatch a decoded pub/sub element. The {@link PubSubOutput} is not retained and may be reused after this method
+     * returns.
+     *
+     * @param output the decoded element.
+     */
+    void dispatch(PubSubOutput<K, V, V> output) {
+
+        PubSubOutput.Type type = output.type();
+        PubSubChannelStatistics<K> statistics = null;
+        List<RedisPubSubListener<K, V>> indexed;
+
+        switch (type) {
+            case message:
+                statistics = getStatistics(channelStatistics, output.channel(), false);
+                indexed = channelListeners.get(indexKey(output.channel()));
+                break;
+            case pmessage:
+                statistics = getStatistics(patternStatistics, output.pattern(), true);
+                indexed = patternListeners.get(indexKey(output.pattern()));
+                break;
+            case subscribe:
+            case unsubscribe:
+                indexed = channelListeners.get(indexKey(output.channel()));
+                break;
+            case psubscribe:
+            case punsubscribe:
+                indexed = patternListeners.get(indexKey(output.pattern()));
+                break;
+            default:
+                throw new UnsupportedOperationException("Operation " + type + " not supported");
+        }
+
+        if (statistics != null) {
+            statistics.received();
+        }
+
+        Executor executor = this.executor;
+
+        if (executor == null || !options.isAsyncDispatch()) {
+            notifyListeners(listeners, output, statistics);
+            notifyListeners(indexed, output, statistics);
+        } else {
+
+            PubSubMessage<K, V> message = new PubSubMessage<>(type, output.pattern(), output.channel(), output.get(),
+                    output.count(), statistics);
+
+            enqueue(listeners, message, executor);
+            enqueue(indexed, message, executor);
+        }
+
+        if (type == PubSubOutput.Type.unsubscribe) {
+            channelStatistics.remove(indexKey(output.channel()));
+        }
+
+        if (type == PubSubOutput.Type.punsubscribe) {
+            patternStatistics.remove(indexKey(output.pattern()));
+        }
+    }
+
+    private void notifyListeners(List<RedisPubSubListener<K, V>> listeners, PubSubOutput<K, V, V> output,
+            PubSubChannelStatistics<K> statistics) {
+
+        if (listeners == null) {
+            return;
+        }
+
+        for (RedisPubSubListener<K, V> listener : listeners) {
+
+            notifyListener(listener, output.type(), output.pattern(), output.channel(), output.get(), output.count());
+
+            if (statistics != null) {
+                statistics.delivered();
+            }
+        }
+    }
+
+    private void enqueue(List<RedisPubSubListener<K, V>> listeners, PubSubMessage<K, V> message, Executor executor) {
+
+        if (listeners == null) {
+            return;
+        }
+
+        for (RedisPubSubListener<K, V> listener : listeners) {
+
+            ListenerQueue queue = queues.get(listener);
+            if (queue == null) {
+                queue = queues.computeIfAbsent(listener, l -> new ListenerQueue(l, executor));
+            }
+
+            queue.offer(message);
+        }
+    }
+
+    private PubSubChannelStatistics<K> getStatistics(Map<Object, PubSubChannelStatistics<K>> statistics, K channel,
+            boolean pattern) {
+
+        Object key = indexKey(channel);
+        PubSubChannelStatistics<K> result = statistics.get(key);
+
+        if (result == null) {
+            result = statistics.computeIfAbsent(key, k -> new PubSubChannelStatistics<>(channel, pattern));
+        }
+
+        return result;
+    }
+
+    private void saturated() {
+        saturatedQueues.incrementAndGet();
+        updateAutoRead();
+    }
+
+    private void released() {
+        saturatedQueues.decrementAndGet();
+        updateAutoRead();
+    }
+
+    /**
+     * Suspend reading while at least one listener queue is saturated. Synchronized to apply the most recent state when
+     * queues are saturated and released concurrently.
+     */
+    private synchronized void updateAutoRead() {
+
+        CommandHandler<?, ?> commandHandler = this.commandHandler;
+        if (commandHandler == null) {
+            return;
+        }
+
+        if (saturatedQueues.get() == 0) {
+            commandHandler.resumeReading(this);
+        } else {
+            commandHandler.suspendReading(this);
+        }
+    }
+
+    /**
+     * Channels and patterns are indexed by their value. Byte array keys are wrapped to compare by content.
+     */
+    private static Object indexKey(Object key) {
+
+        if (key instanceof byte[]) {
+            return ByteBuffer.wrap((byte[]) key);
+        }
+
+        return key;
+    }
+
+    private static <K, V> void notifyListener(RedisPubSubListener<K, V> listener, PubSubOutput.Type type, K pattern,
+            K channel, V message, long count) {
+
+        switch (type) {
+            case message:
+                listener.message(channel, message);
+                break;
+            case pmessage:
+                listener.message(pattern, channel, message);
+                break;
+            case psubscribe:
+                listener.psubscribed(pattern, count);
+                break;
+            case punsubscribe:
+                listener.punsubscribed(pattern, count);
+                break;
+            case subscribe:
+                listener.subscribed(channel, count);
+                break;
+            case unsubscribe:
+                listener.unsubscribed(channel, count);
+                break;
+            default:
+                throw new UnsupportedOperationException("Operation " + type + " not supported");
+        }
+    }
+
+    /**
+     * Immutable copy of a {@link PubSubOutput} for asynchronous dispatch.
+     */
+    private static class PubSubMessage<K, V> {
+
+        final PubSubOutput.Type type;
+        final K pattern;
+        final K channel;
+        final V message;
+        final long count;
+        final PubSubChannelStatistics<K> statistics;
+
+        PubSubMessage(PubSubOutput.Type type, K pattern, K channel, V message, long count,
+                PubSubChannelStatistics<K> statistics) {
+            this.type = type;
+            this.pattern = pattern;
+            this.channel = channel;
+            this.message = message;
+            this.count = count;
+            this.statistics = statistics;
+        }
+    }
+
+    /**
+     * Bounded message queue of a single listener. The queue schedules itself on the executor when messages arrive and
+     * drains until it is empty. With {@link PubSubOptions.OverflowPolicy#DISABLE_AUTO_READ} the bound is a soft limit:
+     * messages decoded after reading was suspended are queued instead of being lost.
+     */
+    private class ListenerQueue implements Runnable {
+
+        private final RedisPubSubListener<K, V> listener;
+        private final Executor executor;
+        private final ArrayDeque<PubSubMessage<K, V>> queue = new ArrayDeque<>();
+
+        private boolean scheduled;
+        private boolean saturated;
+        private boolean closed;
+
+        ListenerQueue(RedisPubSubListener<K, V> listener, Executor executor) {
+            this.listener = listener;
+            this.executor = executor;
+        }
+
+        void offer(PubSubMessage<K, V> message) {
+
+            PubSubOptions options = PubSubDispatcher.this.options;
+            boolean schedule;
+
+            synchronized (this) {
+
+                if (closed) {
+                    return;
+                }
+
+                if (queue.size() >= options.getListenerQueueSize()) {
+
+                    switch (options.getOverflowPolicy()) {
+                        case DROP_OLDEST:
+                            PubSubMessage<K, V> dropped = queue.poll();
+                            if (dropped.statistics != null) {
+                                dropped.statistics.dropped();
+                            }
+                            break;
+                        case FAIL:
+                            if (message.statistics != null) {
+                                message.statistics.rejected();
+                            }
+                            logger.warn("Listener queue of {} is full, rejecting {} for {}", listener, message.type,
+                                    message.channel != null ? message.channel : message.pattern);
+                            return;
+                        case DISABLE_AUTO_READ:
+                            // keep messages of the read in progress, suspending reads stops further messages
+                            if (!saturated) {
+                                saturated = true;
+                                saturated();
+                            }
+                            break;
+                    }
+                }
+
+                queue.add(message);
+
+                schedule = !scheduled;
+                scheduled = true;
+            }
+
+            if (schedule) {
+                schedule();
+            }
+        }
+
+        @Override
+        public void run() {
+
+            for (int i = 0; i < DRAIN_BATCH_SIZE; i++) {
+
+                PubSubMessage<K, V> message;
+
+                synchronized (this) {
+
+                    message = queue.poll();
+
+                    if (saturated && queue.size() <= options.getListenerQueueSize() / 2) {
+                        saturated = false;
+                        released();
+                    }
+
+                    if (message == null) {
+                        scheduled = false;
+                        return;
+                    }
+                }
+
+                try {
+                    notifyListener(listener, message.type, message.pattern, message.channel, message.message, message.count);
+
+                    if (message.statistics != null) {
+                        message.statistics.delivered();
+                    }
+                } catch (Exception e) {
+                    logger.warn("Unexpected exception in listener " + listener, e);
+                }
+            }
+
+            schedule();
+        }
+
+        synchronized int size() {
+            return queue.size();
+        }
+
+        void close() {
+
+            synchronized (this) {
+
+                closed = true;
+                queue.clear();
+
+                if (saturated) {
+                    saturated = false;
+                    released();
+                }
+            }
+        }
+
+        private void schedule() {
+
+            try {
+                executor.execute(this);
+            } catch (RejectedExecutionException e) {
+
+                logger.warn("Cannot dispatch pub/sub messages to " + listener, e);
+
+                synchronized (this) {
+                    scheduled = false;
+                }
+            }
+        }
+    }
+}
@@ -93,4 +93,17 @@ public class PubSubOutput<K, V, T> extends CommandOutput<K, V, T> {
     public void set(long integer) {
         count = integer;
     }
+
+    /**
+     * Reset the state to decode the next element.
+     */
+    void reset() {
+
+        type = null;
+        channel = null;
+        pattern = null;
+        count = 0;
+        output = null;
+        error = null;
+    }
 }
@@ -1,5 +1,7 @@
 package com.lambdaworks.redis.pubsub;
 
+import java.util.Map;
+
 import com.lambdaworks.redis.api.StatefulRedisConnection;
 import com.lambdaworks.redis.pubsub.api.async.RedisPubSubAsyncCommands;
 import com.lambdaworks.redis.pubsub.api.rx.RedisPubSubReactiveCommands;
@@ -57,4 +59,34 @@ public interface StatefulRedisPubSubConnection<K, V> extends StatefulRedisConnec
      */
     void removeListener(RedisPubSubListener<K, V> listener);
 
+    /**
+     * Add a new listener that is notified only about messages and subscription notifications of the given {@code channels}.
+     * The listener does not subscribe to the channels. Registered listeners are removed with
+     * {@link #removeListener(RedisPubSubListener)}.
+     *
+     * @param listener Listener, must not be {@literal null}.
+     * @param channels the channels, must not be empty.
+     * @since 4.3
+     */
+    void addChannelListener(RedisPubSubListener<K, V> listener, K... channels);
+
+    /**
+     * Add a new listener that is notified only about messages and subscription notifications of the given {@code patterns}.
+     * The listener does not subscribe to the patterns. Registered listeners are removed with
+     * {@link #removeListener(RedisPubSubListener)}.
+     *
+     * @param listener Listener, must not be {@literal null}.
+     * @param patterns the patterns, must not be empty.
+     * @since 4.3
+     */
+    void addPatternListener(RedisPubSubListener<K, V> listener, K... patterns);
+
+    /**
+     * Returns message statistics for the subscribed channels and patterns.
+     *
+     * @return map of channel or pattern to its {@link PubSubChannelStatistics}.
+     * @since 4.3
+     */
+    Map<K, PubSubChannelStatistics<K>> getChannelStatistics();
+
 }
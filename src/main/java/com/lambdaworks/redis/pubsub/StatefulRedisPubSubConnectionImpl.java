@@ -4,19 +4,24 @@ import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
 import com.lambdaworks.redis.*;
 import com.lambdaworks.redis.api.sync.RedisCommands;
 import com.lambdaworks.redis.cluster.api.sync.RedisClusterCommands;
 import com.lambdaworks.redis.codec.RedisCodec;
+import com.lambdaworks.redis.internal.LettuceAssert;
+import com.lambdaworks.redis.protocol.CommandHandler;
 import com.lambdaworks.redis.protocol.ConnectionWatchdog;
 import com.lambdaworks.redis.pubsub.api.async.RedisPubSubAsyncCommands;
 import com.lambdaworks.redis.pubsub.api.rx.RedisPubSubReactiveCommands;
 import com.lambdaworks.redis.pubsub.api.sync.RedisPubSubCommands;
 import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
 import io.netty.util.internal.ConcurrentSet;
 
 /**
@@ -37,6 +42,8 @@ public class StatefulRedisPubSubConnectionImpl<K, V> extends StatefulRedisConnec
     protected final Set<K> channels;
     protected final Set<K> patterns;
 
+    private final PubSubDispatcher<K, V> dispatcher;
+
     /**
      * Initialize a new connection.
      *
@@ -52,6 +59,7 @@ public class StatefulRedisPubSubConnectionImpl<K, V> extends StatefulRedisConnec
         listeners = new CopyOnWriteArrayList<>();
         channels = new ConcurrentSet<>();
         patterns = new ConcurrentSet<>();
+        dispatcher = new PubSubDispatcher<>(listeners);
     }
 
     /**
@@ -72,6 +80,57 @@ public class StatefulRedisPubSubConnectionImpl<K, V> extends StatefulRedisConnec
     @Override
     public void removeListener(RedisPubSubListener<K, V> listener) {
         listeners.remove(listener);
+        dispatcher.removeListener(listener);
+    }
+
+    @Override
+    public void addChannelListener(RedisPubSubListener<K, V> listener, K... channels) {
+
+        LettuceAssert.notNull(listener, "RedisPubSubListener must not be null");
+        LettuceAssert.notEmpty(channels, "Channels must not be empty");
+
+        for (K channel : channels) {
+            dispatcher.addChannelListener(listener, channel);
+        }
+    }
+
+    @Override
+    public void addPatternListener(RedisPubSubListener<K, V> listener, K... patterns) {
+
+        LettuceAssert.notNull(listener, "RedisPubSubListener must not be null");
+        LettuceAssert.notEmpty(patterns, "Patterns must not be empty");
+
+        for (K pattern : patterns) {
+            dispatcher.addPatternListener(listener, pattern);
+        }
+    }
+
+    @Override
+    public Map<K, PubSubChannelStatistics<K>> getChannelStatistics() {
+        return dispatcher.getStatistics();
+    }
+
+    /**
+     * Set the {@link Executor} to notify listeners if {@link PubSubOptions#isAsyncDispatch() asynchronous dispatch} is
+     * enabled. Listeners are notified on the I/O thread as long as no executor is set.
+     *
+     * @param executor the executor, may be {@literal null}.
+     * @since 4.3
+     */
+    public void setDispatchExecutor(Executor executor) {
+        dispatcher.setExecutor(executor);
+    }
+
+    @Override
+    public void setOptions(ClientOptions clientOptions) {
+        super.setOptions(clientOptions);
+        dispatcher.setOptions(clientOptions.getPubSubOptions());
+    }
+
+    @Override
+    public void channelRegistered(ChannelHandlerContext ctx) throws Exception {
+        dispatcher.setCommandHandler(ctx.pipeline().get(CommandHandler.class));
+        super.channelRegistered(ctx);
     }
 
     @Override
@@ -115,35 +174,7 @@ public class StatefulRedisPubSubConnectionImpl<K, V> extends StatefulRedisConnec
         }
 
         updateInternalState(output);
-        notifyListeners(output);
-    }
-
-    private void notifyListeners(PubSubOutput<K, V, V> output) {
-        // update listeners
-        for (RedisPubSubListener<K, V> listener : listeners) {
-            switch (output.type()) {
-                case message:
-                    listener.message(output.channel(), output.get());
-                    break;
-                case pmessage:
-                    listener.message(output.pattern(), output.channel(), output.get());
-                    break;
-                case psubscribe:
-                    listener.psubscribed(output.pattern(), output.count());
-                    break;
-                case punsubscribe:
-                    listener.punsubscribed(output.pattern(), output.count());
-                    break;
-                case subscribe:
-                    listener.subscribed(output.channel(), output.count());
-                    break;
-                case unsubscribe:
-                    listener.unsubscribed(output.channel(), output.count());
-                    break;
-                default:
-                    throw new UnsupportedOperationException("Operation " + output.type() + " not supported");
-            }
-        }
+        dispatcher.dispatch(output);
     }
 
     /**
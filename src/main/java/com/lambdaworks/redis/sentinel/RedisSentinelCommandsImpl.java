@@ -0,0 +1,101 @@
+package com.lambdaworks.redis.sentinel;
+
+import java.net.SocketAddress;
+import java.util.List;
+import java.util.Map;
+import com.lambdaworks.redis.LettuceFutures;
+import com.lambdaworks.redis.RedisFuture;
+import com.lambdaworks.redis.api.StatefulConnection;
+import com.lambdaworks.redis.sentinel.api.StatefulRedisSentinelConnection;
+import com.lambdaworks.redis.sentinel.api.sync.RedisSentinelCommands;
+
+/**
+ * Synchronous executed commands for Redis Sentinel.
+ * Commands are invoked on the async API and awaited using the connection timeout.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @author Mark Paluch
+ * @since 4.3
+ * @generated by com.lambdaworks.apigenerator.CreateSyncImplementations
+ */
+public class RedisSentinelCommandsImpl<K, V> implements RedisSentinelCommands<K, V> {
+
+    protected final StatefulConnection<K, V> connection;
+
+    protected final RedisSentinelAsyncCommandsImpl<K, V> async;
+
+    public RedisSentinelCommandsImpl(StatefulConnection<K, V> connection, RedisSentinelAsyncCommandsImpl<K, V> async) {
+        this.connection = connection;
+        this.async = async;
+    }
+
+    protected <T> T await(RedisFuture<T> future) {
+        return LettuceFutures.awaitOrCancel(future, connection.getTimeout(), connection.getTimeoutUnit());
+    }
+
+    @Override
+    public SocketAddress getMasterAddrByName(K key) {
+        return await(async.getMasterAddrByName(key));
+    }
+
+    @Override
+    public List<Map<K, V>> masters() {
+        return await(async.masters());
+    }
+
+    @Override
+    public Map<K, V> master(K key) {
+        return await(async.master(key));
+    }
+
+    @Override
+    public List<Map<K, V>> slaves(K key) {
+        return await(async.slaves(key));
+    }
+
+    @Override
+    public Long reset(K key) {
+        return await(async.reset(key));
+    }
+
+    @Override
+    public String failover(K key) {
+        return await(async.failover(key));
+    }
+
+    @Override
+    public String monitor(K key, String ip, int port, int quorum) {
+        return await(async.monitor(key, ip, port, quorum));
+    }
+
+    @Override
+    public String set(K key, String option, V value) {
+        return await(async.set(key, option, value));
+    }
+
+    @Override
+    public String remove(K key) {
+        return await(async.remove(key));
+    }
+
+    @Override
+    public String ping() {
+        return await(async.ping());
+    }
+
+    @Override
+    public void close() {
+        async.close();
+    }
+
+    @Override
+    public boolean isOpen() {
+        return async.isOpen();
+    }
+
+    @Override
+    public StatefulRedisSentinelConnection<K, V> getStatefulConnection() {
+        return async.getStatefulConnection();
+    }
+}
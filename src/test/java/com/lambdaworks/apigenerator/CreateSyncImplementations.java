@@ -0,0 +1,278 @@
+package com.lambdaworks.apigenerator;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.lang.reflect.Method;
+import java.util.*;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import com.github.javaparser.JavaParser;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.ImportDeclaration;
+import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.ast.body.Parameter;
+import com.github.javaparser.ast.expr.AnnotationExpr;
+import com.github.javaparser.ast.visitor.VoidVisitorAdapter;
+import com.lambdaworks.redis.AbstractRedisAsyncCommands;
+import com.lambdaworks.redis.RedisFuture;
+import com.lambdaworks.redis.sentinel.RedisSentinelAsyncCommandsImpl;
+
+/**
+ * Create sync API implementations based on the templates. Generated implementations call the async API directly and await
+ * the resulting {@link RedisFuture} instead of using a reflective proxy. Methods are collected from the templates and the
+ * sync API interfaces. The first declaration of a method signature wins.
+ *
+ * @author Mark Paluch
+ */
+@RunWith(Parameterized.class)
+public class CreateSyncImplementations {
+
+    private final static String[] CLUSTER_SOURCES = { "com/lambdaworks/redis/cluster/api/sync/RedisClusterCommands",
+            "com/lambdaworks/redis/RedisClusterConnection", "com/lambdaworks/redis/RedisHashesConnection",
+            "com/lambdaworks/redis/RedisKeysConnection", "com/lambdaworks/redis/RedisStringsConnection",
+            "com/lambdaworks/redis/RedisListsConnection", "com/lambdaworks/redis/RedisSetsConnection",
+            "com/lambdaworks/redis/RedisSortedSetsConnection", "com/lambdaworks/redis/RedisScriptingConnection",
+            "com/lambdaworks/redis/RedisServerConnection", "com/lambdaworks/redis/RedisHLLConnection",
+            "com/lambdaworks/redis/RedisGeoConnection", "com/lambdaworks/redis/BaseRedisConnection" };
+
+    private final static Comparator<String> IMPORT_ORDER = Comparator
+            .comparing((String importLine) -> !importLine.startsWith("java.")).thenComparing(Comparator.naturalOrder());
+
+    private final String targetPackage;
+    private final String targetName;
+    private final String typeDeclaration;
+    private final String typeComment;
+    private final Class<?> asyncType;
+    private final List<File> sources = new ArrayList<>();
+    private final List<String> imports = new ArrayList<>();
+
+    @Parameterized.Parameters(name = "Create {0}")
+    public static List<Object[]> arguments() {
+        List<Object[]> result = new ArrayList<>();
+
+        result.add(new Object[] { "AbstractRedisSyncCommands" });
+        result.add(new Object[] { "RedisSentinelCommandsImpl" });
+
+        return result;
+    }
+
+    /**
+     * @param targetName
+     */
+    public CreateSyncImplementations(String targetName) {
+
+        this.targetName = targetName;
+
+        if (targetName.equals("RedisSentinelCommandsImpl")) {
+
+            targetPackage = "com.lambdaworks.redis.sentinel";
+            typeDeclaration = "public class RedisSentinelCommandsImpl<K, V> implements RedisSentinelCommands<K, V>";
+            typeComment = "Synchronous executed commands for Redis Sentinel.";
+            asyncType = RedisSentinelAsyncCommandsImpl.class;
+
+            sources.add(template("RedisSentinelCommands"));
+            imports.add("com.lambdaworks.redis.sentinel.api.sync.RedisSentinelCommands");
+        } else {
+
+            targetPackage = "com.lambdaworks.redis";
+            typeDeclaration = "public abstract class AbstractRedisSyncCommands<K, V> implements RedisClusterCommands<K, V>";
+            typeComment = "Synchronous executed commands shared by standalone and Redis Cluster connections.";
+            asyncType = AbstractRedisAsyncCommands.class;
+
+            for (String templateName : Constants.TEMPLATE_NAMES) {
+                if (!templateName.contains("Sentinel") && !templateName.contains("Transactional")) {
+                    sources.add(template(templateName));
+                }
+            }
+
+            for (String source : CLUSTER_SOURCES) {
+                sources.add(new File(Constants.SOURCES, source + ".java"));
+            }
+
+            imports.add("com.lambdaworks.redis.cluster.api.sync.RedisClusterCommands");
+        }
+
+        imports.add("com.lambdaworks.redis.api.StatefulConnection");
+        imports.add(asyncType.getName());
+        imports.add("com.lambdaworks.redis.LettuceFutures");
+        imports.add("com.lambdaworks.redis.RedisFuture");
+    }
+
+    private static File template(String templateName) {
+        return new File(Constants.TEMPLATES, "com/lambdaworks/redis/api/" + templateName + ".java");
+    }
+
+    @Test
+    public void createImplementation() throws Exception {
+
+        Map<String, MethodDeclaration> methods = new LinkedHashMap<>();
+        Set<String> importLines = new TreeSet<>(IMPORT_ORDER);
+        importLines.addAll(imports);
+
+        for (File source : sources) {
+
+            CompilationUnit compilationUnit = JavaParser.parse(source);
+
+            if (compilationUnit.getImports() != null) {
+                for (ImportDeclaration importDeclaration : compilationUnit.getImports()) {
+                    importLines.add(importDeclaration.getName().toString() + (importDeclaration.isAsterisk() ? ".*" : ""));
+                }
+            }
+
+            new VoidVisitorAdapter<Object>() {
+                @Override
+                public void visit(MethodDeclaration n, Object arg) {
+
+                    if (n.isDefault() || n.getBody() != null) {
+                        return;
+                    }
+
+                    methods.putIfAbsent(getSignature(n), n);
+                }
+            }.visit(compilationUnit, null);
+        }
+
+        StringBuilder body = new StringBuilder();
+        body.append("protected final StatefulConnection<K, V> connection;\n");
+        body.append("protected final ").append(asyncType.getSimpleName()).append("<K, V> async;\n\n");
+
+        body.append("public ").append(targetName).append("(StatefulConnection<K, V> connection, ")
+                .append(asyncType.getSimpleName()).append("<K, V> async) {\n");
+        body.append("this.connection = connection;\nthis.async = async;\n}\n\n");
+
+        body.append("protected <T> T await(RedisFuture<T> future) {\n");
+        body.append("return LettuceFutures.awaitOrCancel(future, connection.getTimeout(), connection.getTimeoutUnit());\n");
+        body.append("}\n\n");
+
+        for (MethodDeclaration method : methods.values()) {
+            body.append(createMethod(method)).append("\n");
+        }
+
+        body.append("}\n");
+
+        StringBuilder builder = new StringBuilder();
+        builder.append("package ").append(targetPackage).append(";\n\n");
+
+        for (String importLine : importLines) {
+            if (isRequired(importLine, typeDeclaration + body)) {
+                builder.append("import ").append(importLine).append(";\n");
+            }
+        }
+
+        builder.append("\n/**\n * ").append(typeComment).append("\n * Commands are invoked on the async API and awaited using");
+        builder.append(" the connection timeout.\n *\n * @param <K> Key type.\n * @param <V> Value type.\n * @author Mark Paluch\n");
+        builder.append(" * @since 4.3\n * @generated by ").append(getClass().getName()).append("\n */\n");
+        builder.append(typeDeclaration).append(" {\n\n");
+        builder.append(body);
+
+        CompilationUnit result = JavaParser.parse(new ByteArrayInputStream(builder.toString().getBytes()));
+
+        File target = new File(Constants.SOURCES, targetPackage.replace('.', '/') + "/" + targetName + ".java");
+        FileOutputStream fos = new FileOutputStream(target);
+        fos.write(result.toString().replace("public  ", "public ").getBytes());
+        fos.close();
+    }
+
+    /**
+     * Check whether the import is required. Wildcard imports and imports from the target package are omitted.
+     */
+    private boolean isRequired(String importLine, String source) {
+
+        int index = importLine.lastIndexOf('.');
+        String simpleName = importLine.substring(index + 1);
+
+        if (simpleName.equals("*") || importLine.substring(0, index).equals(targetPackage)) {
+            return false;
+        }
+
+        return source.matches("(?s).*\\b" + simpleName + "\\b.*");
+    }
+
+    private String createMethod(MethodDeclaration method) {
+
+        StringBuilder builder = new StringBuilder();
+        builder.append("@Override\n");
+
+        if (method.getAnnotations() != null) {
+            for (AnnotationExpr annotation : method.getAnnotations()) {
+                if (annotation.getName().getName().equals("Override")) {
+                    continue;
+                }
+                builder.append(annotation.toStringWithoutComments()).append("\n");
+            }
+        }
+
+        builder.append("public ");
+        if (method.getTypeParameters() != null && !method.getTypeParameters().isEmpty()) {
+            StringJoiner typeParameters = new StringJoiner(", ", "<", "> ");
+            method.getTypeParameters().forEach(typeParameter -> typeParameters.add(typeParameter.toStringWithoutComments()));
+            builder.append(typeParameters);
+        }
+
+        String returnType = method.getType().toStringWithoutComments().trim();
+        builder.append(returnType).append(" ").append(method.getName()).append("(");
+
+        StringJoiner parameters = new StringJoiner(", ");
+        StringJoiner arguments = new StringJoiner(", ");
+
+        for (Parameter parameter : method.getParameters()) {
+            parameters.add(parameter.getType().toStringWithoutComments() + (parameter.isVarArgs() ? "... " : " ")
+                    + parameter.getId().getName());
+            arguments.add(parameter.getId().getName());
+        }
+
+        builder.append(parameters).append(") {\n");
+
+        String invocation = "async." + method.getName() + "(" + arguments + ")";
+        if (isFuture(method)) {
+            invocation = "await(" + invocation + ")";
+        }
+
+        builder.append(returnType.equals("void") ? "" : "return ").append(invocation).append(";\n}\n");
+
+        return builder.toString();
+    }
+
+    /**
+     * Check whether the async API method returns a {@link RedisFuture}.
+     */
+    private boolean isFuture(MethodDeclaration method) {
+
+        Boolean future = null;
+        int parameterCount = method.getParameters().size();
+
+        for (Method asyncMethod : asyncType.getMethods()) {
+
+            if (!asyncMethod.getName().equals(method.getName()) || asyncMethod.getParameterCount() != parameterCount) {
+                continue;
+            }
+
+            boolean returnsFuture = RedisFuture.class.isAssignableFrom(asyncMethod.getReturnType());
+            if (future != null && future != returnsFuture) {
+                throw new IllegalStateException("Ambiguous async method " + asyncType.getName() + "." + method.getName());
+            }
+
+            future = returnsFuture;
+        }
+
+        if (future == null) {
+            throw new IllegalStateException("Cannot find async method " + asyncType.getName() + "." + method.getName());
+        }
+
+        return future;
+    }
+
+    private static String getSignature(MethodDeclaration method) {
+
+        StringJoiner signature = new StringJoiner(",", method.getName() + "(", ")");
+        for (Parameter parameter : method.getParameters()) {
+            signature.add(parameter.getType().toStringWithoutComments() + (parameter.isVarArgs() ? "..." : ""));
+        }
+
+        return signature.toString();
+    }
+}
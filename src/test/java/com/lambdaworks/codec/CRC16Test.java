@@ -2,6 +2,7 @@ package com.lambdaworks.codec;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -46,4 +47,16 @@ public class CRC16Test {
         assertThat(result).describedAs("Expects " + Integer.toHexString(expected)).isEqualTo(expected);
 
     }
+
+    @Test
+    public void testCRC16UsingByteBuffer() throws Exception {
+
+        ByteBuffer heapBuffer = ByteBuffer.wrap(bytes);
+        ByteBuffer directBuffer = (ByteBuffer) ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+
+        assertThat(CRC16.crc16(heapBuffer)).isEqualTo(expected);
+        assertThat(CRC16.crc16(directBuffer)).isEqualTo(expected);
+        assertThat(heapBuffer.remaining()).isEqualTo(bytes.length);
+        assertThat(directBuffer.remaining()).isEqualTo(bytes.length);
+    }
 }
@@ -0,0 +1,152 @@
+package com.lambdaworks.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import com.lambdaworks.redis.api.StatefulRedisConnection;
+import com.lambdaworks.redis.codec.Utf8StringCodec;
+import com.lambdaworks.redis.output.ValueListOutput;
+import com.lambdaworks.redis.output.ValueSetOutput;
+import com.lambdaworks.redis.protocol.*;
+
+import rx.Observable;
+import rx.observers.TestSubscriber;
+
+/**
+ * @author Mark Paluch
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ReactiveCommandDispatcherTest {
+
+    private final Utf8StringCodec codec = new Utf8StringCodec();
+
+    @Mock
+    private StatefulRedisConnection<String, String> connection;
+
+    @Mock
+    private DemandAware.Source source;
+
+    private RedisCommand<String, String, ?> dispatched;
+
+    @Before
+    public void before() throws Exception {
+
+        when(connection.dispatch(any(RedisCommand.class))).thenAnswer(invocation -> {
+            dispatched = (RedisCommand<String, String, ?>) invocation.getArguments()[0];
+            return dispatched;
+        });
+    }
+
+    @Test
+    public void shouldEmitStreamingElementsOnDemand() throws Exception {
+
+        Command<String, String, List<String>> command = new Command<>(CommandType.LRANGE,
+                new ValueListOutput<String, String>(codec));
+        TestSubscriber<String> subscriber = TestSubscriber.create(0);
+
+        dissolve(command).subscribe(subscriber);
+        DemandAware.Sink sink = CommandWrapper.unwrap(dispatched, DemandAware.Sink.class);
+        sink.setSource(source);
+
+        command.getOutput().set(ByteBuffer.wrap("a".getBytes()));
+        command.getOutput().set(ByteBuffer.wrap("b".getBytes()));
+        command.getOutput().set(ByteBuffer.wrap("c".getBytes()));
+
+        subscriber.assertNoValues();
+        assertThat(sink.hasDemand()).isFalse();
+
+        subscriber.requestMore(2);
+
+        subscriber.assertValues("a", "b");
+        assertThat(sink.hasDemand()).isFalse();
+        verify(source, never()).requestMore();
+
+        subscriber.requestMore(2);
+
+        subscriber.assertValues("a", "b", "c");
+        assertThat(sink.hasDemand()).isTrue();
+        verify(source).requestMore();
+
+        dispatched.complete();
+
+        subscriber.assertCompleted();
+        assertThat(command.getOutput().get()).isEmpty();
+    }
+
+    @Test
+    public void shouldEmitDissolvedSetElementsOnDemand() throws Exception {
+
+        Command<String, String, Set<String>> command = new Command<>(CommandType.SMEMBERS,
+                new ValueSetOutput<String, String>(codec));
+        TestSubscriber<String> subscriber = TestSubscriber.create(1);
+
+        dissolve(command).subscribe(subscriber);
+
+        command.getOutput().set(ByteBuffer.wrap("a".getBytes()));
+        command.getOutput().set(ByteBuffer.wrap("b".getBytes()));
+        dispatched.complete();
+
+        subscriber.assertValues("a");
+        subscriber.assertNoTerminalEvent();
+
+        subscriber.requestMore(1);
+
+        subscriber.assertValues("a", "b");
+        subscriber.assertCompleted();
+    }
+
+    @Test
+    public void shouldEmitErrorWithoutDemand() throws Exception {
+
+        Command<String, String, List<String>> command = new Command<>(CommandType.LRANGE,
+                new ValueListOutput<String, String>(codec));
+        TestSubscriber<String> subscriber = TestSubscriber.create(0);
+
+        dissolve(command).subscribe(subscriber);
+
+        command.getOutput().set(ByteBuffer.wrap("a".getBytes()));
+        dispatched.completeExceptionally(new RedisException("error"));
+
+        subscriber.assertNoValues();
+        subscriber.assertError(RedisException.class);
+    }
+
+    @Test
+    public void shouldRequestMoreAfterUnsubscribe() throws Exception {
+
+        Command<String, String, List<String>> command = new Command<>(CommandType.LRANGE,
+                new ValueListOutput<String, String>(codec));
+        TestSubscriber<String> subscriber = TestSubscriber.create(0);
+
+        dissolve(command).subscribe(subscriber);
+        DemandAware.Sink sink = CommandWrapper.unwrap(dispatched, DemandAware.Sink.class);
+        sink.setSource(source);
+
+        command.getOutput().set(ByteBuffer.wrap("a".getBytes()));
+        assertThat(sink.hasDemand()).isFalse();
+
+        subscriber.unsubscribe();
+
+        assertThat(sink.hasDemand()).isTrue();
+        verify(source).requestMore();
+        subscriber.assertNoValues();
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private Observable<String> dissolve(RedisCommand<String, String, ?> command) {
+        return Observable.create(new ReactiveCommandDispatcher<>((RedisCommand) command, connection, true));
+    }
+}
@@ -0,0 +1,196 @@
+package com.lambdaworks.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.net.InetSocketAddress;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.lambdaworks.redis.event.Event;
+import com.lambdaworks.redis.event.EventBus;
+import com.lambdaworks.redis.metrics.CommandLatencyId;
+import com.lambdaworks.redis.metrics.CommandMetrics;
+import com.lambdaworks.redis.protocol.CommandHandler;
+import com.lambdaworks.redis.protocol.CommandType;
+
+import rx.Observable;
+import rx.subjects.PublishSubject;
+
+/**
+ * @author Mark Paluch
+ */
+public class ReadLoadBalancerTest {
+
+    private final InetSocketAddress local = new InetSocketAddress("localhost", 1234);
+
+    private StatefulRedisConnectionImpl<String, String> first;
+    private StatefulRedisConnectionImpl<String, String> second;
+    private StatefulRedisConnectionImpl<String, String> third;
+    private List<StatefulRedisConnectionImpl<String, String>> candidates;
+
+    @Before
+    public void before() throws Exception {
+
+        first = createConnection(6479, 10);
+        second = createConnection(6480, 2);
+        third = createConnection(6481, 5);
+        candidates = Arrays.asList(first, second, third);
+    }
+
+    @Test
+    public void firstAvailable() throws Exception {
+
+        assertThat(ReadLoadBalancer.FIRST_AVAILABLE.select(candidates)).isSameAs(first);
+
+        when(first.isOpen()).thenReturn(false);
+        assertThat(ReadLoadBalancer.FIRST_AVAILABLE.select(candidates)).isSameAs(second);
+    }
+
+    @Test
+    public void roundRobin() throws Exception {
+
+        ReadLoadBalancer sut = new ReadLoadBalancerImpl.RoundRobin();
+
+        assertThat(sut.select(candidates)).isSameAs(first);
+        assertThat(sut.select(candidates)).isSameAs(second);
+        assertThat(sut.select(candidates)).isSameAs(third);
+        assertThat(sut.select(candidates)).isSameAs(first);
+    }
+
+    @Test
+    public void roundRobinSkipsClosedCandidates() throws Exception {
+
+        ReadLoadBalancer sut = new ReadLoadBalancerImpl.RoundRobin();
+        when(second.isOpen()).thenReturn(false);
+
+        assertThat(sut.select(candidates)).isSameAs(first);
+        assertThat(sut.select(candidates)).isSameAs(third);
+        assertThat(sut.select(candidates)).isSameAs(third);
+    }
+
+    @Test
+    public void random() throws Exception {
+
+        Set<Object> selected = new HashSet<>();
+        for (int i = 0; i < 1000; i++) {
+            selected.add(ReadLoadBalancer.RANDOM.select(candidates));
+        }
+
+        assertThat(selected).containsOnly(first, second, third);
+    }
+
+    @Test
+    public void leastOutstanding() throws Exception {
+
+        assertThat(ReadLoadBalancer.LEAST_OUTSTANDING.select(candidates)).isSameAs(second);
+
+        when(second.isOpen()).thenReturn(false);
+        assertThat(ReadLoadBalancer.LEAST_OUTSTANDING.select(candidates)).isSameAs(third);
+    }
+
+    @Test
+    public void shouldFallBackToFirstCandidateIfNoCandidateIsOpen() throws Exception {
+
+        for (StatefulRedisConnectionImpl<String, String> candidate : candidates) {
+            when(candidate.isOpen()).thenReturn(false);
+        }
+
+        assertThat(ReadLoadBalancer.FIRST_AVAILABLE.select(candidates)).isSameAs(first);
+        assertThat(ReadLoadBalancer.ROUND_ROBIN.select(candidates)).isSameAs(first);
+        assertThat(ReadLoadBalancer.RANDOM.select(candidates)).isSameAs(first);
+        assertThat(ReadLoadBalancer.LEAST_OUTSTANDING.select(candidates)).isSameAs(first);
+    }
+
+    @Test
+    public void latencyAware() throws Exception {
+
+        EventBus eventBus = mock(EventBus.class);
+        when(eventBus.get()).thenReturn(Observable.empty());
+
+        ReadLoadBalancerImpl.LatencyAware sut = (ReadLoadBalancerImpl.LatencyAware) ReadLoadBalancer.latencyAware(eventBus);
+
+        Map<CommandLatencyId, CommandMetrics> latencies = new HashMap<>();
+        latencies.put(CommandLatencyId.create(local, new InetSocketAddress("localhost", 6479), CommandType.GET),
+                createMetrics(100, 900));
+        latencies.put(CommandLatencyId.create(local, new InetSocketAddress("localhost", 6480), CommandType.GET),
+                createMetrics(100, 100));
+        latencies.put(CommandLatencyId.create(local, new InetSocketAddress("localhost", 6481), CommandType.GET),
+                createMetrics(100, 500));
+
+        sut.onLatencies(latencies);
+
+        Map<Object, Integer> selections = new HashMap<>();
+        for (int i = 0; i < 3000; i++) {
+            selections.merge(sut.select(candidates), 1, Integer::sum);
+        }
+
+        // power of two choices: the fastest candidate wins 2/3, the slowest candidate is never chosen
+        assertThat(selections).doesNotContainKey(first);
+        assertThat(selections.get(second)).isGreaterThan(selections.get(third));
+    }
+
+    @Test
+    public void latencyAwareShouldSubscribeWhileInUse() throws Exception {
+
+        EventBus eventBus = mock(EventBus.class);
+        PublishSubject<Event> events = PublishSubject.create();
+        when(eventBus.get()).thenReturn(events);
+
+        ReadLoadBalancerImpl.LatencyAware sut = (ReadLoadBalancerImpl.LatencyAware) ReadLoadBalancer.latencyAware(eventBus);
+        assertThat(events.hasObservers()).isFalse();
+
+        sut.acquire();
+        sut.acquire();
+        assertThat(sut.isSubscribed()).isTrue();
+        assertThat(events.hasObservers()).isTrue();
+
+        sut.release();
+        assertThat(sut.isSubscribed()).isTrue();
+
+        sut.release();
+        sut.release();
+        assertThat(sut.isSubscribed()).isFalse();
+        assertThat(events.hasObservers()).isFalse();
+    }
+
+    @Test
+    public void valueOf() throws Exception {
+
+        assertThat(ReadLoadBalancer.valueOf("firstAvailable")).isSameAs(ReadLoadBalancer.FIRST_AVAILABLE);
+        assertThat(ReadLoadBalancer.valueOf("roundRobin")).isSameAs(ReadLoadBalancer.ROUND_ROBIN);
+        assertThat(ReadLoadBalancer.valueOf("random")).isSameAs(ReadLoadBalancer.RANDOM);
+        assertThat(ReadLoadBalancer.valueOf("leastOutstanding")).isSameAs(ReadLoadBalancer.LEAST_OUTSTANDING);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void valueOfUnknown() throws Exception {
+        ReadLoadBalancer.valueOf("unknown");
+    }
+
+    @SuppressWarnings("unchecked")
+    private StatefulRedisConnectionImpl<String, String> createConnection(int port, int outstandingCommands) {
+
+        CommandHandler<String, String> commandHandler = mock(CommandHandler.class);
+        when(commandHandler.getOutstandingCommands()).thenReturn(outstandingCommands);
+        when(commandHandler.getRemoteAddress()).thenReturn(new InetSocketAddress("localhost", port));
+
+        StatefulRedisConnectionImpl<String, String> connection = mock(StatefulRedisConnectionImpl.class);
+        when(connection.isOpen()).thenReturn(true);
+        when(connection.getChannelWriter()).thenReturn(commandHandler);
+
+        return connection;
+    }
+
+    private static CommandMetrics createMetrics(long count, long median) {
+
+        CommandMetrics.CommandLatency latency = new CommandMetrics.CommandLatency(median / 2, median * 2,
+                Collections.singletonMap(50.0, median));
+
+        return new CommandMetrics(count, TimeUnit.MICROSECONDS, latency, latency);
+    }
+}
@@ -0,0 +1,84 @@
+package com.lambdaworks.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.when;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import com.lambdaworks.redis.api.sync.RedisCommands;
+import com.lambdaworks.redis.codec.Utf8StringCodec;
+import com.lambdaworks.redis.protocol.RedisCommand;
+import com.lambdaworks.redis.protocol.TransactionalCommand;
+
+/**
+ * @author Mark Paluch
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class RedisCommandsImplTest {
+
+    @Mock
+    private RedisChannelWriter<String, String> writer;
+
+    private List<RedisCommand<String, String, ?>> written = new ArrayList<>();
+    private StatefulRedisConnectionImpl<String, String> connection;
+    private RedisCommands<String, String> sut;
+
+    @Before
+    public void before() throws Exception {
+
+        when(writer.write(any(RedisCommand.class))).thenAnswer(invocation -> {
+
+            RedisCommand<String, String, ?> command = (RedisCommand<String, String, ?>) invocation.getArguments()[0];
+            written.add(command);
+
+            if (!(command instanceof TransactionalCommand)) {
+                command.getOutput().set(ByteBuffer.wrap(command.getType().name().equals("GET") ? "value".getBytes() : "OK".getBytes()));
+                command.complete();
+            }
+
+            return command;
+        });
+
+        connection = new StatefulRedisConnectionImpl<>(writer, new Utf8StringCodec(), 1, TimeUnit.SECONDS);
+        sut = connection.sync();
+    }
+
+    @Test
+    public void shouldUseDirectImplementation() throws Exception {
+
+        assertThat(sut).isInstanceOf(RedisCommandsImpl.class);
+        assertThat(sut.getStatefulConnection()).isSameAs(connection);
+    }
+
+    @Test
+    public void shouldAwaitCommand() throws Exception {
+
+        assertThat(sut.get("key")).isEqualTo("value");
+        assertThat(sut.set("key", "value")).isEqualTo("OK");
+        assertThat(written).hasSize(2);
+    }
+
+    @Test
+    public void shouldNotAwaitCommandsWithinTransaction() throws Exception {
+
+        assertThat(sut.multi()).isEqualTo("OK");
+        assertThat(connection.isMulti()).isTrue();
+
+        assertThat(sut.set("key", "value")).isNull();
+        assertThat(written.get(1)).isInstanceOf(TransactionalCommand.class);
+
+        assertThat(sut.discard()).isEqualTo("OK");
+        assertThat(connection.isMulti()).isFalse();
+        assertThat(sut.get("key")).isEqualTo("value");
+    }
+}
@@ -0,0 +1,213 @@
+package com.lambdaworks.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import com.lambdaworks.redis.api.rx.RedisReactiveCommands;
+
+import rx.Observable;
+import rx.observers.TestSubscriber;
+
+/**
+ * @author Mark Paluch
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ScanStreamTest {
+
+    @Mock
+    private RedisReactiveCommands<String, String> commands;
+
+    @Before
+    public void before() throws Exception {
+
+        when(commands.scan(any(ScanCursor.class))).thenAnswer(invocation -> {
+
+            ScanCursor cursor = (ScanCursor) invocation.getArguments()[0];
+            int next = Integer.parseInt(cursor.getCursor()) + 1;
+
+            return Observable.just(keyCursor(next, next == 3, "key" + next + "a", "key" + next + "b"));
+        });
+    }
+
+    @Test
+    public void shouldScanAllCursors() throws Exception {
+
+        TestSubscriber<String> subscriber = TestSubscriber.create();
+
+        ScanStream.scan(commands).subscribe(subscriber);
+
+        subscriber.assertValues("key1a", "key1b", "key2a", "key2b", "key3a", "key3b");
+        subscriber.assertCompleted();
+        verify(commands, times(3)).scan(any(ScanCursor.class));
+    }
+
+    @Test
+    public void shouldNotScanWithoutDemand() throws Exception {
+
+        TestSubscriber<String> subscriber = TestSubscriber.create(0);
+
+        ScanStream.scan(commands).subscribe(subscriber);
+
+        verify(commands, times(0)).scan(any(ScanCursor.class));
+    }
+
+    @Test
+    public void shouldPrefetchNextCursor() throws Exception {
+
+        TestSubscriber<String> subscriber = TestSubscriber.create(1);
+
+        ScanStream.scan(commands).subscribe(subscriber);
+
+        subscriber.assertValues("key1a");
+        verify(commands).scan(ScanCursor.INITIAL);
+        verify(commands).scan(eq(keyCursor(1, false)));
+        verify(commands, times(2)).scan(any(ScanCursor.class));
+
+        subscriber.requestMore(1);
+
+        subscriber.assertValues("key1a", "key1b");
+        verify(commands, times(3)).scan(any(ScanCursor.class));
+
+        subscriber.requestMore(10);
+
+        subscriber.assertValueCount(6);
+        subscriber.assertCompleted();
+    }
+
+    @Test
+    public void shouldUseScanArgs() throws Exception {
+
+        ScanArgs scanArgs = ScanArgs.Builder.matches("key*");
+        when(commands.scan(any(ScanCursor.class), eq(scanArgs))).thenReturn(Observable.just(keyCursor(0, true, "key")));
+
+        TestSubscriber<String> subscriber = TestSubscriber.create();
+
+        ScanStream.scan(commands, scanArgs).subscribe(subscriber);
+
+        subscriber.assertValues("key");
+        subscriber.assertCompleted();
+    }
+
+    @Test
+    public void shouldPropagateErrors() throws Exception {
+
+        when(commands.sscan(eq("key"), any(ScanCursor.class)))
+                .thenReturn(Observable.error(new RedisCommandExecutionException("WRONGTYPE")));
+
+        TestSubscriber<String> subscriber = TestSubscriber.create();
+
+        ScanStream.sscan(commands, "key").subscribe(subscriber);
+
+        subscriber.assertError(RedisCommandExecutionException.class);
+    }
+
+    @Test
+    public void shouldFailIfScanCompletesWithoutCursor() throws Exception {
+
+        when(commands.sscan(eq("key"), any(ScanCursor.class))).thenReturn(Observable.empty());
+
+        TestSubscriber<String> subscriber = TestSubscriber.create();
+
+        ScanStream.sscan(commands, "key").subscribe(subscriber);
+
+        subscriber.assertError(RedisException.class);
+    }
+
+    @Test
+    public void shouldScanHash() throws Exception {
+
+        MapScanCursor<String, String> cursor = new MapScanCursor<>();
+        cursor.getMap().put("field", "value");
+        cursor.setFinished(true);
+        when(commands.hscan(eq("key"), any(ScanCursor.class))).thenReturn(Observable.just(cursor));
+
+        TestSubscriber<KeyValue<String, String>> subscriber = TestSubscriber.create();
+
+        ScanStream.hscan(commands, "key").subscribe(subscriber);
+
+        subscriber.assertValues(new KeyValue<>("field", "value"));
+        subscriber.assertCompleted();
+    }
+
+    @Test
+    public void shouldIterate() throws Exception {
+
+        try (ScanIterator<String> iterator = ScanIterator.of(ScanStream.scan(commands), 1)) {
+
+            assertThat(iterator.hasNext()).isTrue();
+            verify(commands, times(2)).scan(any(ScanCursor.class));
+            assertThat(iterator.next()).isEqualTo("key1a");
+
+            List<String> remaining = iterator.stream().collect(Collectors.toList());
+            assertThat(remaining).containsExactly("key1b", "key2a", "key2b", "key3a", "key3b");
+            assertThat(iterator.hasNext()).isFalse();
+        }
+    }
+
+    @Test(expected = RedisCommandExecutionException.class)
+    public void iteratorShouldPropagateErrors() throws Exception {
+
+        when(commands.zscan(eq("key"), any(ScanCursor.class)))
+                .thenReturn(Observable.error(new RedisCommandExecutionException("WRONGTYPE")));
+
+        ScanIterator.zscan(commands, "key").hasNext();
+    }
+
+    @Test(expected = RedisCommandTimeoutException.class)
+    public void iteratorShouldTimeOutWaitingForElements() throws Exception {
+
+        try (ScanIterator<String> iterator = ScanIterator.of(Observable.never(), 1, 10, TimeUnit.MILLISECONDS)) {
+            iterator.hasNext();
+        }
+    }
+
+    @Test
+    public void closeShouldReleaseBlockedIterator() throws Exception {
+
+        ScanIterator<String> iterator = ScanIterator.of(Observable.never(), 1, 10, TimeUnit.SECONDS);
+
+        CompletableFuture<Boolean> hasNext = CompletableFuture.supplyAsync(iterator::hasNext);
+
+        Thread.sleep(50);
+        iterator.close();
+
+        assertThat(hasNext.get(1, TimeUnit.SECONDS)).isFalse();
+    }
+
+    private static KeyScanCursor<String> keyCursor(int cursor, boolean finished, String... keys) {
+
+        KeyScanCursor<String> result = new KeyScanCursor<String>() {
+
+            @Override
+            public boolean equals(Object obj) {
+                return obj instanceof ScanCursor && getCursor().equals(((ScanCursor) obj).getCursor());
+            }
+
+            @Override
+            public int hashCode() {
+                return getCursor().hashCode();
+            }
+        };
+
+        result.setCursor(Integer.toString(cursor));
+        result.setFinished(finished);
+        result.getKeys().addAll(Arrays.asList(keys));
+        return result;
+    }
+}
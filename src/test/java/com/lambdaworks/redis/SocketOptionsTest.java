@@ -24,12 +24,19 @@ public class SocketOptionsTest extends AbstractRedisClientTest {
     public void testBuilder() throws Exception {
 
         SocketOptions sut = SocketOptions.builder().connectTimeout(1, TimeUnit.MINUTES).keepAlive(true).tcpNoDelay(true)
-                .build();
+                .receiveBufferSize(64 * 1024).sendBufferSize(128 * 1024).nativeTransport(true).tcpQuickAck(true)
+                .writeBufferWaterMark(1024, 2048).build();
 
         assertThat(sut.isKeepAlive()).isEqualTo(true);
         assertThat(sut.isTcpNoDelay()).isEqualTo(true);
         assertThat(sut.getConnectTimeout()).isEqualTo(1);
         assertThat(sut.getConnectTimeoutUnit()).isEqualTo(TimeUnit.MINUTES);
+        assertThat(sut.getReceiveBufferSize()).isEqualTo(64 * 1024);
+        assertThat(sut.getSendBufferSize()).isEqualTo(128 * 1024);
+        assertThat(sut.isNativeTransport()).isEqualTo(true);
+        assertThat(sut.isTcpQuickAck()).isEqualTo(true);
+        assertThat(sut.getWriteBufferLowWaterMark()).isEqualTo(1024);
+        assertThat(sut.getWriteBufferHighWaterMark()).isEqualTo(2048);
     }
 
     @Test
@@ -37,11 +44,22 @@ public class SocketOptionsTest extends AbstractRedisClientTest {
         checkAssertions(SocketOptions.copyOf(SocketOptions.builder().build()));
     }
 
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidWaterMark() throws Exception {
+        SocketOptions.builder().writeBufferWaterMark(2048, 1024);
+    }
+
     protected void checkAssertions(SocketOptions sut) {
         assertThat(sut.isKeepAlive()).isEqualTo(false);
         assertThat(sut.isTcpNoDelay()).isEqualTo(false);
         assertThat(sut.getConnectTimeout()).isEqualTo(10);
         assertThat(sut.getConnectTimeoutUnit()).isEqualTo(TimeUnit.SECONDS);
+        assertThat(sut.getReceiveBufferSize()).isEqualTo(0);
+        assertThat(sut.getSendBufferSize()).isEqualTo(0);
+        assertThat(sut.isNativeTransport()).isEqualTo(false);
+        assertThat(sut.isTcpQuickAck()).isEqualTo(false);
+        assertThat(sut.getWriteBufferLowWaterMark()).isEqualTo(8 * 1024);
+        assertThat(sut.getWriteBufferHighWaterMark()).isEqualTo(32 * 1024);
     }
 
     @Test(timeout = 1000)
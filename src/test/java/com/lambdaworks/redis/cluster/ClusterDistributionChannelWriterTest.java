@@ -1,16 +1,59 @@
 package com.lambdaworks.redis.cluster;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.*;
 
-import org.junit.Test;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import com.lambdaworks.redis.RedisChannelWriter;
+import com.lambdaworks.redis.StatefulRedisConnectionImpl;
+import com.lambdaworks.redis.cluster.event.ClusterCommandFanOutEvent;
+import com.lambdaworks.redis.codec.Utf8StringCodec;
+import com.lambdaworks.redis.event.EventBus;
 import com.lambdaworks.redis.internal.HostAndPort;
+import com.lambdaworks.redis.output.IntegerOutput;
+import com.lambdaworks.redis.protocol.Command;
+import com.lambdaworks.redis.protocol.CommandArgs;
+import com.lambdaworks.redis.protocol.CommandType;
+import com.lambdaworks.redis.protocol.RedisCommand;
+
+import io.netty.util.concurrent.ImmediateEventExecutor;
 
 /**
  * @author Mark Paluch
  */
+@RunWith(MockitoJUnitRunner.class)
 public class ClusterDistributionChannelWriterTest {
 
+    private final static Utf8StringCodec CODEC = new Utf8StringCodec();
+
+    @Mock
+    private ClusterConnectionProvider clusterConnectionProvider;
+
+    @Mock
+    private RedisChannelWriter<String, String> defaultWriter;
+
+    @Mock
+    private RedisChannelWriter<String, String> node1Writer;
+
+    @Mock
+    private RedisChannelWriter<String, String> node2Writer;
+
+    @Mock
+    private EventBus eventBus;
+
     @Test
     public void shouldParseAskTargetCorrectly() throws Exception {
 
@@ -46,4 +89,72 @@ public class ClusterDistributionChannelWriterTest {
         assertThat(moveTarget.getHostText()).isEqualTo("1:2:3:4::6");
         assertThat(moveTarget.getPort()).isEqualTo(6381);
     }
-}
\ No newline at end of file
+
+    @Test
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    public void shouldWriteBatchPerNode() throws Exception {
+
+        StatefulRedisConnectionImpl<String, String> node1 = new StatefulRedisConnectionImpl<>(node1Writer, CODEC, 1,
+                TimeUnit.SECONDS);
+        StatefulRedisConnectionImpl<String, String> node2 = new StatefulRedisConnectionImpl<>(node2Writer, CODEC, 1,
+                TimeUnit.SECONDS);
+
+        when(clusterConnectionProvider.getConnection(eq(ClusterConnectionProvider.Intent.WRITE), anyInt()))
+                .thenAnswer(invocation -> (int) invocation.getArguments()[1] < 8192 ? node1 : node2);
+
+        ClusterDistributionChannelWriter<String, String> sut = new ClusterDistributionChannelWriter<>(
+                ClusterClientOptions.create(), defaultWriter, ClusterEventListener.NO_OP, ImmediateEventExecutor.INSTANCE,
+                eventBus);
+        sut.setClusterConnectionProvider(clusterConnectionProvider);
+
+        List<String> keys = Arrays.asList("a", "b", "c", "d");
+        List<Command<String, String, Long>> commands = Arrays.asList(del("a"), del("b"), del("c"), del("d"));
+
+        sut.write(commands);
+
+        ArgumentCaptor<Collection> node1Batch = ArgumentCaptor.forClass(Collection.class);
+        ArgumentCaptor<Collection> node2Batch = ArgumentCaptor.forClass(Collection.class);
+
+        verify(node1Writer).write(node1Batch.capture());
+        verify(node2Writer).write(node2Batch.capture());
+        verify(node1Writer, never()).write(any(RedisCommand.class));
+        verify(node2Writer, never()).write(any(RedisCommand.class));
+        verifyZeroInteractions(defaultWriter);
+
+        long node1Keys = keys.stream().filter(key -> SlotHash.getSlot(key) < 8192).count();
+
+        assertThat(node1Batch.getValue()).hasSize((int) node1Keys).hasOnlyElementsOfType(ClusterCommand.class);
+        assertThat(node2Batch.getValue()).hasSize(keys.size() - (int) node1Keys).hasOnlyElementsOfType(ClusterCommand.class);
+
+        ArgumentCaptor<ClusterCommandFanOutEvent> event = ArgumentCaptor.forClass(ClusterCommandFanOutEvent.class);
+        verify(eventBus).publish(event.capture());
+
+        assertThat(event.getValue().commandType()).isEqualTo(CommandType.DEL);
+        assertThat(event.getValue().commands()).isEqualTo(4);
+        assertThat(event.getValue().nodes()).isEqualTo(2);
+    }
+
+    @Test
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    public void shouldNotPublishFanOutForSingleNode() throws Exception {
+
+        StatefulRedisConnectionImpl<String, String> node1 = new StatefulRedisConnectionImpl<>(node1Writer, CODEC, 1,
+                TimeUnit.SECONDS);
+
+        when(clusterConnectionProvider.getConnection(eq(ClusterConnectionProvider.Intent.WRITE), anyInt())).thenReturn(node1);
+
+        ClusterDistributionChannelWriter<String, String> sut = new ClusterDistributionChannelWriter<>(
+                ClusterClientOptions.create(), defaultWriter, ClusterEventListener.NO_OP, ImmediateEventExecutor.INSTANCE,
+                eventBus);
+        sut.setClusterConnectionProvider(clusterConnectionProvider);
+
+        sut.write(Arrays.asList(del("a"), del("b")));
+
+        verify(node1Writer).write(any(Collection.class));
+        verifyZeroInteractions(eventBus);
+    }
+
+    private static Command<String, String, Long> del(String key) {
+        return new Command<>(CommandType.DEL, new IntegerOutput<>(CODEC), new CommandArgs<>(CODEC).addKey(key));
+    }
+}
@@ -91,7 +91,7 @@ public class ClusterNodeCommandHandlerTest {
 
         when(clientOptions.isAutoReconnect()).thenReturn(true);
         queue.add(command);
-        when(clusterChannelWriter.write(any())).thenThrow(new RedisException("meh"));
+        when(clusterChannelWriter.write(any(RedisCommand.class))).thenThrow(new RedisException("meh"));
 
         sut.close();
 
@@ -140,7 +140,7 @@ public class ClusterNodeCommandHandlerTest {
         when(clientOptions.getRequestQueueSize()).thenReturn(1000);
         when(clientOptions.getDisconnectedBehavior()).thenReturn(ClientOptions.DisconnectedBehavior.ACCEPT_COMMANDS);
         sut.write(command);
-        when(clusterChannelWriter.write(any())).thenThrow(new RedisException(""));
+        when(clusterChannelWriter.write(any(RedisCommand.class))).thenThrow(new RedisException(""));
 
         sut.close();
 
@@ -4,12 +4,15 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.CoreMatchers.hasItem;
 import static org.junit.Assert.assertThat;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.concurrent.TimeUnit;
 
 import org.junit.Test;
 
+import com.lambdaworks.redis.RedisException;
 import com.lambdaworks.redis.RedisURI;
 import com.lambdaworks.redis.cluster.models.partitions.ClusterPartitionParser;
 import com.lambdaworks.redis.cluster.models.partitions.Partitions;
@@ -97,6 +100,59 @@ public class ClusterPartitionParserTest {
         assertThat(p2.getUri().getPort()).isEqualTo(7380);
     }
 
+    @Test
+    public void shouldParseNodesFromBytes() throws Exception {
+
+        ByteBuffer buffer = ByteBuffer.wrap(nodes.getBytes(StandardCharsets.US_ASCII));
+        Partitions result = ClusterPartitionParser.parse(buffer);
+
+        assertThat(buffer.position()).isEqualTo(0);
+        assertThat(result.getPartitions()).hasSize(4);
+
+        RedisClusterNode p2 = result.getPartitions().get(1);
+
+        assertThat(p2.getNodeId()).isEqualTo("3d005a179da7d8dc1adae6409d47b39c369e992b");
+        assertThat(p2.getPingSentTimestamp()).isEqualTo(0);
+        assertThat(p2.getPongReceivedTimestamp()).isEqualTo(1401258245007L);
+        assertThat(p2.getConfigEpoch()).isEqualTo(2);
+        assertThat(p2.isConnected()).isFalse();
+        assertThat(p2.getSlots()).hasSize(4000).contains(8000, 11999);
+
+        RedisClusterNode p3 = result.getPartitions().get(2);
+
+        assertThat(p3.getFlags()).containsOnly(RedisClusterNode.NodeFlag.MYSELF, RedisClusterNode.NodeFlag.SLAVE);
+        assertThat(p3.getSlots()).hasSize(7000 + 999 + 1).contains(0, 6999, 7001, 7999, 12001);
+
+        RedisClusterNode p4 = result.getPartitions().get(3);
+
+        assertThat(p4.getUri()).isNull();
+        assertThat(p4.getSlots()).isEmpty();
+    }
+
+    @Test
+    public void shouldParseNodesFromDirectBuffer() throws Exception {
+
+        byte[] bytes = nodesWithBusPort.getBytes(StandardCharsets.US_ASCII);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+        buffer.put(bytes).flip();
+
+        Partitions result = ClusterPartitionParser.parse(buffer);
+
+        assertThat(result.getPartitions()).hasSize(4);
+        assertThat(result.getPartitionBySlot(12000).getNodeId()).isEqualTo("3d005a179da7d8dc1adae6409d47b39c369e992b");
+        assertThat(result.getPartitions().get(3).getSlaveOf()).isEqualTo("3d005a179da7d8dc1adae6409d47b39c369e992b");
+    }
+
+    @Test(expected = RedisException.class)
+    public void shouldRejectIncompleteNodes() throws Exception {
+        ClusterPartitionParser.parse("c37ab8396be428403d4e55c0d317348be27ed973 127.0.0.1:7381 master");
+    }
+
+    @Test(expected = RedisException.class)
+    public void shouldRejectInvalidSlots() throws Exception {
+        ClusterPartitionParser.parse("c37ab8396be428403d4e55c0d317348be27ed973 127.0.0.1:7381 master - 0 0 1 connected 1-x");
+    }
+
     @Test
     public void getNodeByHashShouldReturnCorrectNode() throws Exception {
 
@@ -0,0 +1,178 @@
+package com.lambdaworks.redis.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.io.Closeable;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import com.lambdaworks.redis.RedisFuture;
+import com.lambdaworks.redis.RedisURI;
+import com.lambdaworks.redis.cluster.models.partitions.Partitions;
+import com.lambdaworks.redis.cluster.models.partitions.RedisClusterNode;
+import com.lambdaworks.redis.codec.Utf8StringCodec;
+import com.lambdaworks.redis.pubsub.RedisPubSubListener;
+import com.lambdaworks.redis.pubsub.StatefulRedisPubSubConnectionImpl;
+import com.lambdaworks.redis.pubsub.api.async.RedisPubSubAsyncCommands;
+
+/**
+ * @author Mark Paluch
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ClusterPubSubConnectionImplTest {
+
+    // slot 12182
+    private static final String FOO = "foo";
+    // slot 5061
+    private static final String BAR = "bar";
+
+    @Mock
+    private RedisClusterClient client;
+
+    @Mock
+    private RedisPubSubListener<String, String> listener;
+
+    private Map<String, StatefulRedisPubSubConnectionImpl<String, String>> connections = new HashMap<>();
+    private Map<String, RedisPubSubAsyncCommands<String, String>> commands = new HashMap<>();
+    private Set<Closeable> closeables = new HashSet<>();
+    private ClusterPubSubConnectionImpl<String, String> sut;
+
+    @Before
+    public void before() throws Exception {
+
+        for (String nodeId : Arrays.asList("node1", "node2", "node3")) {
+
+            StatefulRedisPubSubConnectionImpl<String, String> connection = mock(StatefulRedisPubSubConnectionImpl.class);
+            RedisPubSubAsyncCommands<String, String> async = mock(RedisPubSubAsyncCommands.class);
+
+            when(connection.async()).thenReturn(async);
+            when(async.subscribe(any())).thenReturn(completed());
+            when(async.unsubscribe(any())).thenReturn(completed());
+            when(async.psubscribe(any())).thenReturn(completed());
+            when(client.<String, String> connectPubSubToNode(any(), eq(nodeId), any())).thenReturn(connection);
+
+            connections.put(nodeId, connection);
+            commands.put(nodeId, async);
+        }
+
+        Partitions partitions = new Partitions();
+        partitions.add(master("node1", 0, 8191));
+        partitions.add(master("node2", 8192, 16383));
+        partitions.add(slave("node3", "node2"));
+        partitions.updateCache();
+
+        sut = new ClusterPubSubConnectionImpl<>(client, new Utf8StringCodec(), PubSubDistribution.MASTER, partitions,
+                closeables);
+        closeables.add(sut);
+    }
+
+    @Test
+    public void shouldSubscribeAtSlotMaster() throws Exception {
+
+        sut.subscribe(FOO, BAR).get();
+
+        verify(commands.get("node1")).subscribe(BAR);
+        verify(commands.get("node2")).subscribe(FOO);
+        verify(client, never()).connectPubSubToNode(any(), eq("node3"), any());
+
+        assertThat(sut.getNodeId(FOO)).isEqualTo("node2");
+        assertThat(sut.getNodeId(BAR)).isEqualTo("node1");
+    }
+
+    @Test
+    public void shouldUnsubscribeAtSubscribedNode() throws Exception {
+
+        sut.subscribe(FOO, BAR);
+        sut.unsubscribe(FOO).get();
+
+        verify(commands.get("node2")).unsubscribe(FOO);
+        verify(commands.get("node1"), never()).unsubscribe(any());
+        assertThat(sut.getNodeId(FOO)).isNull();
+    }
+
+    @Test
+    public void shouldRegisterListenersOnNodeConnections() throws Exception {
+
+        sut.addListener(listener);
+        sut.subscribe(FOO);
+
+        verify(connections.get("node2")).addListener(listener);
+
+        sut.addChannelListener(listener, BAR);
+
+        verify(connections.get("node2")).addChannelListener(listener, BAR);
+
+        sut.subscribe(BAR);
+
+        verify(connections.get("node1")).addListener(listener);
+        verify(connections.get("node1")).addChannelListener(listener, BAR);
+
+        sut.removeListener(listener);
+
+        verify(connections.get("node1")).removeListener(listener);
+        verify(connections.get("node2")).removeListener(listener);
+    }
+
+    @Test
+    public void shouldMoveSubscriptionsOnFailover() throws Exception {
+
+        sut.subscribe(FOO, BAR);
+
+        Partitions partitions = new Partitions();
+        partitions.add(master("node1", 0, 8191));
+        RedisClusterNode failed = master("node2", 0, -1);
+        failed.setFlags(EnumSet.of(RedisClusterNode.NodeFlag.MASTER, RedisClusterNode.NodeFlag.FAIL));
+        partitions.add(failed);
+        partitions.add(master("node3", 8192, 16383));
+        partitions.updateCache();
+
+        sut.setPartitions(partitions);
+
+        verify(connections.get("node2")).close();
+        verify(commands.get("node2"), never()).unsubscribe(any());
+        verify(commands.get("node3")).subscribe(FOO);
+        verify(commands.get("node1"), times(1)).subscribe(any());
+
+        assertThat(sut.getNodeId(FOO)).isEqualTo("node3");
+    }
+
+    @Test
+    public void shouldCloseNodeConnections() throws Exception {
+
+        sut.subscribe(FOO, BAR);
+        sut.close();
+
+        verify(connections.get("node1")).close();
+        verify(connections.get("node2")).close();
+        assertThat(sut.isOpen()).isFalse();
+        assertThat(closeables).isEmpty();
+    }
+
+    private static RedisFuture<Void> completed() {
+        return new PipelinedRedisFuture<>(CompletableFuture.completedFuture(null), v -> v);
+    }
+
+    private static RedisClusterNode master(String nodeId, int from, int to) {
+
+        RedisClusterNode node = new RedisClusterNode(RedisURI.create("localhost", 7379), nodeId, true, null, 0, 0, 0,
+                new ArrayList<>(), EnumSet.of(RedisClusterNode.NodeFlag.MASTER));
+        if (to >= from) {
+            node.addSlots(from, to);
+        }
+        return node;
+    }
+
+    private static RedisClusterNode slave(String nodeId, String masterId) {
+        return new RedisClusterNode(RedisURI.create("localhost", 7380), nodeId, true, masterId, 0, 0, 0, new ArrayList<>(),
+                EnumSet.of(RedisClusterNode.NodeFlag.SLAVE));
+    }
+}
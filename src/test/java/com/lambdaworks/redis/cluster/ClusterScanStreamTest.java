@@ -0,0 +1,80 @@
+package com.lambdaworks.redis.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import com.lambdaworks.redis.KeyScanCursor;
+import com.lambdaworks.redis.RedisURI;
+import com.lambdaworks.redis.ScanCursor;
+import com.lambdaworks.redis.api.StatefulRedisConnection;
+import com.lambdaworks.redis.api.rx.RedisReactiveCommands;
+import com.lambdaworks.redis.cluster.api.StatefulRedisClusterConnection;
+import com.lambdaworks.redis.cluster.models.partitions.Partitions;
+import com.lambdaworks.redis.cluster.models.partitions.RedisClusterNode;
+
+import rx.Observable;
+import rx.observers.TestSubscriber;
+
+/**
+ * @author Mark Paluch
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ClusterScanStreamTest {
+
+    @Mock
+    private StatefulRedisClusterConnection<String, String> connection;
+
+    @Test
+    public void shouldScanAllMasters() throws Exception {
+
+        Partitions partitions = new Partitions();
+        partitions.add(createNode("master-1", RedisClusterNode.NodeFlag.MASTER));
+        partitions.add(createNode("master-2", RedisClusterNode.NodeFlag.MASTER));
+        partitions.add(createNode("slave-1", RedisClusterNode.NodeFlag.SLAVE));
+
+        when(connection.getPartitions()).thenReturn(partitions);
+        mockNode("master-1");
+        mockNode("master-2");
+
+        TestSubscriber<String> subscriber = TestSubscriber.create();
+
+        ClusterScanStream.scan(connection, 2).subscribe(subscriber);
+
+        subscriber.assertCompleted();
+        assertThat(subscriber.getOnNextEvents()).containsOnly("master-1", "master-2").hasSize(2);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectInvalidConcurrency() throws Exception {
+        ClusterScanStream.scan(connection, 0);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void mockNode(String nodeId) {
+
+        StatefulRedisConnection<String, String> nodeConnection = mock(StatefulRedisConnection.class);
+        RedisReactiveCommands<String, String> commands = mock(RedisReactiveCommands.class);
+
+        KeyScanCursor<String> cursor = new KeyScanCursor<>();
+        cursor.getKeys().add(nodeId);
+        cursor.setFinished(true);
+
+        when(connection.getConnection(nodeId)).thenReturn(nodeConnection);
+        when(nodeConnection.reactive()).thenReturn(commands);
+        when(commands.scan(any(ScanCursor.class))).thenReturn(Observable.just(cursor));
+    }
+
+    private static RedisClusterNode createNode(String nodeId, RedisClusterNode.NodeFlag flag) {
+        return new RedisClusterNode(RedisURI.create("localhost", 6379), nodeId, true, null, 0, 0, 0,
+                Collections.emptyList(), Collections.singleton(flag));
+    }
+}
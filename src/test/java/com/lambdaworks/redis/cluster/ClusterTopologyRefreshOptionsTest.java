@@ -23,6 +23,7 @@ public class ClusterTopologyRefreshOptionsTest {
                 .adaptiveRefreshTriggersTimeout(15, TimeUnit.MILLISECONDS)//
                 .closeStaleConnections(false)//
                 .refreshTriggersReconnectAttempts(2)//
+                .reuseRefreshConnections(true)//
                 .build();
 
         assertThat(options.getRefreshPeriod()).isEqualTo(10);
@@ -34,6 +35,7 @@ public class ClusterTopologyRefreshOptionsTest {
         assertThat(options.getAdaptiveRefreshTimeoutUnit()).isEqualTo(TimeUnit.MILLISECONDS);
         assertThat(options.getAdaptiveRefreshTriggers()).containsOnly(RefreshTrigger.MOVED_REDIRECT);
         assertThat(options.getRefreshTriggersReconnectAttempts()).isEqualTo(2);
+        assertThat(options.isReuseRefreshConnections()).isTrue();
     }
 
     @Test
@@ -46,6 +48,7 @@ public class ClusterTopologyRefreshOptionsTest {
                 .adaptiveRefreshTriggersTimeout(15, TimeUnit.MILLISECONDS)//
                 .closeStaleConnections(false)//
                 .refreshTriggersReconnectAttempts(2)//
+                .reuseRefreshConnections(true)//
                 .build();
 
         ClusterTopologyRefreshOptions options = ClusterTopologyRefreshOptions.copyOf(master);
@@ -59,6 +62,7 @@ public class ClusterTopologyRefreshOptionsTest {
         assertThat(options.getAdaptiveRefreshTimeoutUnit()).isEqualTo(TimeUnit.MILLISECONDS);
         assertThat(options.getAdaptiveRefreshTriggers()).containsOnly(RefreshTrigger.MOVED_REDIRECT);
         assertThat(options.getRefreshTriggersReconnectAttempts()).isEqualTo(2);
+        assertThat(options.isReuseRefreshConnections()).isTrue();
     }
 
     @Test
@@ -80,6 +84,8 @@ public class ClusterTopologyRefreshOptionsTest {
                 .isEqualTo(ClusterTopologyRefreshOptions.DEFAULT_ADAPTIVE_REFRESH_TRIGGERS);
         assertThat(options.getRefreshTriggersReconnectAttempts())
                 .isEqualTo(ClusterTopologyRefreshOptions.DEFAULT_REFRESH_TRIGGERS_RECONNECT_ATTEMPTS);
+        assertThat(options.isReuseRefreshConnections())
+                .isEqualTo(ClusterTopologyRefreshOptions.DEFAULT_REUSE_REFRESH_CONNECTIONS).isFalse();
     }
 
     @Test
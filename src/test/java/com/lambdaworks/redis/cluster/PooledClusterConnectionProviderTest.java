@@ -47,6 +47,9 @@ public class PooledClusterConnectionProviderTest {
     @Mock
     StatefulRedisConnection<String, String> nodeConnectionMock;
 
+    @Mock
+    StatefulRedisConnection<String, String> otherNodeConnectionMock;
+
     @Mock
     RedisCommands<String, String> commandsMock;
 
@@ -138,4 +141,24 @@ public class PooledClusterConnectionProviderTest {
 
         verify(clientMock, times(2)).connectToNode(eq(CODEC), eq("localhost:2"), any(), any());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldResetSlotRoutingOnPartitionsChangeWithoutStaleConnectionExpiry() throws Exception {
+
+        when(clientMock.connectToNode(eq(CODEC), eq("localhost:1"), any(), any())).thenReturn(nodeConnectionMock);
+        when(clientMock.connectToNode(eq(CODEC), eq("localhost:2"), any(), any())).thenReturn(otherNodeConnectionMock);
+
+        assertThat(sut.getConnection(Intent.WRITE, 1)).isSameAs(nodeConnectionMock);
+
+        List<Integer> slots = IntStream.range(0, SlotHash.SLOT_COUNT).boxed().collect(Collectors.toList());
+
+        Partitions partitions = new Partitions();
+        partitions.add(new RedisClusterNode(RedisURI.create("localhost", 2), "2", true, null, 0, 0, 0, slots,
+                Collections.singleton(RedisClusterNode.NodeFlag.MASTER)));
+
+        sut.setPartitions(partitions);
+
+        assertThat(sut.getConnection(Intent.WRITE, 1)).isSameAs(otherNodeConnectionMock);
+        verify(nodeConnectionMock, never()).close();
+    }
+}
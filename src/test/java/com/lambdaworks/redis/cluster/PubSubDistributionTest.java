@@ -0,0 +1,76 @@
+package com.lambdaworks.redis.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.lambdaworks.redis.RedisURI;
+import com.lambdaworks.redis.cluster.models.partitions.Partitions;
+import com.lambdaworks.redis.cluster.models.partitions.RedisClusterNode;
+
+/**
+ * @author Mark Paluch
+ */
+public class PubSubDistributionTest {
+
+    private Partitions partitions = new Partitions();
+    private RedisClusterNode master;
+    private RedisClusterNode slave1;
+    private RedisClusterNode slave2;
+
+    @Before
+    public void before() throws Exception {
+
+        master = node("a-master", null, RedisClusterNode.NodeFlag.MASTER);
+        master.addSlots(0, 16383);
+        slave1 = node("b-slave", "a-master", RedisClusterNode.NodeFlag.SLAVE);
+        slave2 = node("c-slave", "a-master", RedisClusterNode.NodeFlag.SLAVE);
+
+        partitions.add(master);
+        partitions.add(slave1);
+        partitions.add(slave2);
+        partitions.updateCache();
+    }
+
+    @Test
+    public void masterShouldSelectSlotMaster() throws Exception {
+
+        assertThat(PubSubDistribution.MASTER.select(partitions, 0)).isSameAs(master);
+        assertThat(PubSubDistribution.MASTER.select(partitions, 1)).isSameAs(master);
+    }
+
+    @Test
+    public void masterShouldNotSelectFailedMaster() throws Exception {
+
+        master.setFlags(EnumSet.of(RedisClusterNode.NodeFlag.MASTER, RedisClusterNode.NodeFlag.FAIL));
+
+        assertThat(PubSubDistribution.MASTER.select(partitions, 0)).isNull();
+    }
+
+    @Test
+    public void masterAndSlavesShouldSpreadSlots() throws Exception {
+
+        assertThat(PubSubDistribution.MASTER_AND_SLAVES.select(partitions, 0)).isSameAs(master);
+        assertThat(PubSubDistribution.MASTER_AND_SLAVES.select(partitions, 1)).isSameAs(slave1);
+        assertThat(PubSubDistribution.MASTER_AND_SLAVES.select(partitions, 2)).isSameAs(slave2);
+        assertThat(PubSubDistribution.MASTER_AND_SLAVES.select(partitions, 3)).isSameAs(master);
+    }
+
+    @Test
+    public void masterAndSlavesShouldSkipFailedNodes() throws Exception {
+
+        slave1.setFlags(EnumSet.of(RedisClusterNode.NodeFlag.SLAVE, RedisClusterNode.NodeFlag.EVENTUAL_FAIL));
+
+        assertThat(PubSubDistribution.MASTER_AND_SLAVES.select(partitions, 0)).isSameAs(master);
+        assertThat(PubSubDistribution.MASTER_AND_SLAVES.select(partitions, 1)).isSameAs(slave2);
+    }
+
+    private static RedisClusterNode node(String nodeId, String slaveOf, RedisClusterNode.NodeFlag flag) {
+        return new RedisClusterNode(RedisURI.create("localhost", 7379), nodeId, true, slaveOf, 0, 0, 0, new ArrayList<>(),
+                EnumSet.of(flag));
+    }
+}
@@ -2,8 +2,12 @@ package com.lambdaworks.redis.cluster;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.nio.ByteBuffer;
+
 import org.junit.Test;
 
+import com.lambdaworks.codec.CRC16;
+
 /**
  * @author Mark Paluch
  * @since 3.0
@@ -23,4 +27,31 @@ public class SlotHashTest {
         assertThat(result).isEqualTo(0x31C3);
 
     }
+
+    @Test
+    public void testHashWithDirectBuffer() throws Exception {
+
+        byte[] bytes = "key{123456789}a".getBytes();
+        ByteBuffer buffer = (ByteBuffer) ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+
+        assertThat(SlotHash.getSlot(buffer)).isEqualTo(0x31C3);
+        assertThat(buffer.remaining()).isEqualTo(bytes.length);
+    }
+
+    @Test
+    public void testHashWithBufferSlice() throws Exception {
+
+        ByteBuffer buffer = ByteBuffer.wrap("{foo}123456789{bar}".getBytes());
+        buffer.position(5).limit(14);
+
+        assertThat(SlotHash.getSlot(buffer)).isEqualTo(0x31C3);
+        assertThat(SlotHash.getSlot(buffer.slice())).isEqualTo(0x31C3);
+        assertThat(buffer.position()).isEqualTo(5);
+    }
+
+    @Test
+    public void testHashWithEmptyHashTag() throws Exception {
+        byte[] key = "{}123456789".getBytes();
+        assertThat(SlotHash.getSlot(key)).isEqualTo(CRC16.crc16(key) % SlotHash.SLOT_COUNT);
+    }
 }
@@ -309,6 +309,83 @@ public class PartitionsTest {
         assertThat(iterator.hasNext()).isFalse();
     }
 
+    @Test
+    public void updateCacheAppliesChangedSlots() throws Exception {
+
+        Partitions partitions = new Partitions();
+        partitions.add(node1);
+        partitions.add(node2);
+
+        node1.getSlots().remove(Integer.valueOf(3));
+        node2.addSlots(3, 3);
+        node2.addSlots(100, 200);
+        partitions.updateCache();
+
+        assertThat(partitions.getPartitionBySlot(2)).isSameAs(node1);
+        assertThat(partitions.getPartitionBySlot(3)).isSameAs(node2);
+        assertThat(partitions.getPartitionBySlot(150)).isSameAs(node2);
+
+        node2.setSlots(Arrays.asList(4, 5));
+        partitions.updateCache();
+
+        assertThat(partitions.getPartitionBySlot(3)).isNull();
+        assertThat(partitions.getPartitionBySlot(6)).isNull();
+        assertThat(partitions.getPartitionBySlot(150)).isNull();
+        assertThat(partitions.getPartitionBySlot(5)).isSameAs(node2);
+    }
+
+    @Test
+    public void reloadReplacesNodesWithSameSlots() throws Exception {
+
+        Partitions partitions = new Partitions();
+        partitions.reload(Arrays.asList(node1, node2));
+
+        RedisClusterNode replacement = new RedisClusterNode(node1);
+        partitions.reload(Arrays.asList(replacement));
+
+        assertThat(partitions.getPartitionBySlot(1)).isSameAs(replacement);
+        assertThat(partitions.getPartitionBySlot(4)).isNull();
+    }
+
+    @Test
+    public void reloadTracksNodesByNodeId() throws Exception {
+
+        Partitions partitions = new Partitions();
+        partitions.reload(Arrays.asList(node1, node2));
+
+        RedisClusterNode fresh1 = new RedisClusterNode(node1);
+        RedisClusterNode fresh2 = new RedisClusterNode(node2);
+        fresh1.getSlots().remove(Integer.valueOf(3));
+        fresh2.addSlots(3, 3);
+
+        // changes to the previous instance must not affect the comparison with the cached slots
+        node1.getSlots().clear();
+
+        partitions.reload(Arrays.asList(fresh2, fresh1));
+
+        assertThat(partitions.getPartitionBySlot(1)).isSameAs(fresh1);
+        assertThat(partitions.getPartitionBySlot(3)).isSameAs(fresh2);
+        assertThat(partitions.getPartitionBySlot(6)).isSameAs(fresh2);
+    }
+
+    @Test
+    public void lastNodeWinsForOverlappingSlots() throws Exception {
+
+        RedisClusterNode migrating = new RedisClusterNode(RedisURI.create("localhost", 6381), "c", true, "", 0, 0, 0,
+                Arrays.asList(3, 4), new HashSet<>());
+
+        Partitions partitions = new Partitions();
+        partitions.reload(Arrays.asList(node1, node2, migrating));
+
+        assertThat(partitions.getPartitionBySlot(3)).isSameAs(migrating);
+        assertThat(partitions.getPartitionBySlot(4)).isSameAs(migrating);
+
+        partitions.reload(Arrays.asList(node1, node2));
+
+        assertThat(partitions.getPartitionBySlot(3)).isSameAs(node1);
+        assertThat(partitions.getPartitionBySlot(4)).isSameAs(node2);
+    }
+
     @Test
     public void testToString() throws Exception {
 
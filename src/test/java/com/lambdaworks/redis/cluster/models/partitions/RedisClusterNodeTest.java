@@ -2,6 +2,10 @@ package com.lambdaworks.redis.cluster.models.partitions;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
 import org.junit.Test;
 
 import com.lambdaworks.redis.RedisURI;
@@ -25,4 +29,80 @@ public class RedisClusterNodeTest {
 
         assertThat(node.toString()).contains(RedisClusterNode.class.getSimpleName());
     }
+
+    @Test
+    public void shouldProvideSlotView() throws Exception {
+
+        RedisClusterNode node = new RedisClusterNode();
+        node.setSlots(Arrays.asList(5, 1, 3));
+        node.addSlots(10, 12);
+
+        assertThat(node.getSlots()).containsExactly(1, 3, 5, 10, 11, 12).isEqualTo(Arrays.asList(1, 3, 5, 10, 11, 12));
+        assertThat(node.getSlotCount()).isEqualTo(6);
+        assertThat(node.hasSlot(11)).isTrue();
+        assertThat(node.hasSlot(2)).isFalse();
+
+        node.getSlots().add(2);
+        node.getSlots().remove(Integer.valueOf(10));
+
+        assertThat(node.getSlots()).containsExactly(1, 2, 3, 5, 11, 12);
+        assertThat(node.getSlots().get(3)).isEqualTo(5);
+
+        node.getSlots().clear();
+
+        assertThat(node.getSlots()).isEmpty();
+        assertThat(node.hasSlot(1)).isFalse();
+    }
+
+    @Test
+    public void slotViewShouldRejectDuplicatesAndPositionalInserts() throws Exception {
+
+        RedisClusterNode node = new RedisClusterNode();
+        node.setSlots(Arrays.asList(1, 3));
+
+        List<Integer> slots = node.getSlots();
+
+        assertThat(slots.add(3)).isFalse();
+        assertThat(slots.add(2)).isTrue();
+        assertThat(slots).containsExactly(1, 2, 3);
+
+        try {
+            slots.add(0, 5);
+            fail("Missing UnsupportedOperationException");
+        } catch (UnsupportedOperationException e) {
+            assertThat(slots).containsExactly(1, 2, 3);
+        }
+    }
+
+    @Test
+    public void slotViewShouldSupportIndexedAccess() throws Exception {
+
+        RedisClusterNode node = new RedisClusterNode();
+        node.addSlots(100, 199);
+
+        List<Integer> slots = node.getSlots();
+        for (int i = 0; i < slots.size(); i++) {
+            assertThat(slots.get(i)).isEqualTo(100 + i);
+        }
+
+        assertThat(slots.get(5)).isEqualTo(105);
+
+        node.getSlots().remove(Integer.valueOf(100));
+        assertThat(slots.get(5)).isEqualTo(106);
+    }
+
+    @Test
+    public void shouldCompareSlots() throws Exception {
+
+        RedisClusterNode node = new RedisClusterNode();
+        node.setFlags(new HashSet<>());
+        node.addSlots(0, 100);
+
+        RedisClusterNode copy = new RedisClusterNode(node);
+        assertThat(copy.hasSameSlotsAs(node)).isTrue();
+
+        copy.addSlots(101, 101);
+        assertThat(copy.hasSameSlotsAs(node)).isFalse();
+        assertThat(node.getSlotCount()).isEqualTo(101);
+    }
 }
@@ -0,0 +1,96 @@
+package com.lambdaworks.redis.cluster.models.partitions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.lambdaworks.redis.cluster.SlotHash;
+
+/**
+ * @author Mark Paluch
+ */
+public class SlotBitSetTest {
+
+    @Test
+    public void shouldSetAndGetRanges() throws Exception {
+
+        SlotBitSet sut = new SlotBitSet();
+        sut.set(100, 200);
+        sut.set(63, 64);
+        sut.set(16383, 16383);
+
+        assertThat(sut.get(62)).isFalse();
+        assertThat(sut.get(63)).isTrue();
+        assertThat(sut.get(65)).isFalse();
+        assertThat(sut.get(150)).isTrue();
+        assertThat(sut.get(16383)).isTrue();
+        assertThat(sut.get(-1)).isFalse();
+        assertThat(sut.cardinality()).isEqualTo(2 + 101 + 1);
+
+        assertThat(sut.nextSetBit(0)).isEqualTo(63);
+        assertThat(sut.nextClearBit(63)).isEqualTo(65);
+        assertThat(sut.nextSetBit(65)).isEqualTo(100);
+        assertThat(sut.nextClearBit(100)).isEqualTo(201);
+        assertThat(sut.nextSetBit(201)).isEqualTo(16383);
+        assertThat(sut.nextClearBit(16383)).isEqualTo(16384);
+    }
+
+    @Test
+    public void shouldBehaveLikeBitSet() throws Exception {
+
+        Random random = new Random(42);
+
+        for (int run = 0; run < 100; run++) {
+
+            SlotBitSet sut = new SlotBitSet();
+            BitSet expected = new BitSet();
+
+            for (int i = 0; i < 10; i++) {
+
+                int from = random.nextInt(SlotHash.SLOT_COUNT);
+                int to = Math.min(SlotHash.SLOT_COUNT - 1, from + random.nextInt(200));
+
+                sut.set(from, to);
+                expected.set(from, to + 1);
+
+                int clear = random.nextInt(SlotHash.SLOT_COUNT);
+                sut.clear(clear);
+                expected.clear(clear);
+            }
+
+            assertThat(sut.cardinality()).isEqualTo(expected.cardinality());
+
+            for (int slot = 0; slot < SlotHash.SLOT_COUNT; slot++) {
+                assertThat(sut.get(slot)).isEqualTo(expected.get(slot));
+                assertThat(sut.nextSetBit(slot)).isEqualTo(expected.nextSetBit(slot));
+                assertThat(sut.nextClearBit(slot)).isEqualTo(expected.nextClearBit(slot));
+            }
+        }
+    }
+
+    @Test
+    public void shouldCompareBySlots() throws Exception {
+
+        SlotBitSet first = new SlotBitSet();
+        first.set(0, 10);
+        first.set(1000, 1000);
+        first.clear(0);
+        first.clear(1000);
+
+        SlotBitSet second = new SlotBitSet();
+        second.set(1, 10);
+
+        assertThat(first).isEqualTo(second);
+        assertThat(first.hashCode()).isEqualTo(second.hashCode());
+
+        second.set(11, 11);
+        assertThat(first).isNotEqualTo(second);
+
+        first.clear();
+        assertThat(first.isEmpty()).isTrue();
+        assertThat(first.nextSetBit(0)).isEqualTo(-1);
+    }
+}
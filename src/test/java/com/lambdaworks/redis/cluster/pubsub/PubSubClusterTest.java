@@ -11,6 +11,7 @@ import org.junit.Test;
 
 import com.lambdaworks.redis.api.sync.RedisCommands;
 import com.lambdaworks.redis.cluster.AbstractClusterTest;
+import com.lambdaworks.redis.cluster.ClusterPubSubConnection;
 import com.lambdaworks.redis.cluster.api.StatefulRedisClusterConnection;
 import com.lambdaworks.redis.cluster.models.partitions.RedisClusterNode;
 import com.lambdaworks.redis.internal.LettuceFactories;
@@ -122,6 +123,22 @@ public class PubSubClusterTest extends AbstractClusterTest implements RedisPubSu
 
     }
 
+    @Test
+    public void testDistributedPubSubPublish() throws Exception {
+
+        ClusterPubSubConnection<String, String> distributed = clusterClient.connectDistributedPubSub();
+        distributed.addListener(this);
+        distributed.subscribe(key).get();
+
+        String nodeId = distributed.getNodeId(key);
+        assertThat(connection.getConnection(nodeId).sync().pubsubChannels()).contains(key);
+
+        connection.getConnection(getOtherThan(nodeId).getNodeId()).sync().publish(key, value);
+        assertThat(messages.take()).isEqualTo(value);
+
+        distributed.close();
+    }
+
     private RedisClusterNode getOtherThan(String nodeId) {
         for (RedisClusterNode redisClusterNode : clusterClient.getPartitions()) {
             if (redisClusterNode.getNodeId().equals(nodeId)) {
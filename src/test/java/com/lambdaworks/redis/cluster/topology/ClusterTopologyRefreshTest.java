@@ -3,6 +3,10 @@ package com.lambdaworks.redis.cluster.topology;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -10,22 +14,27 @@ import static org.mockito.Mockito.when;
 import java.net.InetSocketAddress;
 import java.nio.ByteBuffer;
 import java.util.*;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
+import com.lambdaworks.redis.RedisCommandInterruptedException;
 import com.lambdaworks.redis.RedisException;
 import com.lambdaworks.redis.RedisURI;
 import com.lambdaworks.redis.api.StatefulRedisConnection;
 import com.lambdaworks.redis.api.async.RedisAsyncCommands;
 import com.lambdaworks.redis.cluster.RedisClusterClient;
+import com.lambdaworks.redis.cluster.event.ClusterTopologyRefreshEvent;
 import com.lambdaworks.redis.cluster.models.partitions.Partitions;
 import com.lambdaworks.redis.cluster.models.partitions.RedisClusterNode;
 import com.lambdaworks.redis.codec.RedisCodec;
+import com.lambdaworks.redis.event.EventBus;
 import com.lambdaworks.redis.protocol.CommandType;
 import com.lambdaworks.redis.resource.ClientResources;
 import com.lambdaworks.redis.resource.DnsResolvers;
@@ -57,6 +66,9 @@ public class ClusterTopologyRefreshTest {
     @Mock
     private NodeConnectionFactory nodeConnectionFactory;
 
+    @Mock
+    private EventBus eventBus;
+
     @Mock
     private StatefulRedisConnection<String, String> connection1;
 
@@ -73,6 +85,7 @@ public class ClusterTopologyRefreshTest {
     public void before() throws Exception {
 
         when(clientResources.dnsResolver()).thenReturn(DnsResolvers.JVM_DEFAULT);
+        when(clientResources.eventBus()).thenReturn(eventBus);
         when(connection1.async()).thenReturn(asyncCommands1);
         when(connection2.async()).thenReturn(asyncCommands2);
 
@@ -117,6 +130,11 @@ public class ClusterTopologyRefreshTest {
         sut = new ClusterTopologyRefresh(nodeConnectionFactory, clientResources);
     }
 
+    @After
+    public void after() throws Exception {
+        sut.close();
+    }
+
     @Test
     public void getNodeSpecificViewsNode1IsFasterThanNode2() throws Exception {
 
@@ -327,6 +345,152 @@ public class ClusterTopologyRefreshTest {
                 seed.get(0));
     }
 
+    @Test
+    public void shouldCloseConnectionsAfterRefresh() throws Exception {
+
+        List<RedisURI> seed = Arrays.asList(RedisURI.create("127.0.0.1", 7380));
+
+        when(nodeConnectionFactory.connectToNode(any(RedisCodec.class), eq(new InetSocketAddress("127.0.0.1", 7380))))
+                .thenReturn((StatefulRedisConnection) connection1);
+        when(nodeConnectionFactory.connectToNode(any(RedisCodec.class), eq(new InetSocketAddress("127.0.0.1", 7381))))
+                .thenReturn((StatefulRedisConnection) connection2);
+
+        sut.loadViews(seed, true);
+
+        verify(connection1).close();
+        verify(connection2).close();
+    }
+
+    @Test
+    public void shouldReuseRefreshConnections() throws Exception {
+
+        List<RedisURI> seed = Arrays.asList(RedisURI.create("127.0.0.1", 7380));
+
+        when(connection1.isOpen()).thenReturn(true);
+        when(connection2.isOpen()).thenReturn(true);
+        when(nodeConnectionFactory.connectToNode(any(RedisCodec.class), eq(new InetSocketAddress("127.0.0.1", 7380))))
+                .thenReturn((StatefulRedisConnection) connection1);
+        when(nodeConnectionFactory.connectToNode(any(RedisCodec.class), eq(new InetSocketAddress("127.0.0.1", 7381))))
+                .thenReturn((StatefulRedisConnection) connection2);
+
+        assertThat(sut.loadViews(seed, true, true)).hasSize(2);
+        assertThat(sut.loadViews(seed, true, true)).hasSize(2);
+
+        verify(nodeConnectionFactory).connectToNode(any(RedisCodec.class), eq(new InetSocketAddress("127.0.0.1", 7380)));
+        verify(nodeConnectionFactory).connectToNode(any(RedisCodec.class), eq(new InetSocketAddress("127.0.0.1", 7381)));
+        verify(connection1, never()).close();
+        verify(connection1, times(4)).dispatch(any());
+
+        sut.close();
+
+        verify(connection1).close();
+        verify(connection2).close();
+    }
+
+    @Test
+    public void shouldReconnectClosedRefreshConnections() throws Exception {
+
+        List<RedisURI> seed = Arrays.asList(RedisURI.create("127.0.0.1", 7380));
+
+        when(connection1.isOpen()).thenReturn(false);
+        when(nodeConnectionFactory.connectToNode(any(RedisCodec.class), eq(new InetSocketAddress("127.0.0.1", 7380))))
+                .thenReturn((StatefulRedisConnection) connection1);
+
+        sut.loadViews(seed, false, true);
+        sut.loadViews(seed, false, true);
+
+        verify(nodeConnectionFactory, times(2)).connectToNode(any(RedisCodec.class),
+                eq(new InetSocketAddress("127.0.0.1", 7380)));
+    }
+
+    @Test
+    public void shouldConnectOnDedicatedExecutor() throws Exception {
+
+        List<RedisURI> seed = Arrays.asList(RedisURI.create("127.0.0.1", 7380));
+        Set<String> threadNames = Collections.synchronizedSet(new HashSet<>());
+
+        when(nodeConnectionFactory.connectToNode(any(RedisCodec.class), any())).thenAnswer(invocation -> {
+
+            threadNames.add(Thread.currentThread().getName());
+            InetSocketAddress address = (InetSocketAddress) invocation.getArguments()[1];
+            return address.getPort() == 7380 ? connection1 : connection2;
+        });
+
+        assertThat(sut.loadViews(seed, true)).hasSize(2);
+
+        assertThat(threadNames).isNotEmpty();
+        for (String threadName : threadNames) {
+            assertThat(threadName).startsWith("lettuce-topologyRefreshConnect");
+        }
+        verify(clientResources, never()).eventExecutorGroup();
+    }
+
+    @Test
+    public void shouldCloseInFlightConnectionsOnInterrupt() throws Exception {
+
+        List<RedisURI> seed = Arrays.asList(RedisURI.create("127.0.0.1", 7380), RedisURI.create("127.0.0.1", 7381));
+        CountDownLatch connecting = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+
+        when(nodeConnectionFactory.connectToNode(any(RedisCodec.class), any())).thenAnswer(invocation -> {
+
+            connecting.countDown();
+            release.await();
+            InetSocketAddress address = (InetSocketAddress) invocation.getArguments()[1];
+            return address.getPort() == 7380 ? connection1 : connection2;
+        });
+
+        List<Throwable> failures = Collections.synchronizedList(new ArrayList<>());
+        Thread refresh = new Thread(() -> {
+            try {
+                sut.loadViews(seed, true);
+            } catch (RedisCommandInterruptedException e) {
+                failures.add(e);
+            }
+        });
+
+        refresh.start();
+        assertThat(connecting.await(1, TimeUnit.SECONDS)).isTrue();
+
+        refresh.interrupt();
+        refresh.join(1000);
+        release.countDown();
+
+        assertThat(failures).hasSize(1);
+        verify(connection1, timeout(1000)).close();
+        verify(connection2, timeout(1000)).close();
+    }
+
+    @Test
+    public void shouldPublishRefreshEvent() throws Exception {
+
+        List<RedisURI> seed = Arrays.asList(RedisURI.create("127.0.0.1", 7380));
+
+        when(connection1.isOpen()).thenReturn(true);
+        when(connection2.isOpen()).thenReturn(true);
+        when(nodeConnectionFactory.connectToNode(any(RedisCodec.class), eq(new InetSocketAddress("127.0.0.1", 7380))))
+                .thenReturn((StatefulRedisConnection) connection1);
+        when(nodeConnectionFactory.connectToNode(any(RedisCodec.class), eq(new InetSocketAddress("127.0.0.1", 7381))))
+                .thenReturn((StatefulRedisConnection) connection2);
+
+        List<ClusterTopologyRefreshEvent> events = new ArrayList<>();
+        doAnswer(invocation -> {
+            events.add((ClusterTopologyRefreshEvent) invocation.getArguments()[0]);
+            return null;
+        }).when(eventBus).publish(any());
+
+        sut.loadViews(seed, true, true);
+        sut.loadViews(seed, true, true);
+
+        assertThat(events).hasSize(2);
+        assertThat(events.get(0).views()).isEqualTo(2);
+        assertThat(events.get(0).openedConnections()).isEqualTo(2);
+        assertThat(events.get(0).reusedConnections()).isEqualTo(0);
+        assertThat(events.get(1).openedConnections()).isEqualTo(0);
+        assertThat(events.get(1).reusedConnections()).isEqualTo(2);
+        assertThat(events.get(1).duration(TimeUnit.NANOSECONDS)).isGreaterThanOrEqualTo(0);
+    }
+
     protected Requests createClusterNodesRequests(int duration, String nodes) {
 
         RedisURI redisURI = RedisURI.create("redis://localhost:" + duration);
@@ -6,6 +6,7 @@ import java.nio.ByteBuffer;
 import java.util.concurrent.TimeUnit;
 
 import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import com.lambdaworks.redis.RedisURI;
 import com.lambdaworks.redis.codec.Utf8StringCodec;
@@ -59,6 +60,36 @@ public class RequestsTest {
         assertThat(nodeTopologyView.getClusterNodes()).isNull();
     }
 
+    @Test
+    public void shouldNotDecodeRawClusterNodesOnCompletion() throws Exception {
+
+        RedisURI redisURI = RedisURI.create("localhost", 6379);
+        String clusterNodesOutput = "1 127.0.0.1:7380 master,myself - 0 1401258245007 2 disconnected 8000-11999\n";
+
+        RawStatusOutput output = new RawStatusOutput(new Utf8StringCodec());
+        TimedAsyncCommand<String, String, String> command = new TimedAsyncCommand<>(
+                new Command<>(CommandType.CLUSTER, output));
+
+        output.set(ByteBuffer.wrap(clusterNodesOutput.getBytes()));
+        command.complete();
+
+        assertThat(command.isDone()).isTrue();
+        assertThat(command.get()).isNull();
+        assertThat(ReflectionTestUtils.getField(output, "output")).isNull();
+
+        Requests clusterNodesRequests = new Requests();
+        clusterNodesRequests.addRequest(redisURI, command);
+
+        Requests clientListRequests = new Requests();
+        clientListRequests.addRequest(redisURI, getCommand("id=2 addr=127.0.0.1:58919\n"));
+
+        NodeTopologyView nodeTopologyView = NodeTopologyView.from(redisURI, clusterNodesRequests, clientListRequests);
+
+        assertThat(nodeTopologyView.getPartitions()).hasSize(1);
+        assertThat(ReflectionTestUtils.getField(output, "output")).isNull();
+        assertThat(nodeTopologyView.getClusterNodes()).isEqualTo(clusterNodesOutput);
+    }
+
     @Test
     public void awaitShouldReturnAwaitedTime() throws Exception {
 
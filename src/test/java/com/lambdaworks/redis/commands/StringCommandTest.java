@@ -8,6 +8,7 @@ import static com.lambdaworks.redis.SetArgs.Builder.px;
 import static com.lambdaworks.redis.SetArgs.Builder.xx;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.nio.charset.StandardCharsets;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -21,6 +22,7 @@ import com.lambdaworks.redis.AbstractRedisClientTest;
 import com.lambdaworks.redis.ListStreamingAdapter;
 import com.lambdaworks.redis.RedisCommandExecutionException;
 import com.lambdaworks.redis.RedisException;
+import com.lambdaworks.redis.output.ByteStreamingChannel;
 
 public class StringCommandTest extends AbstractRedisClientTest {
     @Rule
@@ -39,6 +41,18 @@ public class StringCommandTest extends AbstractRedisClientTest {
         assertThat(redis.get(key)).isEqualTo(value);
     }
 
+    @Test
+    public void getStreaming() throws Exception {
+
+        StringBuilder chunks = new StringBuilder();
+        ByteStreamingChannel channel = bytes -> chunks.append(StandardCharsets.UTF_8.decode(bytes));
+
+        assertThat(redis.get(channel, key)).isNull();
+        redis.set(key, value);
+        assertThat(redis.get(channel, key)).isEqualTo(value.length());
+        assertThat(chunks.toString()).isEqualTo(value);
+    }
+
     @Test
     public void getbit() throws Exception {
         assertThat(redis.getbit(key, 0)).isEqualTo(0);
@@ -54,6 +68,17 @@ public class StringCommandTest extends AbstractRedisClientTest {
         assertThat(redis.getrange(key, 3, -1)).isEqualTo( "bar" );
     }
 
+    @Test
+    public void getrangeStreaming() throws Exception {
+
+        StringBuilder chunks = new StringBuilder();
+        ByteStreamingChannel channel = bytes -> chunks.append(StandardCharsets.UTF_8.decode(bytes));
+
+        redis.set(key, "foobar");
+        assertThat(redis.getrange(channel, key, 2, 4)).isEqualTo(3);
+        assertThat(chunks.toString()).isEqualTo("oba");
+    }
+
     @Test
     public void getset() throws Exception {
         assertThat(redis.getset(key, value)).isNull();
@@ -0,0 +1,122 @@
+package com.lambdaworks.redis.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+/**
+ * @author Mark Paluch
+ */
+public class IndexedConcurrentDequeTest {
+
+    private IndexedConcurrentDeque<String> sut = new IndexedConcurrentDeque<>();
+
+    @Test
+    public void shouldTrackAddAndPoll() {
+
+        sut.add("a");
+        sut.addFirst("b");
+        sut.addLast("c");
+
+        assertThat(sut).containsExactly("b", "a", "c");
+        assertThat(sut).hasSize(3);
+        assertThat(sut.contains("a")).isTrue();
+
+        assertThat(sut.poll()).isEqualTo("b");
+        assertThat(sut.pollLast()).isEqualTo("c");
+
+        assertThat(sut.contains("b")).isFalse();
+        assertThat(sut.contains("c")).isFalse();
+        assertThat(sut).hasSize(1);
+    }
+
+    @Test
+    public void shouldTrackDuplicates() {
+
+        sut.add("a");
+        sut.add("a");
+
+        sut.remove("a");
+
+        assertThat(sut.contains("a")).isTrue();
+        assertThat(sut).hasSize(1);
+
+        sut.remove("a");
+
+        assertThat(sut.contains("a")).isFalse();
+        assertThat(sut).isEmpty();
+    }
+
+    @Test
+    public void removeOfAbsentElementShouldReturnFalse() {
+
+        sut.add("a");
+
+        assertThat(sut.remove("b")).isFalse();
+        assertThat(sut.removeLastOccurrence("b")).isFalse();
+        assertThat(sut).hasSize(1);
+    }
+
+    @Test
+    public void iteratorRemoveShouldUpdateIndex() {
+
+        sut.addAll(Arrays.asList("a", "b", "c"));
+
+        Iterator<String> iterator = sut.iterator();
+        iterator.next();
+        iterator.remove();
+
+        assertThat(sut.contains("a")).isFalse();
+        assertThat(sut).containsExactly("b", "c");
+    }
+
+    @Test
+    public void removeAllAndClearShouldUpdateIndex() {
+
+        sut.addAll(Arrays.asList("a", "b", "c"));
+        sut.removeAll(Arrays.asList("a", "c"));
+
+        assertThat(sut).containsExactly("b");
+        assertThat(sut.contains("a")).isFalse();
+
+        sut.clear();
+
+        assertThat(sut).isEmpty();
+        assertThat(sut.contains("b")).isFalse();
+    }
+
+    @Test
+    public void sizeShouldNotDropBelowZeroWhileConcurrentlyPolled() throws Exception {
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicInteger minimumSize = new AtomicInteger();
+
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < 100000; i++) {
+                sut.addLast("a");
+            }
+        });
+
+        Thread consumer = new Thread(() -> {
+            while (running.get() || !sut.isEmpty()) {
+                sut.pollFirst();
+                minimumSize.accumulateAndGet(sut.size(), Math::min);
+            }
+        });
+
+        consumer.start();
+        producer.start();
+        producer.join();
+        running.set(false);
+        consumer.join();
+
+        assertThat(minimumSize.get()).isGreaterThanOrEqualTo(0);
+        assertThat(sut).isEmpty();
+        assertThat(sut.size()).isEqualTo(0);
+    }
+}
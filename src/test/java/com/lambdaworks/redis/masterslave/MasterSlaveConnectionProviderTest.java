@@ -0,0 +1,148 @@
+package com.lambdaworks.redis.masterslave;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import com.lambdaworks.redis.*;
+import com.lambdaworks.redis.api.StatefulRedisConnection;
+import com.lambdaworks.redis.codec.Utf8StringCodec;
+import com.lambdaworks.redis.models.role.RedisInstance;
+import com.lambdaworks.redis.resource.ClientResources;
+import com.lambdaworks.redis.resource.Delay;
+
+/**
+ * @author Mark Paluch
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class MasterSlaveConnectionProviderTest {
+
+    private final static Utf8StringCodec CODEC = new Utf8StringCodec();
+    private final static RedisURI MASTER_URI = RedisURI.create("localhost", 6379);
+
+    @Mock
+    private RedisClient redisClient;
+
+    @Mock
+    private ClientResources clientResources;
+
+    @Mock
+    private StatefulRedisConnection<String, String> master;
+
+    @Mock
+    private StatefulRedisConnection<String, String> slave1;
+
+    @Mock
+    private StatefulRedisConnection<String, String> slave2;
+
+    private MasterSlaveConnectionProvider<String, String> sut;
+
+    @Before
+    public void before() throws Exception {
+
+        when(redisClient.getResources()).thenReturn(clientResources);
+        when(clientResources.reconnectDelay()).thenReturn(Delay.constant(1, TimeUnit.HOURS));
+        when(slave1.isOpen()).thenReturn(true);
+        when(slave2.isOpen()).thenReturn(true);
+
+        sut = new MasterSlaveConnectionProvider<>(redisClient, CODEC, MASTER_URI, Collections.singletonMap(MASTER_URI,
+                master));
+        sut.setKnownNodes(Arrays.asList(new RedisMasterSlaveNode("localhost", 6379, MASTER_URI, RedisInstance.Role.MASTER),
+                new RedisMasterSlaveNode("localhost", 6380, MASTER_URI, RedisInstance.Role.SLAVE),
+                new RedisMasterSlaveNode("localhost", 6381, MASTER_URI, RedisInstance.Role.SLAVE)));
+        sut.setReadFrom(ReadFrom.SLAVE);
+    }
+
+    @Test
+    public void firstAvailableShouldConnectOnlyFirstReadCandidate() throws Exception {
+
+        givenSlaves(slave1, slave2);
+
+        assertThat(sut.getConnection(MasterSlaveConnectionProvider.Intent.READ)).isSameAs(slave1);
+        assertThat(sut.getConnection(MasterSlaveConnectionProvider.Intent.READ)).isSameAs(slave1);
+
+        verify(redisClient).connect(eq(CODEC), any(RedisURI.class));
+    }
+
+    @Test
+    public void firstAvailableShouldNotReconnectFailedNodeDuringBackoff() throws Exception {
+
+        givenSlaves(null, slave2);
+
+        assertThat(sut.getConnection(MasterSlaveConnectionProvider.Intent.READ)).isSameAs(slave2);
+        assertThat(sut.getConnection(MasterSlaveConnectionProvider.Intent.READ)).isSameAs(slave2);
+
+        verify(redisClient, times(2)).connect(eq(CODEC), any(RedisURI.class));
+    }
+
+    @Test
+    public void loadBalancerShouldSelectFromReaderCandidatesBuiltOnce() throws Exception {
+
+        givenSlaves(null, slave2);
+        sut.setReadLoadBalancer(ReadLoadBalancer.ROUND_ROBIN);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(sut.getConnection(MasterSlaveConnectionProvider.Intent.READ)).isSameAs(slave2);
+        }
+
+        verify(redisClient, times(2)).connect(eq(CODEC), any(RedisURI.class));
+    }
+
+    @Test
+    public void loadBalancerShouldBalanceAcrossReaderCandidates() throws Exception {
+
+        givenSlaves(slave1, slave2);
+        sut.setReadLoadBalancer(ReadLoadBalancer.ROUND_ROBIN);
+
+        StatefulRedisConnection<String, String> first = sut.getConnection(MasterSlaveConnectionProvider.Intent.READ);
+        StatefulRedisConnection<String, String> second = sut.getConnection(MasterSlaveConnectionProvider.Intent.READ);
+
+        assertThat(Arrays.asList(first, second)).containsOnly(slave1, slave2).doesNotHaveDuplicates();
+        assertThat(sut.getConnection(MasterSlaveConnectionProvider.Intent.READ)).isSameAs(first);
+    }
+
+    @Test
+    public void shouldReleaseReadLoadBalancer() throws Exception {
+
+        ReadLoadBalancer first = mock(ReadLoadBalancer.class);
+        ReadLoadBalancer second = mock(ReadLoadBalancer.class);
+
+        sut.setReadLoadBalancer(first);
+        verify(first).acquire();
+
+        sut.setReadLoadBalancer(second);
+        verify(first).release();
+        verify(second).acquire();
+
+        sut.close();
+        sut.close();
+        verify(second).release();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenSlaves(StatefulRedisConnection<String, String> at6380, StatefulRedisConnection<String, String> at6381) {
+
+        when(redisClient.connect(eq(CODEC), any(RedisURI.class))).thenAnswer(invocation -> {
+
+            RedisURI uri = (RedisURI) invocation.getArguments()[1];
+            StatefulRedisConnection<String, String> connection = uri.getPort() == 6380 ? at6380 : at6381;
+
+            if (connection == null) {
+                throw new RedisConnectionException("Connection refused: " + uri);
+            }
+
+            return connection;
+        });
+    }
+}
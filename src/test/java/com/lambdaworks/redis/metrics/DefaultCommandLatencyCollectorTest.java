@@ -4,13 +4,19 @@ import static java.util.concurrent.TimeUnit.MICROSECONDS;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import com.lambdaworks.redis.protocol.CommandType;
+import com.lambdaworks.redis.protocol.ProtocolKeyword;
 import io.netty.channel.local.LocalAddress;
 
 /**
@@ -56,6 +62,150 @@ public class DefaultCommandLatencyCollectorTest {
 
     }
 
+    @Test
+    public void shouldResetLatenciesAfterRetrieval() throws Exception {
+
+        setupData();
+
+        assertThat(sut.retrieveMetrics()).hasSize(1);
+        assertThat(sut.retrieveMetrics()).isEmpty();
+
+        sut.recordCommandLatency(LocalAddress.ANY, LocalAddress.ANY, CommandType.BGSAVE, MILLISECONDS.toNanos(100),
+                MILLISECONDS.toNanos(1000));
+
+        Map<CommandLatencyId, CommandMetrics> latencies = sut.retrieveMetrics();
+        assertThat(latencies).hasSize(1);
+        assertThat(latencies.values().iterator().next().getCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldCountTimeouts() throws Exception {
+
+        setupData();
+        sut.recordCommandTimeout(LocalAddress.ANY, LocalAddress.ANY, CommandType.BGSAVE);
+        sut.recordCommandTimeout(LocalAddress.ANY, LocalAddress.ANY, CommandType.GET);
+        sut.recordCommandTimeout(LocalAddress.ANY, LocalAddress.ANY, CommandType.GET);
+
+        Map<CommandLatencyId, CommandMetrics> latencies = sut.retrieveMetrics();
+        assertThat(latencies).hasSize(2);
+
+        for (Map.Entry<CommandLatencyId, CommandMetrics> entry : latencies.entrySet()) {
+
+            if (entry.getKey().commandType() == CommandType.GET) {
+                assertThat(entry.getValue().getCount()).isEqualTo(0);
+                assertThat(entry.getValue().getTimeouts()).isEqualTo(2);
+            } else {
+                assertThat(entry.getValue().getCount()).isEqualTo(3);
+                assertThat(entry.getValue().getTimeouts()).isEqualTo(1);
+            }
+        }
+
+        assertThat(sut.retrieveMetrics()).isEmpty();
+    }
+
+    @Test
+    public void shouldReportCumulativeLatencies() throws Exception {
+
+        sut = new DefaultCommandLatencyCollector(
+                DefaultCommandLatencyCollectorOptions.builder().resetLatenciesAfterEvent(false).build());
+
+        setupData();
+        assertThat(sut.retrieveMetrics().values().iterator().next().getCount()).isEqualTo(3);
+
+        setupData();
+        assertThat(sut.retrieveMetrics().values().iterator().next().getCount()).isEqualTo(6);
+    }
+
+    @Test
+    public void shouldMergeLatenciesRecordedByMultipleThreads() throws Exception {
+
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            threads.add(new Thread(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    sut.recordCommandLatency(LocalAddress.ANY, LocalAddress.ANY, CommandType.GET, MILLISECONDS.toNanos(1),
+                            MILLISECONDS.toNanos(2));
+                }
+            }));
+        }
+
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        Map<CommandLatencyId, CommandMetrics> latencies = sut.retrieveMetrics();
+        assertThat(latencies).hasSize(1);
+        assertThat(latencies.values().iterator().next().getCount()).isEqualTo(8000);
+    }
+
+    @Test
+    public void shouldRemoveIdleEndpoints() throws Exception {
+
+        sut = new DefaultCommandLatencyCollector(DefaultCommandLatencyCollectorOptions.builder().localDistinction(true)
+                .build());
+
+        InetSocketAddress remote = new InetSocketAddress("localhost", 6479);
+
+        for (int port = 50000; port < 50100; port++) {
+            sut.recordCommandLatency(new InetSocketAddress("localhost", port), remote, CommandType.GET, 1000, 2000);
+        }
+
+        assertThat(sut.retrieveMetrics()).hasSize(100);
+        assertThat(sut.retrieveMetrics()).isEmpty();
+        assertThat(getEndpoints(remote)).isEmpty();
+
+        sut.recordCommandLatency(new InetSocketAddress("localhost", 50000), remote, CommandType.GET, 1000, 2000);
+
+        assertThat(getEndpoints(remote)).hasSize(1);
+        assertThat(sut.retrieveMetrics().values().iterator().next().getCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldDistinguishRemoteAddressesAndCommandTypes() throws Exception {
+
+        ProtocolKeyword custom = new ProtocolKeyword() {
+            @Override
+            public byte[] getBytes() {
+                return "CUSTOM".getBytes();
+            }
+
+            @Override
+            public String name() {
+                return "CUSTOM";
+            }
+        };
+
+        InetSocketAddress remote1 = new InetSocketAddress("localhost", 6479);
+        InetSocketAddress remote2 = new InetSocketAddress("localhost", 6480);
+
+        sut.recordCommandLatency(LocalAddress.ANY, remote1, CommandType.GET, 1000, 2000);
+        sut.recordCommandLatency(LocalAddress.ANY, remote1, CommandType.SET, 1000, 2000);
+        sut.recordCommandLatency(LocalAddress.ANY, remote2, CommandType.GET, 1000, 2000);
+        sut.recordCommandLatency(LocalAddress.ANY, remote2, custom, 1000, 2000);
+        sut.recordCommandLatency(LocalAddress.ANY, remote2, custom, 1000, 2000);
+
+        Map<CommandLatencyId, CommandMetrics> latencies = sut.retrieveMetrics();
+
+        assertThat(latencies).hasSize(4);
+        assertThat(latencies.get(CommandLatencyId.create(LocalAddress.ANY, remote2, custom)).getCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void getStripeCount() throws Exception {
+
+        assertThat(DefaultCommandLatencyCollector.getStripeCount(1)).isEqualTo(1);
+        assertThat(DefaultCommandLatencyCollector.getStripeCount(2)).isEqualTo(2);
+        assertThat(DefaultCommandLatencyCollector.getStripeCount(3)).isEqualTo(4);
+        assertThat(DefaultCommandLatencyCollector.getStripeCount(8)).isEqualTo(8);
+        assertThat(DefaultCommandLatencyCollector.getStripeCount(12)).isEqualTo(16);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<?, ?> getEndpoints(SocketAddress remote) {
+        return ((Map<SocketAddress, Map<?, ?>>) ReflectionTestUtils.getField(sut, "latencyMetrics")).get(remote);
+    }
+
     private void setupData() {
         sut.recordCommandLatency(LocalAddress.ANY, LocalAddress.ANY, CommandType.BGSAVE, MILLISECONDS.toNanos(100),
                 MILLISECONDS.toNanos(1000));
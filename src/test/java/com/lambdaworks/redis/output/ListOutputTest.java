@@ -73,4 +73,13 @@ public class ListOutputTest {
         assertThat(commandOutput.get()).contains(value);
     }
 
+    @Test
+    public void multiShouldRetainDefaultSubscriber() throws Exception {
+
+        commandOutput.multi(2);
+        commandOutput.set(ByteBuffer.wrap(valueBytes));
+
+        assertThat(streamingOutput.getSubscriber()).isInstanceOf(ListSubscriber.class);
+        assertThat(commandOutput.get()).contains(value);
+    }
 }
\ No newline at end of file
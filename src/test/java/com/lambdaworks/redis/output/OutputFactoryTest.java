@@ -0,0 +1,34 @@
+package com.lambdaworks.redis.output;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+/**
+ * @author Mark Paluch
+ */
+public class OutputFactoryTest {
+
+    @Test
+    public void capacityShouldUseExpectedSize() throws Exception {
+
+        assertThat(OutputFactory.capacity(10)).isEqualTo(10);
+        assertThat(OutputFactory.capacity(100000)).isEqualTo(100000);
+    }
+
+    @Test
+    public void capacityShouldIgnoreNullAndEmptyReplies() throws Exception {
+
+        assertThat(OutputFactory.capacity(-1)).isEqualTo(0);
+        assertThat(OutputFactory.capacity(0)).isEqualTo(0);
+    }
+
+    @Test
+    public void capacityShouldBeCapped() throws Exception {
+
+        assertThat(OutputFactory.capacity(Integer.MAX_VALUE)).isEqualTo(OutputFactory.MAX_PRESIZE);
+        assertThat(OutputFactory.newList(Integer.MAX_VALUE)).isEmpty();
+        assertThat(OutputFactory.newSet(Integer.MAX_VALUE)).isEmpty();
+        assertThat(OutputFactory.newLinkedHashMap(Integer.MAX_VALUE)).isEmpty();
+    }
+}
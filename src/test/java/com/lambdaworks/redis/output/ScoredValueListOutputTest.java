@@ -3,6 +3,7 @@ package com.lambdaworks.redis.output;
 import static org.assertj.core.api.Assertions.*;
 
 import java.nio.ByteBuffer;
+import java.util.List;
 
 import org.junit.Test;
 
@@ -35,4 +36,30 @@ public class ScoredValueListOutputTest {
 
         assertThat(sut.get()).contains(new ScoredValue<>(4.567, "key"));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void presizedOutputCorrectlyDecoded() throws Exception {
+
+        sut.multi(4);
+        sut.set(ByteBuffer.wrap("key".getBytes()));
+        sut.set(ByteBuffer.wrap("4.567".getBytes()));
+        sut.set(ByteBuffer.wrap("other".getBytes()));
+        sut.set(ByteBuffer.wrap("1.5".getBytes()));
+
+        assertThat(sut.get()).containsExactly(new ScoredValue<>(4.567, "key"), new ScoredValue<>(1.5, "other"));
+    }
+
+    @Test
+    public void multiShouldNotPresizeForCustomSubscriber() throws Exception {
+
+        List<ScoredValue<String>> initial = sut.get();
+        StreamingOutput.Subscriber<ScoredValue<String>> subscriber = scoredValue -> {
+        };
+
+        sut.setSubscriber(subscriber);
+        sut.multi(4);
+
+        assertThat(sut.getSubscriber()).isSameAs(subscriber);
+        assertThat(sut.get()).isSameAs(initial);
+    }
+}
@@ -142,6 +142,62 @@ public class AsyncCommandInternalsTest {
         assertThat(sut.await(2, TimeUnit.MILLISECONDS)).isFalse();
     }
 
+    @Test(timeout = 100)
+    public void awaitCompleted() throws Exception {
+        sut.complete();
+        assertThat(sut.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test(timeout = 100)
+    public void awaitCompletedExceptionally() throws Exception {
+        sut.completeExceptionally(new RedisException("error"));
+        assertThat(sut.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test(timeout = 100)
+    public void awaitCancelled() throws Exception {
+        sut.cancel();
+        assertThat(sut.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    public void completeOnlyOnce() throws Exception {
+        sut.getOutput().set(buffer("one"));
+        sut.complete();
+        sut.completeExceptionally(new RedisException("error"));
+
+        assertThat(sut.get()).isEqualTo("one");
+        assertThat(internal.isDone()).isTrue();
+    }
+
+    @Test
+    public void transactionalCommandCompletesOnSecondCompletion() throws Exception {
+
+        TransactionalCommand<String, String, String> command = new TransactionalCommand<>(internal);
+        command.getOutput().set(buffer("one"));
+
+        command.complete();
+        assertThat(command.isDone()).isFalse();
+        assertThat(command.await(2, TimeUnit.MILLISECONDS)).isFalse();
+
+        command.complete();
+        assertThat(command.isDone()).isTrue();
+        assertThat(command.await(2, TimeUnit.MILLISECONDS)).isTrue();
+        assertThat(command.get()).isEqualTo("one");
+    }
+
+    @Test
+    public void transactionalCommandCancel() throws Exception {
+
+        TransactionalCommand<String, String, String> command = new TransactionalCommand<>(internal);
+
+        command.complete();
+        command.cancel();
+
+        assertThat(command.await(2, TimeUnit.MILLISECONDS)).isTrue();
+        assertThat(command.isCancelled()).isTrue();
+    }
+
     @Test(expected = InterruptedException.class, timeout = 100)
     public void getInterrupted() throws Exception {
         Thread.currentThread().interrupt();
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import java.nio.ByteBuffer;
 import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.lambdaworks.redis.codec.ByteArrayCodec;
 import org.junit.Test;
@@ -68,6 +69,31 @@ public class CommandArgsTest {
         assertThat(args.getFirstEncodedKey()).isEqualTo(ByteBuffer.wrap("one".getBytes()));
     }
 
+    @Test
+    public void encodeShouldReuseFirstEncodedKey() throws Exception {
+
+        AtomicInteger encodeKeyCount = new AtomicInteger();
+        Utf8StringCodec countingCodec = new Utf8StringCodec() {
+            @Override
+            public ByteBuffer encodeKey(String key) {
+                encodeKeyCount.incrementAndGet();
+                return super.encodeKey(key);
+            }
+        };
+
+        CommandArgs<String, String> args = new CommandArgs<>(countingCodec).addKey("one").addKey("two");
+
+        assertThat(args.getFirstEncodedKey()).isEqualTo(ByteBuffer.wrap("one".getBytes()));
+        assertThat(args.getFirstEncodedKey()).isEqualTo(ByteBuffer.wrap("one".getBytes()));
+
+        ByteBuf buffer = Unpooled.buffer();
+        args.encode(buffer);
+        args.encode(buffer.clear());
+
+        assertThat(buffer.toString(LettuceCharsets.ASCII)).isEqualTo("$3\r\none\r\n$3\r\ntwo\r\n");
+        assertThat(encodeKeyCount.get()).isEqualTo(3);
+    }
+
     @Test
     public void addValues() throws Exception {
 
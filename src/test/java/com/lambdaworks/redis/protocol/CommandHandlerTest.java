@@ -3,10 +3,16 @@ package com.lambdaworks.redis.protocol;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Fail.fail;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.*;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 
 import com.lambdaworks.redis.metrics.DefaultCommandLatencyCollector;
@@ -31,16 +37,26 @@ import org.springframework.test.util.ReflectionTestUtils;
 import com.lambdaworks.redis.ClientOptions;
 import com.lambdaworks.redis.ConnectionEvents;
 import com.lambdaworks.redis.RedisChannelHandler;
+import com.lambdaworks.redis.RedisCommandTimeoutException;
 import com.lambdaworks.redis.RedisException;
+import com.lambdaworks.redis.TimeoutOptions;
 import com.lambdaworks.redis.codec.Utf8StringCodec;
 import com.lambdaworks.redis.output.StatusOutput;
+import com.lambdaworks.redis.output.ValueListOutput;
+import com.lambdaworks.redis.output.ValueOutput;
 import com.lambdaworks.redis.resource.ClientResources;
 
 import edu.umd.cs.mtc.MultithreadedTestCase;
 import edu.umd.cs.mtc.TestFramework;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.*;
+import io.netty.util.Timeout;
+import io.netty.util.Timer;
+import io.netty.util.TimerTask;
+import io.netty.util.concurrent.DefaultEventExecutorGroup;
+import io.netty.util.concurrent.EventExecutorGroup;
 import io.netty.util.concurrent.ImmediateEventExecutor;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -96,6 +112,7 @@ public class CommandHandlerTest {
         when(context.alloc()).thenReturn(byteBufAllocator);
         when(channel.pipeline()).thenReturn(pipeline);
         when(channel.eventLoop()).thenReturn(eventLoop);
+        mockChannelConfig();
         when(eventLoop.submit(any(Runnable.class))).thenAnswer(invocation -> {
             Runnable r = (Runnable) invocation.getArguments()[0];
             r.run();
@@ -104,6 +121,7 @@ public class CommandHandlerTest {
 
         when(clientResources.commandLatencyCollector()).thenReturn(new DefaultCommandLatencyCollector(
                 DefaultCommandLatencyCollectorOptions.create()));
+        when(clientResources.eventExecutorGroup()).thenReturn(ImmediateEventExecutor.INSTANCE);
 
         when(channel.write(any())).thenAnswer(invocation -> {
 
@@ -320,6 +338,37 @@ public class CommandHandlerTest {
         sut.write(command);
     }
 
+    @Test
+    public void writeBatchShouldFlushOnce() throws Exception {
+
+        when(channel.isActive()).thenReturn(true);
+        sut.channelRegistered(context);
+        sut.channelActive(context);
+
+        Command<String, String, String> second = new Command<>(CommandType.APPEND,
+                new StatusOutput<String, String>(new Utf8StringCodec()), null);
+
+        sut.write(Arrays.asList(command, second));
+
+        verify(channel).writeAndFlush(Arrays.asList(command, second));
+        verify(channel, never()).writeAndFlush(command);
+    }
+
+    @Test
+    public void writeBatchChannelDisconnected() throws Exception {
+
+        when(channel.isActive()).thenReturn(true);
+        sut.channelRegistered(context);
+        sut.channelActive(context);
+
+        sut.setState(CommandHandler.LifecycleState.DISCONNECTED);
+
+        sut.write(Collections.singletonList(command));
+
+        Collection buffer = (Collection) ReflectionTestUtils.getField(sut, "commandBuffer");
+        assertThat(buffer).containsOnly(command);
+    }
+
     @Test
     public void testExceptionChannelInactive() throws Exception {
         sut.setState(CommandHandler.LifecycleState.DISCONNECTED);
@@ -531,6 +580,372 @@ public class CommandHandlerTest {
         verify(byteBufMock, never()).release();
     }
 
+    @Test
+    public void shouldDecodeResponseSpanningReadsWithCompositeBuffer() throws Exception {
+
+        sut = new CommandHandler<String, String>(ClientOptions.builder().compositeDecodeBuffer(true).build(),
+                clientResources, q);
+        sut.channelRegistered(context);
+
+        Command<String, String, String> get = new Command<>(CommandType.GET,
+                new ValueOutput<String, String>(new Utf8StringCodec()), null);
+        q.add(get);
+        q.add(command);
+
+        ByteBuf first = Unpooled.copiedBuffer("$5\r\nval", LettuceCharsets.UTF8);
+        ByteBuf second = Unpooled.copiedBuffer("ue\r\n+OK\r\n", LettuceCharsets.UTF8);
+
+        sut.channelRead(context, first);
+        assertThat(get.isDone()).isFalse();
+
+        sut.channelRead(context, second);
+
+        assertThat(get.get()).isEqualTo("value");
+        assertThat(command.get()).isEqualTo("OK");
+        assertThat(q).isEmpty();
+        assertThat(first.refCnt()).isEqualTo(0);
+        assertThat(second.refCnt()).isEqualTo(0);
+
+        sut.close();
+    }
+
+    @Test
+    public void shouldSuspendReadingWithoutDemand() throws Exception {
+
+        ChannelConfig config = mockChannelConfig();
+        sut.channelRegistered(context);
+
+        DemandAwareCommand<String, String, List<String>> sink = new DemandAwareCommand<>(new Command<>(CommandType.LRANGE,
+                new ValueListOutput<String, String>(new Utf8StringCodec()), null));
+        q.add(sink);
+
+        sut.channelRead(context, Unpooled.copiedBuffer("*2\r\n$1\r\na\r\n", LettuceCharsets.UTF8));
+
+        verify(config).setAutoRead(false);
+        assertThat(sink.source).isNotNull();
+
+        sink.demand = true;
+        sink.source.requestMore();
+
+        verify(config).setAutoRead(true);
+
+        sut.channelRead(context, Unpooled.copiedBuffer("$1\r\nb\r\n", LettuceCharsets.UTF8));
+
+        assertThat(sink.get()).containsExactly("a", "b");
+        assertThat(sink.source).isNull();
+        assertThat(config.isAutoRead()).isTrue();
+        verify(config).setAutoRead(true);
+
+        sut.close();
+    }
+
+    @Test
+    public void shouldResumeReadingOnceAllSuspensionsAreWithdrawn() throws Exception {
+
+        ChannelConfig config = mockChannelConfig();
+        sut.channelRegistered(context);
+
+        Object subscriber = new Object();
+        sut.suspendReading(subscriber);
+        sut.suspendReading(subscriber);
+
+        DemandAwareCommand<String, String, List<String>> sink = new DemandAwareCommand<>(new Command<>(CommandType.LRANGE,
+                new ValueListOutput<String, String>(new Utf8StringCodec()), null));
+        q.add(sink);
+
+        sut.channelRead(context, Unpooled.copiedBuffer("*2\r\n$1\r\na\r\n", LettuceCharsets.UTF8));
+
+        sink.demand = true;
+        sink.source.requestMore();
+
+        assertThat(config.isAutoRead()).isFalse();
+
+        sut.resumeReading(subscriber);
+
+        assertThat(config.isAutoRead()).isTrue();
+        verify(config).setAutoRead(false);
+        verify(config).setAutoRead(true);
+
+        sut.close();
+    }
+
+    @Test
+    public void shouldKeepReadSuspensionsOnReconnect() throws Exception {
+
+        ChannelConfig config = mockChannelConfig();
+        sut.channelRegistered(context);
+
+        Object subscriber = new Object();
+        sut.suspendReading(subscriber);
+
+        ChannelConfig reconnected = mockChannelConfig();
+        sut.channelRegistered(context);
+
+        assertThat(config.isAutoRead()).isFalse();
+        assertThat(reconnected.isAutoRead()).isFalse();
+
+        sut.resumeReading(subscriber);
+
+        assertThat(reconnected.isAutoRead()).isTrue();
+
+        sut.close();
+    }
+
+    @Test
+    public void shouldDecodeDeferredOnDecodeExecutor() throws Exception {
+
+        DefaultEventExecutorGroup decodeExecutor = new DefaultEventExecutorGroup(1);
+        when(clientResources.eventExecutorGroup()).thenReturn(decodeExecutor);
+        when(byteBufAllocator.buffer()).thenAnswer(invocation -> Unpooled.buffer());
+
+        sut = new CommandHandler<String, String>(ClientOptions.builder().deferredDecoding(true).build(), clientResources, q);
+        sut.channelRegistered(context);
+
+        Set<Thread> decodingThreads = Collections.synchronizedSet(new HashSet<>());
+        List<ProtocolKeyword> completions = Collections.synchronizedList(new ArrayList<>());
+        Utf8StringCodec codec = new Utf8StringCodec() {
+            @Override
+            public String decodeValue(ByteBuffer bytes) {
+                decodingThreads.add(Thread.currentThread());
+                return super.decodeValue(bytes);
+            }
+        };
+
+        AsyncCommand<String, String, String> get = new AsyncCommand<>(new Command<>(CommandType.GET,
+                new ValueOutput<String, String>(codec), null));
+        AsyncCommand<String, String, List<String>> lrange = new AsyncCommand<>(new Command<>(CommandType.LRANGE,
+                new ValueListOutput<String, String>(codec), null));
+        AsyncCommand<String, String, String> set = new AsyncCommand<>(new Command<>(CommandType.SET,
+                new StatusOutput<String, String>(codec), null));
+
+        for (AsyncCommand<String, String, ?> command : Arrays.asList(get, lrange, set)) {
+            command.thenRun(() -> completions.add(command.getType()));
+            q.add(command);
+        }
+
+        try {
+            sut.channelRead(context, Unpooled.copiedBuffer("$5\r\nvalue\r\n*2\r\n$1\r\na", LettuceCharsets.UTF8));
+            sut.channelRead(context, Unpooled.copiedBuffer("\r\n$1\r\nb\r\n+OK\r\n", LettuceCharsets.UTF8));
+
+            assertThat(set.get(1, TimeUnit.SECONDS)).isEqualTo("OK");
+            assertThat(get.get()).isEqualTo("value");
+            assertThat(lrange.get()).containsExactly("a", "b");
+            assertThat(completions).containsExactly(CommandType.GET, CommandType.LRANGE, CommandType.SET);
+            assertThat(decodingThreads).hasSize(1).doesNotContain(Thread.currentThread());
+            assertThat(q).isEmpty();
+        } finally {
+            sut.close();
+            decodeExecutor.shutdownGracefully(0, 0, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void shouldReleasePartialDeferredReplyOnReset() throws Exception {
+
+        DefaultEventExecutorGroup decodeExecutor = new DefaultEventExecutorGroup(1);
+        ByteBuf deferredBuffer = Unpooled.buffer();
+        when(clientResources.eventExecutorGroup()).thenReturn(decodeExecutor);
+        when(byteBufAllocator.buffer()).thenReturn(deferredBuffer);
+
+        sut = new CommandHandler<String, String>(ClientOptions.builder().deferredDecoding(true).build(), clientResources, q);
+        sut.channelRegistered(context);
+
+        AsyncCommand<String, String, List<String>> lrange = new AsyncCommand<>(new Command<>(CommandType.LRANGE,
+                new ValueListOutput<String, String>(new Utf8StringCodec()), null));
+        q.add(lrange);
+
+        try {
+            sut.channelRead(context, Unpooled.copiedBuffer("*2\r\n$1\r\na\r\n", LettuceCharsets.UTF8));
+            assertThat(deferredBuffer.refCnt()).isEqualTo(1);
+
+            sut.reset();
+
+            assertThat(deferredBuffer.refCnt()).isEqualTo(0);
+            assertThat(lrange.isCancelled()).isTrue();
+        } finally {
+            sut.close();
+            decodeExecutor.shutdownGracefully(0, 0, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void shouldTimeoutCommandAndRetainResponseOrder() throws Exception {
+
+        Timer timer = mock(Timer.class);
+        Timeout getTimeout = mock(Timeout.class);
+        Timeout appendTimeout = mock(Timeout.class);
+        ArgumentCaptor<TimerTask> captor = ArgumentCaptor.forClass(TimerTask.class);
+        when(timer.newTimeout(captor.capture(), anyLong(), any())).thenReturn(getTimeout, appendTimeout);
+
+        sut = new CommandHandler<String, String>(ClientOptions.builder()
+                .timeoutOptions(TimeoutOptions.builder().fixedTimeout(1, TimeUnit.SECONDS).build()).build(), clientResources,
+                q);
+        sut.setRedisChannelHandler(channelHandler);
+        sut.enableCommandTimeouts(timer, 1, TimeUnit.MINUTES);
+
+        when(channel.isActive()).thenReturn(true);
+        sut.channelRegistered(context);
+        sut.channelActive(context);
+
+        AsyncCommand<String, String, String> get = new AsyncCommand<>(
+                new Command<>(CommandType.GET, new ValueOutput<String, String>(new Utf8StringCodec()), null));
+        AsyncCommand<String, String, String> append = new AsyncCommand<>(command);
+
+        assertThat(sut.write(get)).isSameAs(get);
+        sut.write(append);
+
+        verify(timer, times(2)).newTimeout(any(), eq(TimeUnit.SECONDS.toNanos(1)), eq(TimeUnit.NANOSECONDS));
+
+        captor.getAllValues().get(0).run(getTimeout);
+
+        assertThat(get.isDone()).isTrue();
+        try {
+            get.get();
+            fail("Missing RedisCommandTimeoutException");
+        } catch (ExecutionException e) {
+            assertThat(e).hasCauseInstanceOf(RedisCommandTimeoutException.class);
+        }
+        assertThat(q).hasSize(2);
+
+        sut.channelRead(context, Unpooled.copiedBuffer("$5\r\nvalue\r\n+OK\r\n", LettuceCharsets.UTF8));
+
+        assertThat(append.get()).isEqualTo("OK");
+        assertThat(q).isEmpty();
+        verify(appendTimeout).cancel();
+    }
+
+    @Test
+    public void shouldDiscardBufferedCommandOnTimeout() throws Exception {
+
+        Timer timer = mock(Timer.class);
+        ArgumentCaptor<TimerTask> captor = ArgumentCaptor.forClass(TimerTask.class);
+        when(timer.newTimeout(captor.capture(), anyLong(), any())).thenReturn(mock(Timeout.class));
+
+        sut = new CommandHandler<String, String>(ClientOptions.builder().timeoutOptions(TimeoutOptions.enabled()).build(),
+                clientResources, q);
+        sut.setRedisChannelHandler(channelHandler);
+        sut.enableCommandTimeouts(timer, 1, TimeUnit.MINUTES);
+
+        AsyncCommand<String, String, String> append = new AsyncCommand<>(command);
+        sut.write(append);
+
+        Collection<?> buffer = (Collection<?>) ReflectionTestUtils.getField(sut, "commandBuffer");
+        assertThat(buffer).hasSize(1);
+
+        captor.getValue().run(null);
+
+        assertThat(append.isDone()).isTrue();
+        assertThat(buffer).isEmpty();
+    }
+
+    @Test
+    public void shouldNotTimeoutCommandsWithinTransaction() throws Exception {
+
+        Timer timer = mock(Timer.class);
+
+        sut = new CommandHandler<String, String>(ClientOptions.builder().timeoutOptions(TimeoutOptions.enabled()).build(),
+                clientResources, q);
+        sut.setRedisChannelHandler(channelHandler);
+        sut.enableCommandTimeouts(timer, 1, TimeUnit.MINUTES);
+
+        TransactionalCommand<String, String, String> append = new TransactionalCommand<>(new AsyncCommand<>(command));
+        sut.write(append);
+
+        Collection<?> buffer = (Collection<?>) ReflectionTestUtils.getField(sut, "commandBuffer");
+        assertThat(buffer).containsOnly(append);
+        verifyZeroInteractions(timer);
+    }
+
+    @Test
+    public void shouldNotBufferExpiringCommandTwice() throws Exception {
+
+        Timer timer = mock(Timer.class);
+        when(timer.newTimeout(any(), anyLong(), any())).thenReturn(mock(Timeout.class));
+
+        sut = new CommandHandler<String, String>(ClientOptions.builder().timeoutOptions(TimeoutOptions.enabled()).build(),
+                clientResources, q);
+        sut.setRedisChannelHandler(channelHandler);
+        sut.enableCommandTimeouts(timer, 1, TimeUnit.MINUTES);
+
+        AsyncCommand<String, String, String> append = new AsyncCommand<>(command);
+        sut.write(append);
+        sut.write(append);
+        sut.write(Arrays.asList(append));
+
+        Collection<?> buffer = (Collection<?>) ReflectionTestUtils.getField(sut, "commandBuffer");
+        assertThat(buffer).hasSize(1);
+        verify(timer).newTimeout(any(), anyLong(), any());
+    }
+
+    @Test
+    public void shouldCompleteTimedOutCommandOffTimerThread() throws Exception {
+
+        Timer timer = mock(Timer.class);
+        ArgumentCaptor<TimerTask> captor = ArgumentCaptor.forClass(TimerTask.class);
+        when(timer.newTimeout(captor.capture(), anyLong(), any())).thenReturn(mock(Timeout.class));
+
+        List<Runnable> tasks = new ArrayList<>();
+        EventExecutorGroup executor = mock(EventExecutorGroup.class);
+        doAnswer(invocation -> tasks.add((Runnable) invocation.getArguments()[0])).when(executor).execute(any(Runnable.class));
+        when(clientResources.eventExecutorGroup()).thenReturn(executor);
+
+        sut = new CommandHandler<String, String>(ClientOptions.builder().timeoutOptions(TimeoutOptions.enabled()).build(),
+                clientResources, q);
+        sut.setRedisChannelHandler(channelHandler);
+        sut.enableCommandTimeouts(timer, 1, TimeUnit.MINUTES);
+
+        AsyncCommand<String, String, String> append = new AsyncCommand<>(command);
+        sut.write(append);
+
+        captor.getValue().run(null);
+
+        assertThat(append.isDone()).isFalse();
+        assertThat(tasks).hasSize(1);
+
+        tasks.get(0).run();
+
+        assertThat(append.isDone()).isTrue();
+    }
+
+    @Test
+    public void shouldReleaseExpiringCommandOnCompletion() throws Exception {
+
+        Timer timer = mock(Timer.class);
+        when(timer.newTimeout(any(), anyLong(), any())).thenReturn(mock(Timeout.class));
+
+        sut = new CommandHandler<String, String>(ClientOptions.builder().timeoutOptions(TimeoutOptions.enabled()).build(),
+                clientResources, q);
+        sut.setRedisChannelHandler(channelHandler);
+        sut.enableCommandTimeouts(timer, 1, TimeUnit.MINUTES);
+
+        AsyncCommand<String, String, String> append = new AsyncCommand<>(command);
+        sut.write(append);
+
+        Collection<?> expiringCommands = (Collection<?>) ReflectionTestUtils.getField(sut, "expiringCommands");
+        Collection<RedisCommand<?, ?, ?>> buffer = (Collection) ReflectionTestUtils.getField(sut, "commandBuffer");
+        assertThat(expiringCommands).containsOnly(append);
+
+        buffer.iterator().next().cancel();
+
+        assertThat(expiringCommands).isEmpty();
+    }
+
+    @Test
+    public void shouldNotTimeoutBlockingCommandsUsingConnectionTimeout() throws Exception {
+
+        Timer timer = mock(Timer.class);
+
+        sut = new CommandHandler<String, String>(ClientOptions.builder().timeoutOptions(TimeoutOptions.enabled()).build(),
+                clientResources, q);
+        sut.setRedisChannelHandler(channelHandler);
+        sut.enableCommandTimeouts(timer, 1, TimeUnit.MINUTES);
+
+        sut.write(new AsyncCommand<>(new Command<>(CommandType.BLPOP,
+                new ValueListOutput<String, String>(new Utf8StringCodec()), null)));
+
+        verifyZeroInteractions(timer);
+    }
+
     @Test
     public void shouldSetLatency() throws Exception {
 
@@ -540,6 +955,23 @@ public class CommandHandlerTest {
         assertThat(command.firstResponseNs).isEqualTo(-1);
     }
 
+    @Test(timeout = 5000)
+    public void writeShouldNotRequireStateLock() throws Exception {
+
+        Object stateLock = ReflectionTestUtils.getField(sut, "stateLock");
+
+        synchronized (stateLock) {
+
+            Thread writer = new Thread(() -> sut.write(command));
+            writer.start();
+            writer.join();
+        }
+
+        AtomicLong writers = (AtomicLong) ReflectionTestUtils.getField(sut, "writers");
+        assertThat(writers.get()).isEqualTo(0);
+        assertThat(sut.commandBuffer).contains(command);
+    }
+
     @Test
     public void testMTCConcurrentWriteThenReset() throws Throwable {
         TestFramework.runOnce(new MTCConcurrentWriteThenReset(clientResources, q, command));
@@ -555,6 +987,21 @@ public class CommandHandlerTest {
         TestFramework.runOnce(new MTCConcurrentConcurrentWrite(clientResources, q, command));
     }
 
+    private ChannelConfig mockChannelConfig() {
+
+        ChannelConfig config = mock(ChannelConfig.class);
+        AtomicBoolean autoRead = new AtomicBoolean(true);
+
+        when(config.isAutoRead()).thenAnswer(invocation -> autoRead.get());
+        when(config.setAutoRead(anyBoolean())).thenAnswer(invocation -> {
+            autoRead.set((Boolean) invocation.getArguments()[0]);
+            return config;
+        });
+        when(channel.config()).thenReturn(config);
+
+        return config;
+    }
+
     /**
      * Test of concurrent access to locks. write call wins over reset call.
      */
@@ -771,4 +1218,33 @@ public class CommandHandlerTest {
         }
     }
 
+
+    static class DemandAwareCommand<K, V, T> extends CommandWrapper<K, V, T> implements DemandAware.Sink {
+
+        volatile boolean demand;
+        volatile DemandAware.Source source;
+
+        public DemandAwareCommand(RedisCommand<K, V, T> command) {
+            super(command);
+        }
+
+        T get() {
+            return getOutput().get();
+        }
+
+        @Override
+        public boolean hasDemand() {
+            return demand;
+        }
+
+        @Override
+        public void setSource(DemandAware.Source source) {
+            this.source = source;
+        }
+
+        @Override
+        public void removeSource() {
+            this.source = null;
+        }
+    }
 }
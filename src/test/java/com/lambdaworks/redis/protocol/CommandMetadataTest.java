@@ -0,0 +1,82 @@
+package com.lambdaworks.redis.protocol;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+/**
+ * @author Mark Paluch
+ */
+public class CommandMetadataTest {
+
+    @Test
+    public void shouldResolveAllCommandTypes() throws Exception {
+
+        for (CommandType type : CommandType.values()) {
+            assertThat(CommandMetadata.of(type).getType()).isSameAs(type);
+        }
+    }
+
+    @Test
+    public void shouldCountReadOnlyCommands() throws Exception {
+
+        int readOnly = 0;
+        int readOnlyOrPubSub = 0;
+
+        for (CommandType type : CommandType.values()) {
+
+            CommandMetadata metadata = CommandMetadata.of(type);
+            if (metadata.isReadOnly()) {
+                readOnly++;
+            }
+
+            if (metadata.isReadOnly() || metadata.isPubSub()) {
+                readOnlyOrPubSub++;
+            }
+        }
+
+        assertThat(readOnly).isEqualTo(63);
+        assertThat(readOnlyOrPubSub).isEqualTo(69);
+    }
+
+    @Test
+    public void shouldClassifyCommands() throws Exception {
+
+        assertThat(CommandMetadata.of(CommandType.GET).isReadOnly()).isTrue();
+        assertThat(CommandMetadata.of(CommandType.SET).isReadOnly()).isFalse();
+        assertThat(CommandMetadata.of(CommandType.PUBLISH).isPubSub()).isTrue();
+        assertThat(CommandMetadata.of(CommandType.PUBLISH).isReadOnly()).isFalse();
+        assertThat(CommandMetadata.of(CommandType.SELECT).isConnectionState()).isTrue();
+        assertThat(CommandMetadata.of(CommandType.EXEC).isTransactional()).isTrue();
+        assertThat(CommandMetadata.of(CommandType.BRPOPLPUSH).isBlocking()).isTrue();
+    }
+
+    @Test
+    public void shouldResolveKeywordsByName() throws Exception {
+
+        assertThat(CommandMetadata.of(new Keyword("GET")).getType()).isSameAs(CommandType.GET);
+        assertThat(CommandMetadata.of(new Keyword("FOO"))).isSameAs(CommandMetadata.UNKNOWN);
+        assertThat(CommandMetadata.of(null)).isSameAs(CommandMetadata.UNKNOWN);
+    }
+
+    private static class Keyword implements ProtocolKeyword {
+
+        private final String name;
+
+        Keyword(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public byte[] getBytes() {
+            return name.getBytes(StandardCharsets.US_ASCII);
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+    }
+}
@@ -25,6 +25,7 @@ import com.lambdaworks.redis.codec.Utf8StringCodec;
 import com.lambdaworks.redis.output.*;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.Unpooled;
 
 public class StateMachineTest {
@@ -99,6 +100,97 @@ public class StateMachineTest {
         assertThat(output.get()).isEqualTo(Arrays.asList(null, "ok"));
     }
 
+    @Test
+    public void multiFromCompositeBuffer() throws Exception {
+
+        CommandOutput<String, String, List<String>> output = new ValueListOutput<String, String>(codec);
+        CompositeByteBuf buffer = Unpooled.compositeBuffer();
+
+        for (String component : Arrays.asList("*3\r\n$3\r\nfoo\r\n$5\r\nba", "r12\r\n+O", "K\r\n")) {
+            buffer.addComponent(buffer(component));
+            buffer.writerIndex(buffer.writerIndex() + component.length());
+        }
+
+        assertThat(rsm.decode(buffer, output)).isTrue();
+        assertThat(output.get()).isEqualTo(Arrays.asList("foo", "bar12", "OK"));
+
+        buffer.release();
+    }
+
+    @Test
+    public void bulkInChunks() throws Exception {
+
+        StringBuilder chunks = new StringBuilder();
+        ByteStreamingOutput<String, String> output = new ByteStreamingOutput<String, String>(codec,
+                bytes -> chunks.append(charset.decode(bytes)).append('|'));
+        ByteBuf buffer = Unpooled.buffer();
+
+        assertThat(rsm.decode(buffer.writeBytes("$9\r\nfoo".getBytes()), output)).isFalse();
+        assertThat(rsm.decode(buffer.writeBytes("bar".getBytes()), output)).isFalse();
+        assertThat(rsm.decode(buffer.writeBytes("baz\r".getBytes()), output)).isFalse();
+        assertThat(rsm.decode(buffer.writeBytes("\n".getBytes()), output)).isTrue();
+
+        assertThat(chunks.toString()).isEqualTo("foo|bar|baz|");
+        assertThat(output.get()).isEqualTo(9);
+    }
+
+    @Test
+    public void bulkInChunksFromCompositeBuffer() throws Exception {
+
+        StringBuilder chunks = new StringBuilder();
+        ByteStreamingOutput<String, String> output = new ByteStreamingOutput<String, String>(codec,
+                bytes -> chunks.append(charset.decode(bytes)).append('|'));
+        CompositeByteBuf buffer = Unpooled.compositeBuffer();
+
+        for (String component : Arrays.asList("$9\r\nfoo", "bar")) {
+            buffer.addComponent(buffer(component));
+            buffer.writerIndex(buffer.writerIndex() + component.length());
+        }
+
+        assertThat(rsm.decode(buffer, output)).isFalse();
+        assertThat(chunks.toString()).isEqualTo("foo|bar|");
+
+        buffer.addComponent(buffer("baz\r\n"));
+        buffer.writerIndex(buffer.writerIndex() + 5);
+
+        assertThat(rsm.decode(buffer, output)).isTrue();
+        assertThat(chunks.toString()).isEqualTo("foo|bar|baz|");
+        assertThat(output.get()).isEqualTo(9);
+
+        buffer.release();
+    }
+
+    @Test
+    public void nullBulkInChunks() throws Exception {
+
+        ByteStreamingOutput<String, String> output = new ByteStreamingOutput<String, String>(codec, bytes -> {
+            throw new IllegalStateException();
+        });
+
+        assertThat(rsm.decode(buffer("$-1\r\n"), output)).isTrue();
+        assertThat(output.get()).isNull();
+    }
+
+    @Test
+    public void multiNestedDeeperThanInitialStack() throws Exception {
+
+        CommandOutput<String, String, List<Object>> output = new NestedMultiOutput<String, String>(codec);
+        StringBuilder reply = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            reply.append("*1\r\n");
+        }
+        reply.append(":1\r\n");
+
+        assertThat(rsm.decode(buffer(reply.toString()), output)).isTrue();
+
+        Object element = output.get();
+        for (int i = 0; i < 100; i++) {
+            assertThat(element).isInstanceOf(List.class);
+            element = ((List<?>) element).get(0);
+        }
+        assertThat(element).isEqualTo(1L);
+    }
+
     @Test
     public void multiEmptyArray1() throws Exception {
         CommandOutput<String, String, List<Object>> output = new NestedMultiOutput<String, String>(codec);
@@ -143,6 +235,46 @@ public class StateMachineTest {
         rsm.decode(buffer("="), output);
     }
 
+    @Test
+    public void swarLongProcessorMatchesLongProcessor() throws Exception {
+
+        RedisStateMachine.LongProcessor swar = new RedisStateMachine.SwarLongProcessor(new RedisStateMachine.LongProcessor());
+
+        for (long value : new long[] { 0, 1, -1, 9, 10, 42, -42, 99999999, -99999999, 100000000, 12345678, 1234567,
+                Long.MAX_VALUE, Long.MIN_VALUE }) {
+            for (String prefix : Arrays.asList(":", "*2\r\n:", "$3\r\nfoo\r\n:")) {
+
+                String line = prefix + value + "\r\n";
+                ByteBuf buffer = buffer(line);
+                buffer.readerIndex(prefix.length());
+
+                int end = RedisStateMachine.findLineEnd(buffer);
+
+                assertThat(end).isEqualTo(line.length() - 1);
+                assertThat(swar.getValue(buffer, buffer.readerIndex(), end)).isEqualTo(value);
+                assertThat(buffer.readerIndex()).isEqualTo(line.length());
+            }
+        }
+    }
+
+    @Test
+    public void findLineEnd() throws Exception {
+
+        for (int i = 0; i < 20; i++) {
+
+            StringBuilder line = new StringBuilder("+");
+            for (int j = 0; j < i; j++) {
+                line.append((char) ('a' + j));
+            }
+
+            assertThat(RedisStateMachine.findLineEnd(buffer(line + "\r\n+OK\r\n"))).isEqualTo(line.length() + 1);
+            assertThat(RedisStateMachine.findLineEnd(buffer(line + "\r"))).isEqualTo(-1);
+            assertThat(RedisStateMachine.findLineEnd(buffer(line + "\n"))).isEqualTo(-1);
+        }
+
+        assertThat(RedisStateMachine.findLineEnd(buffer("+\u000b\u000b\u000b\u000b\u000b\u000b\r\n"))).isEqualTo(8);
+    }
+
     @Test
     public void sillyTestsForEmmaCoverage() throws Exception {
         assertThat(State.Type.valueOf("SINGLE")).isEqualTo(State.Type.SINGLE);
@@ -11,6 +11,8 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
 import org.junit.After;
@@ -23,6 +25,8 @@ import com.lambdaworks.redis.api.async.RedisAsyncCommands;
 import com.lambdaworks.redis.internal.LettuceFactories;
 import com.lambdaworks.redis.pubsub.api.async.RedisPubSubAsyncCommands;
 
+import io.netty.util.concurrent.DefaultThreadFactory;
+
 public class PubSubCommandTest extends AbstractRedisClientTest implements RedisPubSubListener<String, String> {
     private RedisPubSubAsyncCommands<String, String> pubsub;
 
@@ -362,6 +366,68 @@ public class PubSubCommandTest extends AbstractRedisClientTest implements RedisP
         assertThat(messages.poll(10, TimeUnit.MILLISECONDS)).isNull();
     }
 
+    @Test(timeout = 2000)
+    public void asyncDispatchToChannelListener() throws Exception {
+
+        client.setOptions(ClientOptions.builder().pubSubOptions(PubSubOptions.builder().asyncDispatch(true).build())
+                .build());
+
+        StatefulRedisPubSubConnection<String, String> connection = client.connectPubSub();
+        BlockingQueue<String> localMessages = LettuceFactories.newBlockingQueue();
+        BlockingQueue<String> threads = LettuceFactories.newBlockingQueue();
+
+        try {
+            connection.addChannelListener(new RedisPubSubAdapter<String, String>() {
+                @Override
+                public void message(String channel, String message) {
+                    threads.add(Thread.currentThread().getName());
+                    localMessages.add(message);
+                }
+            }, channel);
+
+            connection.sync().subscribe(channel, "other");
+
+            redis.publish("other", "ignored");
+            redis.publish(channel, message);
+
+            assertThat(localMessages.take()).isEqualTo(message);
+            assertThat(threads.take()).startsWith("lettuce-pubSubDispatch");
+            assertThat(connection.getChannelStatistics().get(channel).getReceived()).isEqualTo(1);
+        } finally {
+            connection.close();
+            client.setOptions(ClientOptions.create());
+        }
+    }
+
+    @Test(timeout = 2000)
+    public void asyncDispatchOnConfiguredExecutor() throws Exception {
+
+        ExecutorService executor = Executors.newSingleThreadExecutor(new DefaultThreadFactory("dispatchExecutor", true));
+        client.setOptions(ClientOptions.builder()
+                .pubSubOptions(PubSubOptions.builder().asyncDispatch(true).dispatchExecutor(executor).build()).build());
+
+        StatefulRedisPubSubConnection<String, String> connection = client.connectPubSub();
+        BlockingQueue<String> threads = LettuceFactories.newBlockingQueue();
+
+        try {
+            connection.addListener(new RedisPubSubAdapter<String, String>() {
+                @Override
+                public void message(String channel, String message) {
+                    threads.add(Thread.currentThread().getName());
+                }
+            });
+
+            connection.sync().subscribe(channel);
+            redis.publish(channel, message);
+
+            assertThat(threads.take()).startsWith("dispatchExecutor");
+        } finally {
+            connection.close();
+            client.setOptions(ClientOptions.create());
+            executor.shutdown();
+        }
+    }
+
     // RedisPubSubListener implementation
 
     @Override
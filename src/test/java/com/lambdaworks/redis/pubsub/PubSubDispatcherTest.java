@@ -0,0 +1,240 @@
+package com.lambdaworks.redis.pubsub;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.*;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import com.lambdaworks.redis.PubSubOptions;
+import com.lambdaworks.redis.codec.ByteArrayCodec;
+import com.lambdaworks.redis.codec.RedisCodec;
+import com.lambdaworks.redis.codec.Utf8StringCodec;
+import com.lambdaworks.redis.protocol.CommandHandler;
+
+/**
+ * @author Mark Paluch
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class PubSubDispatcherTest {
+
+    @Mock
+    private RedisPubSubListener<String, String> global;
+
+    @Mock
+    private RedisPubSubListener<String, String> indexed;
+
+    @Mock
+    private CommandHandler<String, String> commandHandler;
+
+    private List<RedisPubSubListener<String, String>> listeners = new CopyOnWriteArrayList<>();
+    private List<Runnable> tasks = new ArrayList<>();
+    private PubSubDispatcher<String, String> sut;
+
+    @Before
+    public void before() throws Exception {
+
+        listeners.add(global);
+        sut = new PubSubDispatcher<>(listeners);
+    }
+
+    @Test
+    public void shouldNotifyIndexedListenersOfChannel() throws Exception {
+
+        sut.addChannelListener(indexed, "channel");
+
+        sut.dispatch(message("channel", "hello"));
+        sut.dispatch(message("other", "world"));
+
+        verify(global).message("channel", "hello");
+        verify(global).message("other", "world");
+        verify(indexed).message("channel", "hello");
+        verify(indexed, never()).message(eq("other"), anyString());
+    }
+
+    @Test
+    public void shouldNotifyIndexedListenersOfPattern() throws Exception {
+
+        sut.addPatternListener(indexed, "ch*");
+
+        sut.dispatch(output(new Utf8StringCodec(), "pmessage", "ch*", "channel", "hello"));
+        sut.dispatch(output(new Utf8StringCodec(), "pmessage", "o*", "other", "world"));
+
+        verify(indexed).message("ch*", "channel", "hello");
+        verify(indexed, never()).message(eq("o*"), anyString(), anyString());
+    }
+
+    @Test
+    public void shouldIndexByteArrayChannelsByContent() throws Exception {
+
+        RedisPubSubListener<byte[], byte[]> listener = mock(RedisPubSubListener.class);
+        PubSubDispatcher<byte[], byte[]> dispatcher = new PubSubDispatcher<>(new CopyOnWriteArrayList<>());
+
+        dispatcher.addChannelListener(listener, "channel".getBytes());
+        dispatcher.dispatch(output(new ByteArrayCodec(), "message", "channel", "hello"));
+
+        verify(listener).message(any(byte[].class), any(byte[].class));
+    }
+
+    @Test
+    public void shouldRemoveListener() throws Exception {
+
+        sut.addChannelListener(indexed, "channel");
+        sut.removeListener(indexed);
+
+        sut.dispatch(message("channel", "hello"));
+
+        verifyZeroInteractions(indexed);
+    }
+
+    @Test
+    public void shouldCountMessagesPerChannel() throws Exception {
+
+        sut.addChannelListener(indexed, "channel");
+
+        sut.dispatch(message("channel", "hello"));
+        sut.dispatch(message("channel", "world"));
+
+        PubSubChannelStatistics<String> statistics = sut.getStatistics().get("channel");
+        assertThat(statistics.getReceived()).isEqualTo(2);
+        assertThat(statistics.getDelivered()).isEqualTo(4);
+        assertThat(statistics.isPattern()).isFalse();
+
+        PubSubOutput<String, String, String> unsubscribe = output(new Utf8StringCodec(), "unsubscribe", "channel");
+        unsubscribe.set(0);
+        sut.dispatch(unsubscribe);
+
+        assertThat(sut.getStatistics()).isEmpty();
+        verify(indexed).unsubscribed("channel", 0);
+    }
+
+    @Test
+    public void shouldDispatchAsynchronously() throws Exception {
+
+        enableAsyncDispatch(PubSubOptions.OverflowPolicy.DROP_OLDEST);
+
+        sut.dispatch(message("channel", "hello"));
+
+        verifyZeroInteractions(global);
+        assertThat(tasks).hasSize(1);
+
+        runTasks();
+
+        verify(global).message("channel", "hello");
+        assertThat(sut.getStatistics().get("channel").getDelivered()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldDropOldestMessage() throws Exception {
+
+        enableAsyncDispatch(PubSubOptions.OverflowPolicy.DROP_OLDEST);
+
+        sut.dispatch(message("channel", "1"));
+        sut.dispatch(message("channel", "2"));
+        sut.dispatch(message("channel", "3"));
+
+        runTasks();
+
+        verify(global, never()).message("channel", "1");
+        verify(global).message("channel", "2");
+        verify(global).message("channel", "3");
+        assertThat(sut.getStatistics().get("channel").getDropped()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldRejectMessage() throws Exception {
+
+        enableAsyncDispatch(PubSubOptions.OverflowPolicy.FAIL);
+
+        sut.dispatch(message("channel", "1"));
+        sut.dispatch(message("channel", "2"));
+        sut.dispatch(message("channel", "3"));
+
+        runTasks();
+
+        verify(global).message("channel", "1");
+        verify(global).message("channel", "2");
+        verify(global, never()).message("channel", "3");
+        assertThat(sut.getStatistics().get("channel").getRejected()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldSuspendReadingWhileListenerIsSaturated() throws Exception {
+
+        sut.setCommandHandler(commandHandler);
+        enableAsyncDispatch(PubSubOptions.OverflowPolicy.DISABLE_AUTO_READ);
+
+        sut.dispatch(message("channel", "1"));
+        sut.dispatch(message("channel", "2"));
+        verify(commandHandler, never()).suspendReading(sut);
+
+        sut.dispatch(message("channel", "3"));
+        verify(commandHandler).suspendReading(sut);
+
+        runTasks();
+
+        verify(commandHandler, times(2)).resumeReading(sut);
+        verify(global).message("channel", "1");
+        verify(global).message("channel", "2");
+        verify(global).message("channel", "3");
+    }
+
+    @Test
+    public void shouldQueueMessagesOfReadInProgressBeyondQueueSize() throws Exception {
+
+        sut.setCommandHandler(commandHandler);
+        enableAsyncDispatch(PubSubOptions.OverflowPolicy.DISABLE_AUTO_READ);
+
+        for (int i = 0; i < 5; i++) {
+            sut.dispatch(message("channel", "" + i));
+        }
+
+        verify(commandHandler).suspendReading(sut);
+        assertThat(sut.getPendingMessages(global)).isEqualTo(5);
+
+        runTasks();
+
+        assertThat(sut.getPendingMessages(global)).isEqualTo(0);
+        assertThat(sut.getStatistics().get("channel").getDelivered()).isEqualTo(5);
+        assertThat(sut.getStatistics().get("channel").getDropped()).isEqualTo(0);
+    }
+
+    private void enableAsyncDispatch(PubSubOptions.OverflowPolicy overflowPolicy) {
+
+        sut.setOptions(PubSubOptions.builder().asyncDispatch(true).listenerQueueSize(2).overflowPolicy(overflowPolicy)
+                .build());
+        sut.setExecutor(tasks::add);
+    }
+
+    private void runTasks() {
+
+        while (!tasks.isEmpty()) {
+            tasks.remove(0).run();
+        }
+    }
+
+    private static PubSubOutput<String, String, String> message(String channel, String message) {
+        return output(new Utf8StringCodec(), "message", channel, message);
+    }
+
+    private static <K, V> PubSubOutput<K, V, V> output(RedisCodec<K, V> codec, String... elements) {
+
+        PubSubOutput<K, V, V> output = new PubSubOutput<>(codec);
+
+        for (String element : elements) {
+            output.set(ByteBuffer.wrap(element.getBytes()));
+        }
+
+        return output;
+    }
+}
@@ -0,0 +1,82 @@
+package com.lambdaworks.redis;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.lambdaworks.redis.cluster.EmptyRedisChannelWriter;
+import com.lambdaworks.redis.codec.Utf8StringCodec;
+import com.lambdaworks.redis.output.StatusOutput;
+import com.lambdaworks.redis.output.ValueOutput;
+import com.lambdaworks.redis.protocol.*;
+
+/**
+ * Benchmark for the command dispatch path of {@link StatefulRedisConnectionImpl} and command classification using
+ * {@link CommandMetadata}. The channel writer discards commands so the benchmark measures the dispatch overhead only. Test
+ * cases:
+ * <ul>
+ * <li>dispatch a data command and a connection state command</li>
+ * <li>read-only classification using {@link CommandMetadata}</li>
+ * <li>read-only classification by scanning an array of read-only commands</li>
+ * </ul>
+ *
+ * @author Mark Paluch
+ */
+@State(Scope.Benchmark)
+public class CommandDispatchBenchmark {
+
+    private final static Utf8StringCodec CODEC = new Utf8StringCodec();
+
+    @Param({ "GET", "SET", "ZSCORE" })
+    private String commandType;
+
+    private ProtocolKeyword type;
+    private ProtocolKeyword[] readOnlyCommands;
+    private StatefulRedisConnectionImpl<String, String> connection;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+
+        type = CommandType.valueOf(commandType);
+        connection = new StatefulRedisConnectionImpl<>(new EmptyRedisChannelWriter(), CODEC, 60, TimeUnit.SECONDS);
+
+        List<ProtocolKeyword> keywords = new ArrayList<>();
+        for (CommandType commandType : CommandType.values()) {
+            if (CommandMetadata.of(commandType).isReadOnly() || CommandMetadata.of(commandType).isPubSub()) {
+                keywords.add(commandType);
+            }
+        }
+
+        readOnlyCommands = keywords.toArray(new ProtocolKeyword[keywords.size()]);
+    }
+
+    @Benchmark
+    public Object measureDispatch() {
+        return connection.dispatch(new Command<>(type, new ValueOutput<>(CODEC), new CommandArgs<>(CODEC).addKey("key")));
+    }
+
+    @Benchmark
+    public Object measureDispatchConnectionState() {
+        return connection.dispatch(new AsyncCommand<>(new Command<>(CommandType.READWRITE, new StatusOutput<>(CODEC))));
+    }
+
+    @Benchmark
+    public boolean measureMetadataLookup() {
+        return CommandMetadata.of(type).isReadOnly();
+    }
+
+    @Benchmark
+    public boolean measureArrayScan() {
+
+        for (ProtocolKeyword readOnlyCommand : readOnlyCommands) {
+            if (readOnlyCommand == type) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
@@ -0,0 +1,203 @@
+package com.lambdaworks.redis;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.lambdaworks.redis.api.StatefulRedisConnection;
+import com.lambdaworks.redis.api.async.RedisAsyncCommands;
+import com.lambdaworks.redis.api.sync.RedisCommands;
+import com.lambdaworks.redis.codec.Utf8StringCodec;
+import com.lambdaworks.redis.resource.ClientResources;
+import com.lambdaworks.redis.resource.DefaultClientResources;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.*;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+
+/**
+ * Benchmark for decoding responses on the I/O thread compared to {@link ClientOptions#isDeferredDecoding() deferred
+ * decoding}. Two connections share a single I/O thread: one connection uses a deliberately slow codec, the other one a
+ * regular codec. A tiny in-process server replies with a bulk string to each {@code GET key}. Run in
+ * {@link Mode#SampleTime} to compare latency percentiles. Test cases:
+ * <ul>
+ * <li>pipelined GETs decoded by the slow codec (throughput of the slow connection)</li>
+ * <li>synchronous GET on the fast connection while the slow connection is busy (latency caused by I/O thread utilization)</li>
+ * </ul>
+ * The busy time of the client I/O thread is printed after each iteration. It is the CPU time of the I/O thread relative to
+ * the iteration duration. Waiting for I/O does not consume CPU time, so the ratio shows how much of the I/O thread is used
+ * for reading and decoding.
+ *
+ * @author Mark Paluch
+ */
+@State(Scope.Benchmark)
+public class DeferredDecodingBenchmark {
+
+    private final static int PORT = 6498;
+    private final static int BATCH_SIZE = 20;
+    private final static long DECODE_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    @Param({ "false", "true" })
+    private boolean deferredDecoding;
+
+    private EventLoopGroup serverGroup;
+    private Channel serverChannel;
+    private ClientResources clientResources;
+    private RedisClient client;
+    private StatefulRedisConnection<String, String> slowConnection;
+    private StatefulRedisConnection<String, String> fastConnection;
+    private RedisAsyncCommands<String, String> slow;
+    private RedisCommands<String, String> fast;
+
+    private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+    private long ioThreadId;
+    private long iterationStartNanos;
+    private long iterationStartCpuNanos;
+
+    @Setup
+    public void setup() throws Exception {
+
+        serverGroup = new NioEventLoopGroup(1);
+        serverChannel = new ServerBootstrap().group(serverGroup).channel(NioServerSocketChannel.class)
+                .childOption(ChannelOption.TCP_NODELAY, true).childHandler(new ChannelInitializer<SocketChannel>() {
+                    @Override
+                    protected void initChannel(SocketChannel ch) throws Exception {
+                        ch.pipeline().addLast(new GetResponder());
+                    }
+                }).bind(PORT).sync().channel();
+
+        clientResources = DefaultClientResources.builder().ioThreadPoolSize(1).build();
+        client = RedisClient.create(clientResources, RedisURI.create("localhost", PORT));
+        client.setOptions(ClientOptions.builder().deferredDecoding(deferredDecoding).build());
+
+        slowConnection = client.connect(new SlowCodec());
+        fastConnection = client.connect();
+        slow = slowConnection.async();
+        fast = fastConnection.sync();
+
+        ioThreadId = getIoThreadId();
+    }
+
+    @Setup(Level.Iteration)
+    public void startIteration() {
+
+        iterationStartCpuNanos = threadMXBean.getThreadCpuTime(ioThreadId);
+        iterationStartNanos = System.nanoTime();
+    }
+
+    @TearDown(Level.Iteration)
+    public void finishIteration() {
+
+        long cpuNanos = threadMXBean.getThreadCpuTime(ioThreadId) - iterationStartCpuNanos;
+        long nanos = System.nanoTime() - iterationStartNanos;
+
+        System.out.println(String.format("I/O thread busy: %.1f%% (%d ms CPU time in %d ms)", cpuNanos * 100d / nanos,
+                TimeUnit.NANOSECONDS.toMillis(cpuNanos), TimeUnit.NANOSECONDS.toMillis(nanos)));
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+
+        slowConnection.close();
+        fastConnection.close();
+        client.shutdown(0, 0, TimeUnit.SECONDS);
+        clientResources.shutdown(0, 0, TimeUnit.SECONDS).get();
+        serverChannel.close().sync();
+        serverGroup.shutdownGracefully(0, 0, TimeUnit.SECONDS).sync();
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(1)
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void measureSlowCodec() throws Exception {
+
+        RedisFuture<?>[] futures = new RedisFuture[BATCH_SIZE];
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            futures[i] = slow.get("key");
+        }
+
+        LettuceFutures.awaitAll(1, TimeUnit.MINUTES, futures);
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(1)
+    public String measureFastCodec() {
+        return fast.get("key");
+    }
+
+    /**
+     * Resolve the single client I/O thread by running a task on the I/O event loop group.
+     */
+    private long getIoThreadId() throws Exception {
+
+        NioEventLoopGroup group = clientResources.eventLoopGroupProvider().allocate(NioEventLoopGroup.class);
+        try {
+            return group.submit(() -> Thread.currentThread().getId()).get();
+        } finally {
+            clientResources.eventLoopGroupProvider().release(group, 0, 0, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Codec that spends {@link #DECODE_NANOS} on each value, like a codec that decompresses or deserializes values.
+     */
+    private static class SlowCodec extends Utf8StringCodec {
+
+        @Override
+        public String decodeValue(ByteBuffer bytes) {
+
+            long deadline = System.nanoTime() + DECODE_NANOS;
+            while (System.nanoTime() < deadline) {
+                // busy spin
+            }
+
+            return super.decodeValue(bytes);
+        }
+    }
+
+    /**
+     * Replies with a 64 byte bulk string to each {@code GET key} command ({@code *2\r\n$3\r\nGET\r\n$3\r\nkey\r\n}).
+     */
+    private static class GetResponder extends ChannelInboundHandlerAdapter {
+
+        private final static int COMMAND_LENGTH = 22;
+        private final static byte[] VALUE;
+
+        static {
+            StringBuilder value = new StringBuilder("$64\r\n");
+            for (int i = 0; i < 64; i++) {
+                value.append('x');
+            }
+            VALUE = value.append("\r\n").toString().getBytes();
+        }
+
+        private int pending;
+
+        @Override
+        public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+
+            ByteBuf buffer = (ByteBuf) msg;
+            pending += buffer.readableBytes();
+            buffer.release();
+
+            int commands = pending / COMMAND_LENGTH;
+            pending %= COMMAND_LENGTH;
+
+            if (commands > 0) {
+                ByteBuf response = ctx.alloc().buffer(commands * VALUE.length);
+                for (int i = 0; i < commands; i++) {
+                    response.writeBytes(VALUE);
+                }
+                ctx.writeAndFlush(response);
+            }
+        }
+    }
+}
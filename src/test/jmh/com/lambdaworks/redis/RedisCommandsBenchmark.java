@@ -0,0 +1,93 @@
+package com.lambdaworks.redis;
+
+import java.lang.reflect.Proxy;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.lambdaworks.redis.api.sync.RedisCommands;
+import com.lambdaworks.redis.codec.Utf8StringCodec;
+import com.lambdaworks.redis.protocol.RedisCommand;
+
+/**
+ * Benchmark for invoking commands through the synchronous API. Compares the generated {@link RedisCommandsImpl} with the
+ * reflective {@link FutureSyncInvocationHandler} proxy and plain async invocation. Commands are completed immediately by the
+ * channel writer so the benchmark measures the API overhead only. Test cases:
+ * <ul>
+ * <li>GET using the generated sync API</li>
+ * <li>GET using the reflective sync API proxy</li>
+ * <li>GET using the async API</li>
+ * </ul>
+ *
+ * @author Mark Paluch
+ */
+@State(Scope.Benchmark)
+public class RedisCommandsBenchmark {
+
+    private final static byte[] VALUE = "value".getBytes();
+
+    private StatefulRedisConnectionImpl<String, String> connection;
+    private RedisCommands<String, String> generated;
+    private RedisCommands<String, String> proxy;
+    private RedisAsyncCommandsImpl<String, String> async;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+
+        connection = new StatefulRedisConnectionImpl<>(new CompletingRedisChannelWriter(), new Utf8StringCodec(), 60,
+                TimeUnit.SECONDS);
+        async = (RedisAsyncCommandsImpl<String, String>) connection.async();
+        generated = connection.sync();
+        proxy = (RedisCommands<String, String>) Proxy.newProxyInstance(RedisCommands.class.getClassLoader(),
+                new Class<?>[] { RedisCommands.class },
+                new FutureSyncInvocationHandler<>(connection, async, new Class<?>[] { RedisCommands.class }));
+    }
+
+    @Benchmark
+    public String measureGeneratedSyncGet() {
+        return generated.get("key");
+    }
+
+    @Benchmark
+    public String measureProxySyncGet() {
+        return proxy.get("key");
+    }
+
+    @Benchmark
+    public RedisFuture<String> measureAsyncGet() {
+        return async.get("key");
+    }
+
+    private static class CompletingRedisChannelWriter implements RedisChannelWriter<String, String> {
+
+        @Override
+        public <T, C extends RedisCommand<String, String, T>> C write(C command) {
+
+            command.getOutput().set(ByteBuffer.wrap(VALUE));
+            command.complete();
+            return command;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public void reset() {
+        }
+
+        @Override
+        public void setRedisChannelHandler(RedisChannelHandler<String, String> redisChannelHandler) {
+        }
+
+        @Override
+        public void setAutoFlushCommands(boolean autoFlush) {
+        }
+
+        @Override
+        public void flushCommands() {
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.lambdaworks.redis;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.lambdaworks.redis.api.StatefulRedisConnection;
+import com.lambdaworks.redis.api.async.RedisAsyncCommands;
+import com.lambdaworks.redis.api.sync.RedisCommands;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.*;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+
+/**
+ * Benchmark comparing the NIO and the native epoll transport on a loopback connection. A tiny in-process server replies
+ * {@code +PONG} to each {@code PING} so the benchmark measures client and transport overhead only. Test cases:
+ * <ul>
+ * <li>synchronous PING round trip (latency)</li>
+ * <li>batch of 100 pipelined PINGs (throughput)</li>
+ * </ul>
+ *
+ * @author Mark Paluch
+ */
+@State(Scope.Benchmark)
+public class TransportBenchmark {
+
+    private final static int PORT = 6499;
+    private final static int BATCH_SIZE = 100;
+
+    @Param({ "nio", "epoll" })
+    private String transport;
+
+    private EventLoopGroup serverGroup;
+    private Channel serverChannel;
+    private RedisClient client;
+    private StatefulRedisConnection<String, String> connection;
+    private RedisCommands<String, String> sync;
+    private RedisAsyncCommands<String, String> async;
+    private RedisFuture<?>[] futures = new RedisFuture[BATCH_SIZE];
+
+    @Setup
+    public void setup() throws Exception {
+
+        serverGroup = new NioEventLoopGroup(1);
+        serverChannel = new ServerBootstrap().group(serverGroup).channel(NioServerSocketChannel.class)
+                .childOption(ChannelOption.TCP_NODELAY, true).childHandler(new ChannelInitializer<SocketChannel>() {
+                    @Override
+                    protected void initChannel(SocketChannel ch) throws Exception {
+                        ch.pipeline().addLast(new PingResponder());
+                    }
+                }).bind(PORT).sync().channel();
+
+        SocketOptions socketOptions = SocketOptions.builder().tcpNoDelay(true).nativeTransport("epoll".equals(transport))
+                .build();
+
+        client = RedisClient.create(RedisURI.create("localhost", PORT));
+        client.setOptions(ClientOptions.builder().socketOptions(socketOptions).build());
+
+        connection = client.connect();
+        sync = connection.sync();
+        async = connection.async();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+
+        connection.close();
+        client.shutdown(0, 0, TimeUnit.SECONDS);
+        serverChannel.close().sync();
+        serverGroup.shutdownGracefully(0, 0, TimeUnit.SECONDS).sync();
+    }
+
+    @Benchmark
+    public String measureSyncPing() {
+        return sync.ping();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void measurePipelinedPing() throws Exception {
+
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            futures[i] = async.ping();
+        }
+
+        LettuceFutures.awaitAll(1, TimeUnit.MINUTES, futures);
+    }
+
+    /**
+     * Replies {@code +PONG} to each {@code PING} command ({@code *1\r\n$4\r\nPING\r\n}).
+     */
+    private static class PingResponder extends ChannelInboundHandlerAdapter {
+
+        private final static int COMMAND_LENGTH = 14;
+        private final static byte[] PONG = "+PONG\r\n".getBytes();
+
+        private int pending;
+
+        @Override
+        public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+
+            ByteBuf buffer = (ByteBuf) msg;
+            pending += buffer.readableBytes();
+            buffer.release();
+
+            int commands = pending / COMMAND_LENGTH;
+            pending %= COMMAND_LENGTH;
+
+            if (commands > 0) {
+                ByteBuf response = ctx.alloc().buffer(commands * PONG.length);
+                for (int i = 0; i < commands; i++) {
+                    response.writeBytes(PONG);
+                }
+                ctx.writeAndFlush(response);
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.lambdaworks.redis.cluster;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.lambdaworks.redis.RedisURI;
+import com.lambdaworks.redis.cluster.models.partitions.Partitions;
+import com.lambdaworks.redis.cluster.models.partitions.RedisClusterNode;
+import com.lambdaworks.redis.codec.Utf8StringCodec;
+import com.lambdaworks.redis.event.DefaultEventBus;
+import com.lambdaworks.redis.protocol.Command;
+import com.lambdaworks.redis.protocol.CommandArgs;
+import com.lambdaworks.redis.protocol.CommandType;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.util.concurrent.ImmediateEventExecutor;
+import rx.schedulers.Schedulers;
+
+/**
+ * Benchmark for cluster command routing using {@link ClusterDistributionChannelWriter}. Commands are routed by the slot of
+ * their first key to a node connection and encoded afterwards. Test cases:
+ * <ul>
+ * <li>route and encode a single-key command with and without hash tag</li>
+ * <li>slot calculation</li>
+ * </ul>
+ *
+ * @author Mark Paluch
+ */
+@State(Scope.Benchmark)
+public class ClusterDistributionChannelWriterBenchmark {
+
+    private final static Utf8StringCodec CODEC = new Utf8StringCodec();
+
+    @Param({ "key", "user:{1000}:profile" })
+    private String key;
+
+    private EmptyRedisClusterClient clusterClient;
+    private ClusterDistributionChannelWriter<String, String> writer;
+    private ByteBuf buffer;
+
+    @Setup
+    public void setup() {
+
+        clusterClient = new EmptyRedisClusterClient(RedisURI.create("localhost", 7379));
+        writer = new ClusterDistributionChannelWriter<>(ClusterClientOptions.create(), new EmptyRedisChannelWriter(),
+                ClusterEventListener.NO_OP, ImmediateEventExecutor.INSTANCE, new DefaultEventBus(Schedulers.immediate()));
+
+        Partitions partitions = new Partitions();
+        partitions.add(createNode(7379, 0, SlotHash.SLOT_COUNT / 2));
+        partitions.add(createNode(7380, SlotHash.SLOT_COUNT / 2, SlotHash.SLOT_COUNT));
+
+        writer.setClusterConnectionProvider(new PooledClusterConnectionProvider<>(clusterClient, writer, CODEC));
+        writer.setPartitions(partitions);
+
+        buffer = PooledByteBufAllocator.DEFAULT.directBuffer(1024);
+    }
+
+    @TearDown
+    public void tearDown() {
+
+        writer.close();
+        buffer.release();
+        clusterClient.shutdown(0, 0, TimeUnit.SECONDS);
+    }
+
+    @Benchmark
+    public void measureRouteAndEncode() {
+
+        Command<String, String, String> command = new Command<>(CommandType.GET, null, new CommandArgs<>(CODEC).addKey(key));
+
+        writer.write(command);
+
+        buffer.clear();
+        command.encode(buffer);
+    }
+
+    @Benchmark
+    public int measureSlotHash() {
+        return SlotHash.getSlot(new CommandArgs<>(CODEC).addKey(key).getFirstEncodedKey());
+    }
+
+    private static RedisClusterNode createNode(int port, int from, int to) {
+
+        List<Integer> slots = new ArrayList<>();
+        for (int slot = from; slot < to; slot++) {
+            slots.add(slot);
+        }
+
+        return new RedisClusterNode(RedisURI.create("localhost", port), "node-" + port, true, null, 0, 0, 0, slots,
+                Collections.singleton(RedisClusterNode.NodeFlag.MASTER));
+    }
+}
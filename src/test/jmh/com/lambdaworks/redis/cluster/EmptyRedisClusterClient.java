@@ -1,10 +1,12 @@
 package com.lambdaworks.redis.cluster;
 
 import java.net.SocketAddress;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
 import com.lambdaworks.redis.RedisChannelWriter;
 import com.lambdaworks.redis.RedisURI;
+import com.lambdaworks.redis.StatefulRedisConnectionImpl;
 import com.lambdaworks.redis.api.StatefulRedisConnection;
 import com.lambdaworks.redis.codec.RedisCodec;
 
@@ -12,7 +14,6 @@ import com.lambdaworks.redis.codec.RedisCodec;
  * @author Mark Paluch
  */
 public class EmptyRedisClusterClient extends RedisClusterClient {
-    private final static EmptyStatefulRedisConnection CONNECTION = new EmptyStatefulRedisConnection();
 
     public EmptyRedisClusterClient(RedisURI initialUri) {
         super(initialUri);
@@ -20,6 +21,6 @@ public class EmptyRedisClusterClient extends RedisClusterClient {
 
     <K, V> StatefulRedisConnection<K, V> connectToNode(RedisCodec<K, V> codec, String nodeId,
             RedisChannelWriter<K, V> clusterWriter, final Supplier<SocketAddress> socketAddressSupplier) {
-        return CONNECTION;
+        return new StatefulRedisConnectionImpl<>(new EmptyRedisChannelWriter(), codec, 60, TimeUnit.SECONDS);
     }
 }
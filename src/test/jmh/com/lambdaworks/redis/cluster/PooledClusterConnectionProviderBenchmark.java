@@ -0,0 +1,90 @@
+package com.lambdaworks.redis.cluster;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.lambdaworks.redis.ReadFrom;
+import com.lambdaworks.redis.RedisURI;
+import com.lambdaworks.redis.api.StatefulRedisConnection;
+import com.lambdaworks.redis.cluster.models.partitions.Partitions;
+import com.lambdaworks.redis.cluster.models.partitions.RedisClusterNode;
+import com.lambdaworks.redis.codec.Utf8StringCodec;
+
+/**
+ * Benchmark for slot-based connection lookup in {@link PooledClusterConnectionProvider}. Multiple threads look up
+ * connections concurrently. Use {@link com.lambdaworks.redis.protocol.JmhMain} to run this benchmark with 1 to 64 threads.
+ * Test cases:
+ * <ul>
+ * <li>write connection lookup</li>
+ * <li>read connection lookup using {@link ReadFrom#MASTER_PREFERRED}</li>
+ * </ul>
+ *
+ * @author Mark Paluch
+ */
+@State(Scope.Benchmark)
+public class PooledClusterConnectionProviderBenchmark {
+
+    private final static Utf8StringCodec CODEC = new Utf8StringCodec();
+
+    private EmptyRedisClusterClient clusterClient;
+    private PooledClusterConnectionProvider<String, String> provider;
+
+    @Setup
+    public void setup() {
+
+        clusterClient = new EmptyRedisClusterClient(RedisURI.create("localhost", 7379));
+        provider = new PooledClusterConnectionProvider<>(clusterClient, new EmptyRedisChannelWriter(), CODEC);
+
+        Partitions partitions = new Partitions();
+        partitions.add(createNode(7379, 0, SlotHash.SLOT_COUNT / 2));
+        partitions.add(createNode(7380, SlotHash.SLOT_COUNT / 2, SlotHash.SLOT_COUNT));
+
+        provider.setPartitions(partitions);
+        provider.setReadFrom(ReadFrom.MASTER_PREFERRED);
+    }
+
+    @TearDown
+    public void tearDown() {
+
+        provider.close();
+        clusterClient.shutdown(0, 0, TimeUnit.SECONDS);
+    }
+
+    @Benchmark
+    public StatefulRedisConnection<String, String> measureGetWriteConnection(SlotState slotState) {
+        return provider.getConnection(ClusterConnectionProvider.Intent.WRITE, slotState.nextSlot());
+    }
+
+    @Benchmark
+    public StatefulRedisConnection<String, String> measureGetReadConnection(SlotState slotState) {
+        return provider.getConnection(ClusterConnectionProvider.Intent.READ, slotState.nextSlot());
+    }
+
+    /**
+     * Per-thread slot sequence.
+     */
+    @State(Scope.Thread)
+    public static class SlotState {
+
+        private int slot;
+
+        int nextSlot() {
+            return slot = (slot + 1) & (SlotHash.SLOT_COUNT - 1);
+        }
+    }
+
+    private static RedisClusterNode createNode(int port, int from, int to) {
+
+        List<Integer> slots = new ArrayList<>();
+        for (int slot = from; slot < to; slot++) {
+            slots.add(slot);
+        }
+
+        return new RedisClusterNode(RedisURI.create("localhost", port), "node-" + port, true, null, 0, 0, 0, slots,
+                Collections.singleton(RedisClusterNode.NodeFlag.MASTER));
+    }
+}
@@ -0,0 +1,264 @@
+package com.lambdaworks.redis.cluster;
+
+import java.net.SocketAddress;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.lambdaworks.redis.*;
+import com.lambdaworks.redis.api.StatefulRedisConnection;
+import com.lambdaworks.redis.cluster.models.partitions.Partitions;
+import com.lambdaworks.redis.cluster.models.partitions.RedisClusterNode;
+import com.lambdaworks.redis.codec.RedisCodec;
+import com.lambdaworks.redis.codec.Utf8StringCodec;
+import com.lambdaworks.redis.event.DefaultEventBus;
+import com.lambdaworks.redis.internal.LettuceFactories;
+import com.lambdaworks.redis.protocol.CommandHandler;
+import com.lambdaworks.redis.protocol.CommandType;
+import com.lambdaworks.redis.protocol.EmptyClientResources;
+import com.lambdaworks.redis.protocol.RedisCommand;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.util.CharsetUtil;
+import io.netty.util.concurrent.ImmediateEventExecutor;
+import rx.schedulers.Schedulers;
+
+/**
+ * Benchmark for multi-key commands spanning multiple slots using {@link RedisAdvancedClusterAsyncCommandsImpl}. Compares
+ * node-batched execution (one write per node) with per-slot execution (one write per slot). Node connections use a
+ * {@link CommandHandler} on an {@link EmbeddedChannel} that replies to each command on flush. The {@code flushes} counter
+ * reports transport flushes, the ratio of {@code flushes} to operations is the number of flushes per multi-key command. Test
+ * cases:
+ * <ul>
+ * <li>MGET with 10, 100 and 1000 keys</li>
+ * <li>DEL with 10, 100 and 1000 keys</li>
+ * </ul>
+ *
+ * @author Mark Paluch
+ */
+@State(Scope.Benchmark)
+public class RedisAdvancedClusterAsyncCommandsBenchmark {
+
+    private final static Utf8StringCodec CODEC = new Utf8StringCodec();
+
+    @Param({ "10", "100", "1000" })
+    private int keyCount;
+
+    private LoopbackRedisClusterClient clusterClient;
+    private StatefulRedisClusterConnectionImpl<String, String> connection;
+    private RedisAdvancedClusterAsyncCommandsImpl<String, String> nodeBatched;
+    private AbstractRedisAsyncCommands<String, String> perSlot;
+    private List<String> keys;
+
+    @Setup
+    public void setup() {
+
+        clusterClient = new LoopbackRedisClusterClient(RedisURI.create("localhost", 7379));
+        ClusterDistributionChannelWriter<String, String> writer = new ClusterDistributionChannelWriter<>(
+                ClusterClientOptions.create(), new EmptyRedisChannelWriter(), ClusterEventListener.NO_OP,
+                ImmediateEventExecutor.INSTANCE, new DefaultEventBus(Schedulers.immediate()));
+
+        Partitions partitions = new Partitions();
+        partitions.add(createNode(7379, 0, SlotHash.SLOT_COUNT / 3));
+        partitions.add(createNode(7380, SlotHash.SLOT_COUNT / 3, SlotHash.SLOT_COUNT / 3 * 2));
+        partitions.add(createNode(7381, SlotHash.SLOT_COUNT / 3 * 2, SlotHash.SLOT_COUNT));
+
+        writer.setClusterConnectionProvider(new PooledClusterConnectionProvider<>(clusterClient, writer, CODEC));
+
+        connection = new StatefulRedisClusterConnectionImpl<>(writer, CODEC, 60, TimeUnit.SECONDS);
+        connection.setPartitions(partitions);
+
+        nodeBatched = new RedisAdvancedClusterAsyncCommandsImpl<>(connection, CODEC);
+        perSlot = new AbstractRedisAsyncCommands<String, String>(connection, CODEC) {
+        };
+
+        Random random = new Random(0);
+        keys = new ArrayList<>(keyCount);
+        for (int i = 0; i < keyCount; i++) {
+            keys.add("key:" + random.nextInt());
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+
+        connection.close();
+        clusterClient.shutdown(0, 0, TimeUnit.SECONDS);
+    }
+
+    @Benchmark
+    public RedisFuture<List<String>> measureMgetNodeBatched(FlushCounter counter) {
+
+        long flushes = clusterClient.flushes;
+        RedisFuture<List<String>> result = nodeBatched.mget(keys);
+        counter.flushes += clusterClient.flushes - flushes;
+        return result;
+    }
+
+    @Benchmark
+    public RedisFuture<List<String>> measureMgetPerSlot(FlushCounter counter) {
+
+        long flushes = clusterClient.flushes;
+
+        Map<Integer, List<String>> partitioned = SlotHash.partition(CODEC, keys);
+        Map<String, Integer> slots = SlotHash.getSlots(partitioned);
+        Map<Integer, RedisFuture<List<String>>> executions = new HashMap<>();
+
+        for (Map.Entry<Integer, List<String>> entry : partitioned.entrySet()) {
+            executions.put(entry.getKey(), perSlot.mget(entry.getValue()));
+        }
+
+        RedisFuture<List<String>> result = new PipelinedRedisFuture<>(executions, objectPipelinedRedisFuture -> {
+            List<String> values = new ArrayList<>();
+            for (String opKey : keys) {
+                int slot = slots.get(opKey);
+
+                int position = partitioned.get(slot).indexOf(opKey);
+                RedisFuture<List<String>> listRedisFuture = executions.get(slot);
+                values.add(MultiNodeExecution.execute(() -> listRedisFuture.get().get(position)));
+            }
+
+            return values;
+        });
+
+        counter.flushes += clusterClient.flushes - flushes;
+        return result;
+    }
+
+    @Benchmark
+    public RedisFuture<Long> measureDelNodeBatched(FlushCounter counter) {
+
+        long flushes = clusterClient.flushes;
+        RedisFuture<Long> result = nodeBatched.del(keys);
+        counter.flushes += clusterClient.flushes - flushes;
+        return result;
+    }
+
+    @Benchmark
+    public RedisFuture<Long> measureDelPerSlot(FlushCounter counter) {
+
+        long flushes = clusterClient.flushes;
+
+        Map<Integer, List<String>> partitioned = SlotHash.partition(CODEC, keys);
+        Map<Integer, RedisFuture<Long>> executions = new HashMap<>();
+
+        for (Map.Entry<Integer, List<String>> entry : partitioned.entrySet()) {
+            executions.put(entry.getKey(), perSlot.del(entry.getValue()));
+        }
+
+        RedisFuture<Long> result = MultiNodeExecution.aggregateAsync(executions);
+        counter.flushes += clusterClient.flushes - flushes;
+        return result;
+    }
+
+    private static RedisClusterNode createNode(int port, int from, int to) {
+
+        List<Integer> slots = new ArrayList<>();
+        for (int slot = from; slot < to; slot++) {
+            slots.add(slot);
+        }
+
+        return new RedisClusterNode(RedisURI.create("localhost", port), "node-" + port, true, null, 0, 0, 0, slots,
+                Collections.singleton(RedisClusterNode.NodeFlag.MASTER));
+    }
+
+    /**
+     * Transport flushes caused by the measured operations.
+     */
+    @State(Scope.Thread)
+    @AuxCounters
+    public static class FlushCounter {
+
+        public long flushes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            flushes = 0;
+        }
+    }
+
+    /**
+     * Cluster client that connects to nodes through a {@link CommandHandler} on an {@link EmbeddedChannel} with a
+     * {@link LoopbackHandler}.
+     */
+    private static class LoopbackRedisClusterClient extends RedisClusterClient {
+
+        private long flushes;
+
+        LoopbackRedisClusterClient(RedisURI initialUri) {
+            super(initialUri);
+        }
+
+        @Override
+        <K, V> StatefulRedisConnection<K, V> connectToNode(RedisCodec<K, V> codec, String nodeId,
+                RedisChannelWriter<K, V> clusterWriter, Supplier<SocketAddress> socketAddressSupplier) {
+
+            Queue<RedisCommand<K, V, ?>> queue = LettuceFactories.newIndexedConcurrentQueue();
+            CommandHandler<K, V> handler = new CommandHandler<>(ClientOptions.create(), EmptyClientResources.INSTANCE, queue);
+            StatefulRedisConnectionImpl<K, V> connection = new StatefulRedisConnectionImpl<>(handler, codec, 60,
+                    TimeUnit.SECONDS);
+
+            new EmbeddedChannel(new LoopbackHandler(), handler);
+
+            return connection;
+        }
+
+        /**
+         * Consumes written commands and replies to them once the channel is flushed: MGET with a nil per key, other commands
+         * with their argument count.
+         */
+        private class LoopbackHandler extends ChannelDuplexHandler {
+
+            private final StringBuilder replies = new StringBuilder();
+
+            @Override
+            public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+
+                if (msg instanceof Collection) {
+                    for (Object command : (Collection<?>) msg) {
+                        reply((RedisCommand<?, ?, ?>) command);
+                    }
+                } else {
+                    reply((RedisCommand<?, ?, ?>) msg);
+                }
+
+                promise.trySuccess();
+            }
+
+            @Override
+            public void flush(ChannelHandlerContext ctx) throws Exception {
+
+                flushes++;
+
+                if (replies.length() != 0) {
+
+                    ByteBuf response = ctx.alloc().buffer(replies.length());
+                    response.writeBytes(replies.toString().getBytes(CharsetUtil.US_ASCII));
+                    replies.setLength(0);
+
+                    ctx.fireChannelRead(response);
+                }
+            }
+
+            private void reply(RedisCommand<?, ?, ?> command) {
+
+                int count = command.getArgs().count();
+
+                if (command.getType() == CommandType.MGET) {
+                    replies.append('*').append(count).append("\r\n");
+                    for (int i = 0; i < count; i++) {
+                        replies.append("$-1\r\n");
+                    }
+                } else {
+                    replies.append(':').append(count).append("\r\n");
+                }
+            }
+        }
+    }
+}
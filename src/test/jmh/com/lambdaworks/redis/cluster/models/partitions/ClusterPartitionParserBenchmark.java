@@ -0,0 +1,76 @@
+package com.lambdaworks.redis.cluster.models.partitions;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.lambdaworks.redis.cluster.SlotHash;
+
+/**
+ * Benchmark for {@link ClusterPartitionParser} compared to the regex-based {@link LegacyClusterPartitionParser}. Half of
+ * the nodes are masters, the other half are slaves. Test cases:
+ * <ul>
+ * <li>parse the raw reply bytes</li>
+ * <li>parse a {@link String}</li>
+ * <li>decode the raw reply bytes and parse them with the regex-based parser</li>
+ * </ul>
+ *
+ * @author Mark Paluch
+ */
+@State(Scope.Benchmark)
+public class ClusterPartitionParserBenchmark {
+
+    @Param({ "100", "500", "1000" })
+    private int nodes;
+
+    private String clusterNodes;
+    private ByteBuffer clusterNodesBytes;
+
+    @Setup
+    public void setup() {
+
+        StringBuilder builder = new StringBuilder();
+        int masters = nodes / 2;
+        int slotsPerMaster = SlotHash.SLOT_COUNT / masters;
+
+        for (int i = 0; i < masters; i++) {
+
+            int from = i * slotsPerMaster;
+            int to = i == masters - 1 ? SlotHash.SLOT_COUNT - 1 : from + slotsPerMaster - 1;
+
+            builder.append(String.format("master%036d 10.0.%d.%d:7000 master - 0 1470000000000 %d connected %d-%d%n", i,
+                    i / 250, i % 250, i, from, to));
+            builder.append(String.format("slave%037d 10.1.%d.%d:7000 slave master%036d 0 1470000000000 %d connected%n", i,
+                    i / 250, i % 250, i, i));
+        }
+
+        clusterNodes = builder.toString();
+        clusterNodesBytes = ByteBuffer.wrap(clusterNodes.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    @Benchmark
+    public Partitions parseBytes() {
+        return ClusterPartitionParser.parse(clusterNodesBytes);
+    }
+
+    @Benchmark
+    public Partitions parseString() {
+        return ClusterPartitionParser.parse(clusterNodes);
+    }
+
+    @Benchmark
+    public Partitions parseLegacy() {
+        return LegacyClusterPartitionParser.parse(decodeAscii(clusterNodesBytes));
+    }
+
+    private static String decodeAscii(ByteBuffer bytes) {
+
+        char[] chars = new char[bytes.remaining()];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = (char) bytes.get(bytes.position() + i);
+        }
+
+        return new String(chars);
+    }
+}
@@ -0,0 +1,156 @@
+package com.lambdaworks.redis.cluster.models.partitions;
+
+import java.util.*;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import com.lambdaworks.redis.LettuceStrings;
+import com.lambdaworks.redis.RedisException;
+import com.lambdaworks.redis.RedisURI;
+import com.lambdaworks.redis.internal.HostAndPort;
+import com.lambdaworks.redis.internal.LettuceLists;
+
+/**
+ * Regex-based {@code CLUSTER NODES} parser that splits the reply into lines and tokens. Baseline for
+ * {@link ClusterPartitionParserBenchmark}.
+ *
+ * @author Mark Paluch
+ */
+class LegacyClusterPartitionParser {
+
+    private static final String CONNECTED = "connected";
+
+    private static final String TOKEN_SLOT_IN_TRANSITION = "[";
+    private static final char TOKEN_NODE_SEPARATOR = '\n';
+    private static final Pattern TOKEN_PATTERN = Pattern.compile(Character.toString(TOKEN_NODE_SEPARATOR));
+    private static final Pattern SPACE_PATTERN = Pattern.compile(" ");
+    private static final Map<String, RedisClusterNode.NodeFlag> FLAG_MAPPING;
+
+    static {
+        Map<String, RedisClusterNode.NodeFlag> map = new HashMap<>();
+
+        map.put("noflags", RedisClusterNode.NodeFlag.NOFLAGS);
+        map.put("myself", RedisClusterNode.NodeFlag.MYSELF);
+        map.put("master", RedisClusterNode.NodeFlag.MASTER);
+        map.put("slave", RedisClusterNode.NodeFlag.SLAVE);
+        map.put("fail?", RedisClusterNode.NodeFlag.EVENTUAL_FAIL);
+        map.put("fail", RedisClusterNode.NodeFlag.FAIL);
+        map.put("handshake", RedisClusterNode.NodeFlag.HANDSHAKE);
+        map.put("noaddr", RedisClusterNode.NodeFlag.NOADDR);
+        FLAG_MAPPING = Collections.unmodifiableMap(map);
+    }
+
+    private LegacyClusterPartitionParser() {
+
+    }
+
+    static Partitions parse(String nodes) {
+        Partitions result = new Partitions();
+
+        try {
+            List<RedisClusterNode> mappedNodes = TOKEN_PATTERN.splitAsStream(nodes).filter(s -> !s.isEmpty())
+                    .map(LegacyClusterPartitionParser::parseNode)
+                    .collect(Collectors.toList());
+            result.addAll(mappedNodes);
+        } catch (Exception e) {
+            throw new RedisException("Cannot parse " + nodes, e);
+        }
+
+        return result;
+    }
+
+    private static RedisClusterNode parseNode(String nodeInformation) {
+
+        Iterator<String> iterator = SPACE_PATTERN.splitAsStream(nodeInformation).iterator();
+
+        String nodeId = iterator.next();
+        boolean connected = false;
+        RedisURI uri = null;
+
+        String hostAndPortPart = iterator.next();
+        if(hostAndPortPart.contains("@")) {
+            hostAndPortPart = hostAndPortPart.substring(0, hostAndPortPart.indexOf('@'));
+        }
+
+        HostAndPort hostAndPort = HostAndPort.parseCompat(hostAndPortPart);
+
+        if (LettuceStrings.isNotEmpty(hostAndPort.getHostText())) {
+            uri = RedisURI.Builder.redis(hostAndPort.getHostText(), hostAndPort.getPort()).build();
+        }
+
+        String flags = iterator.next();
+        List<String> flagStrings = LettuceLists.newList(flags.split("\\,"));
+
+        Set<RedisClusterNode.NodeFlag> nodeFlags = readFlags(flagStrings);
+
+        String slaveOfString = iterator.next(); // (nodeId or -)
+        String slaveOf = "-".equals(slaveOfString) ? null : slaveOfString;
+
+        long pingSentTs = getLongFromIterator(iterator, 0);
+        long pongReceivedTs = getLongFromIterator(iterator, 0);
+        long configEpoch = getLongFromIterator(iterator, 0);
+
+        String connectedFlags = iterator.next(); // "connected" : "disconnected"
+
+        if (CONNECTED.equals(connectedFlags)) {
+            connected = true;
+        }
+
+        RedisClusterNode partition = new RedisClusterNode(uri, nodeId, connected, slaveOf, pingSentTs, pongReceivedTs,
+                configEpoch, Collections.emptyList(), nodeFlags);
+
+        readSlots(iterator, partition); // slot, from-to [slot->-nodeID] [slot-<-nodeID]
+
+        return partition;
+
+    }
+
+    private static Set<RedisClusterNode.NodeFlag> readFlags(List<String> flagStrings) {
+
+        Set<RedisClusterNode.NodeFlag> flags = new HashSet<>();
+        for (String flagString : flagStrings) {
+            if (FLAG_MAPPING.containsKey(flagString)) {
+                flags.add(FLAG_MAPPING.get(flagString));
+            }
+        }
+        return Collections.unmodifiableSet(flags);
+    }
+
+    private static void readSlots(Iterator<String> slotStrings, RedisClusterNode partition) {
+
+        while (slotStrings.hasNext()) {
+
+            String slotString = slotStrings.next();
+
+            if (slotString.startsWith(TOKEN_SLOT_IN_TRANSITION)) {
+                // not interesting
+                continue;
+
+            }
+
+            int dash = slotString.indexOf('-');
+            if (dash != -1) {
+                // slot range
+                int from = Integer.parseInt(slotString.substring(0, dash));
+                int to = Integer.parseInt(slotString.substring(dash + 1));
+
+                partition.addSlots(from, to);
+                continue;
+            }
+
+            int slot = Integer.parseInt(slotString);
+            partition.addSlots(slot, slot);
+        }
+    }
+
+    private static long getLongFromIterator(Iterator<?> iterator, long defaultValue) {
+        if (iterator.hasNext()) {
+            Object object = iterator.next();
+            if (object instanceof String) {
+                return Long.parseLong((String) object);
+            }
+        }
+        return defaultValue;
+    }
+
+}
@@ -0,0 +1,100 @@
+package com.lambdaworks.redis.cluster.models.partitions;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.lambdaworks.redis.cluster.SlotHash;
+
+/**
+ * Benchmark for parsing a {@code CLUSTER NODES} topology and applying it to {@link Partitions}. The topology consists of
+ * 1,000 nodes, 500 masters and 500 slaves. Test cases:
+ * <ul>
+ * <li>parse {@code CLUSTER NODES} output</li>
+ * <li>parse and apply a topology using {@link Partitions#reload(java.util.List)}</li>
+ * <li>apply an unchanged topology of new node instances using {@link Partitions#reload(java.util.List)}. The slot cache
+ * tracks nodes by {@code nodeId}, so only the references to the replaced instances are rewritten</li>
+ * <li>update the slot cache after a slot migration</li>
+ * <li>slot lookup using {@link RedisClusterNode#hasSlot(int)}</li>
+ * </ul>
+ *
+ * @author Mark Paluch
+ */
+@State(Scope.Benchmark)
+public class PartitionsBenchmark {
+
+    private final static int MASTERS = 500;
+
+    private String clusterNodes;
+    private Partitions partitions;
+    private RedisClusterNode first;
+    private RedisClusterNode second;
+    private boolean migrated;
+
+    @Setup
+    public void setup() {
+
+        StringBuilder builder = new StringBuilder();
+        int slotsPerMaster = SlotHash.SLOT_COUNT / MASTERS;
+
+        for (int i = 0; i < MASTERS; i++) {
+
+            int from = i * slotsPerMaster;
+            int to = i == MASTERS - 1 ? SlotHash.SLOT_COUNT - 1 : from + slotsPerMaster - 1;
+
+            builder.append(String.format("master%036d 10.0.%d.%d:7000 master - 0 1470000000000 %d connected %d-%d%n", i,
+                    i / 250, i % 250, i, from, to));
+            builder.append(String.format("slave%037d 10.1.%d.%d:7000 slave master%036d 0 1470000000000 %d connected%n", i,
+                    i / 250, i % 250, i, i));
+        }
+
+        clusterNodes = builder.toString();
+        partitions = ClusterPartitionParser.parse(clusterNodes);
+        first = partitions.getPartitionBySlot(0);
+        second = partitions.getPartitionBySlot(SlotHash.SLOT_COUNT - 1);
+    }
+
+    @Benchmark
+    public Partitions parse() {
+        return ClusterPartitionParser.parse(clusterNodes);
+    }
+
+    @Benchmark
+    public Partitions parseAndReload() {
+
+        partitions.reload(ClusterPartitionParser.parse(clusterNodes).getPartitions());
+        return partitions;
+    }
+
+    @Benchmark
+    public Partitions reloadNewInstances() {
+
+        List<RedisClusterNode> nodes = new ArrayList<>(partitions.size());
+        for (RedisClusterNode node : partitions) {
+            nodes.add(new RedisClusterNode(node));
+        }
+
+        partitions.reload(nodes);
+        return partitions;
+    }
+
+    @Benchmark
+    public Partitions migrateSlotAndUpdateCache() {
+
+        RedisClusterNode source = migrated ? second : first;
+        RedisClusterNode target = migrated ? first : second;
+
+        source.getSlots().remove(Integer.valueOf(0));
+        target.addSlots(0, 0);
+        migrated = !migrated;
+
+        partitions.updateCache();
+        return partitions;
+    }
+
+    @Benchmark
+    public boolean hasSlot() {
+        return second.hasSlot(SlotHash.SLOT_COUNT - 1);
+    }
+}
@@ -0,0 +1,68 @@
+package com.lambdaworks.redis.metrics;
+
+import java.net.InetSocketAddress;
+import java.util.Map;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.lambdaworks.redis.protocol.CommandType;
+
+/**
+ * Benchmark for recording command latencies with {@link DefaultCommandLatencyCollector}. Multiple threads record latencies
+ * concurrently. Use {@link com.lambdaworks.redis.protocol.JmhMain} to run this benchmark with 1 to 64 threads and the GC
+ * profiler. Test cases:
+ * <ul>
+ * <li>record latency for a single command type</li>
+ * <li>record latency for alternating command types</li>
+ * <li>retrieve metrics</li>
+ * </ul>
+ *
+ * @author Mark Paluch
+ */
+@State(Scope.Benchmark)
+public class DefaultCommandLatencyCollectorBenchmark {
+
+    private final static InetSocketAddress LOCAL = new InetSocketAddress("localhost", 43210);
+    private final static InetSocketAddress REMOTE = new InetSocketAddress("localhost", 6479);
+    private final static CommandType[] COMMAND_TYPES = { CommandType.GET, CommandType.SET, CommandType.HGET, CommandType.INCR };
+
+    private DefaultCommandLatencyCollector collector;
+
+    @Setup
+    public void setup() {
+        collector = new DefaultCommandLatencyCollector(DefaultCommandLatencyCollectorOptions.create());
+    }
+
+    @TearDown
+    public void tearDown() {
+        collector.shutdown();
+    }
+
+    @Benchmark
+    public void measureRecordCommandLatency() {
+        collector.recordCommandLatency(LOCAL, REMOTE, CommandType.GET, 50000, 100000);
+    }
+
+    @Benchmark
+    public void measureRecordCommandLatencyCommandTypes(CommandTypeState commandTypeState) {
+        collector.recordCommandLatency(LOCAL, REMOTE, commandTypeState.next(), 50000, 100000);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Map<CommandLatencyId, CommandMetrics> measureRetrieveMetrics() {
+
+        collector.recordCommandLatency(LOCAL, REMOTE, CommandType.GET, 50000, 100000);
+        return collector.retrieveMetrics();
+    }
+
+    @State(Scope.Thread)
+    public static class CommandTypeState {
+
+        private int index;
+
+        public CommandType next() {
+            return COMMAND_TYPES[index++ & (COMMAND_TYPES.length - 1)];
+        }
+    }
+}
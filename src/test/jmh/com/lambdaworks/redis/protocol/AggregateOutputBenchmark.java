@@ -0,0 +1,139 @@
+package com.lambdaworks.redis.protocol;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.lambdaworks.redis.codec.ByteArrayCodec;
+import com.lambdaworks.redis.output.*;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+
+/**
+ * Benchmark for decoding large aggregate replies through {@link RedisStateMachine} into presized outputs compared to outputs
+ * that ignore the multi-bulk count and grow while decoding. Run with the GC profiler (see {@link JmhMain}) to compare
+ * allocation rates. Test cases:
+ * <ul>
+ * <li>list reply (LRANGE) decoded into {@link ValueListOutput}</li>
+ * <li>set reply (SMEMBERS) decoded into {@link ValueSetOutput}</li>
+ * <li>hash reply (HGETALL) decoded into {@link MapOutput}</li>
+ * <li>sorted set reply (ZRANGE WITHSCORES) decoded into {@link ScoredValueListOutput}</li>
+ * </ul>
+ *
+ * @author Mark Paluch
+ */
+@State(Scope.Benchmark)
+public class AggregateOutputBenchmark {
+
+    private final static ByteArrayCodec CODEC = new ByteArrayCodec();
+
+    @Param({ "10000", "100000" })
+    private int size;
+
+    @Param({ "true", "false" })
+    private boolean presize;
+
+    private final RedisStateMachine<byte[], byte[]> stateMachine = new RedisStateMachine<>();
+
+    private ByteBuf listBuffer;
+    private ByteBuf hashBuffer;
+    private ByteBuf sortedSetBuffer;
+
+    @Setup(Level.Trial)
+    public void setup() {
+
+        StringBuilder list = new StringBuilder("*").append(size).append("\r\n");
+        for (int i = 0; i < size; i++) {
+            appendBulk(list, "value" + i);
+        }
+        listBuffer = createBuffer(list);
+
+        StringBuilder hash = new StringBuilder("*").append(size * 2).append("\r\n");
+        for (int i = 0; i < size; i++) {
+            appendBulk(hash, "field" + i);
+            appendBulk(hash, "value" + i);
+        }
+        hashBuffer = createBuffer(hash);
+
+        StringBuilder sortedSet = new StringBuilder("*").append(size * 2).append("\r\n");
+        for (int i = 0; i < size; i++) {
+            appendBulk(sortedSet, "member" + i);
+            appendBulk(sortedSet, Integer.toString(i));
+        }
+        sortedSetBuffer = createBuffer(sortedSet);
+    }
+
+    @TearDown
+    public void tearDown() {
+
+        listBuffer.release();
+        hashBuffer.release();
+        sortedSetBuffer.release();
+    }
+
+    @Benchmark
+    public Object measureDecodeList() {
+
+        ValueListOutput<byte[], byte[]> output = presize ? new ValueListOutput<>(CODEC) : new ValueListOutput<byte[], byte[]>(
+                CODEC) {
+            @Override
+            public void multi(int count) {
+            }
+        };
+
+        stateMachine.decode(listBuffer.duplicate(), output);
+        return output.get();
+    }
+
+    @Benchmark
+    public Object measureDecodeSet() {
+
+        ValueSetOutput<byte[], byte[]> output = presize ? new ValueSetOutput<>(CODEC) : new ValueSetOutput<byte[], byte[]>(
+                CODEC) {
+            @Override
+            public void multi(int count) {
+            }
+        };
+
+        stateMachine.decode(listBuffer.duplicate(), output);
+        return output.get();
+    }
+
+    @Benchmark
+    public Object measureDecodeHash() {
+
+        MapOutput<byte[], byte[]> output = presize ? new MapOutput<>(CODEC) : new MapOutput<byte[], byte[]>(CODEC) {
+            @Override
+            public void multi(int count) {
+            }
+        };
+
+        stateMachine.decode(hashBuffer.duplicate(), output);
+        return output.get();
+    }
+
+    @Benchmark
+    public Object measureDecodeSortedSet() {
+
+        ScoredValueListOutput<byte[], byte[]> output = presize ? new ScoredValueListOutput<>(CODEC)
+                : new ScoredValueListOutput<byte[], byte[]>(CODEC) {
+                    @Override
+                    public void multi(int count) {
+                    }
+                };
+
+        stateMachine.decode(sortedSetBuffer.duplicate(), output);
+        return output.get();
+    }
+
+    private static void appendBulk(StringBuilder builder, String value) {
+        builder.append('$').append(value.length()).append("\r\n").append(value).append("\r\n");
+    }
+
+    private static ByteBuf createBuffer(CharSequence content) {
+
+        byte[] bytes = content.toString().getBytes();
+        ByteBuf buffer = PooledByteBufAllocator.DEFAULT.ioBuffer(bytes.length);
+        buffer.writeBytes(bytes);
+        return buffer;
+    }
+}
@@ -8,6 +8,7 @@ import java.nio.ByteOrder;
 import java.nio.channels.GatheringByteChannel;
 import java.nio.channels.ScatteringByteChannel;
 import java.nio.charset.Charset;
+import java.util.concurrent.TimeUnit;
 
 import com.lambdaworks.redis.protocol.CommandArgs.ExperimentalByteArrayCodec;
 import org.openjdk.jmh.annotations.*;
@@ -26,6 +27,7 @@ import io.netty.buffer.ByteBufProcessor;
  * <ul>
  * <li>Create commands using String and ByteArray codecs</li>
  * <li>Encode commands using String and ByteArray codecs</li>
+ * <li>Create, complete and await {@link AsyncCommand} and {@link TransactionalCommand}</li>
  * </ul>
  *
  * @author Mark Paluch
@@ -66,6 +68,28 @@ public class CommandBenchmark {
         createCommand(KEY, STRING_CODEC).encode(DUMMY_BYTE_BUF);
     }
 
+    @Benchmark
+    public AsyncCommand<String, String, String> createAsyncCommand() {
+        return new AsyncCommand<>(createCommand(KEY, STRING_CODEC));
+    }
+
+    @Benchmark
+    public boolean completeAsyncCommand() {
+
+        AsyncCommand<String, String, String> command = new AsyncCommand<>(createCommand(KEY, STRING_CODEC));
+        command.complete();
+        return command.await(1, TimeUnit.SECONDS);
+    }
+
+    @Benchmark
+    public boolean completeTransactionalCommand() {
+
+        TransactionalCommand<String, String, String> command = new TransactionalCommand<>(createCommand(KEY, STRING_CODEC));
+        command.complete();
+        command.complete();
+        return command.await(1, TimeUnit.SECONDS);
+    }
+
     private <K, V, T> Command<K, V, T> createCommand(K key, RedisCodec<K, V> codec) {
         Command command = new Command(CommandType.GET, new ValueOutput<>(codec), new CommandArgs(codec).addKey(key));
         return command;
@@ -0,0 +1,108 @@
+package com.lambdaworks.redis.protocol;
+
+import java.util.concurrent.LinkedBlockingQueue;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.lambdaworks.redis.ClientOptions;
+import com.lambdaworks.redis.codec.ByteArrayCodec;
+
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.embedded.EmbeddedChannel;
+
+/**
+ * Contention benchmark for {@link CommandHandler}. Multiple threads write concurrently to a single, shared
+ * {@link CommandHandler}. Use {@link JmhMain} to run this benchmark with 1 to 64 writer threads. Test cases:
+ * <ul>
+ * <li>concurrent user command writes</li>
+ * </ul>
+ *
+ * @author Mark Paluch
+ */
+@State(Scope.Benchmark)
+public class CommandHandlerContentionBenchmark {
+
+    private final static ByteArrayCodec CODEC = new ByteArrayCodec();
+    private final static ClientOptions CLIENT_OPTIONS = ClientOptions.create();
+    private final static EmptyContext CHANNEL_HANDLER_CONTEXT = new EmptyContext();
+    private final static byte[] KEY = "key".getBytes();
+    private final static ChannelFuture EMPTY = new EmptyFuture();
+
+    private CommandHandler commandHandler;
+
+    @Setup
+    public void setup() {
+
+        commandHandler = new CommandHandler(CLIENT_OPTIONS, EmptyClientResources.INSTANCE, new LinkedBlockingQueue<>());
+        commandHandler.setState(CommandHandler.LifecycleState.CONNECTED);
+        commandHandler.channel = new MyLocalChannel();
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        commandHandler.reset();
+    }
+
+    @Benchmark
+    public void measureConcurrentUserWrite(WriterState writerState) {
+        commandHandler.write(writerState.command);
+    }
+
+    /**
+     * Per-thread command. Commands without output are fire&forget commands and are not retained in the queue.
+     */
+    @State(Scope.Thread)
+    public static class WriterState {
+
+        private Command command;
+
+        @Setup
+        public void setup() {
+            command = new Command(CommandType.SET, null, new CommandArgs(CODEC).addKey(KEY).addValue(KEY));
+        }
+    }
+
+    /**
+     * Channel that passes written commands straight to the {@link CommandHandler} on the calling thread.
+     */
+    private final class MyLocalChannel extends EmbeddedChannel {
+
+        @Override
+        public boolean isActive() {
+            return true;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public ChannelFuture write(Object msg) {
+            return writeAndFlush(msg);
+        }
+
+        @Override
+        public ChannelFuture write(Object msg, ChannelPromise promise) {
+            return writeAndFlush(msg, promise);
+        }
+
+        @Override
+        public ChannelFuture writeAndFlush(Object msg) {
+
+            try {
+                commandHandler.write(CHANNEL_HANDLER_CONTEXT, msg, null);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+            return EMPTY;
+        }
+
+        @Override
+        public ChannelFuture writeAndFlush(Object msg, ChannelPromise promise) {
+            writeAndFlush(msg);
+            return promise;
+        }
+    }
+}
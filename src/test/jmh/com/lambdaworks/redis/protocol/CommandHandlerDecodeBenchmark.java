@@ -0,0 +1,103 @@
+package com.lambdaworks.redis.protocol;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.lambdaworks.redis.ClientOptions;
+import com.lambdaworks.redis.codec.ByteArrayCodec;
+import com.lambdaworks.redis.output.CommandOutput;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+
+/**
+ * Benchmark for decoding responses in {@link CommandHandler} using an aggregation buffer and a composite buffer. Replies are
+ * received in chunks of up to 16 KiB. Test cases:
+ * <ul>
+ * <li>decode small and large bulk replies</li>
+ * </ul>
+ *
+ * @author Mark Paluch
+ */
+@State(Scope.Benchmark)
+public class CommandHandlerDecodeBenchmark {
+
+    private final static ByteArrayCodec CODEC = new ByteArrayCodec();
+    private final static EmptyContext CHANNEL_HANDLER_CONTEXT = new EmptyContext();
+    private final static int CHUNK_SIZE = 16 * 1024;
+
+    @Param({ "16", "1024", "51200", "204800" })
+    private int valueSize;
+
+    @Param({ "false", "true" })
+    private boolean compositeDecodeBuffer;
+
+    private final List<ByteBuf> chunks = new ArrayList<>();
+    private final ArrayDeque<RedisCommand<byte[], byte[], ?>> queue = new ArrayDeque<>();
+
+    private CommandHandler<byte[], byte[]> commandHandler;
+    private Command<byte[], byte[], byte[]> command;
+
+    @Setup
+    public void setup() {
+
+        ClientOptions clientOptions = ClientOptions.builder().compositeDecodeBuffer(compositeDecodeBuffer).build();
+        commandHandler = new CommandHandler<>(clientOptions, EmptyClientResources.INSTANCE, queue);
+        command = new Command<>(CommandType.GET, new ConsumingOutput(CODEC), new CommandArgs<>(CODEC).addKey(new byte[] { 1 }));
+
+        byte[] value = new byte[valueSize];
+        byte[] header = ("$" + valueSize + "\r\n").getBytes();
+
+        ByteBuf payload = PooledByteBufAllocator.DEFAULT.directBuffer(header.length + value.length + 2);
+        payload.writeBytes(header).writeBytes(value).writeBytes("\r\n".getBytes());
+
+        while (payload.isReadable()) {
+
+            int length = Math.min(CHUNK_SIZE, payload.readableBytes());
+            ByteBuf chunk = PooledByteBufAllocator.DEFAULT.directBuffer(length);
+            payload.readBytes(chunk, length);
+            chunks.add(chunk);
+        }
+
+        payload.release();
+    }
+
+    @TearDown
+    public void tearDown() {
+
+        for (ByteBuf chunk : chunks) {
+            chunk.release();
+        }
+
+        commandHandler.close();
+    }
+
+    @Benchmark
+    public void measureDecode() throws Exception {
+
+        queue.add(command);
+
+        for (ByteBuf chunk : chunks) {
+            commandHandler.channelRead(CHANNEL_HANDLER_CONTEXT, chunk.duplicate().retain());
+        }
+    }
+
+    /**
+     * Output that consumes the bytes without decoding these.
+     */
+    private static class ConsumingOutput extends CommandOutput<byte[], byte[], byte[]> {
+
+        ConsumingOutput(ByteArrayCodec codec) {
+            super(codec, null);
+        }
+
+        @Override
+        public void set(ByteBuffer bytes) {
+            bytes.position(bytes.limit());
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.lambdaworks.redis.protocol;
+
+import java.util.Deque;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.lambdaworks.redis.ClientOptions;
+import com.lambdaworks.redis.codec.ByteArrayCodec;
+import com.lambdaworks.redis.internal.LettuceFactories;
+import com.lambdaworks.redis.output.ValueOutput;
+
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.embedded.EmbeddedChannel;
+
+/**
+ * Benchmark for {@link CommandHandler} with a growing number of in-flight commands. The cost of a write should not depend on
+ * the number of queued/buffered commands. Test cases:
+ * <ul>
+ * <li>user command writes to a connected channel passing through the netty write path</li>
+ * <li>user command writes buffered while disconnected</li>
+ * </ul>
+ *
+ * @author Mark Paluch
+ */
+@State(Scope.Benchmark)
+public class CommandHandlerQueueDepthBenchmark {
+
+    private final static ByteArrayCodec CODEC = new ByteArrayCodec();
+    private final static ClientOptions CLIENT_OPTIONS = ClientOptions.create();
+    private final static EmptyContext CHANNEL_HANDLER_CONTEXT = new EmptyContext();
+    private final static byte[] KEY = "key".getBytes();
+    private final static ChannelFuture EMPTY = new EmptyFuture();
+
+    @Param({ "10", "1000", "10000", "100000" })
+    private int depth;
+
+    private CommandHandler connectedHandler;
+    private CommandHandler disconnectedHandler;
+    private Command command;
+
+    @Setup
+    public void setup() {
+
+        command = new Command(CommandType.GET, new ValueOutput<>(CODEC), new CommandArgs(CODEC).addKey(KEY));
+
+        connectedHandler = new CommandHandler(CLIENT_OPTIONS, EmptyClientResources.INSTANCE,
+                LettuceFactories.newIndexedConcurrentQueue());
+        connectedHandler.setState(CommandHandler.LifecycleState.CONNECTED);
+        connectedHandler.channel = new MyLocalChannel();
+
+        disconnectedHandler = new CommandHandler(CLIENT_OPTIONS, EmptyClientResources.INSTANCE,
+                LettuceFactories.newIndexedConcurrentQueue());
+
+        for (int i = 0; i < depth; i++) {
+            connectedHandler.queue.add(newCommand());
+            disconnectedHandler.queue.add(newCommand());
+            disconnectedHandler.commandBuffer.add(newCommand());
+        }
+    }
+
+    @Benchmark
+    public void measureConnectedUserWrite() {
+        connectedHandler.write(command);
+        ((Deque) connectedHandler.queue).pollLast();
+    }
+
+    @Benchmark
+    public void measureDisconnectedUserWrite() {
+        disconnectedHandler.write(command);
+        disconnectedHandler.commandBuffer.pollLast();
+    }
+
+    private static Command newCommand() {
+        return new Command(CommandType.GET, new ValueOutput<>(CODEC), new CommandArgs(CODEC).addKey(KEY));
+    }
+
+    /**
+     * Channel that passes written commands to the {@link CommandHandler} like the event loop would do.
+     */
+    private final class MyLocalChannel extends EmbeddedChannel {
+
+        @Override
+        public boolean isActive() {
+            return true;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public ChannelFuture writeAndFlush(Object msg) {
+
+            try {
+                connectedHandler.write(CHANNEL_HANDLER_CONTEXT, msg, null);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+            return EMPTY;
+        }
+
+        @Override
+        public ChannelFuture writeAndFlush(Object msg, ChannelPromise promise) {
+            writeAndFlush(msg);
+            return promise;
+        }
+    }
+}
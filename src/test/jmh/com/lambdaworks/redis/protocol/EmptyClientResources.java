@@ -4,6 +4,7 @@ import com.lambdaworks.redis.event.DefaultEventPublisherOptions;
 import com.lambdaworks.redis.event.EventBus;
 import com.lambdaworks.redis.event.EventPublisherOptions;
 import com.lambdaworks.redis.metrics.CommandLatencyCollector;
+import com.lambdaworks.redis.metrics.DefaultCommandLatencyCollector;
 import com.lambdaworks.redis.resource.ClientResources;
 import com.lambdaworks.redis.resource.Delay;
 import com.lambdaworks.redis.resource.DnsResolver;
@@ -62,7 +63,7 @@ public class EmptyClientResources implements ClientResources {
 
     @Override
     public CommandLatencyCollector commandLatencyCollector() {
-        return null;
+        return DefaultCommandLatencyCollector.disabled();
     }
 
     @Override
@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.util.concurrent.TimeUnit;
 
 import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.profile.GCProfiler;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.RunnerException;
 import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
@@ -22,7 +23,16 @@ public class JmhMain {
         // run selectively
         // runCommandBenchmark();
         runCommandHandlerBenchmark();
+        // runCommandHandlerContentionBenchmark();
+        // runPooledClusterConnectionProviderBenchmark();
         // runRedisStateMachineBenchmark();
+        // runDefaultCommandLatencyCollectorBenchmark();
+        // runPartitionsBenchmark();
+        // runClusterPartitionParserBenchmark();
+        // runCommandDispatchBenchmark();
+        // runTransportBenchmark();
+        // runAggregateOutputBenchmark();
+        // runDeferredDecodingBenchmark();
 
         // or all
         // runBenchmarks();
@@ -37,8 +47,8 @@ public class JmhMain {
     private static void runCommandBenchmark() throws RunnerException {
 
         new Runner(
-                prepareOptions().mode(Mode.AverageTime).timeUnit(TimeUnit.NANOSECONDS).include(".*CommandBenchmark.*").build())
-                        .run();
+                prepareOptions().mode(Mode.AverageTime).timeUnit(TimeUnit.NANOSECONDS).include(".*CommandBenchmark.*")
+                        .addProfiler(GCProfiler.class).build()).run();
 
         new Runner(prepareOptions().mode(Mode.Throughput).timeUnit(TimeUnit.SECONDS).include(".*CommandBenchmark.*").build())
                 .run();
@@ -52,6 +62,62 @@ public class JmhMain {
         // Runner(prepareOptions().mode(Mode.Throughput).timeUnit(TimeUnit.SECONDS).include(".*CommandHandlerBenchmark.*").build()).run();
     }
 
+    private static void runCommandHandlerContentionBenchmark() throws RunnerException {
+
+        for (int threads : new int[] { 1, 2, 4, 8, 16, 32, 64 }) {
+            new Runner(prepareOptions().mode(Mode.Throughput).timeUnit(TimeUnit.SECONDS).threads(threads)
+                    .include(".*CommandHandlerContentionBenchmark.*").build()).run();
+        }
+    }
+
+    private static void runPooledClusterConnectionProviderBenchmark() throws RunnerException {
+
+        for (int threads : new int[] { 1, 2, 4, 8, 16, 32, 64 }) {
+            new Runner(prepareOptions().mode(Mode.Throughput).timeUnit(TimeUnit.SECONDS).threads(threads)
+                    .include(".*PooledClusterConnectionProviderBenchmark.*").build()).run();
+        }
+    }
+
+    private static void runDefaultCommandLatencyCollectorBenchmark() throws RunnerException {
+
+        for (int threads : new int[] { 1, 2, 4, 8, 16, 32, 64 }) {
+            new Runner(prepareOptions().mode(Mode.AverageTime).timeUnit(TimeUnit.NANOSECONDS).threads(threads)
+                    .include(".*DefaultCommandLatencyCollectorBenchmark.*").addProfiler(GCProfiler.class).build()).run();
+        }
+    }
+
+    private static void runRedisCommandsBenchmark() throws RunnerException {
+
+        new Runner(prepareOptions().mode(Mode.AverageTime).timeUnit(TimeUnit.NANOSECONDS).include(".*RedisCommandsBenchmark.*")
+                .addProfiler(GCProfiler.class).build()).run();
+    }
+
+    private static void runPartitionsBenchmark() throws RunnerException {
+
+        new Runner(prepareOptions().mode(Mode.AverageTime).timeUnit(TimeUnit.MICROSECONDS).include(".*PartitionsBenchmark.*")
+                .addProfiler(GCProfiler.class).build()).run();
+    }
+
+    private static void runClusterPartitionParserBenchmark() throws RunnerException {
+
+        new Runner(prepareOptions().mode(Mode.AverageTime).timeUnit(TimeUnit.MICROSECONDS)
+                .include(".*ClusterPartitionParserBenchmark.*").addProfiler(GCProfiler.class).build()).run();
+    }
+
+    private static void runCommandDispatchBenchmark() throws RunnerException {
+
+        new Runner(prepareOptions().mode(Mode.AverageTime).timeUnit(TimeUnit.NANOSECONDS)
+                .include(".*CommandDispatchBenchmark.*").addProfiler(GCProfiler.class).build()).run();
+    }
+
+    private static void runTransportBenchmark() throws RunnerException {
+
+        new Runner(prepareOptions().mode(Mode.AverageTime).timeUnit(TimeUnit.MICROSECONDS).include(".*TransportBenchmark.*")
+                .addProfiler(GCProfiler.class).build()).run();
+        new Runner(prepareOptions().mode(Mode.Throughput).timeUnit(TimeUnit.SECONDS).include(".*TransportBenchmark.*")
+                .build()).run();
+    }
+
     private static void runCommandEncoderBenchmark() throws RunnerException {
 
         new Runner(prepareOptions().mode(Mode.AverageTime).timeUnit(TimeUnit.NANOSECONDS).include(".*CommandEncoderBenchmark.*")
@@ -63,11 +129,23 @@ public class JmhMain {
     private static void runRedisStateMachineBenchmark() throws RunnerException {
 
         new Runner(prepareOptions().mode(Mode.AverageTime).timeUnit(TimeUnit.NANOSECONDS)
-                .include(".*RedisStateMachineBenchmark.*").build()).run();
+                .include(".*RedisStateMachineBenchmark.*").addProfiler(GCProfiler.class).build()).run();
         // new
         // Runner(prepareOptions().mode(Mode.Throughput).timeUnit(TimeUnit.SECONDS).include(".*CommandHandlerBenchmark.*").build()).run();
     }
 
+    private static void runAggregateOutputBenchmark() throws RunnerException {
+
+        new Runner(prepareOptions().mode(Mode.AverageTime).timeUnit(TimeUnit.MICROSECONDS)
+                .include(".*AggregateOutputBenchmark.*").addProfiler(GCProfiler.class).build()).run();
+    }
+
+    private static void runDeferredDecodingBenchmark() throws RunnerException {
+
+        new Runner(prepareOptions().mode(Mode.SampleTime).timeUnit(TimeUnit.MICROSECONDS)
+                .include(".*DeferredDecodingBenchmark.*").build()).run();
+    }
+
     private static ChainedOptionsBuilder prepareOptions() {
         return new OptionsBuilder().forks(1).warmupIterations(5).threads(1).measurementIterations(5)
                 .timeout(TimeValue.seconds(2));
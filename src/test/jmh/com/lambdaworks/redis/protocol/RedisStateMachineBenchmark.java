@@ -12,6 +12,18 @@ import io.netty.buffer.ByteBuf;
 import io.netty.buffer.PooledByteBufAllocator;
 
 /**
+ * Benchmark for {@link RedisStateMachine}. Run with the GC profiler (see {@link JmhMain}) to verify decoding does not allocate
+ * per reply element. Test cases:
+ * <ul>
+ * <li>small transaction reply</li>
+ * <li>large multi-bulk reply (10000 elements, LRANGE)</li>
+ * <li>nested replies (COMMAND, CLUSTER SLOTS)</li>
+ * <li>deeply nested reply (64 levels)</li>
+ * <li>integer-heavy multi-bulk reply (1000 integers)</li>
+ * <li>line scanning and integer parsing using SWAR compared to {@link ByteBuf#indexOf(int, int, byte)} and the byte-wise
+ * {@link RedisStateMachine.LongProcessor}s</li>
+ * </ul>
+ *
  * @author Mark Paluch
  */
 @State(Scope.Benchmark)
@@ -42,6 +54,16 @@ public class RedisStateMachineBenchmark {
             }, new CommandArgs(BYTE_ARRAY_CODEC).addKey(new byte[] { 1, 2, 3, 4 }));
 
     private ByteBuf masterBuffer;
+    private ByteBuf largeMultiBulkBuffer;
+    private ByteBuf commandBuffer;
+    private ByteBuf clusterSlotsBuffer;
+    private ByteBuf deeplyNestedBuffer;
+    private ByteBuf integersBuffer;
+    private ByteBuf integerLineBuffer;
+
+    private final RedisStateMachine.LongProcessor longProcessor = new RedisStateMachine.LongProcessor();
+    private final RedisStateMachine.LongProcessor netty41LongProcessor = new RedisStateMachine.Netty41LongProcessor();
+    private final RedisStateMachine.LongProcessor swarLongProcessor = new RedisStateMachine.SwarLongProcessor(longProcessor);
 
     private final RedisStateMachine<byte[], byte[]> stateMachine = new RedisStateMachine<>();
     private final byte[] payload = ("*3\r\n" + //
@@ -54,13 +76,58 @@ public class RedisStateMachineBenchmark {
 
     @Setup(Level.Trial)
     public void setup() {
+
         masterBuffer = PooledByteBufAllocator.DEFAULT.ioBuffer(32);
         masterBuffer.writeBytes(payload);
+
+        StringBuilder largeMultiBulk = new StringBuilder("*10000\r\n");
+        for (int i = 0; i < 10000; i++) {
+            largeMultiBulk.append("$6\r\nvalue").append(i % 10).append("\r\n");
+        }
+        largeMultiBulkBuffer = createBuffer(largeMultiBulk);
+
+        // COMMAND: name, arity, flags, first key, last key, step
+        StringBuilder command = new StringBuilder("*200\r\n");
+        for (int i = 0; i < 200; i++) {
+            command.append("*6\r\n$7\r\ncommand\r\n:-2\r\n*2\r\n+write\r\n+denyoom\r\n:1\r\n:1\r\n:1\r\n");
+        }
+        commandBuffer = createBuffer(command);
+
+        // CLUSTER SLOTS: start, end, master, slave
+        StringBuilder clusterSlots = new StringBuilder("*16\r\n");
+        for (int i = 0; i < 16; i++) {
+            clusterSlots.append("*4\r\n:").append(i * 1024).append("\r\n:").append(i * 1024 + 1023).append("\r\n");
+            clusterSlots.append("*3\r\n$9\r\n127.0.0.1\r\n:7379\r\n$40\r\n").append(nodeId(i, 'm')).append("\r\n");
+            clusterSlots.append("*3\r\n$9\r\n127.0.0.1\r\n:7380\r\n$40\r\n").append(nodeId(i, 's')).append("\r\n");
+        }
+        clusterSlotsBuffer = createBuffer(clusterSlots);
+
+        StringBuilder deeplyNested = new StringBuilder();
+        for (int i = 0; i < 64; i++) {
+            deeplyNested.append("*1\r\n");
+        }
+        deeplyNested.append(":1\r\n");
+        deeplyNestedBuffer = createBuffer(deeplyNested);
+
+        StringBuilder integers = new StringBuilder("*1000\r\n");
+        for (int i = 0; i < 1000; i++) {
+            integers.append(':').append(i * 37).append("\r\n");
+        }
+        integersBuffer = createBuffer(integers);
+
+        integerLineBuffer = createBuffer("1234567\r\n");
     }
 
     @TearDown
     public void tearDown() {
+
         masterBuffer.release();
+        largeMultiBulkBuffer.release();
+        commandBuffer.release();
+        clusterSlotsBuffer.release();
+        deeplyNestedBuffer.release();
+        integersBuffer.release();
+        integerLineBuffer.release();
     }
 
     @Benchmark
@@ -68,6 +135,73 @@ public class RedisStateMachineBenchmark {
         stateMachine.decode(masterBuffer.duplicate(), byteArrayCommand, byteArrayCommand.getOutput());
     }
 
+    @Benchmark
+    public void measureDecodeLargeMultiBulk() {
+        stateMachine.decode(largeMultiBulkBuffer.duplicate(), byteArrayCommand, byteArrayCommand.getOutput());
+    }
+
+    @Benchmark
+    public void measureDecodeCommand() {
+        stateMachine.decode(commandBuffer.duplicate(), byteArrayCommand, byteArrayCommand.getOutput());
+    }
+
+    @Benchmark
+    public void measureDecodeClusterSlots() {
+        stateMachine.decode(clusterSlotsBuffer.duplicate(), byteArrayCommand, byteArrayCommand.getOutput());
+    }
+
+    @Benchmark
+    public void measureDecodeDeeplyNested() {
+        stateMachine.decode(deeplyNestedBuffer.duplicate(), byteArrayCommand, byteArrayCommand.getOutput());
+    }
+
+    @Benchmark
+    public void measureDecodeIntegers() {
+        stateMachine.decode(integersBuffer.duplicate(), byteArrayCommand, byteArrayCommand.getOutput());
+    }
+
+    @Benchmark
+    public int measureFindLineEndIndexOf() {
+        return integerLineBuffer.indexOf(integerLineBuffer.readerIndex(), integerLineBuffer.writerIndex(), (byte) '\n');
+    }
+
+    @Benchmark
+    public int measureFindLineEndSwar() {
+        return RedisStateMachine.findLineEnd(integerLineBuffer);
+    }
+
+    @Benchmark
+    public long measureParseLong() {
+        return longProcessor.getValue(integerLineBuffer.duplicate(), 0, 8);
+    }
+
+    @Benchmark
+    public long measureParseLongNetty41() {
+        return netty41LongProcessor.getValue(integerLineBuffer.duplicate(), 0, 8);
+    }
+
+    @Benchmark
+    public long measureParseLongSwar() {
+        return swarLongProcessor.getValue(integerLineBuffer.duplicate(), 0, 8);
+    }
+
+    private static ByteBuf createBuffer(CharSequence content) {
+
+        byte[] bytes = content.toString().getBytes();
+        ByteBuf buffer = PooledByteBufAllocator.DEFAULT.ioBuffer(bytes.length);
+        buffer.writeBytes(bytes);
+        return buffer;
+    }
+
+    private static String nodeId(int index, char role) {
+
+        StringBuilder nodeId = new StringBuilder().append(role).append(index);
+        while (nodeId.length() < 40) {
+            nodeId.append('0');
+        }
+        return nodeId.toString();
+    }
+
     public static void main(String[] args) {
 
         RedisStateMachineBenchmark b = new RedisStateMachineBenchmark();